@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+#
+# Benchmark de inicialização do perfil fast-startup.
+#
+# Pré-requisito: mvn -Pfast-startup -DskipTests package
+# Uso: scripts/startup-benchmark.sh [execuções por modo, padrão 5]
+#
+# Cada execução sobe o contexto completo (JPA, Flyway, Hibernate, web) com banco em memória e encerra logo após
+# o refresh (-Dspring.context.exit=onRefresh). É reportada a mediana do tempo total do processo, em ms, de:
+#   fat-jar      java -jar target/leadDecisions.jar
+#   extracted    jar extraído (target/startup), sem AOT nem CDS
+#   aot          jar extraído com -Dspring.aot.enabled=true
+#   aot+cds      jar extraído com AOT e o arquivo CDS gravado na execução de treino
+#
+# Referência (JDK 17, 5 execuções, mediana): fat-jar 23348 ms, extracted 14965 ms, aot 11171 ms, aot+cds 6675 ms.
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+STARTUP="$TARGET/startup"
+
+if [[ ! -f "$STARTUP/leadDecisions.jar" || ! -f "$STARTUP/leadDecisions.jsa" ]]; then
+    echo "Run 'mvn -Pfast-startup -DskipTests package' first." >&2
+    exit 1
+fi
+
+APP_ARGS=(--spring.datasource.url=jdbc:h2:mem:startup-benchmark --server.port=0 --spring.jpa.show-sql=false)
+
+measure() {
+    local name="$1" dir="$2"
+    shift 2
+    local times=()
+    for ((run = 0; run < RUNS; run++)); do
+        local start end
+        start=$(date +%s%N)
+        (cd "$dir" && java -Dspring.context.exit=onRefresh "$@" "${APP_ARGS[@]}" > /dev/null 2>&1)
+        end=$(date +%s%N)
+        times+=($(((end - start) / 1000000)))
+    done
+    local median
+    median=$(printf '%s\n' "${times[@]}" | sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }')
+    printf '%-10s median=%6s ms  runs=[%s]\n' "$name" "$median" "${times[*]}"
+}
+
+measure "fat-jar" "$TARGET" -jar leadDecisions.jar
+measure "extracted" "$STARTUP" -jar leadDecisions.jar
+measure "aot" "$STARTUP" -Dspring.aot.enabled=true -jar leadDecisions.jar
+measure "aot+cds" "$STARTUP" -XX:SharedArchiveFile=leadDecisions.jsa -Dspring.aot.enabled=true -jar leadDecisions.jar
@@ -1,12 +1,32 @@
 package com.nology.leaddecisions.analytics.api.controller;
 
+import com.nology.leaddecisions.analytics.api.stream.JsonReportSink;
+import com.nology.leaddecisions.analytics.api.stream.NdjsonReportSink;
+import com.nology.leaddecisions.analytics.api.stream.ReportUpdateBroadcaster;
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionReport;
+import com.nology.leaddecisions.analytics.domain.models.HierarchyReport;
 import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
 import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.analytics.domain.services.ReportSnapshotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/analytics")
@@ -14,15 +34,159 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final ReportSnapshotService reportSnapshotService;
+    private final ReportUpdateBroadcaster reportUpdateBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * Endpoint Mestre de Analytics.
      * Retorna o dashboard consolidado com KPIs globais, rankings por dimensão (Mercado, Origem)
      * e insights de negócio gerados pelo domínio.
+     *
+     * Os rankings podem ser paginados (limit, offset ou cursor) e filtrados por status,
+     * o que mantém a resposta pequena em dimensões com milhares de grupos.
+     * Com approximate=true, as contagens por grupo são estimadas por sketches (com margem de erro informada).
+     *
+     * O relatório exato é servido a partir do snapshot pré-calculado da versão atual dos dados,
+     * sem reagregar as tabelas a cada requisição.
+     * Com includeArchived=true, os documentos do arquivo morto são incluídos (gerado sob demanda, sem snapshot).
+     *
+     * O formato segue o cabeçalho Accept: JSON por padrão ou CBOR (application/cbor), binário e mais compacto,
+     * para consumidores internos que leem o relatório com frequência. Ambos podem ser comprimidos (gzip).
      */
     @GetMapping("/report")
-    public ResponseEntity<MarketingReport> getFullAnalyticsReport() {
-        MarketingReport report = analyticsService.generateFullReport();
+    public ResponseEntity<MarketingReport> getFullAnalyticsReport(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) AnalysisStatus status,
+            @RequestParam(defaultValue = "false") boolean approximate,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        if (approximate && includeArchived) {
+            throw new IllegalArgumentException("Approximate reports cannot include archived documents.");
+        }
+
+        RankingQuery rankingQuery = rankingQuery(limit, offset, cursor, status);
+        MarketingReport report;
+        if (includeArchived) {
+            report = analyticsService.generateArchiveInclusiveReport(rankingQuery);
+        } else if (approximate) {
+            report = analyticsService.generateApproximateReport(rankingQuery);
+        } else {
+            report = reportSnapshotService.getLatestReport(rankingQuery);
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Canal de atualizações do relatório (Server-Sent Events), substituindo o polling de /report.
+     * A cada novo snapshot é enviado um evento "report" com os KPIs globais e apenas os grupos alterados;
+     * um evento "resync" indica que o relatório completo deve ser relido.
+     */
+    @GetMapping(value = "/report/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToReportUpdates() {
+        return reportUpdateBroadcaster.subscribe();
+    }
+
+    /**
+     * Histórico dos snapshots do relatório consolidado, do mais recente para o mais antigo.
+     */
+    @GetMapping("/report/snapshots")
+    public ResponseEntity<List<ReportSnapshotSummary>> getSnapshotHistory(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(reportSnapshotService.getHistory(limit));
+    }
+
+    /**
+     * Comparação entre dois snapshots do relatório (ex: antes e depois de uma importação).
+     */
+    @GetMapping("/report/snapshots/compare")
+    public ResponseEntity<ReportComparison> compareSnapshots(@RequestParam Long base, @RequestParam Long target) {
+        return ResponseEntity.ok(reportSnapshotService.compareSnapshots(base, target));
+    }
+
+    /**
+     * Versão em fluxo do relatório consolidado (JSON).
+     * O documento é escrito à medida que os grupos são classificados, mantendo o consumo de memória
+     * por requisição pequeno mesmo com dimensões de alta cardinalidade.
+     */
+    @GetMapping(value = "/report/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamFullAnalyticsReport() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                analyticsService.streamFullReport(new JsonReportSink(generator));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Versão em fluxo do relatório consolidado em NDJSON (um registro por linha: report, dimension, group, insights).
+     */
+    @GetMapping(value = "/report/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamFullAnalyticsReportAsNdjson() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.writer().withRootValueSeparator("\n").createGenerator(outputStream)) {
+                analyticsService.streamFullReport(new NdjsonReportSink(generator));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Análise Cruzada (Cubo) entre duas dimensões.
+     * Retorna as Top-N combinações estatisticamente relevantes (ex: qual canal funciona para qual segmento),
+     * classificadas com a mesma régua do relatório consolidado.
+     * O parâmetro top aceita valores entre 1 e 1000; fora desse intervalo, a resposta é 400 (Bad Request).
+     */
+    @GetMapping("/cross")
+    public ResponseEntity<CrossDimensionReport> getCrossDimensionReport(
+            @RequestParam(defaultValue = "MERCADO") AnalysisDimension rows,
+            @RequestParam(defaultValue = "ORIGEM") AnalysisDimension columns,
+            @RequestParam(defaultValue = "20") int top) {
+        CrossDimensionReport report = analyticsService.generateCrossReport(rows, columns, top);
         return ResponseEntity.ok(report);
     }
+
+    /**
+     * Análise hierárquica canal -> sub-origem (campanha).
+     * Cada canal relevante traz as suas melhores sub-origens, classificadas contra a média global e a do canal.
+     */
+    @GetMapping("/hierarchy/sources")
+    public ResponseEntity<HierarchyReport> getSourceHierarchy(@RequestParam(defaultValue = "10") int childLimit) {
+        return ResponseEntity.ok(analyticsService.generateSourceHierarchy(childLimit));
+    }
+
+    /**
+     * Relatório restrito a um ou mais documentos importados (ex: ?ids=12,13).
+     * Mesma estrutura do relatório consolidado, calculado a partir dos agregados por documento.
+     */
+    @GetMapping("/report/documents")
+    public ResponseEntity<MarketingReport> getDocumentReport(
+            @RequestParam Set<Long> ids,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) AnalysisStatus status) {
+        MarketingReport report = analyticsService.generateDocumentReport(ids, rankingQuery(limit, offset, cursor, status));
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Comparação entre duas importações (ex: semana anterior x semana atual).
+     * Retorna a variação de conversão de cada grupo, da maior para a menor.
+     */
+    @GetMapping("/report/documents/compare")
+    public ResponseEntity<ReportComparison> compareDocuments(@RequestParam Long base, @RequestParam Long target) {
+        ReportComparison comparison = analyticsService.compareDocuments(base, target);
+        return ResponseEntity.ok(comparison);
+    }
+
+    private RankingQuery rankingQuery(Integer limit, int offset, String cursor, AnalysisStatus status) {
+        return RankingQuery.builder()
+                .limit(limit)
+                .offset(offset)
+                .cursor(cursor)
+                .status(status)
+                .build();
+    }
 }
\ No newline at end of file
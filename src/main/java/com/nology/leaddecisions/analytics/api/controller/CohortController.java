@@ -0,0 +1,47 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortMatrix;
+import com.nology.leaddecisions.analytics.domain.services.CohortAnalysisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/analytics/cohorts")
+@RequiredArgsConstructor
+public class CohortController {
+
+    private final CohortAnalysisService cohortAnalysisService;
+
+    /**
+     * Matriz de coortes: conversão dos leads por período de cadastro (semana ou mês) e por mercado ou origem.
+     * Filtros opcionais de data [from, to], ajustados ao início dos respectivos períodos.
+     */
+    @GetMapping
+    public ResponseEntity<CohortMatrix> getCohortMatrix(
+            @RequestParam(defaultValue = "MONTH") CohortGranularity granularity,
+            @RequestParam(defaultValue = "MERCADO") AnalysisDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(cohortAnalysisService.getMatrix(granularity, dimension, from, to));
+    }
+
+    /**
+     * Recalcula todas as células de coorte a partir dos leads existentes.
+     * Necessário apenas para dados importados antes da análise de coortes existir.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildCohorts() {
+        return ResponseEntity.ok(Map.of("recomputedPeriods", cohortAnalysisService.rebuild()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadPage;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.services.LeadQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/analytics/leads")
+@RequiredArgsConstructor
+public class LeadController {
+
+    private final LeadQueryService leadQueryService;
+
+    /**
+     * Navegação pelos leads importados, com suas dimensões, em ordem de id.
+     * Filtros opcionais: documentId, período de cadastro [from, to), sold, market, source, location e size.
+     * A próxima página é obtida repassando o nextCursor da resposta em "after".
+     */
+    @GetMapping
+    public ResponseEntity<LeadPage> findLeads(
+            @RequestParam(required = false) Long documentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Boolean sold,
+            @RequestParam(required = false) String market,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        LeadQuery query = LeadQuery.builder()
+                .documentId(documentId)
+                .createdFrom(from)
+                .createdTo(to)
+                .sold(sold)
+                .market(market)
+                .source(source)
+                .location(location)
+                .size(size)
+                .afterId(after)
+                .limit(limit)
+                .build();
+        return ResponseEntity.ok(leadQueryService.findLeads(query));
+    }
+}
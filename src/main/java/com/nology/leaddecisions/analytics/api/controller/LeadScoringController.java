@@ -0,0 +1,41 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadScoreRanking;
+import com.nology.leaddecisions.analytics.domain.services.LeadScoringService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/analytics/scoring")
+@RequiredArgsConstructor
+public class LeadScoringController {
+
+    private final LeadScoringService leadScoringService;
+
+    /**
+     * Ranking dos leads em aberto (não vendidos) de um documento pela probabilidade estimada de conversão,
+     * segundo o modelo treinado com as vendas de todos os documentos importados.
+     */
+    @GetMapping("/documents/{documentId}")
+    public ResponseEntity<LeadScoreRanking> scoreDocument(
+            @PathVariable Long documentId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(leadScoringService.scoreDocument(documentId, limit));
+    }
+
+    /**
+     * Treina o modelo do zero com as contagens de todos os documentos.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildModel() {
+        return ResponseEntity.ok(Map.of("trainingLeads", leadScoringService.retrain()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveSearchResult;
+import com.nology.leaddecisions.analytics.domain.services.ObjectiveSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/analytics/objectives")
+@RequiredArgsConstructor
+public class ObjectiveSearchController {
+
+    private final ObjectiveSearchService objectiveSearchService;
+
+    /**
+     * Busca textual nos objetivos dos leads de todos os documentos, ordenada por relevância,
+     * com a quantidade de leads e a taxa de conversão de cada objetivo encontrado.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ObjectiveSearchResult> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(objectiveSearchService.search(query, limit));
+    }
+}
@@ -0,0 +1,27 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.services.ReadModelProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/analytics/read-model")
+@RequiredArgsConstructor
+public class ReadModelController {
+
+    private final ReadModelProjectionService projectionService;
+
+    /**
+     * Reconstrói o modelo de leitura do Analytics do zero a partir das tabelas do ETL.
+     * Os relatórios continuam lendo o modelo anterior até a conclusão.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildReadModel() {
+        return ResponseEntity.ok(Map.of("projectedLeads", projectionService.rebuild()));
+    }
+}
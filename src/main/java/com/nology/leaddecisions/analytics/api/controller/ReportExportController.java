@@ -0,0 +1,82 @@
+package com.nology.leaddecisions.analytics.api.controller;
+
+import com.nology.leaddecisions.analytics.domain.enums.ExportFormat;
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+import com.nology.leaddecisions.analytics.domain.services.ReportExportService;
+import com.nology.leaddecisions.analytics.infraestructure.export.TabularSinks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/analytics/export")
+@RequiredArgsConstructor
+public class ReportExportController {
+
+    private final ReportExportService reportExportService;
+
+    /**
+     * Exporta o relatório consolidado (resumo, rankings por dimensão e insights) em XLSX ou CSV compactado.
+     */
+    @GetMapping("/report")
+    public ResponseEntity<StreamingResponseBody> exportReport(@RequestParam(defaultValue = "XLSX") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> {
+            try (TabularSink sink = TabularSinks.open(format, outputStream)) {
+                reportExportService.exportReport(sink);
+            }
+        };
+        return attachment("relatorio", format, body);
+    }
+
+    /**
+     * Exporta os leads com suas dimensões, uma linha por lead, em XLSX ou CSV compactado.
+     * As linhas são lidas do banco e escritas na resposta à medida que chegam, com memória constante.
+     *
+     * Filtros opcionais: documentId, período de cadastro [from, to) e sold.
+     */
+    @GetMapping("/leads")
+    public ResponseEntity<StreamingResponseBody> exportLeads(
+            @RequestParam(defaultValue = "XLSX") ExportFormat format,
+            @RequestParam(required = false) Long documentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Boolean sold) {
+        LeadExportFilter filter = LeadExportFilter.builder()
+                .documentId(documentId)
+                .createdFrom(from)
+                .createdTo(to)
+                .sold(sold)
+                .build();
+
+        // Valida o período antes de iniciar a resposta, enquanto ainda é possível devolver 400.
+        filter.validate();
+
+        StreamingResponseBody body = outputStream -> {
+            try (TabularSink sink = TabularSinks.open(format, outputStream)) {
+                reportExportService.exportLeads(filter, sink);
+            }
+        };
+        return attachment("leads", format, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(baseName + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+}
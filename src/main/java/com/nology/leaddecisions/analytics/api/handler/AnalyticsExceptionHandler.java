@@ -0,0 +1,33 @@
+package com.nology.leaddecisions.analytics.api.handler;
+
+import com.nology.leaddecisions.shared.concurrent.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Traduz as exceções de validação do Domínio de Analytics em respostas HTTP.
+ *
+ * Parâmetros inválidos (dimensões repetidas, documentos inexistentes, limites negativos)
+ * são sinalizados pelo Domínio com IllegalArgumentException e devolvidos como 400 (Bad Request).
+ * A falta de capacidade para gerar relatórios é devolvida como 503, com o cabeçalho Retry-After.
+ */
+@RestControllerAdvice(basePackages = "com.nology.leaddecisions.analytics.api")
+public class AnalyticsExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleInvalidArgument(IllegalArgumentException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrencyLimit(ConcurrencyLimitExceededException exception) {
+        long retryAfterSeconds = Math.max(1, exception.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage()));
+    }
+}
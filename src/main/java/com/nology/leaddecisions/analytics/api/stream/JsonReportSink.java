@@ -0,0 +1,63 @@
+package com.nology.leaddecisions.analytics.api.stream;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+import tools.jackson.core.JsonGenerator;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Escreve o relatório como um único documento JSON, de forma incremental.
+ *
+ * O documento tem a mesma estrutura do MarketingReport devolvido pelo endpoint consolidado
+ * (reportId, generatedAt, globalStats, analyses[].ranking[], topInsights), mas cada grupo é
+ * serializado no momento em que é produzido, sem manter o relatório em memória.
+ */
+public class JsonReportSink implements ReportSink {
+
+    private final JsonGenerator generator;
+
+    public JsonReportSink(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void begin(String reportId, LocalDateTime generatedAt, MarketingReport.GlobalStats globalStats) {
+        generator.writeStartObject();
+        generator.writeStringProperty("reportId", reportId);
+        generator.writePOJOProperty("generatedAt", generatedAt);
+        generator.writePOJOProperty("globalStats", globalStats);
+        generator.writeArrayPropertyStart("analyses");
+    }
+
+    @Override
+    public void beginDimension(String dimension, String description) {
+        generator.writeStartObject();
+        generator.writeStringProperty("dimension", dimension);
+        generator.writeStringProperty("description", description);
+        generator.writeArrayPropertyStart("ranking");
+    }
+
+    @Override
+    public void group(AnalysisGroup group) {
+        generator.writePOJO(group);
+    }
+
+    @Override
+    public void endDimension(long totalGroups) {
+        generator.writeEndArray();
+        generator.writeNumberProperty("totalGroups", totalGroups);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void end(Map<String, String> topInsights) {
+        generator.writeEndArray();
+        generator.writePOJOProperty("topInsights", topInsights);
+        generator.writeEndObject();
+        generator.flush();
+    }
+}
@@ -0,0 +1,79 @@
+package com.nology.leaddecisions.analytics.api.stream;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+import tools.jackson.core.JsonGenerator;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Escreve o relatório em NDJSON (um objeto JSON por linha), de forma incremental.
+ *
+ * Cada linha possui o campo "type" (report, dimension, group, dimensionEnd, insights), permitindo que
+ * o consumidor processe os grupos à medida que chegam. O gerador deve ser criado com "\n" como
+ * separador de valores raiz.
+ */
+public class NdjsonReportSink implements ReportSink {
+
+    private final JsonGenerator generator;
+    private String currentDimension;
+
+    public NdjsonReportSink(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void begin(String reportId, LocalDateTime generatedAt, MarketingReport.GlobalStats globalStats) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", "report");
+        generator.writeStringProperty("reportId", reportId);
+        generator.writePOJOProperty("generatedAt", generatedAt);
+        generator.writePOJOProperty("globalStats", globalStats);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void beginDimension(String dimension, String description) {
+        currentDimension = dimension;
+        generator.writeStartObject();
+        generator.writeStringProperty("type", "dimension");
+        generator.writeStringProperty("dimension", dimension);
+        generator.writeStringProperty("description", description);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void group(AnalysisGroup group) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", "group");
+        generator.writeStringProperty("dimension", currentDimension);
+        generator.writeStringProperty("groupName", group.getGroupName());
+        generator.writeNumberProperty("totalLeads", group.getTotalLeads());
+        generator.writeNumberProperty("totalSold", group.getTotalSold());
+        generator.writeNumberProperty("conversionRate", group.getConversionRate());
+        generator.writeStringProperty("status", group.getStatus().name());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void endDimension(long totalGroups) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", "dimensionEnd");
+        generator.writeStringProperty("dimension", currentDimension);
+        generator.writeNumberProperty("totalGroups", totalGroups);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void end(Map<String, String> topInsights) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", "insights");
+        generator.writePOJOProperty("topInsights", topInsights);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+}
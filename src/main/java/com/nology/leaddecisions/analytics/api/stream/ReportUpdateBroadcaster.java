@@ -0,0 +1,249 @@
+package com.nology.leaddecisions.analytics.api.stream;
+
+import com.nology.leaddecisions.analytics.domain.events.ReportSnapshotCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribui as atualizações do relatório consolidado aos dashboards conectados via Server-Sent Events.
+ *
+ * Conexões ociosas não ocupam threads (SseEmitter usa o processamento assíncrono do Servlet).
+ * Cada mensagem é serializada uma única vez e enfileirada por cliente em uma fila limitada;
+ * um pool pequeno de threads esvazia apenas as filas com mensagens pendentes.
+ * Se um cliente lento estoura a fila, as mensagens pendentes são descartadas e substituídas por
+ * um único evento "resync", que orienta o cliente a reler o relatório completo.
+ *
+ * A escrita no socket (bloqueante) roda fora do pool de envio e é aguardada por no máximo send-timeout: um cliente
+ * cuja escrita trava é desconectado, e a thread de envio segue para os demais. A vaga de um cliente é reservada
+ * atomicamente na conexão e liberada uma única vez, quando ele é encerrado, expira, falha ou é desconectado.
+ */
+@Component
+public class ReportUpdateBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final int maxClients;
+    private final int clientBuffer;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private final ExecutorService sender;
+    private final ExecutorService writer;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Set<DataWithMediaType> resync;
+
+    public ReportUpdateBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${analytics.sse.max-clients:5000}") int maxClients,
+            @Value("${analytics.sse.client-buffer:8}") int clientBuffer,
+            @Value("${analytics.sse.sender-threads:4}") int senderThreads,
+            @Value("${analytics.sse.timeout:PT30M}") Duration timeout,
+            @Value("${analytics.sse.send-timeout:PT10S}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.maxClients = maxClients;
+        this.clientBuffer = clientBuffer;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemon("report-updates-sender"));
+        // Sem limite fixo: escritas saudáveis terminam logo e reaproveitam as threads; uma escrita travada mantém a
+        // sua até o contêiner abortar a conexão, e o cliente correspondente já não recebe novas mensagens.
+        this.writer = Executors.newCachedThreadPool(daemon("report-updates-writer"));
+        this.resync = SseEmitter.event().name("resync").data("{\"fullRefresh\":true}").build();
+    }
+
+    /**
+     * Registra um novo dashboard conectado.
+     *
+     * @return Emissor SSE vinculado à requisição.
+     * @throws ResponseStatusException 503, caso o limite de conexões tenha sido atingido.
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.incrementAndGet() > maxClients) {
+            subscribers.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many report update subscribers.");
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Client client = new Client(emitter);
+        clients.add(client);
+        emitter.onCompletion(client::remove);
+        emitter.onTimeout(client::remove);
+        emitter.onError(error -> client.remove());
+
+        client.offer(SseEmitter.event().reconnectTime(5_000).comment("connected").build());
+        return emitter;
+    }
+
+    @EventListener
+    public void onSnapshotCreated(ReportSnapshotCreatedEvent event) {
+        if (clients.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .id(String.valueOf(event.getUpdate().getSnapshotId()))
+                .name("report")
+                .data(objectMapper.writeValueAsString(event.getUpdate()))
+                .build();
+        clients.forEach(client -> client.offer(message));
+    }
+
+    /**
+     * Mantém as conexões abertas através de proxies e detecta clientes desconectados.
+     * Clientes com mensagens pendentes não precisam de heartbeat.
+     */
+    @Scheduled(fixedDelayString = "${analytics.sse.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        if (clients.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        clients.forEach(client -> client.offerIfIdle(heartbeat));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        writer.shutdownNow();
+        clients.forEach(client -> client.emitter.complete());
+        clients.clear();
+    }
+
+    /**
+     * Ponto de extensão para os testes, que substituem a escrita no socket.
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Client {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(clientBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Retira o cliente da distribuição e libera a sua vaga (apenas na primeira chamada).
+         */
+        private void remove() {
+            if (removed.compareAndSet(false, true)) {
+                clients.remove(this);
+                subscribers.decrementAndGet();
+            }
+        }
+
+        private void offer(Set<DataWithMediaType> message) {
+            synchronized (this) {
+                if (!queue.offer(message)) {
+                    queue.clear();
+                    queue.offer(resync);
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void offerIfIdle(Set<DataWithMediaType> message) {
+            if (queue.isEmpty()) {
+                offer(message);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> message;
+                while ((message = queue.poll()) != null) {
+                    if (removed.get() || !send(message)) {
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Escreve a mensagem em uma thread de escrita e aguarda no máximo send-timeout.
+         *
+         * @return false se o cliente foi desconectado (falha ou escrita travada).
+         */
+        private boolean send(Set<DataWithMediaType> message) {
+            Future<?> write;
+            try {
+                write = writer.submit(() -> {
+                    emitter.send(message);
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+
+            try {
+                write.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                // complete() aguarda a escrita travada (mesmo bloqueio do emissor): roda em uma thread de escrita.
+                remove();
+                writer.execute(emitter::complete);
+                return false;
+            } catch (ExecutionException e) {
+                // Conexão encerrada pelo cliente (IOException/IllegalStateException): basta parar de enviar.
+                remove();
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
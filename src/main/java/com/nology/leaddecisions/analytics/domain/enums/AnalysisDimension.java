@@ -0,0 +1,63 @@
+package com.nology.leaddecisions.analytics.domain.enums;
+
+/**
+ * Enumera as dimensões de análise disponíveis para os relatórios de marketing.
+ *
+ * Cada dimensão corresponde a uma aba da planilha importada pelo ETL e a uma tabela
+ * dimensional ligada ao Lead. O Domínio conhece apenas o nome lógico da dimensão;
+ * o mapeamento para tabelas e colunas é responsabilidade dos adaptadores de persistência.
+ */
+public enum AnalysisDimension {
+
+    /**
+     * Segmento de mercado do lead (aba MERCADO).
+     */
+    MERCADO("MERCADO", "Performance por segmento"),
+
+    /**
+     * Canal principal de aquisição (aba ORIGEM, coluna ORIGEM).
+     */
+    ORIGEM("ORIGEM", "Performance por canal"),
+
+    /**
+     * Detalhamento do canal, como campanha ou sub-rede (aba ORIGEM, coluna SUB-ORIGEM).
+     */
+    SUB_ORIGEM("SUB-ORIGEM", "Performance por campanha"),
+
+    /**
+     * Localização geográfica do lead (aba LOCAL).
+     */
+    LOCAL("LOCAL", "Performance por região"),
+
+    /**
+     * Porte da empresa do lead (aba PORTE).
+     */
+    PORTE("PORTE", "Performance por porte"),
+
+    /**
+     * Objetivo declarado pelo lead, em texto livre (aba OBJETIVO).
+     */
+    OBJETIVO("OBJETIVO", "Performance por objetivo");
+
+    private final String label;
+    private final String description;
+
+    AnalysisDimension(String label, String description) {
+        this.label = label;
+        this.description = description;
+    }
+
+    /**
+     * @return Nome da dimensão exibido nos relatórios (ex: "MERCADO").
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return Descrição curta da análise realizada sobre a dimensão.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,53 @@
+package com.nology.leaddecisions.analytics.domain.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Enumera os tamanhos de período usados para agrupar leads em coortes pela data de cadastro.
+ */
+public enum CohortGranularity {
+
+    /**
+     * Semana iniciada na segunda-feira (ISO-8601).
+     */
+    WEEK {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate nextPeriodStart(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    },
+
+    /**
+     * Mês civil.
+     */
+    MONTH {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate nextPeriodStart(LocalDate periodStart) {
+            return periodStart.plusMonths(1);
+        }
+    };
+
+    /**
+     * @param date Data de cadastro de um lead.
+     * @return O primeiro dia do período que contém a data.
+     */
+    public abstract LocalDate periodStart(LocalDate date);
+
+    /**
+     * @param periodStart Primeiro dia de um período.
+     * @return O primeiro dia do período seguinte (limite exclusivo do período).
+     */
+    public abstract LocalDate nextPeriodStart(LocalDate periodStart);
+}
@@ -0,0 +1,33 @@
+package com.nology.leaddecisions.analytics.domain.enums;
+
+/**
+ * Formatos suportados para exportação de relatórios e leads.
+ */
+public enum ExportFormat {
+
+    /**
+     * Planilha Excel moderna, escrita em janela deslizante (SXSSF).
+     */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx"),
+
+    /**
+     * Texto separado por vírgulas, compactado com gzip.
+     */
+    CSV("application/gzip", ".csv.gz");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
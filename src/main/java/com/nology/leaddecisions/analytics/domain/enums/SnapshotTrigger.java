@@ -0,0 +1,27 @@
+package com.nology.leaddecisions.analytics.domain.enums;
+
+/**
+ * Motivo que originou a geração de um snapshot de relatório.
+ */
+public enum SnapshotTrigger {
+
+    /**
+     * Pré-cálculo disparado após a conclusão de uma importação.
+     */
+    IMPORT,
+
+    /**
+     * Pré-cálculo disparado após a remoção de um documento (manual ou pela política de retenção).
+     */
+    PURGE,
+
+    /**
+     * Pré-cálculo periódico (agendado).
+     */
+    SCHEDULE,
+
+    /**
+     * Gerado na primeira consulta após uma mudança nos dados, quando ainda não havia snapshot.
+     */
+    ON_DEMAND
+}
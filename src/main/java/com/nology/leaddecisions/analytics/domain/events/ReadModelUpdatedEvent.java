@@ -0,0 +1,28 @@
+package com.nology.leaddecisions.analytics.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado quando o modelo de leitura do Analytics recebe os leads de uma importação,
+ * perde os leads de um documento removido ou é reconstruído por inteiro.
+ */
+@Getter
+@AllArgsConstructor
+public class ReadModelUpdatedEvent {
+
+    /**
+     * Documento projetado, ou null quando o modelo foi reconstruído por inteiro.
+     */
+    private final Long documentId;
+
+    /**
+     * Quantidade de leads gravados na tabela fato.
+     */
+    private final int projectedLeads;
+
+    /**
+     * Indica que os leads do documento foram retirados do modelo (documento removido no ETL).
+     */
+    private final boolean documentRemoved;
+}
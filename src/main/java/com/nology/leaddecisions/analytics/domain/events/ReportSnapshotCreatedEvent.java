@@ -0,0 +1,14 @@
+package com.nology.leaddecisions.analytics.domain.events;
+
+import com.nology.leaddecisions.analytics.domain.models.ReportUpdate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado quando um novo snapshot do relatório consolidado é persistido.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportSnapshotCreatedEvent {
+    private final ReportUpdate update;
+}
@@ -2,8 +2,6 @@ package com.nology.leaddecisions.analytics.domain.models;
 
 import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
 import lombok.Getter;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Representa um recorte analítico específico (um "Cluster" ou "Grupo"), contendo
@@ -64,21 +62,65 @@ public class AnalysisGroup {
         this.status = calculateStatus(threshold, globalAverage);
     }
 
+    private AnalysisGroup(String groupName, long totalLeads, long totalSold, double conversionRate, AnalysisStatus status) {
+        this.groupName = groupName;
+        this.totalLeads = totalLeads;
+        this.totalSold = totalSold;
+        this.conversionRate = conversionRate;
+        this.status = status;
+    }
+
+    /**
+     * Reconstrói um grupo já classificado anteriormente (ex: lido de um snapshot persistido),
+     * preservando a taxa e o status calculados na época, sem reaplicar a régua.
+     *
+     * @param groupName Nome da categoria analisada.
+     * @param totalLeads Quantidade total de entradas.
+     * @param totalSold Quantidade total de conversões.
+     * @param conversionRate Taxa de conversão percentual já calculada.
+     * @param status Classificação já calculada.
+     * @return O grupo restaurado.
+     */
+    public static AnalysisGroup restore(String groupName, long totalLeads, long totalSold, double conversionRate, AnalysisStatus status) {
+        return new AnalysisGroup(groupName, totalLeads, totalSold, conversionRate, status);
+    }
+
     /**
      * Calcula a taxa de conversão com precisão financeira (2 casas decimais).
      *
-     * Utiliza BigDecimal para evitar erros de ponto flutuante comuns em operações de divisão.
      * Retorna 0.0 caso não existam leads, evitando ArithmeticException (divisão por zero).
      *
      * @return Taxa percentual arredondada (Half-Up).
      */
     private double calculateConversionRate() {
-        if (totalLeads == 0) return 0.0;
-        return BigDecimal.valueOf(totalSold)
-                .divide(BigDecimal.valueOf(totalLeads), 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .setScale(2, RoundingMode.HALF_UP)
-                .doubleValue();
+        return conversionRateOf(totalLeads, totalSold);
+    }
+
+    /**
+     * Calcula a taxa de conversão em pontos-base (centésimos de ponto percentual), com arredondamento Half-Up.
+     *
+     * Utiliza apenas aritmética inteira: o resultado é idêntico ao da divisão decimal com 4 casas
+     * (ex: 1 venda em 3 leads = 3333, ou seja, 33.33%), sem alocar objetos por grupo.
+     * Permite que rankings comparem e classifiquem grupos antes de instanciar um AnalysisGroup.
+     *
+     * @param totalLeads Quantidade total de leads.
+     * @param totalSold Quantidade total de conversões.
+     * @return Taxa em pontos-base (0 a 10000), ou 0 caso não existam leads.
+     */
+    public static long conversionBasisPoints(long totalLeads, long totalSold) {
+        if (totalLeads == 0) return 0;
+        return (totalSold * 20_000 + totalLeads) / (2 * totalLeads);
+    }
+
+    /**
+     * Converte a taxa calculada em {@link #conversionBasisPoints(long, long)} para percentual (0.00 a 100.00).
+     *
+     * @param totalLeads Quantidade total de leads.
+     * @param totalSold Quantidade total de conversões.
+     * @return Taxa percentual arredondada (Half-Up) com 2 casas decimais.
+     */
+    public static double conversionRateOf(long totalLeads, long totalSold) {
+        return conversionBasisPoints(totalLeads, totalSold) / 100.0;
     }
 
     /**
@@ -93,6 +135,19 @@ public class AnalysisGroup {
      * @return O enum AnalysisStatus correspondente.
      */
     private AnalysisStatus calculateStatus(int threshold, double globalAverage) {
+        return statusOf(totalLeads, conversionRate, threshold, globalAverage);
+    }
+
+    /**
+     * Aplica a "Régua de Negócio" sobre métricas já calculadas, sem instanciar o grupo.
+     *
+     * @param totalLeads Quantidade total de leads do grupo.
+     * @param conversionRate Taxa de conversão percentual do grupo.
+     * @param threshold Limite mínimo de leads para relevância estatística.
+     * @param globalAverage Média global para comparação.
+     * @return O enum AnalysisStatus correspondente.
+     */
+    public static AnalysisStatus statusOf(long totalLeads, double conversionRate, int threshold, double globalAverage) {
         if (totalLeads < threshold) {
             return AnalysisStatus.INCONCLUSIVO;
         }
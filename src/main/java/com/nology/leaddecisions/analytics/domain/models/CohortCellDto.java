@@ -0,0 +1,19 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java).
+ * Totais de uma célula da coorte: leads de um valor de dimensão cadastrados em um período.
+ */
+@Getter
+@AllArgsConstructor
+public class CohortCellDto {
+    private LocalDate periodStart;
+    private String categoryName;
+    private Long totalLeads;
+    private Long totalSold;
+}
@@ -0,0 +1,57 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Matriz de coortes: a conversão dos leads agrupados pelo período de cadastro (colunas)
+ * e pelo valor de uma dimensão (linhas), permitindo acompanhar a evolução de cada grupo no tempo.
+ */
+@Getter
+@Builder
+public class CohortMatrix {
+    private CohortGranularity granularity;
+    private String dimension;
+
+    /**
+     * Primeiro dia de cada período presente na matriz, em ordem cronológica.
+     */
+    private List<LocalDate> periods;
+
+    /**
+     * Totais de cada período somando todos os grupos, na mesma ordem de {@link #periods}.
+     */
+    private List<Cell> periodTotals;
+
+    /**
+     * Um grupo por linha, do maior para o menor volume de leads no intervalo.
+     */
+    private List<Row> rows;
+
+    @Getter
+    @Builder
+    public static class Row {
+        private String groupName;
+        private long totalLeads;
+        private long totalSold;
+        private double conversionRate;
+
+        /**
+         * Somente os períodos em que o grupo possui leads.
+         */
+        private List<Cell> cells;
+    }
+
+    @Getter
+    @Builder
+    public static class Cell {
+        private LocalDate periodStart;
+        private long totalLeads;
+        private long totalSold;
+        private double conversionRate;
+    }
+}
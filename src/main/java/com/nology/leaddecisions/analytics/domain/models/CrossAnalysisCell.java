@@ -0,0 +1,38 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Getter;
+
+/**
+ * Representa uma célula do cubo de análise cruzada (combinação de dois valores de dimensão).
+ *
+ * Herda de {@link AnalysisGroup} para garantir que a célula seja classificada exatamente
+ * com a mesma régua (threshold e média global) aplicada aos rankings unidimensionais.
+ */
+@Getter
+public class CrossAnalysisCell extends AnalysisGroup {
+
+    /**
+     * Valor da dimensão das linhas (ex: Mercado "Tecnologia").
+     */
+    private final String rowValue;
+
+    /**
+     * Valor da dimensão das colunas (ex: Origem "Google").
+     */
+    private final String columnValue;
+
+    /**
+     * @param rowValue Valor da dimensão das linhas.
+     * @param columnValue Valor da dimensão das colunas.
+     * @param totalLeads Quantidade total de leads na combinação.
+     * @param totalSold Quantidade total de conversões na combinação.
+     * @param threshold Volume mínimo de leads para uma análise conclusiva.
+     * @param globalAverage Taxa de conversão média global.
+     */
+    public CrossAnalysisCell(String rowValue, String columnValue, long totalLeads, long totalSold,
+                             int threshold, double globalAverage) {
+        super(rowValue + " × " + columnValue, totalLeads, totalSold, threshold, globalAverage);
+        this.rowValue = rowValue;
+        this.columnValue = columnValue;
+    }
+}
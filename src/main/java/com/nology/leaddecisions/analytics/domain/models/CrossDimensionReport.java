@@ -0,0 +1,26 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import lombok.Builder;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Representa o resultado de uma análise cruzada entre duas dimensões (cubo bidimensional).
+ *
+ * Apenas as Top-N células estatisticamente relevantes são retornadas; os contadores
+ * permitem ao consumidor saber quantas combinações existiam no total.
+ */
+@Getter
+@Builder
+public class CrossDimensionReport {
+    private String reportId;
+    private LocalDateTime generatedAt;
+    private AnalysisDimension rowDimension;
+    private AnalysisDimension columnDimension;
+    private double globalConversionRate;
+    private long totalCells;
+    private long significantCells;
+    private List<CrossAnalysisCell> topCells;
+}
@@ -0,0 +1,18 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) para análises cruzadas.
+ * Representa uma célula do cubo bidimensional (ex: Mercado "Tecnologia" x Origem "Google")
+ * antes da inteligência ser aplicada.
+ */
+@Getter
+@AllArgsConstructor
+public class CrossDimensionStatsDto {
+    private String rowCategory;
+    private String columnCategory;
+    private Long totalLeads;
+    private Long totalSold;
+}
@@ -0,0 +1,16 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) com os sketches de cardinalidade de um valor de dimensão.
+ * Os sketches são mantidos pelo ETL a cada importação e apenas lidos pelo Analytics.
+ */
+@Getter
+@AllArgsConstructor
+public class DimensionSketchDto {
+    private String categoryName;
+    private byte[] leadsSketch;
+    private byte[] soldSketch;
+}
@@ -0,0 +1,16 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) com os totais de um documento importado.
+ */
+@Getter
+@AllArgsConstructor
+public class DocumentTotalsDto {
+    private Long documentId;
+    private String documentName;
+    private Long totalLeads;
+    private Long totalSold;
+}
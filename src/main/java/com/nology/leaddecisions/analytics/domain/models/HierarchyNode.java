@@ -0,0 +1,64 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Representa um nó da análise hierárquica (ex: um canal de ORIGEM ou uma sub-origem dentro dele).
+ *
+ * Herda de {@link AnalysisGroup} a classificação contra a média global e acrescenta a classificação
+ * contra a média do nó pai (para um canal, o pai é a base inteira). Assim, uma campanha pode estar acima
+ * da média global e, ainda assim, abaixo do próprio canal.
+ */
+@Getter
+public class HierarchyNode extends AnalysisGroup {
+
+    /**
+     * Taxa de conversão do nó pai, usada como régua de {@link #statusVsParent}.
+     */
+    private final double parentConversionRate;
+
+    /**
+     * Classificação deste nó em relação à taxa de conversão do nó pai.
+     */
+    private final AnalysisStatus statusVsParent;
+
+    /**
+     * Filhos estatisticamente relevantes, ordenados como os rankings (RN07). Vazio para as folhas.
+     */
+    private final List<HierarchyNode> children;
+
+    /**
+     * Filhos não retornados (inconclusivos ou além do limite), e a soma dos seus leads e vendas,
+     * para que os filhos retornados e os omitidos totalizem o nó.
+     */
+    private final long omittedChildren;
+    private final long omittedLeads;
+    private final long omittedSold;
+
+    /**
+     * @param groupName Nome do nó.
+     * @param totalLeads Quantidade total de leads do nó.
+     * @param totalSold Quantidade total de conversões do nó.
+     * @param threshold Volume mínimo de leads para uma análise conclusiva.
+     * @param globalAverage Taxa de conversão média global.
+     * @param parentAverage Taxa de conversão do nó pai.
+     * @param children Filhos retornados.
+     * @param omittedChildren Quantidade de filhos omitidos.
+     * @param omittedLeads Leads dos filhos omitidos.
+     * @param omittedSold Vendas dos filhos omitidos.
+     */
+    public HierarchyNode(String groupName, long totalLeads, long totalSold, int threshold, double globalAverage,
+                         double parentAverage, List<HierarchyNode> children,
+                         long omittedChildren, long omittedLeads, long omittedSold) {
+        super(groupName, totalLeads, totalSold, threshold, globalAverage);
+        this.parentConversionRate = parentAverage;
+        this.statusVsParent = statusOf(totalLeads, getConversionRate(), threshold, parentAverage);
+        this.children = children;
+        this.omittedChildren = omittedChildren;
+        this.omittedLeads = omittedLeads;
+        this.omittedSold = omittedSold;
+    }
+}
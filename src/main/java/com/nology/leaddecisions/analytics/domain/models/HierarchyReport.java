@@ -0,0 +1,29 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Representa o resultado de uma análise hierárquica entre uma dimensão e o seu detalhamento
+ * (ex: ORIGEM -> SUB_ORIGEM).
+ *
+ * Apenas os nós estatisticamente relevantes são retornados; os contadores permitem ao consumidor
+ * saber quantos nós existiam no total.
+ */
+@Getter
+@Builder
+public class HierarchyReport {
+    private String reportId;
+    private LocalDateTime generatedAt;
+    private AnalysisDimension parentDimension;
+    private AnalysisDimension childDimension;
+    private double globalConversionRate;
+    private long totalParents;
+    private long significantParents;
+    private long totalChildren;
+    private List<HierarchyNode> nodes;
+}
@@ -0,0 +1,14 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) com um valor de dimensão de um lead.
+ */
+@Getter
+@AllArgsConstructor
+public class LeadDimensionValueDto {
+    private Long leadId;
+    private String value;
+}
@@ -0,0 +1,44 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+/**
+ * Filtros aplicados à exportação de leads. Campos nulos não restringem o resultado.
+ */
+@Getter
+@Builder
+public class LeadExportFilter {
+
+    /**
+     * Restringe aos leads de um documento importado.
+     */
+    private Long documentId;
+
+    /**
+     * Data de cadastro mínima (inclusiva).
+     */
+    private LocalDateTime createdFrom;
+
+    /**
+     * Data de cadastro máxima (exclusiva).
+     */
+    private LocalDateTime createdTo;
+
+    /**
+     * Restringe a leads vendidos (true) ou não vendidos (false).
+     */
+    private Boolean sold;
+
+    /**
+     * Garante que o período informado (quando completo) não seja vazio.
+     *
+     * @throws IllegalArgumentException Se o início não for anterior ao fim.
+     */
+    public void validate() {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("Export period start must be before its end.");
+        }
+    }
+}
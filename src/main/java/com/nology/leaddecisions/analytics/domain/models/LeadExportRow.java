@@ -0,0 +1,24 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) com um lead e suas dimensões achatadas em texto.
+ * Dimensões multivaloradas chegam concatenadas (ex: "Tecnologia; Saúde").
+ */
+@Getter
+@AllArgsConstructor
+public class LeadExportRow {
+    private Long leadId;
+    private Long documentId;
+    private LocalDateTime createdAt;
+    private Boolean sold;
+    private String markets;
+    private String sources;
+    private String subSources;
+    private String locations;
+    private String sizes;
+    private String objectives;
+}
@@ -0,0 +1,21 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página da consulta de leads, ordenada por id.
+ */
+@Getter
+@Builder
+public class LeadPage {
+    private List<LeadView> leads;
+    private int limit;
+
+    /**
+     * Cursor para a próxima página (id do último lead desta página); nulo quando não há mais leads.
+     */
+    private Long nextCursor;
+}
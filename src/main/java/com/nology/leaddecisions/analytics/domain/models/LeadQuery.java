@@ -0,0 +1,55 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros e página da consulta de leads. Campos de filtro nulos não restringem o resultado.
+ *
+ * A paginação é por chave (keyset): cada página começa após o último id da página anterior,
+ * com o mesmo custo em qualquer profundidade (sem OFFSET).
+ */
+@Getter
+@Builder
+public class LeadQuery {
+
+    /**
+     * Restringe aos leads de um documento importado.
+     */
+    private Long documentId;
+
+    /**
+     * Data de cadastro mínima (inclusiva).
+     */
+    private LocalDateTime createdFrom;
+
+    /**
+     * Data de cadastro máxima (exclusiva).
+     */
+    private LocalDateTime createdTo;
+
+    /**
+     * Restringe a leads vendidos (true) ou não vendidos (false).
+     */
+    private Boolean sold;
+
+    /**
+     * Valores exatos das dimensões (o lead deve possuir o valor informado).
+     */
+    private String market;
+    private String source;
+    private String location;
+    private String size;
+
+    /**
+     * Cursor: id do último lead da página anterior, ou null para a primeira página.
+     */
+    private Long afterId;
+
+    /**
+     * Quantidade máxima de leads na página.
+     */
+    private int limit;
+}
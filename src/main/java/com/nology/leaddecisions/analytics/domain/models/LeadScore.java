@@ -0,0 +1,18 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Pontuação de conversão estimada para um lead em aberto.
+ */
+@Getter
+@AllArgsConstructor
+public class LeadScore {
+    private Long leadId;
+
+    /**
+     * Probabilidade estimada de conversão, em percentual (0 a 100, duas casas decimais).
+     */
+    private double conversionProbability;
+}
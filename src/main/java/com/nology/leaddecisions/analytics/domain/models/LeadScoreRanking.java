@@ -0,0 +1,27 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Leads em aberto de um documento, ordenados da maior para a menor probabilidade de conversão.
+ */
+@Getter
+@Builder
+public class LeadScoreRanking {
+    private Long documentId;
+
+    /**
+     * Quantidade de leads em aberto pontuados (o ranking traz apenas os primeiros).
+     */
+    private long scoredLeads;
+
+    /**
+     * Quantidade de leads usados no treino do modelo.
+     */
+    private long trainingLeads;
+
+    private List<LeadScore> leads;
+}
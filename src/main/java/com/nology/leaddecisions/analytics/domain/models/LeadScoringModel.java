@@ -0,0 +1,148 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Modelo Naive Bayes de conversão de leads, treinado apenas com as contagens de leads e vendas
+ * por valor de cada dimensão (as mesmas produzidas pela agregação dos relatórios).
+ *
+ * O log-odds de conversão de um lead é o log-odds a priori somado à contribuição de cada valor v do lead:
+ *   log P(v | vendido) - log P(v | não vendido),
+ * com suavização de Laplace. Valores nunca vistos no treino não trazem evidência e não contribuem.
+ * As contribuições são pré-calculadas em tabelas (double[]) indexadas pelo código do valor,
+ * de modo que pontuar um lead se reduz a somar posições de arrays.
+ *
+ * Dimensões multivaloradas somam a contribuição de cada valor do lead; dimensões sem valor não contribuem.
+ * O modelo é imutável: um novo treino produz uma nova instância.
+ */
+public final class LeadScoringModel {
+
+    /**
+     * Pseudo-contagem da suavização de Laplace.
+     */
+    private static final double SMOOTHING = 1.0;
+
+    private final long trainingLeads;
+    private final long trainingSold;
+    private final double priorLogOdds;
+    private final Map<AnalysisDimension, WeightTable> tables;
+
+    private LeadScoringModel(long trainingLeads, long trainingSold, Map<AnalysisDimension, WeightTable> tables) {
+        this.trainingLeads = trainingLeads;
+        this.trainingSold = trainingSold;
+        this.priorLogOdds = Math.log((trainingSold + SMOOTHING) / (trainingLeads - trainingSold + SMOOTHING));
+        this.tables = tables;
+    }
+
+    /**
+     * Treina o modelo a partir das contagens agregadas.
+     *
+     * @param totalLeads Total de leads da base de treino.
+     * @param totalSold Total de leads vendidos da base de treino.
+     * @param stats Contagens de leads e vendas por valor, para cada dimensão.
+     * @return O modelo com as tabelas de log-probabilidade calculadas.
+     */
+    public static LeadScoringModel train(long totalLeads, long totalSold,
+                                         Map<AnalysisDimension, ? extends Collection<DimensionStatsDto>> stats) {
+        long totalUnsold = totalLeads - totalSold;
+        Map<AnalysisDimension, WeightTable> tables = new EnumMap<>(AnalysisDimension.class);
+        stats.forEach((dimension, values) -> tables.put(dimension, WeightTable.of(values, totalSold, totalUnsold)));
+        return new LeadScoringModel(totalLeads, totalSold, tables);
+    }
+
+    /**
+     * @return Log-odds de conversão de um lead sem nenhum valor de dimensão (taxa de conversão da base).
+     */
+    public double getPriorLogOdds() {
+        return priorLogOdds;
+    }
+
+    public long getTrainingLeads() {
+        return trainingLeads;
+    }
+
+    public long getTrainingSold() {
+        return trainingSold;
+    }
+
+    /**
+     * @param dimension Dimensão do valor.
+     * @param value Valor como gravado na base.
+     * @return Código do valor na tabela da dimensão, ou -1 se o valor não foi visto no treino.
+     */
+    public int code(AnalysisDimension dimension, String value) {
+        WeightTable table = tables.get(dimension);
+        if (table == null) {
+            return -1;
+        }
+        return table.codes.getOrDefault(value, -1);
+    }
+
+    /**
+     * Soma, em lote, a contribuição dos valores de uma dimensão ao log-odds de cada lead.
+     *
+     * @param dimension Dimensão dos valores.
+     * @param leadIndexes Posição do lead (em logOdds) de cada valor.
+     * @param codes Código de cada valor (ver {@link #code}), ou -1 para valores não vistos no treino (ignorados).
+     * @param length Quantidade de valores a considerar nos arrays.
+     * @param logOdds Log-odds acumulado de cada lead (atualizado no próprio array).
+     */
+    public void accumulate(AnalysisDimension dimension, int[] leadIndexes, int[] codes, int length, double[] logOdds) {
+        WeightTable table = tables.get(dimension);
+        if (table == null) {
+            return;
+        }
+        double[] weights = table.weights;
+        for (int i = 0; i < length; i++) {
+            int code = codes[i];
+            if (code >= 0) {
+                logOdds[leadIndexes[i]] += weights[code];
+            }
+        }
+    }
+
+    /**
+     * @param logOdds Log-odds de conversão.
+     * @return Probabilidade correspondente, entre 0 e 1.
+     */
+    public static double probability(double logOdds) {
+        return 1.0 / (1.0 + Math.exp(-logOdds));
+    }
+
+    /**
+     * Tabela de contribuições de uma dimensão: código do valor -> log P(v | vendido) - log P(v | não vendido).
+     */
+    private static final class WeightTable {
+
+        private final Map<String, Integer> codes;
+        private final double[] weights;
+
+        private WeightTable(Map<String, Integer> codes, double[] weights) {
+            this.codes = codes;
+            this.weights = weights;
+        }
+
+        private static WeightTable of(Collection<DimensionStatsDto> values, long totalSold, long totalUnsold) {
+            double vocabulary = values.size();
+            double soldDenominator = Math.log(totalSold + SMOOTHING * vocabulary);
+            double unsoldDenominator = Math.log(totalUnsold + SMOOTHING * vocabulary);
+
+            Map<String, Integer> codes = new HashMap<>(values.size() * 2);
+            double[] weights = new double[values.size()];
+            for (DimensionStatsDto value : values) {
+                long sold = value.getTotalSold();
+                long unsold = Math.max(0, value.getTotalLeads() - sold);
+                int code = codes.size();
+                codes.put(value.getCategoryName(), code);
+                weights[code] = (Math.log(sold + SMOOTHING) - soldDenominator)
+                        - (Math.log(unsold + SMOOTHING) - unsoldDenominator);
+            }
+            return new WeightTable(codes, weights);
+        }
+    }
+}
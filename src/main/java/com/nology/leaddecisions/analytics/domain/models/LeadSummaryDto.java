@@ -0,0 +1,18 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de Transferência Pura (Banco -> Java) com as colunas do lead, sem as dimensões.
+ */
+@Getter
+@AllArgsConstructor
+public class LeadSummaryDto {
+    private Long leadId;
+    private Long documentId;
+    private LocalDateTime createdAt;
+    private Boolean sold;
+}
@@ -0,0 +1,26 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Projeção de leitura de um lead com os valores de cada dimensão.
+ * Dimensões sem valor para o lead chegam como lista vazia.
+ */
+@Getter
+@Builder
+public class LeadView {
+    private Long leadId;
+    private Long documentId;
+    private LocalDateTime createdAt;
+    private Boolean sold;
+    private List<String> markets;
+    private List<String> sources;
+    private List<String> subSources;
+    private List<String> locations;
+    private List<String> sizes;
+    private List<String> objectives;
+}
@@ -11,7 +11,7 @@ import java.util.Map;
  * É um objeto de Domínio, pois agrupa resultados de regras de negócio.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class MarketingReport {
     private String reportId;
     private LocalDateTime generatedAt;
@@ -19,6 +19,11 @@ public class MarketingReport {
     private List<DimensionAnalysis> analyses;
     private Map<String, String> topInsights;
 
+    /**
+     * Margem de erro das contagens por grupo; nulo quando o relatório é exato.
+     */
+    private Approximation approximation;
+
     @Getter
     @Builder
     public static class GlobalStats {
@@ -33,5 +38,35 @@ public class MarketingReport {
         private String dimension;
         private String description;
         private List<AnalysisGroup> ranking;
+
+        /**
+         * Quantidade de grupos da dimensão que atendem ao filtro de status (antes da paginação).
+         */
+        private long totalGroups;
+
+        /**
+         * Cursor para a próxima página do ranking; nulo quando não há mais grupos.
+         */
+        private String nextCursor;
+    }
+
+    /**
+     * Descreve a estimativa usada em relatórios aproximados.
+     * Os totais globais continuam exatos; apenas as contagens por grupo são estimadas.
+     */
+    @Getter
+    @Builder
+    public static class Approximation {
+        private String method;
+
+        /**
+         * Erro padrão relativo das contagens por grupo, em percentual (ex: 2.3).
+         */
+        private double relativeStandardError;
+
+        /**
+         * Margem relativa para 95% de confiança (aprox. 2 erros padrão), em percentual.
+         */
+        private double confidence95;
     }
 }
\ No newline at end of file
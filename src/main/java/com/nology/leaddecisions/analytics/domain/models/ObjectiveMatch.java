@@ -0,0 +1,29 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Objetivo encontrado na busca, somado entre todos os documentos em que aparece.
+ */
+@Getter
+@Builder
+public class ObjectiveMatch {
+    private String objective;
+
+    /**
+     * Relevância do objetivo para a consulta (0 a 1): fração do texto coberta pelas palavras buscadas.
+     */
+    private double score;
+
+    private long totalLeads;
+    private long totalSold;
+    private double conversionRate;
+
+    /**
+     * Ids dos leads que declararam o objetivo (limitados aos primeiros, em ordem crescente).
+     */
+    private List<Long> leadIds;
+}
@@ -0,0 +1,24 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado da busca por objetivos: os objetivos mais relevantes e a conversão de todos os leads encontrados.
+ */
+@Getter
+@Builder
+public class ObjectiveSearchResult {
+    private String query;
+
+    /**
+     * Quantidade de leads de todos os objetivos encontrados (e não apenas dos retornados).
+     */
+    private long totalMatchedLeads;
+
+    private long totalSold;
+    private double conversionRate;
+    private List<ObjectiveMatch> matches;
+}
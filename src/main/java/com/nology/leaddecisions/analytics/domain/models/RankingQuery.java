@@ -0,0 +1,56 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Parâmetros de paginação e filtro aplicados aos rankings de cada dimensão.
+ *
+ * Permite que dimensões de alta cardinalidade (ex: OBJETIVO, SUB-ORIGEM) sejam consultadas
+ * por páginas: o custo de montagem e o tamanho da resposta passam a depender da página solicitada,
+ * e não do número total de grupos.
+ *
+ * Consultas iguais são equivalentes (equals/hashCode), o que permite coalescer requisições simultâneas.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class RankingQuery {
+
+    /**
+     * Quantidade máxima de grupos por ranking. Nulo retorna o ranking completo.
+     */
+    private final Integer limit;
+
+    /**
+     * Quantidade de grupos ignorados no início do ranking (após o cursor, se informado).
+     */
+    private final int offset;
+
+    /**
+     * Cursor opaco devolvido em {@code nextCursor} pela página anterior.
+     * Quando informado, o ranking continua imediatamente após o último grupo daquela página.
+     */
+    private final String cursor;
+
+    /**
+     * Filtro opcional de classificação (ex: apenas SUPERIOR_A_MEDIA).
+     */
+    private final AnalysisStatus status;
+
+    /**
+     * @return Consulta sem paginação nem filtros (ranking completo).
+     */
+    public static RankingQuery unbounded() {
+        return RankingQuery.builder().build();
+    }
+
+    /**
+     * @return true se a consulta não restringe o ranking de nenhuma forma.
+     */
+    public boolean isUnbounded() {
+        return limit == null && offset == 0 && cursor == null && status == null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import lombok.Builder;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Representa a comparação entre dois relatórios de marketing (ex: duas importações semanais).
+ *
+ * Para cada dimensão, lista a variação da taxa de conversão de cada grupo entre a base e o alvo,
+ * ordenada da maior para a menor variação absoluta, permitindo validar rapidamente uma nova importação.
+ */
+@Getter
+@Builder
+public class ReportComparison {
+    private String comparisonId;
+    private LocalDateTime generatedAt;
+    private String baseLabel;
+    private String targetLabel;
+    private MarketingReport.GlobalStats baseStats;
+    private MarketingReport.GlobalStats targetStats;
+
+    /**
+     * Variação da taxa de conversão global, em pontos percentuais (alvo - base).
+     */
+    private double conversionDelta;
+    private List<DimensionComparison> dimensions;
+
+    @Getter
+    @Builder
+    public static class DimensionComparison {
+        private String dimension;
+        private List<GroupDelta> groups;
+    }
+
+    /**
+     * Variação de um grupo entre os dois relatórios.
+     * Grupos presentes em apenas um dos lados possuem volume zero e status nulo no lado ausente.
+     */
+    @Getter
+    @Builder
+    public static class GroupDelta {
+        private String groupName;
+        private long baseLeads;
+        private long targetLeads;
+        private double baseConversionRate;
+        private double targetConversionRate;
+        private AnalysisStatus baseStatus;
+        private AnalysisStatus targetStatus;
+
+        /**
+         * Variação da taxa de conversão do grupo, em pontos percentuais (alvo - base).
+         */
+        private double conversionDelta;
+    }
+}
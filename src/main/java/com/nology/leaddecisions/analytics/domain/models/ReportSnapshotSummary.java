@@ -0,0 +1,30 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+/**
+ * Metadados de um snapshot de relatório persistido (sem o conteúdo do relatório).
+ */
+@Getter
+@AllArgsConstructor
+public class ReportSnapshotSummary {
+    private Long snapshotId;
+
+    /**
+     * Versão dos dados de origem no momento da geração; há no máximo um snapshot por versão.
+     */
+    private String dataVersion;
+
+    private SnapshotTrigger trigger;
+    private LocalDateTime generatedAt;
+    private long totalLeads;
+    private long totalSales;
+
+    /**
+     * Tamanho do relatório serializado e compactado, em bytes.
+     */
+    private long sizeBytes;
+}
@@ -0,0 +1,27 @@
+package com.nology.leaddecisions.analytics.domain.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Notificação de uma nova versão do relatório consolidado, enviada aos dashboards conectados.
+ *
+ * Carrega apenas os KPIs globais e os grupos que mudaram em relação à versão anterior;
+ * quando não há versão anterior conhecida, fullRefresh indica que o relatório deve ser relido por completo.
+ */
+@Getter
+@Builder
+public class ReportUpdate {
+    private Long snapshotId;
+    private String dataVersion;
+    private LocalDateTime generatedAt;
+    private MarketingReport.GlobalStats globalStats;
+    private boolean fullRefresh;
+
+    /**
+     * Grupos alterados por dimensão (vazio quando fullRefresh = true).
+     */
+    private List<ReportComparison.DimensionComparison> changes;
+}
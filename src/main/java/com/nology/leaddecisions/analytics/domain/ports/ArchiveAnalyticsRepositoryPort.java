@@ -0,0 +1,32 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para leitura dos documentos arquivados pelo ETL.
+ *
+ * Os leads arquivados não estão nas tabelas: os totais vêm do manifesto e as estatísticas por dimensão
+ * exigem uma varredura sequencial dos arquivos, por isso são consultados apenas sob demanda.
+ */
+public interface ArchiveAnalyticsRepositoryPort {
+
+    /**
+     * Recupera os totais de leads e vendas de cada documento arquivado (lidos do manifesto).
+     *
+     * @return Um DTO por documento arquivado.
+     */
+    List<DocumentTotalsDto> getArchivedDocumentTotals();
+
+    /**
+     * Varre os arquivos de todos os documentos arquivados e agrega a dimensão informada.
+     * Cada lead é contado uma vez por valor, mesmo que possua linhas repetidas na dimensão.
+     *
+     * @param dimension Dimensão de agrupamento.
+     * @return Lista de DTOs contendo Categoria, Total Leads e Total Vendas dos leads arquivados.
+     */
+    List<DimensionStatsDto> scanStats(AnalysisDimension dimension);
+}
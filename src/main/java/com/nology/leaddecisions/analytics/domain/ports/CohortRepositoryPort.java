@@ -0,0 +1,42 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortCellDto;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para as células de coorte materializadas.
+ *
+ * As células são mantidas em tabela própria e recalculadas somente nos períodos afetados
+ * por uma importação; a leitura da matriz não agrega as tabelas de leads.
+ */
+public interface CohortRepositoryPort {
+
+    /**
+     * @param documentId Documento importado, ou null para considerar todos os leads.
+     * @return As datas de cadastro distintas dos leads.
+     */
+    List<LocalDate> findCreationDates(Long documentId);
+
+    /**
+     * Substitui as células dos períodos informados pelos totais atuais calculados a partir dos leads.
+     *
+     * @param granularity Tamanho dos períodos.
+     * @param dimension Dimensão de agrupamento.
+     * @param periodStarts Primeiro dia de cada período a recalcular.
+     */
+    void recomputeCells(CohortGranularity granularity, AnalysisDimension dimension, Collection<LocalDate> periodStarts);
+
+    /**
+     * @param granularity Tamanho dos períodos.
+     * @param dimension Dimensão de agrupamento.
+     * @param from Primeiro período (inclusivo), ou null.
+     * @param to Último período (inclusivo), ou null.
+     * @return As células do intervalo.
+     */
+    List<CohortCellDto> findCells(CohortGranularity granularity, AnalysisDimension dimension, LocalDate from, LocalDate to);
+}
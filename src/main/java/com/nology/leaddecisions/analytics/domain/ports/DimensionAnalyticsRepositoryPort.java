@@ -0,0 +1,52 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+
+import java.util.function.Consumer;
+
+/**
+ * Define o contrato (Porta de Saída) para consultas analíticas parametrizadas por dimensão.
+ *
+ * Complementa o {@link AnalyticsRepositoryPort}: enquanto aquele expõe consultas fixas
+ * (Mercado, Origem), esta porta recebe a dimensão como parâmetro e entrega os resultados
+ * em fluxo (callback), permitindo que o Domínio processe conjuntos grandes sem materializá-los.
+ */
+public interface DimensionAnalyticsRepositoryPort {
+
+    /**
+     * Percorre as estatísticas de leads e vendas agrupadas pela combinação de duas dimensões.
+     *
+     * Cada combinação existente na base é entregue uma única vez ao consumidor, na ordem
+     * em que o banco as produz. Leads são contados de forma distinta por combinação.
+     *
+     * @param rows Dimensão das linhas do cubo.
+     * @param columns Dimensão das colunas do cubo.
+     * @param consumer Callback que recebe cada célula agregada.
+     */
+    void streamCrossStats(AnalysisDimension rows, AnalysisDimension columns, Consumer<CrossDimensionStatsDto> consumer);
+
+    /**
+     * Percorre as estatísticas de uma dimensão já na ordem do ranking (RN07).
+     *
+     * A ordenação é feita pelo banco, com a mesma regra do Domínio: maior taxa de conversão
+     * (em pontos-base, arredondamento Half-Up), maior volume de vendas e, por fim, nome do grupo.
+     * Permite que o relatório seja escrito grupo a grupo, sem manter o ranking em memória.
+     *
+     * @param dimension Dimensão de agrupamento.
+     * @param consumer Callback que recebe cada grupo, na ordem do ranking.
+     */
+    void streamRankedStats(AnalysisDimension dimension, Consumer<DimensionStatsDto> consumer);
+
+    /**
+     * Percorre as estatísticas de cada par canal (ORIGEM) x sub-origem (SUB_ORIGEM) em uma única agregação,
+     * ordenadas pelo canal, para que o Domínio monte a hierarquia (rollup) um canal por vez.
+     *
+     * Registros sem sub-origem são entregues com a coluna nula, de modo que a soma das sub-origens de um canal
+     * seja o total do canal. Leads são contados por registro de origem, como em {@link #streamRankedStats}.
+     *
+     * @param consumer Callback que recebe cada par (linha = canal, coluna = sub-origem ou null).
+     */
+    void streamSourceHierarchyStats(Consumer<CrossDimensionStatsDto> consumer);
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para acesso aos agregados por documento importado.
+ *
+ * Os agregados são gravados pelo ETL no momento da importação, portanto cada consulta
+ * desta porta lê uma linha por grupo (e não uma linha por lead), independentemente do tamanho do documento.
+ */
+public interface DocumentAnalyticsRepositoryPort {
+
+    /**
+     * Recupera os totais de leads e vendas dos documentos informados.
+     * Documentos inexistentes simplesmente não aparecem no resultado.
+     *
+     * @param documentIds Identificadores dos documentos.
+     * @return Um DTO por documento encontrado.
+     */
+    List<DocumentTotalsDto> getDocumentTotals(Collection<Long> documentIds);
+
+    /**
+     * Recupera as estatísticas de uma dimensão somadas sobre o conjunto de documentos informado.
+     *
+     * @param documentIds Identificadores dos documentos.
+     * @param dimension Dimensão de agrupamento.
+     * @return Lista de DTOs contendo Categoria, Total Leads e Total Vendas.
+     */
+    List<DimensionStatsDto> getStatsByDocuments(Collection<Long> documentIds, AnalysisDimension dimension);
+}
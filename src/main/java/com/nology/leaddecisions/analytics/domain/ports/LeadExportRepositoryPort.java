@@ -0,0 +1,22 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.models.LeadExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * Define o contrato (Porta de Saída) para leitura sequencial de leads destinados à exportação.
+ */
+public interface LeadExportRepositoryPort {
+
+    /**
+     * Percorre os leads que atendem ao filtro, em ordem de id, com um cursor somente-leitura e sem retorno.
+     * Cada lead é entregue ao consumidor com suas dimensões já concatenadas, sem que o resultado
+     * completo seja mantido em memória.
+     *
+     * @param filter Filtros de documento, período e venda.
+     * @param consumer Callback que recebe cada lead.
+     */
+    void streamLeads(LeadExportFilter filter, Consumer<LeadExportRow> consumer);
+}
@@ -0,0 +1,36 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadDimensionValueDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.models.LeadSummaryDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para a consulta de leads individuais.
+ *
+ * Os leads e suas dimensões são lidos em consultas separadas: uma para a página de leads
+ * e uma por dimensão para todos os leads da página, em vez de carregar o grafo de entidades lead a lead.
+ */
+public interface LeadQueryRepositoryPort {
+
+    /**
+     * Recupera os leads que atendem aos filtros, em ordem crescente de id, após o cursor.
+     *
+     * @param query Filtros e cursor.
+     * @param maxRows Quantidade máxima de linhas.
+     * @return Os leads encontrados, sem as dimensões.
+     */
+    List<LeadSummaryDto> findLeads(LeadQuery query, int maxRows);
+
+    /**
+     * Recupera, em uma única consulta, os valores de uma dimensão para os leads informados.
+     *
+     * @param dimension Dimensão a consultar.
+     * @param leadIds Leads da página.
+     * @return Um DTO por valor (leads multivalorados aparecem mais de uma vez).
+     */
+    List<LeadDimensionValueDto> findDimensionValues(AnalysisDimension dimension, Collection<Long> leadIds);
+}
@@ -0,0 +1,42 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para leitura dos leads a pontuar pelo modelo de conversão.
+ *
+ * Os leads são entregues como ids primitivos e valores em fluxo (callback), sem materializar objetos por lead,
+ * para que documentos com milhões de leads sejam pontuados com memória proporcional a poucos arrays.
+ */
+public interface LeadScoringRepositoryPort {
+
+    /**
+     * @return Identificadores de todos os documentos importados.
+     */
+    List<Long> findDocumentIds();
+
+    /**
+     * Recupera os leads em aberto (não vendidos) de um documento.
+     *
+     * @param documentId Documento importado.
+     * @return Ids dos leads, em ordem crescente.
+     */
+    long[] findOpenLeadIds(Long documentId);
+
+    /**
+     * Percorre os valores de uma dimensão dos leads em aberto de um documento, em ordem de lead.
+     * Leads multivalorados aparecem uma vez por valor distinto, mesmo que o valor se repita nos registros do lead.
+     *
+     * @param documentId Documento importado.
+     * @param dimension Dimensão a consultar.
+     * @param consumer Callback que recebe cada par (lead, valor).
+     */
+    void streamOpenLeadValues(Long documentId, AnalysisDimension dimension, LeadValueConsumer consumer);
+
+    @FunctionalInterface
+    interface LeadValueConsumer {
+        void accept(long leadId, String value);
+    }
+}
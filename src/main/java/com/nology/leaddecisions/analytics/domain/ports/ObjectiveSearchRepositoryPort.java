@@ -0,0 +1,24 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.shared.search.TrigramIndex;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para leitura dos índices de busca de objetivos gravados na importação.
+ */
+public interface ObjectiveSearchRepositoryPort {
+
+    /**
+     * @return Identificadores dos documentos que já possuem índice, em ordem crescente.
+     */
+    List<Long> findIndexedDocumentIds();
+
+    /**
+     * Carrega o índice de um documento.
+     *
+     * @param documentId Documento importado.
+     * @return O índice decodificado, ou null se o documento não possuir índice.
+     */
+    TrigramIndex loadIndex(Long documentId);
+}
@@ -0,0 +1,41 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para a escrita do modelo de leitura do Analytics.
+ *
+ * O modelo de leitura é uma cópia desnormalizada das tabelas do ETL (uma linha por lead),
+ * consultada pelos relatórios sem disputar as tabelas que recebem as importações.
+ */
+public interface ReadModelProjectionRepositoryPort {
+
+    /**
+     * @return Documentos importados que ainda não foram projetados (ex: evento perdido ou banco anterior ao modelo de leitura).
+     */
+    List<Long> findUnprojectedDocumentIds();
+
+    /**
+     * Projeta (ou reprojeta) os leads de um documento na tabela fato, em uma única transação.
+     *
+     * @param documentId Documento importado.
+     * @return Quantidade de leads projetados.
+     */
+    int projectDocument(Long documentId);
+
+    /**
+     * Retira do modelo de leitura os leads e a marca d'água de um documento removido.
+     *
+     * @param documentId Documento removido.
+     * @return Quantidade de leads retirados.
+     */
+    int removeDocument(Long documentId);
+
+    /**
+     * Descarta o modelo de leitura e o reconstrói a partir de todas as tabelas do ETL, em uma única transação.
+     * Consultas concorrentes continuam lendo o modelo anterior até o commit.
+     *
+     * @return Quantidade de leads projetados.
+     */
+    int rebuild();
+}
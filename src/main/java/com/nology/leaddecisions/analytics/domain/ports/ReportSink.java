@@ -0,0 +1,32 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Define o contrato (Porta de Saída) para a escrita incremental de um relatório de marketing.
+ *
+ * Em vez de montar o MarketingReport completo em memória, o Domínio entrega cada parte do relatório
+ * assim que ela é produzida: primeiro os KPIs globais, depois cada dimensão e seus grupos, um a um,
+ * e por fim os insights. A implementação decide o formato (JSON, NDJSON, etc.) e o destino.
+ *
+ * Ordem garantida das chamadas: begin, (beginDimension, group*, endDimension)*, end.
+ */
+public interface ReportSink {
+
+    void begin(String reportId, LocalDateTime generatedAt, MarketingReport.GlobalStats globalStats);
+
+    void beginDimension(String dimension, String description);
+
+    void group(AnalysisGroup group);
+
+    /**
+     * @param totalGroups Quantidade de grupos entregues para a dimensão.
+     */
+    void endDimension(long totalGroups);
+
+    void end(Map<String, String> topInsights);
+}
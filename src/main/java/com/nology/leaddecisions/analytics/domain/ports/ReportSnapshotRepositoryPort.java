@@ -0,0 +1,61 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Define o contrato (Porta de Saída) para persistência de snapshots do relatório consolidado.
+ *
+ * Cada snapshot é identificado pela versão dos dados que o originou; o formato de armazenamento
+ * (serialização e compactação) é responsabilidade do adaptador.
+ */
+public interface ReportSnapshotRepositoryPort {
+
+    /**
+     * Calcula a versão atual dos dados de origem. Muda sempre que um documento é importado ou removido.
+     *
+     * @return Identificador opaco da versão dos dados.
+     */
+    String currentDataVersion();
+
+    /**
+     * @param dataVersion Versão dos dados.
+     * @return true se já existe snapshot para a versão.
+     */
+    boolean existsByDataVersion(String dataVersion);
+
+    /**
+     * @param dataVersion Versão dos dados.
+     * @return O relatório persistido para a versão, se existir.
+     */
+    Optional<MarketingReport> findReportByDataVersion(String dataVersion);
+
+    /**
+     * @param snapshotId Identificador do snapshot.
+     * @return O relatório persistido, se existir.
+     */
+    Optional<MarketingReport> findReportById(Long snapshotId);
+
+    /**
+     * @param snapshotId Identificador do snapshot.
+     * @return Os metadados do snapshot, se existir.
+     */
+    Optional<ReportSnapshotSummary> findSummaryById(Long snapshotId);
+
+    /**
+     * Persiste o relatório como snapshot da versão informada.
+     *
+     * @return Os metadados do snapshot criado.
+     */
+    ReportSnapshotSummary save(String dataVersion, SnapshotTrigger trigger, MarketingReport report);
+
+    /**
+     * @param limit Quantidade máxima de snapshots.
+     * @return Os snapshots mais recentes primeiro, sem o conteúdo dos relatórios.
+     */
+    List<ReportSnapshotSummary> findHistory(int limit);
+}
@@ -0,0 +1,23 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionSketchDto;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para leitura dos sketches de cardinalidade por valor de dimensão.
+ *
+ * Utilizada no modo aproximado do relatório: em vez de COUNT(DISTINCT) sobre as tabelas dimensionais,
+ * o Domínio estima leads e vendas distintos a partir de uma linha por grupo.
+ */
+public interface SketchAnalyticsRepositoryPort {
+
+    /**
+     * Recupera os sketches de todos os valores de uma dimensão.
+     *
+     * @param dimension Dimensão de agrupamento (atualmente MERCADO ou ORIGEM).
+     * @return Um DTO por valor de dimensão; lista vazia se a dimensão não possuir sketches.
+     */
+    List<DimensionSketchDto> getSketches(AnalysisDimension dimension);
+}
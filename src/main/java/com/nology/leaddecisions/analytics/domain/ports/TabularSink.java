@@ -0,0 +1,35 @@
+package com.nology.leaddecisions.analytics.domain.ports;
+
+import java.util.List;
+
+/**
+ * Define o contrato (Porta de Saída) para escrita de dados tabulares linha a linha (planilhas, CSV).
+ *
+ * As linhas são entregues à medida que são lidas do banco; a implementação deve escrevê-las
+ * sem acumulá-las em memória. O fechamento libera recursos temporários mesmo quando a escrita é interrompida.
+ */
+public interface TabularSink extends AutoCloseable {
+
+    /**
+     * Inicia uma nova tabela (ex: uma aba da planilha) com o cabeçalho informado.
+     *
+     * @param name Nome da tabela.
+     * @param headers Nomes das colunas.
+     */
+    void startTable(String name, List<String> headers);
+
+    /**
+     * Escreve uma linha na tabela corrente. Valores nulos geram células vazias.
+     *
+     * @param values Valores na ordem do cabeçalho (String, Number, Boolean ou LocalDateTime).
+     */
+    void row(Object... values);
+
+    /**
+     * Finaliza a escrita, descarregando o conteúdo pendente no destino.
+     */
+    void finish();
+
+    @Override
+    void close();
+}
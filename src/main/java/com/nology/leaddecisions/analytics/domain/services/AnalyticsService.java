@@ -1,6 +1,14 @@
 package com.nology.leaddecisions.analytics.domain.services;
 
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionReport;
+import com.nology.leaddecisions.analytics.domain.models.HierarchyReport;
 import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+
+import java.util.Set;
 
 public interface AnalyticsService {
 
@@ -11,5 +19,113 @@ public interface AnalyticsService {
      *
      * @return O objeto rico contendo estatísticas globais e rankings detalhados.
      */
-    MarketingReport generateFullReport();
+    default MarketingReport generateFullReport() {
+        return generateFullReport(RankingQuery.unbounded());
+    }
+
+    /**
+     * Gera o relatório completo aplicando paginação e filtro de status aos rankings.
+     * Os insights continuam considerando todos os grupos de cada dimensão.
+     *
+     * @param rankingQuery Limite, offset/cursor e filtro de status de cada ranking.
+     * @return O relatório com a página solicitada de cada ranking.
+     * @throws IllegalArgumentException Se os parâmetros de paginação forem inválidos.
+     */
+    MarketingReport generateFullReport(RankingQuery rankingQuery);
+
+    /**
+     * Gera o relatório completo em modo aproximado.
+     * Leads e vendas distintos por grupo são estimados a partir de sketches HyperLogLog mantidos na importação,
+     * evitando contagens distintas sobre as tabelas dimensionais. A margem de erro acompanha o relatório.
+     *
+     * @param rankingQuery Limite, offset/cursor e filtro de status de cada ranking.
+     * @return O relatório aproximado, com a descrição da margem de erro.
+     */
+    MarketingReport generateApproximateReport(RankingQuery rankingQuery);
+
+    /**
+     * Gera o relatório completo incluindo os documentos arquivados pelo ETL.
+     * Os totais dos arquivados vêm do manifesto e as estatísticas por dimensão de uma varredura sequencial
+     * dos arquivos em disco, somadas às das tabelas. Não utiliza snapshots: o custo cresce com o volume arquivado.
+     *
+     * @param rankingQuery Limite, offset/cursor e filtro de status de cada ranking.
+     * @return O relatório sobre os dados ativos e arquivados.
+     */
+    MarketingReport generateArchiveInclusiveReport(RankingQuery rankingQuery);
+
+    /**
+     * Reaplica a paginação e o filtro de status sobre um relatório completo já calculado
+     * (ex: um snapshot persistido), sem consultar o banco de dados.
+     * O identificador e a data de geração do relatório de origem são preservados.
+     *
+     * @param fullReport Relatório com os rankings completos.
+     * @param rankingQuery Paginação e filtro aplicados a cada ranking.
+     * @return Relatório com os rankings restritos à página solicitada.
+     */
+    MarketingReport rankReport(MarketingReport fullReport, RankingQuery rankingQuery);
+
+    /**
+     * Gera o relatório completo escrevendo-o de forma incremental no destino informado.
+     * Os rankings chegam do banco já ordenados e cada grupo é entregue ao destino assim que é classificado,
+     * de modo que o consumo de memória não depende do número de grupos.
+     *
+     * @param sink Destino que recebe KPIs globais, dimensões, grupos e insights, nesta ordem.
+     */
+    void streamFullReport(ReportSink sink);
+
+    /**
+     * Gera a análise cruzada (cubo bidimensional) entre duas dimensões.
+     * Cada combinação de valores é classificada com a mesma régua dos rankings (RN04),
+     * e apenas as Top-N células estatisticamente relevantes são retornadas, ordenadas por score (RN07).
+     *
+     * @param rows Dimensão das linhas do cubo (ex: MERCADO).
+     * @param columns Dimensão das colunas do cubo (ex: ORIGEM).
+     * @param topN Quantidade máxima de células retornadas (entre 1 e 1000).
+     * @return O relatório cruzado com as melhores combinações.
+     * @throws IllegalArgumentException Se as dimensões forem iguais ou topN estiver fora do intervalo.
+     */
+    CrossDimensionReport generateCrossReport(AnalysisDimension rows, AnalysisDimension columns, int topN);
+
+    /**
+     * Gera a análise hierárquica canal (ORIGEM) -> sub-origem (SUB_ORIGEM), com os totais de cada canal
+     * e o detalhamento por sub-origem calculados em uma única agregação.
+     * Cada nó é classificado contra a média global e contra a média do canal; apenas os nós
+     * estatisticamente relevantes são retornados, com no máximo childLimit sub-origens por canal.
+     *
+     * @param childLimit Quantidade máxima de sub-origens retornadas por canal.
+     * @return A hierarquia de canais relevantes, ordenada por score (RN07).
+     * @throws IllegalArgumentException Se childLimit não for positivo.
+     */
+    HierarchyReport generateSourceHierarchy(int childLimit);
+
+    /**
+     * Gera o relatório de inteligência restrito a um ou mais documentos importados.
+     * Utiliza os agregados por documento gravados na importação, sem varrer as tabelas de leads.
+     *
+     * @param documentIds Identificadores dos documentos considerados.
+     * @return O relatório com a mesma estrutura do relatório completo, limitado aos documentos.
+     * @throws IllegalArgumentException Se nenhum documento for informado ou algum não existir.
+     */
+    default MarketingReport generateDocumentReport(Set<Long> documentIds) {
+        return generateDocumentReport(documentIds, RankingQuery.unbounded());
+    }
+
+    /**
+     * Variante paginada de {@link #generateDocumentReport(Set)}.
+     *
+     * @param documentIds Identificadores dos documentos considerados.
+     * @param rankingQuery Limite, offset/cursor e filtro de status de cada ranking.
+     * @return O relatório com a página solicitada de cada ranking.
+     */
+    MarketingReport generateDocumentReport(Set<Long> documentIds, RankingQuery rankingQuery);
+
+    /**
+     * Compara duas importações, retornando as variações de conversão por dimensão e grupo.
+     *
+     * @param baseDocumentId Documento de referência (ex: importação da semana anterior).
+     * @param targetDocumentId Documento comparado (ex: importação atual).
+     * @return As variações globais e por grupo (alvo - base).
+     * @throws IllegalArgumentException Se os documentos forem iguais ou algum não existir.
+     */
+    ReportComparison compareDocuments(Long baseDocumentId, Long targetDocumentId);
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortMatrix;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Interface de Serviço para a análise de coortes por período de cadastro dos leads.
+ */
+public interface CohortAnalysisService {
+
+    /**
+     * Monta a matriz de coortes a partir das células materializadas.
+     *
+     * @param granularity Semana ou mês.
+     * @param dimension Dimensão das linhas (MERCADO ou ORIGEM).
+     * @param from Data inicial (inclusiva), ou null.
+     * @param to Data final (inclusiva), ou null.
+     * @throws IllegalArgumentException Se a dimensão não for suportada ou o intervalo for inválido.
+     */
+    CohortMatrix getMatrix(CohortGranularity granularity, AnalysisDimension dimension, LocalDate from, LocalDate to);
+
+    /**
+     * Recalcula apenas as células dos períodos que contêm leads do documento importado.
+     *
+     * @param documentId Documento importado.
+     * @return Quantidade de períodos recalculados (somando semanas e meses).
+     */
+    int refreshDocument(Long documentId);
+
+    /**
+     * Recalcula apenas as células dos períodos que contêm as datas informadas (ex: leads removidos).
+     *
+     * @param creationDates Datas de cadastro afetadas.
+     * @return Quantidade de períodos recalculados (somando semanas e meses).
+     */
+    int refreshDates(Collection<LocalDate> creationDates);
+
+    /**
+     * Recalcula todas as células a partir dos leads existentes (ex: carga inicial).
+     *
+     * @return Quantidade de períodos recalculados (somando semanas e meses).
+     */
+    int rebuild();
+}
@@ -0,0 +1,18 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadPage;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+
+/**
+ * Interface de Serviço para a navegação pelos leads importados.
+ */
+public interface LeadQueryService {
+
+    /**
+     * Retorna uma página de leads com suas dimensões.
+     *
+     * @param query Filtros, cursor e tamanho da página.
+     * @throws IllegalArgumentException Se o tamanho da página ou o período forem inválidos.
+     */
+    LeadPage findLeads(LeadQuery query);
+}
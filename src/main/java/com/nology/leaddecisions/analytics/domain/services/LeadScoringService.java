@@ -0,0 +1,32 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadScoreRanking;
+
+/**
+ * Contrato do caso de uso de pontuação de leads (probabilidade de conversão).
+ */
+public interface LeadScoringService {
+
+    /**
+     * Pontua os leads em aberto de um documento e retorna os mais promissores.
+     *
+     * @param documentId Documento importado.
+     * @param limit Quantidade máxima de leads no ranking.
+     * @throws IllegalArgumentException Se o documento não existir ou o limite for inválido.
+     */
+    LeadScoreRanking scoreDocument(Long documentId, int limit);
+
+    /**
+     * Soma ao modelo as contagens de um documento recém-importado, sem reler os demais.
+     *
+     * @param documentId Documento importado.
+     */
+    void trainDocument(Long documentId);
+
+    /**
+     * Treina o modelo do zero com as contagens de todos os documentos (ex: após remoções).
+     *
+     * @return Quantidade de leads usados no treino.
+     */
+    long retrain();
+}
@@ -0,0 +1,18 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveSearchResult;
+
+/**
+ * Contrato do caso de uso de busca textual nos objetivos declarados pelos leads.
+ */
+public interface ObjectiveSearchService {
+
+    /**
+     * Busca os objetivos que contêm todas as palavras da consulta (sem diferenciar acentos e maiúsculas).
+     *
+     * @param query Texto buscado.
+     * @param limit Quantidade máxima de objetivos retornados.
+     * @throws IllegalArgumentException Se a consulta for curta demais ou o limite for inválido.
+     */
+    ObjectiveSearchResult search(String query, int limit);
+}
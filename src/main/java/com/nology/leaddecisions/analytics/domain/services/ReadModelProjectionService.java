@@ -0,0 +1,37 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+/**
+ * Interface de Serviço para a manutenção do modelo de leitura do Analytics.
+ */
+public interface ReadModelProjectionService {
+
+    /**
+     * Projeta os leads de um documento importado no modelo de leitura.
+     *
+     * @param documentId Documento importado.
+     * @return Quantidade de leads projetados.
+     */
+    int project(Long documentId);
+
+    /**
+     * Retira do modelo de leitura os leads de um documento removido.
+     *
+     * @param documentId Documento removido.
+     * @return Quantidade de leads retirados.
+     */
+    int remove(Long documentId);
+
+    /**
+     * Projeta os documentos importados que ainda não estão no modelo de leitura.
+     *
+     * @return Quantidade de documentos projetados.
+     */
+    int catchUp();
+
+    /**
+     * Reconstrói o modelo de leitura do zero a partir das tabelas do ETL.
+     *
+     * @return Quantidade de leads projetados.
+     */
+    int rebuild();
+}
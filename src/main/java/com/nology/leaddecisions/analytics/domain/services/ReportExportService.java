@@ -0,0 +1,28 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+
+/**
+ * Interface de Serviço responsável pela exportação tabular (planilha/CSV) de relatórios e leads.
+ *
+ * O formato de saída é decidido pela implementação de TabularSink; o serviço apenas entrega as linhas
+ * na ordem correta, sem manter o conjunto completo em memória.
+ */
+public interface ReportExportService {
+
+    /**
+     * Exporta o relatório consolidado: resumo de KPIs, uma tabela de ranking por dimensão e os insights.
+     *
+     * @param sink Destino das tabelas.
+     */
+    void exportReport(TabularSink sink);
+
+    /**
+     * Exporta os leads que atendem ao filtro, com suas dimensões, uma linha por lead.
+     *
+     * @param filter Filtros de documento, período e venda.
+     * @param sink Destino da tabela.
+     */
+    void exportLeads(LeadExportFilter filter, TabularSink sink);
+}
@@ -0,0 +1,49 @@
+package com.nology.leaddecisions.analytics.domain.services;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface de Serviço para os snapshots do relatório consolidado.
+ *
+ * O relatório é pré-calculado após cada importação e periodicamente, e persistido por versão dos dados.
+ * As consultas passam a ler o snapshot da versão atual em vez de agregar as tabelas a cada requisição.
+ */
+public interface ReportSnapshotService {
+
+    /**
+     * Retorna o relatório consolidado da versão atual dos dados, a partir do snapshot.
+     * Caso ainda não exista snapshot para a versão, ele é gerado e persistido nesta chamada.
+     *
+     * @param rankingQuery Paginação e filtro aplicados a cada ranking.
+     * @return O relatório da versão atual.
+     */
+    MarketingReport getLatestReport(RankingQuery rankingQuery);
+
+    /**
+     * Gera e persiste o snapshot da versão atual dos dados, se ainda não existir.
+     *
+     * @param trigger Motivo da geração.
+     * @return Os metadados do snapshot criado, ou vazio se a versão atual já possuía snapshot.
+     */
+    Optional<ReportSnapshotSummary> refresh(SnapshotTrigger trigger);
+
+    /**
+     * @param limit Quantidade máxima de snapshots.
+     * @return Os snapshots mais recentes primeiro.
+     */
+    List<ReportSnapshotSummary> getHistory(int limit);
+
+    /**
+     * Compara dois snapshots, retornando a variação de conversão de cada grupo.
+     *
+     * @throws IllegalArgumentException Se os snapshots forem iguais ou não existirem.
+     */
+    ReportComparison compareSnapshots(Long baseSnapshotId, Long targetSnapshotId);
+}
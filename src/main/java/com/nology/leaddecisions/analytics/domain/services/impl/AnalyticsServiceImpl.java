@@ -1,88 +1,461 @@
 package com.nology.leaddecisions.analytics.domain.services.impl;
 
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
 import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
 import com.nology.leaddecisions.analytics.domain.models.*;
 import com.nology.leaddecisions.analytics.domain.ports.AnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.ArchiveAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+import com.nology.leaddecisions.analytics.domain.ports.SketchAnalyticsRepositoryPort;
 import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.shared.concurrent.SingleFlight;
+import com.nology.leaddecisions.shared.sketch.HyperLogLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class AnalyticsServiceImpl implements AnalyticsService {
 
     private final AnalyticsRepositoryPort repository;
+    private final DimensionAnalyticsRepositoryPort dimensionRepository;
+    private final DocumentAnalyticsRepositoryPort documentRepository;
+    private final SketchAnalyticsRepositoryPort sketchRepository;
+    private final ArchiveAnalyticsRepositoryPort archiveRepository;
+
+    /**
+     * Requisições simultâneas do mesmo relatório (mesmo tipo e mesma consulta) compartilham uma única geração.
+     * Todos os relatórios, inclusive o em fluxo, disputam as mesmas vagas de geração simultânea.
+     */
+    private final SingleFlight<Object, Object> reportFlights;
+
+    /**
+     * Métricas de geração: tempo total, tempo por fase (carga, ranking, insights) e grupos por dimensão.
+     */
+    private final MeterRegistry meterRegistry;
     private static final int STATISTICAL_THRESHOLD = 10;
 
+    /**
+     * Maior Top-N aceito na análise cruzada.
+     */
+    static final int MAX_TOP_N = 1_000;
+
+    /**
+     * Dimensões que compõem o relatório consolidado, na ordem em que são apresentadas.
+     */
+    private static final List<AnalysisDimension> REPORT_DIMENSIONS = List.of(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM);
+
+    /**
+     * Ordem dos rankings (RN07): maior taxa de conversão primeiro; em caso de empate, maior volume de vendas.
+     */
+    private static final Comparator<AnalysisGroup> RANKING_ORDER = (g1, g2) -> {
+        int rateComparison = Double.compare(g2.getConversionRate(), g1.getConversionRate());
+
+        if (rateComparison != 0) {
+            return rateComparison;
+        }
+
+        return Long.compare(g2.getTotalSold(), g1.getTotalSold());
+    };
+
     @Override
-    public MarketingReport generateFullReport() {
+    public MarketingReport generateFullReport(RankingQuery rankingQuery) {
+        return coalesce("full", rankingQuery, () -> buildFullReport(rankingQuery));
+    }
+
+    @Override
+    public MarketingReport generateApproximateReport(RankingQuery rankingQuery) {
+        return coalesce("approximate", rankingQuery, () -> buildApproximateReport(rankingQuery));
+    }
+
+    @Override
+    public MarketingReport generateArchiveInclusiveReport(RankingQuery rankingQuery) {
+        return coalesce("archived", rankingQuery, () -> buildArchiveInclusiveReport(rankingQuery));
+    }
+
+    /**
+     * Executa a geração via single-flight, registrando se a requisição gerou o relatório ou reaproveitou
+     * uma geração em andamento (a razão entre os dois é a taxa de coalescência).
+     * O tipo faz parte da chave, então o resultado compartilhado é sempre do tipo gerado para ele.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String type, Object query, Supplier<T> generation) {
+        boolean[] computed = new boolean[1];
+        T report = (T) reportFlights.execute(Map.entry(type, query), () -> {
+            computed[0] = true;
+            return Timer.builder("analytics.report.generation")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(generation);
+        });
+
+        meterRegistry.counter("analytics.report.requests", "type", type, "result", computed[0] ? "computed" : "coalesced")
+                .increment();
+        return report;
+    }
+
+    private MarketingReport buildFullReport(RankingQuery rankingQuery) {
         // 1. PRIMEIRO: Calcular a Média Global (A Régua)
         long totalLeads = repository.countTotalLeads();
         long totalSales = repository.countTotalSales();
-        double globalConversion = calculateSafeConversion(totalLeads, totalSales);
 
         // 2. Processar dimensões passando a "Régua"
-        List<MarketingReport.DimensionAnalysis> analyses = new ArrayList<>();
+        return assembleReport(totalLeads, totalSales, rankingQuery, null, this::loadStats);
+    }
 
-        analyses.add(processDimension(
-                "MERCADO",
-                "Performance por segmento",
-                repository.getStatsByMarket(),
-                globalConversion // Injeção de Contexto
-        ));
+    /**
+     * Soma aos dados das tabelas os totais do manifesto e as estatísticas varridas dos arquivos.
+     * Um lead pertence a um único documento, e um documento está nas tabelas ou no arquivo morto:
+     * as contagens dos dois lados são disjuntas e podem ser somadas por grupo.
+     */
+    private MarketingReport buildArchiveInclusiveReport(RankingQuery rankingQuery) {
+        List<DocumentTotalsDto> archived = archiveRepository.getArchivedDocumentTotals();
+        long totalLeads = repository.countTotalLeads() + archived.stream().mapToLong(DocumentTotalsDto::getTotalLeads).sum();
+        long totalSales = repository.countTotalSales() + archived.stream().mapToLong(DocumentTotalsDto::getTotalSold).sum();
 
-        analyses.add(processDimension(
-                "ORIGEM",
-                "Performance por canal",
-                repository.getStatsBySource(),
-                globalConversion
-        ));
+        return assembleReport(totalLeads, totalSales, rankingQuery, null, dimension -> archived.isEmpty()
+                ? loadStats(dimension)
+                : mergeStats(loadStats(dimension), archiveRepository.scanStats(dimension)));
+    }
 
-        return MarketingReport.builder()
-                .reportId(UUID.randomUUID().toString())
-                .generatedAt(LocalDateTime.now())
-                .globalStats(MarketingReport.GlobalStats.builder()
-                        .totalLeads(totalLeads)
-                        .totalSales(totalSales)
-                        .overallConversionRate(globalConversion)
-                        .build())
-                .analyses(analyses)
-                .topInsights(generateInsights(analyses))
+    private List<DimensionStatsDto> loadStats(AnalysisDimension dimension) {
+        return switch (dimension) {
+            case MERCADO -> repository.getStatsByMarket();
+            case ORIGEM -> repository.getStatsBySource();
+            default -> throw new IllegalStateException("Unsupported report dimension: " + dimension);
+        };
+    }
+
+    private static List<DimensionStatsDto> mergeStats(List<DimensionStatsDto> first, List<DimensionStatsDto> second) {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (List<DimensionStatsDto> stats : List.of(first, second)) {
+            for (DimensionStatsDto dto : stats) {
+                long[] total = totals.computeIfAbsent(dto.getCategoryName(), key -> new long[2]);
+                total[0] += dto.getTotalLeads();
+                total[1] += dto.getTotalSold();
+            }
+        }
+
+        List<DimensionStatsDto> merged = new ArrayList<>(totals.size());
+        totals.forEach((category, total) -> merged.add(new DimensionStatsDto(category, total[0], total[1])));
+        return merged;
+    }
+
+    private MarketingReport buildApproximateReport(RankingQuery rankingQuery) {
+        long totalLeads = repository.countTotalLeads();
+        long totalSales = repository.countTotalSales();
+
+        double standardError = HyperLogLog.relativeStandardError(HyperLogLog.DEFAULT_PRECISION) * 100;
+        MarketingReport.Approximation approximation = MarketingReport.Approximation.builder()
+                .method("HYPERLOGLOG")
+                .relativeStandardError(Math.round(standardError * 100) / 100.0)
+                .confidence95(Math.round(2 * standardError * 100) / 100.0)
+                .build();
+
+        return assembleReport(totalLeads, totalSales, rankingQuery, approximation, this::estimateStats);
+    }
+
+    @Override
+    public MarketingReport rankReport(MarketingReport fullReport, RankingQuery rankingQuery) {
+        Map<String, List<DimensionStatsDto>> statsByDimension = new HashMap<>();
+        for (MarketingReport.DimensionAnalysis analysis : fullReport.getAnalyses()) {
+            statsByDimension.put(analysis.getDimension(), analysis.getRanking().stream()
+                    .map(group -> new DimensionStatsDto(group.getGroupName(), group.getTotalLeads(), group.getTotalSold()))
+                    .toList());
+        }
+
+        MarketingReport.GlobalStats stats = fullReport.getGlobalStats();
+        MarketingReport ranked = assembleReport(stats.getTotalLeads(), stats.getTotalSales(), rankingQuery,
+                fullReport.getApproximation(), dimension -> statsByDimension.getOrDefault(dimension.getLabel(), List.of()));
+
+        return ranked.toBuilder()
+                .reportId(fullReport.getReportId())
+                .generatedAt(fullReport.getGeneratedAt())
                 .build();
     }
 
-    private MarketingReport.DimensionAnalysis processDimension(
-            String dimensionName,
-            String description,
-            List<DimensionStatsDto> rawData,
-            double globalAverage) {
+    @Override
+    public MarketingReport generateDocumentReport(Set<Long> documentIds, RankingQuery rankingQuery) {
+        return coalesce("documents", Arrays.asList(documentIds, rankingQuery),
+                () -> assembleDocumentReport(requireDocuments(documentIds), rankingQuery));
+    }
+
+    @Override
+    public ReportComparison compareDocuments(Long baseDocumentId, Long targetDocumentId) {
+        if (Objects.equals(baseDocumentId, targetDocumentId)) {
+            throw new IllegalArgumentException("Base and target documents must be distinct.");
+        }
+
+        List<DocumentTotalsDto> documents = requireDocuments(Set.of(baseDocumentId, targetDocumentId));
+        DocumentTotalsDto base = documents.stream()
+                .filter(document -> document.getDocumentId().equals(baseDocumentId))
+                .findFirst()
+                .orElseThrow();
+        DocumentTotalsDto target = documents.stream()
+                .filter(document -> document.getDocumentId().equals(targetDocumentId))
+                .findFirst()
+                .orElseThrow();
+
+        return ReportDiffCalculator.compare(
+                documentLabel(base), assembleDocumentReport(List.of(base), RankingQuery.unbounded()),
+                documentLabel(target), assembleDocumentReport(List.of(target), RankingQuery.unbounded()));
+    }
+
+    /**
+     * O relatório é escrito direto na resposta e não pode ser compartilhado: ocupa uma vaga de geração
+     * sem coalescência, enquanto os grupos são produzidos e entregues ao destino.
+     */
+    @Override
+    public void streamFullReport(ReportSink sink) {
+        reportFlights.executeAlone(() -> Timer.builder("analytics.report.generation")
+                .tag("type", "stream")
+                .register(meterRegistry)
+                .record(() -> {
+                    writeFullReport(sink);
+                    return null;
+                }));
+        meterRegistry.counter("analytics.report.requests", "type", "stream", "result", "computed").increment();
+    }
+
+    private void writeFullReport(ReportSink sink) {
+        long totalLeads = repository.countTotalLeads();
+        long totalSales = repository.countTotalSales();
+        double globalConversion = calculateSafeConversion(totalLeads, totalSales);
 
-        List<AnalysisGroup> richGroups = rawData.stream()
-                .map(dto -> new AnalysisGroup(
+        sink.begin(UUID.randomUUID().toString(), LocalDateTime.now(), globalStats(totalLeads, totalSales, globalConversion));
+
+        Map<String, AnalysisGroup> winners = new LinkedHashMap<>();
+        for (AnalysisDimension dimension : REPORT_DIMENSIONS) {
+            sink.beginDimension(dimension.getLabel(), dimension.getDescription());
+            long[] delivered = new long[1];
+
+            dimensionRepository.streamRankedStats(dimension, dto -> {
+                AnalysisGroup group = new AnalysisGroup(
                         dto.getCategoryName(),
                         dto.getTotalLeads(),
                         dto.getTotalSold(),
                         STATISTICAL_THRESHOLD,
-                        globalAverage
-                ))
-                .sorted((g1, g2) -> {
-                    int rateComparison = Double.compare(g2.getConversionRate(), g1.getConversionRate());
+                        globalConversion
+                );
+                // Grupos chegam ordenados: o primeiro acima da média é o vencedor da dimensão.
+                if (group.getStatus() == AnalysisStatus.SUPERIOR_A_MEDIA) {
+                    winners.putIfAbsent(dimension.getLabel(), group);
+                }
+                delivered[0]++;
+                sink.group(group);
+            });
+
+            sink.endDimension(delivered[0]);
+        }
+
+        sink.end(generateInsights(winners));
+    }
+
+    @Override
+    public CrossDimensionReport generateCrossReport(AnalysisDimension rows, AnalysisDimension columns, int topN) {
+        if (rows == null || columns == null || rows == columns) {
+            throw new IllegalArgumentException("Row and column dimensions must be distinct.");
+        }
+        if (topN <= 0 || topN > MAX_TOP_N) {
+            throw new IllegalArgumentException("Top N must be between 1 and " + MAX_TOP_N + ".");
+        }
+
+        return coalesce("cross", List.of(rows, columns, topN), () -> buildCrossReport(rows, columns, topN));
+    }
+
+    private CrossDimensionReport buildCrossReport(AnalysisDimension rows, AnalysisDimension columns, int topN) {
+        double globalConversion = calculateSafeConversion(repository.countTotalLeads(), repository.countTotalSales());
+
+        // Min-heap limitado a N: a raiz é sempre a pior célula retida, descartada quando surge uma melhor.
+        // A capacidade cresce sob demanda, apenas com as células relevantes encontradas.
+        PriorityQueue<CrossAnalysisCell> topCells = new PriorityQueue<>(RANKING_ORDER.reversed());
+        long[] counters = new long[2]; // [0] = total de células, [1] = células relevantes
+
+        dimensionRepository.streamCrossStats(rows, columns, dto -> {
+            counters[0]++;
+            if (dto.getTotalLeads() < STATISTICAL_THRESHOLD) {
+                return; // INCONCLUSIVO: não entra no Top-N
+            }
+            counters[1]++;
+
+            topCells.offer(new CrossAnalysisCell(
+                    dto.getRowCategory(),
+                    dto.getColumnCategory(),
+                    dto.getTotalLeads(),
+                    dto.getTotalSold(),
+                    STATISTICAL_THRESHOLD,
+                    globalConversion
+            ));
+            if (topCells.size() > topN) {
+                topCells.poll();
+            }
+        });
+
+        List<CrossAnalysisCell> ranking = new ArrayList<>(topCells);
+        ranking.sort(RANKING_ORDER);
+
+        return CrossDimensionReport.builder()
+                .reportId(UUID.randomUUID().toString())
+                .generatedAt(LocalDateTime.now())
+                .rowDimension(rows)
+                .columnDimension(columns)
+                .globalConversionRate(globalConversion)
+                .totalCells(counters[0])
+                .significantCells(counters[1])
+                .topCells(ranking)
+                .build();
+    }
+
+    @Override
+    public HierarchyReport generateSourceHierarchy(int childLimit) {
+        if (childLimit <= 0) {
+            throw new IllegalArgumentException("Child limit must be positive.");
+        }
+
+        return coalesce("hierarchy", childLimit, () -> buildSourceHierarchy(childLimit));
+    }
+
+    private HierarchyReport buildSourceHierarchy(int childLimit) {
+        double globalConversion = calculateSafeConversion(repository.countTotalLeads(), repository.countTotalSales());
+
+        HierarchyRollup rollup = new HierarchyRollup(STATISTICAL_THRESHOLD, globalConversion, childLimit, RANKING_ORDER);
+        dimensionRepository.streamSourceHierarchyStats(rollup);
+        List<HierarchyNode> nodes = rollup.finish();
+
+        return HierarchyReport.builder()
+                .reportId(UUID.randomUUID().toString())
+                .generatedAt(LocalDateTime.now())
+                .parentDimension(AnalysisDimension.ORIGEM)
+                .childDimension(AnalysisDimension.SUB_ORIGEM)
+                .globalConversionRate(globalConversion)
+                .totalParents(rollup.getTotalParents())
+                .significantParents(nodes.size())
+                .totalChildren(rollup.getTotalChildren())
+                .nodes(nodes)
+                .build();
+    }
+
+    /**
+     * Monta o relatório a partir dos totais globais e de uma fonte de estatísticas por dimensão.
+     * Compartilhado entre o relatório completo e os relatórios restritos a documentos.
+     */
+    private MarketingReport assembleReport(
+            long totalLeads,
+            long totalSales,
+            RankingQuery rankingQuery,
+            MarketingReport.Approximation approximation,
+            Function<AnalysisDimension, List<DimensionStatsDto>> statsLoader) {
+        double globalConversion = calculateSafeConversion(totalLeads, totalSales);
+
+        List<MarketingReport.DimensionAnalysis> analyses = new ArrayList<>();
+        Map<String, AnalysisGroup> winners = new LinkedHashMap<>();
+        for (AnalysisDimension dimension : REPORT_DIMENSIONS) {
+            List<DimensionStatsDto> stats = timePhase("load", dimension, () -> statsLoader.apply(dimension));
+            meterRegistry.summary("analytics.report.groups", "dimension", dimension.getLabel()).record(stats.size());
+
+            RankingSelector.Page page = timePhase("rank", dimension, () -> RankingSelector.select(
+                    stats,
+                    STATISTICAL_THRESHOLD,
+                    globalConversion, // Injeção de Contexto
+                    rankingQuery
+            ));
+            analyses.add(processDimension(dimension, page));
+            if (page.bestGroup != null) {
+                winners.put(dimension.getLabel(), page.bestGroup);
+            }
+        }
+
+        return MarketingReport.builder()
+                .reportId(UUID.randomUUID().toString())
+                .generatedAt(LocalDateTime.now())
+                .globalStats(globalStats(totalLeads, totalSales, globalConversion))
+                .analyses(analyses)
+                .topInsights(timePhase("insights", null, () -> generateInsights(winners)))
+                .approximation(approximation)
+                .build();
+    }
 
-                    if (rateComparison != 0) {
-                        return rateComparison;
-                    }
+    /**
+     * Mede uma fase da montagem do relatório (timer "analytics.report.phase").
+     * Na fase "rank" estão a construção dos AnalysisGroup e a seleção/ordenação do ranking.
+     */
+    private <T> T timePhase(String phase, AnalysisDimension dimension, Supplier<T> step) {
+        return Timer.builder("analytics.report.phase")
+                .tag("phase", phase)
+                .tag("dimension", dimension != null ? dimension.getLabel() : "ALL")
+                .register(meterRegistry)
+                .record(step);
+    }
+
+    /**
+     * Converte os sketches de cada valor da dimensão em estatísticas estimadas de leads e vendas distintos.
+     * A estimativa de vendas é limitada à de leads, já que o erro de cada sketch é independente.
+     */
+    private List<DimensionStatsDto> estimateStats(AnalysisDimension dimension) {
+        List<DimensionSketchDto> sketches = sketchRepository.getSketches(dimension);
+        List<DimensionStatsDto> stats = new ArrayList<>(sketches.size());
+        for (DimensionSketchDto sketch : sketches) {
+            long leads = HyperLogLog.fromBytes(sketch.getLeadsSketch()).estimate();
+            long sold = HyperLogLog.fromBytes(sketch.getSoldSketch()).estimate();
+            stats.add(new DimensionStatsDto(sketch.getCategoryName(), leads, Math.min(sold, leads)));
+        }
+        return stats;
+    }
+
+    private MarketingReport.GlobalStats globalStats(long totalLeads, long totalSales, double globalConversion) {
+        return MarketingReport.GlobalStats.builder()
+                .totalLeads(totalLeads)
+                .totalSales(totalSales)
+                .overallConversionRate(globalConversion)
+                .build();
+    }
+
+    private MarketingReport assembleDocumentReport(List<DocumentTotalsDto> documents, RankingQuery rankingQuery) {
+        List<Long> documentIds = documents.stream().map(DocumentTotalsDto::getDocumentId).toList();
+        long totalLeads = documents.stream().mapToLong(DocumentTotalsDto::getTotalLeads).sum();
+        long totalSales = documents.stream().mapToLong(DocumentTotalsDto::getTotalSold).sum();
 
-                    return Long.compare(g2.getTotalSold(), g1.getTotalSold());
-                })
-                .toList();
+        return assembleReport(totalLeads, totalSales, rankingQuery, null,
+                dimension -> documentRepository.getStatsByDocuments(documentIds, dimension));
+    }
+
+    /**
+     * Carrega os totais dos documentos solicitados, garantindo que todos existam.
+     */
+    private List<DocumentTotalsDto> requireDocuments(Set<Long> documentIds) {
+        if (documentIds == null || documentIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one document id is required.");
+        }
+
+        List<DocumentTotalsDto> documents = documentRepository.getDocumentTotals(documentIds);
+        if (documents.size() != documentIds.size()) {
+            Set<Long> missing = new TreeSet<>(documentIds);
+            documents.forEach(document -> missing.remove(document.getDocumentId()));
+            throw new IllegalArgumentException("Document not found: " + missing);
+        }
+        return documents;
+    }
 
+    private String documentLabel(DocumentTotalsDto document) {
+        return "#" + document.getDocumentId() + " - " + document.getDocumentName();
+    }
+
+    private MarketingReport.DimensionAnalysis processDimension(AnalysisDimension dimension, RankingSelector.Page page) {
         return MarketingReport.DimensionAnalysis.builder()
-                .dimension(dimensionName)
-                .description(description)
-                .ranking(richGroups)
+                .dimension(dimension.getLabel())
+                .description(dimension.getDescription())
+                .ranking(page.groups)
+                .totalGroups(page.totalGroups)
+                .nextCursor(page.nextCursor)
                 .build();
     }
 
@@ -91,16 +464,17 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return (double) sold / total * 100;
     }
 
-    private Map<String, String> generateInsights(List<MarketingReport.DimensionAnalysis> analyses) {
+    /**
+     * Gera os insights a partir do melhor grupo acima da média de cada dimensão.
+     * Os vencedores são identificados durante a seleção do ranking, mesmo quando apenas uma página é retornada.
+     */
+    private Map<String, String> generateInsights(Map<String, AnalysisGroup> winners) {
         Map<String, String> insights = new HashMap<>();
 
-        analyses.forEach(analysis -> analysis.getRanking().stream()
-                .filter(g -> g.getStatus() == AnalysisStatus.SUPERIOR_A_MEDIA)
-                .max(Comparator.comparingDouble(AnalysisGroup::getConversionRate)) // Busca o maior valor
-                .ifPresent(winner -> insights.put(
-                        "Melhor " + analysis.getDimension(),
-                        winner.getGroupName() + " (" + winner.getConversionRate() + "%)"
-                )));
+        winners.forEach((dimension, winner) -> insights.put(
+                "Melhor " + dimension,
+                winner.getGroupName() + " (" + winner.getConversionRate() + "%)"
+        ));
         return insights;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.CohortCellDto;
+import com.nology.leaddecisions.analytics.domain.models.CohortMatrix;
+import com.nology.leaddecisions.analytics.domain.ports.CohortRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.CohortAnalysisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Implementação da análise de coortes.
+ *
+ * As células (período x valor de dimensão) são materializadas pela porta de persistência.
+ * Uma importação (ou remoção) só altera os períodos em que seus leads foram cadastrados; por isso,
+ * apenas esses períodos são recalculados, e não a matriz inteira.
+ */
+@Service
+@RequiredArgsConstructor
+public class CohortAnalysisServiceImpl implements CohortAnalysisService {
+
+    static final Set<AnalysisDimension> COHORT_DIMENSIONS = EnumSet.of(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM);
+
+    private final CohortRepositoryPort cohortRepository;
+
+    @Override
+    public CohortMatrix getMatrix(CohortGranularity granularity, AnalysisDimension dimension, LocalDate from, LocalDate to) {
+        if (!COHORT_DIMENSIONS.contains(dimension)) {
+            throw new IllegalArgumentException("Cohort analysis is available for: " + COHORT_DIMENSIONS);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Cohort period start must be before its end.");
+        }
+
+        List<CohortCellDto> cells = cohortRepository.findCells(
+                granularity,
+                dimension,
+                from != null ? granularity.periodStart(from) : null,
+                to != null ? granularity.periodStart(to) : null);
+
+        TreeMap<LocalDate, long[]> periodTotals = new TreeMap<>();
+        Map<String, List<CohortMatrix.Cell>> cellsByGroup = new LinkedHashMap<>();
+        for (CohortCellDto dto : cells) {
+            long totalLeads = dto.getTotalLeads();
+            long totalSold = dto.getTotalSold();
+
+            long[] totals = periodTotals.computeIfAbsent(dto.getPeriodStart(), period -> new long[2]);
+            totals[0] += totalLeads;
+            totals[1] += totalSold;
+
+            cellsByGroup.computeIfAbsent(dto.getCategoryName(), name -> new ArrayList<>())
+                    .add(cell(dto.getPeriodStart(), totalLeads, totalSold));
+        }
+
+        List<CohortMatrix.Row> rows = new ArrayList<>(cellsByGroup.size());
+        cellsByGroup.forEach((groupName, groupCells) -> {
+            groupCells.sort(Comparator.comparing(CohortMatrix.Cell::getPeriodStart));
+            long totalLeads = groupCells.stream().mapToLong(CohortMatrix.Cell::getTotalLeads).sum();
+            long totalSold = groupCells.stream().mapToLong(CohortMatrix.Cell::getTotalSold).sum();
+            rows.add(CohortMatrix.Row.builder()
+                    .groupName(groupName)
+                    .totalLeads(totalLeads)
+                    .totalSold(totalSold)
+                    .conversionRate(AnalysisGroup.conversionRateOf(totalLeads, totalSold))
+                    .cells(groupCells)
+                    .build());
+        });
+        rows.sort(Comparator.comparingLong(CohortMatrix.Row::getTotalLeads).reversed()
+                .thenComparing(CohortMatrix.Row::getGroupName));
+
+        return CohortMatrix.builder()
+                .granularity(granularity)
+                .dimension(dimension.getLabel())
+                .periods(new ArrayList<>(periodTotals.keySet()))
+                .periodTotals(periodTotals.entrySet().stream()
+                        .map(entry -> cell(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                        .toList())
+                .rows(rows)
+                .build();
+    }
+
+    @Override
+    public int refreshDocument(Long documentId) {
+        return recompute(cohortRepository.findCreationDates(documentId));
+    }
+
+    @Override
+    public int refreshDates(Collection<LocalDate> creationDates) {
+        return recompute(creationDates);
+    }
+
+    @Override
+    public int rebuild() {
+        return recompute(cohortRepository.findCreationDates(null));
+    }
+
+    /**
+     * Recalcula, para cada granularidade e dimensão, os períodos que contêm as datas informadas.
+     * Serializado para que duas importações simultâneas não substituam o mesmo período ao mesmo tempo.
+     */
+    private synchronized int recompute(Collection<LocalDate> creationDates) {
+        int recomputed = 0;
+        for (CohortGranularity granularity : CohortGranularity.values()) {
+            SortedSet<LocalDate> periods = new TreeSet<>();
+            for (LocalDate date : creationDates) {
+                periods.add(granularity.periodStart(date));
+            }
+            if (periods.isEmpty()) {
+                continue;
+            }
+
+            for (AnalysisDimension dimension : COHORT_DIMENSIONS) {
+                cohortRepository.recomputeCells(granularity, dimension, periods);
+            }
+            recomputed += periods.size();
+        }
+        return recomputed;
+    }
+
+    private static CohortMatrix.Cell cell(LocalDate periodStart, long totalLeads, long totalSold) {
+        return CohortMatrix.Cell.builder()
+                .periodStart(periodStart)
+                .totalLeads(totalLeads)
+                .totalSold(totalSold)
+                .conversionRate(AnalysisGroup.conversionRateOf(totalLeads, totalSold))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.HierarchyNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Monta a hierarquia pai -> filhos (rollup) a partir das estatísticas por par de valores, ordenadas pelo pai.
+ *
+ * Os totais de cada pai são a soma dos seus filhos, calculados aqui a partir da mesma agregação: o banco
+ * agrupa uma única vez, e apenas os filhos do pai corrente ficam em memória.
+ *
+ * Truncamento: pais inconclusivos (abaixo do threshold) não são retornados, e cada pai retorna no máximo
+ * childLimit filhos relevantes. Os demais são resumidos em contadores no próprio pai.
+ */
+final class HierarchyRollup implements Consumer<CrossDimensionStatsDto> {
+
+    /**
+     * Rótulo dos registros sem valor no detalhamento (ex: origem sem sub-origem).
+     */
+    static final String UNSPECIFIED = "(não informado)";
+
+    private final int threshold;
+    private final double globalAverage;
+    private final int childLimit;
+    private final Comparator<? super AnalysisGroup> order;
+
+    private final List<HierarchyNode> nodes = new ArrayList<>();
+    private long totalParents;
+    private long totalChildren;
+
+    private String parent;
+    private final Map<String, long[]> children = new LinkedHashMap<>();
+
+    HierarchyRollup(int threshold, double globalAverage, int childLimit, Comparator<? super AnalysisGroup> order) {
+        this.threshold = threshold;
+        this.globalAverage = globalAverage;
+        this.childLimit = childLimit;
+        this.order = order;
+    }
+
+    @Override
+    public void accept(CrossDimensionStatsDto dto) {
+        if (parent != null && !parent.equals(dto.getRowCategory())) {
+            closeParent();
+        }
+        parent = dto.getRowCategory();
+
+        String child = dto.getColumnCategory() == null || dto.getColumnCategory().isBlank()
+                ? UNSPECIFIED
+                : dto.getColumnCategory();
+        long[] total = children.computeIfAbsent(child, key -> new long[2]);
+        total[0] += dto.getTotalLeads();
+        total[1] += dto.getTotalSold();
+    }
+
+    /**
+     * Encerra o último pai e retorna os nós relevantes, ordenados como os rankings.
+     */
+    List<HierarchyNode> finish() {
+        if (parent != null) {
+            closeParent();
+        }
+        nodes.sort(order);
+        return nodes;
+    }
+
+    long getTotalParents() {
+        return totalParents;
+    }
+
+    long getTotalChildren() {
+        return totalChildren;
+    }
+
+    private void closeParent() {
+        totalParents++;
+        totalChildren += children.size();
+
+        long parentLeads = 0;
+        long parentSold = 0;
+        for (long[] total : children.values()) {
+            parentLeads += total[0];
+            parentSold += total[1];
+        }
+
+        if (parentLeads >= threshold) {
+            double parentAverage = AnalysisGroup.conversionRateOf(parentLeads, parentSold);
+            List<HierarchyNode> significant = new ArrayList<>();
+            long omittedLeads = 0;
+            long omittedSold = 0;
+            for (Map.Entry<String, long[]> entry : children.entrySet()) {
+                long[] total = entry.getValue();
+                if (total[0] >= threshold) {
+                    significant.add(new HierarchyNode(entry.getKey(), total[0], total[1], threshold, globalAverage,
+                            parentAverage, List.of(), 0, 0, 0));
+                } else {
+                    omittedLeads += total[0];
+                    omittedSold += total[1];
+                }
+            }
+
+            significant.sort(order);
+            List<HierarchyNode> kept = significant.size() > childLimit
+                    ? new ArrayList<>(significant.subList(0, childLimit))
+                    : significant;
+            for (HierarchyNode dropped : significant.subList(kept.size(), significant.size())) {
+                omittedLeads += dropped.getTotalLeads();
+                omittedSold += dropped.getTotalSold();
+            }
+
+            nodes.add(new HierarchyNode(parent, parentLeads, parentSold, threshold, globalAverage, globalAverage,
+                    List.copyOf(kept), children.size() - kept.size(), omittedLeads, omittedSold));
+        }
+
+        children.clear();
+    }
+}
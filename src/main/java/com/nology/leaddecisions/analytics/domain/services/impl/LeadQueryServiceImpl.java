@@ -0,0 +1,92 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadDimensionValueDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadPage;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.models.LeadSummaryDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadView;
+import com.nology.leaddecisions.analytics.domain.ports.LeadQueryRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.LeadQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação da navegação pelos leads.
+ *
+ * Cada página custa uma consulta de leads (pela chave, após o cursor) mais uma consulta por dimensão
+ * restrita aos ids da página, independentemente da profundidade da página ou do número de leads.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadQueryServiceImpl implements LeadQueryService {
+
+    static final int MAX_LIMIT = 500;
+
+    private final LeadQueryRepositoryPort leadQueryRepository;
+
+    @Override
+    public LeadPage findLeads(LeadQuery query) {
+        if (query.getLimit() <= 0 || query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        if (query.getCreatedFrom() != null && query.getCreatedTo() != null
+                && !query.getCreatedFrom().isBefore(query.getCreatedTo())) {
+            throw new IllegalArgumentException("Query period start must be before its end.");
+        }
+
+        // Uma linha a mais indica se existe próxima página, sem contar o total.
+        List<LeadSummaryDto> rows = leadQueryRepository.findLeads(query, query.getLimit() + 1);
+        boolean hasMore = rows.size() > query.getLimit();
+        List<LeadSummaryDto> page = hasMore ? rows.subList(0, query.getLimit()) : rows;
+
+        List<Long> leadIds = page.stream().map(LeadSummaryDto::getLeadId).toList();
+        Map<AnalysisDimension, Map<Long, List<String>>> values = new EnumMap<>(AnalysisDimension.class);
+        if (!leadIds.isEmpty()) {
+            for (AnalysisDimension dimension : AnalysisDimension.values()) {
+                values.put(dimension, groupByLead(leadQueryRepository.findDimensionValues(dimension, leadIds)));
+            }
+        }
+
+        List<LeadView> leads = new ArrayList<>(page.size());
+        for (LeadSummaryDto lead : page) {
+            leads.add(LeadView.builder()
+                    .leadId(lead.getLeadId())
+                    .documentId(lead.getDocumentId())
+                    .createdAt(lead.getCreatedAt())
+                    .sold(lead.getSold())
+                    .markets(valuesOf(values, AnalysisDimension.MERCADO, lead))
+                    .sources(valuesOf(values, AnalysisDimension.ORIGEM, lead))
+                    .subSources(valuesOf(values, AnalysisDimension.SUB_ORIGEM, lead))
+                    .locations(valuesOf(values, AnalysisDimension.LOCAL, lead))
+                    .sizes(valuesOf(values, AnalysisDimension.PORTE, lead))
+                    .objectives(valuesOf(values, AnalysisDimension.OBJETIVO, lead))
+                    .build());
+        }
+
+        return LeadPage.builder()
+                .leads(leads)
+                .limit(query.getLimit())
+                .nextCursor(hasMore ? page.get(page.size() - 1).getLeadId() : null)
+                .build();
+    }
+
+    private static Map<Long, List<String>> groupByLead(List<LeadDimensionValueDto> values) {
+        Map<Long, List<String>> byLead = new HashMap<>();
+        for (LeadDimensionValueDto value : values) {
+            byLead.computeIfAbsent(value.getLeadId(), id -> new ArrayList<>()).add(value.getValue());
+        }
+        return byLead;
+    }
+
+    private static List<String> valuesOf(Map<AnalysisDimension, Map<Long, List<String>>> values,
+                                         AnalysisDimension dimension, LeadSummaryDto lead) {
+        return values.getOrDefault(dimension, Map.of()).getOrDefault(lead.getLeadId(), List.of());
+    }
+}
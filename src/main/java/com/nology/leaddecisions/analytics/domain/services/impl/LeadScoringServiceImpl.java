@@ -0,0 +1,258 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadScore;
+import com.nology.leaddecisions.analytics.domain.models.LeadScoreRanking;
+import com.nology.leaddecisions.analytics.domain.models.LeadScoringModel;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.LeadScoringRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.LeadScoringService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementação da pontuação de leads com o modelo Naive Bayes ({@link LeadScoringModel}).
+ *
+ * Treino: as contagens por valor vêm dos agregados por documento gravados na importação
+ * (Tb_documento_estatistica), e não dos leads. Cada nova importação apenas soma as contagens do documento;
+ * o treino completo só é necessário quando documentos saem da base.
+ *
+ * Pontuação: os leads do documento viram posições de um double[] de log-odds, e os valores de cada dimensão
+ * são convertidos em códigos e somados em lote pelas tabelas pré-calculadas do modelo. O ranking é
+ * selecionado com um heap de tamanho limit, sem ordenar todos os leads.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadScoringServiceImpl implements LeadScoringService {
+
+    static final int MAX_LIMIT = 10_000;
+
+    private final LeadScoringRepositoryPort scoringRepository;
+    private final DocumentAnalyticsRepositoryPort documentRepository;
+
+    private final Object trainingLock = new Object();
+    private final Set<Long> trainedDocuments = new HashSet<>();
+    private final Map<AnalysisDimension, Map<String, long[]>> counts = new EnumMap<>(AnalysisDimension.class);
+    private long trainingLeads;
+    private long trainingSold;
+    private volatile LeadScoringModel model;
+
+    @Override
+    public LeadScoreRanking scoreDocument(Long documentId, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Ranking limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        if (documentRepository.getDocumentTotals(List.of(documentId)).isEmpty()) {
+            throw new IllegalArgumentException("Document not found: " + documentId);
+        }
+
+        LeadScoringModel current = currentModel();
+        long[] leadIds = scoringRepository.findOpenLeadIds(documentId);
+        double[] logOdds = new double[leadIds.length];
+        Arrays.fill(logOdds, current.getPriorLogOdds());
+
+        if (leadIds.length > 0) {
+            for (AnalysisDimension dimension : AnalysisDimension.values()) {
+                accumulate(current, documentId, dimension, leadIds, logOdds);
+            }
+        }
+
+        int[] top = selectTop(leadIds, logOdds, limit);
+        List<LeadScore> leads = new ArrayList<>(top.length);
+        for (int index : top) {
+            double percent = LeadScoringModel.probability(logOdds[index]) * 100;
+            leads.add(new LeadScore(leadIds[index], Math.round(percent * 100) / 100.0));
+        }
+
+        return LeadScoreRanking.builder()
+                .documentId(documentId)
+                .scoredLeads(leadIds.length)
+                .trainingLeads(current.getTrainingLeads())
+                .leads(leads)
+                .build();
+    }
+
+    @Override
+    public void trainDocument(Long documentId) {
+        synchronized (trainingLock) {
+            if (model == null) {
+                retrain();
+                return;
+            }
+            if (trainedDocuments.contains(documentId)) {
+                return;
+            }
+            addCounts(List.of(documentId));
+            model = buildModel();
+        }
+    }
+
+    @Override
+    public long retrain() {
+        synchronized (trainingLock) {
+            trainedDocuments.clear();
+            counts.clear();
+            trainingLeads = 0;
+            trainingSold = 0;
+
+            List<Long> documentIds = scoringRepository.findDocumentIds();
+            if (!documentIds.isEmpty()) {
+                addCounts(documentIds);
+            }
+            model = buildModel();
+            return trainingLeads;
+        }
+    }
+
+    private LeadScoringModel currentModel() {
+        LeadScoringModel current = model;
+        if (current != null) {
+            return current;
+        }
+        synchronized (trainingLock) {
+            if (model == null) {
+                retrain();
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Chamado com o lock de treino adquirido.
+     */
+    private void addCounts(Collection<Long> documentIds) {
+        for (DocumentTotalsDto totals : documentRepository.getDocumentTotals(documentIds)) {
+            trainingLeads += totals.getTotalLeads();
+            trainingSold += totals.getTotalSold();
+            trainedDocuments.add(totals.getDocumentId());
+        }
+        for (AnalysisDimension dimension : AnalysisDimension.values()) {
+            Map<String, long[]> values = counts.computeIfAbsent(dimension, key -> new LinkedHashMap<>());
+            for (DimensionStatsDto stats : documentRepository.getStatsByDocuments(documentIds, dimension)) {
+                long[] total = values.computeIfAbsent(stats.getCategoryName(), key -> new long[2]);
+                total[0] += stats.getTotalLeads();
+                total[1] += stats.getTotalSold();
+            }
+        }
+    }
+
+    /**
+     * Chamado com o lock de treino adquirido.
+     */
+    private LeadScoringModel buildModel() {
+        Map<AnalysisDimension, List<DimensionStatsDto>> stats = new EnumMap<>(AnalysisDimension.class);
+        counts.forEach((dimension, values) -> {
+            List<DimensionStatsDto> list = new ArrayList<>(values.size());
+            values.forEach((value, total) -> list.add(new DimensionStatsDto(value, total[0], total[1])));
+            stats.put(dimension, list);
+        });
+        return LeadScoringModel.train(trainingLeads, trainingSold, stats);
+    }
+
+    /**
+     * Converte os valores da dimensão em pares (posição do lead, código do valor) e os soma em lote.
+     * Os códigos de valores repetidos ficam em cache para consultar o dicionário do modelo uma vez por valor.
+     */
+    private void accumulate(LeadScoringModel current, Long documentId, AnalysisDimension dimension,
+                            long[] leadIds, double[] logOdds) {
+        int[][] pairs = {new int[leadIds.length], new int[leadIds.length]};
+        int[] size = new int[1];
+        Map<String, Integer> codeCache = new HashMap<>();
+
+        scoringRepository.streamOpenLeadValues(documentId, dimension, (leadId, value) -> {
+            int leadIndex = Arrays.binarySearch(leadIds, leadId);
+            if (leadIndex < 0) {
+                return;
+            }
+            if (size[0] == pairs[0].length) {
+                pairs[0] = Arrays.copyOf(pairs[0], size[0] * 2);
+                pairs[1] = Arrays.copyOf(pairs[1], size[0] * 2);
+            }
+            pairs[0][size[0]] = leadIndex;
+            pairs[1][size[0]] = codeCache.computeIfAbsent(value, key -> current.code(dimension, key));
+            size[0]++;
+        });
+
+        current.accumulate(dimension, pairs[0], pairs[1], size[0], logOdds);
+    }
+
+    /**
+     * Seleciona as posições dos limit maiores log-odds (empate: menor id), em ordem decrescente,
+     * mantendo um heap mínimo de tamanho limit: O(n log limit), sem ordenar todos os leads.
+     */
+    static int[] selectTop(long[] leadIds, double[] logOdds, int limit) {
+        int size = Math.min(limit, logOdds.length);
+        int[] heap = new int[size];
+        int count = 0;
+        for (int index = 0; index < logOdds.length; index++) {
+            if (count < size) {
+                heap[count] = index;
+                siftUp(heap, count++, leadIds, logOdds);
+            } else if (size > 0 && ranksAbove(index, heap[0], leadIds, logOdds)) {
+                heap[0] = index;
+                siftDown(heap, size, leadIds, logOdds);
+            }
+        }
+
+        // Esvazia o heap do pior para o melhor, preenchendo o resultado de trás para frente.
+        int[] ordered = new int[size];
+        for (int position = size - 1; position >= 0; position--) {
+            ordered[position] = heap[0];
+            heap[0] = heap[position];
+            siftDown(heap, position, leadIds, logOdds);
+        }
+        return ordered;
+    }
+
+    private static boolean ranksAbove(int a, int b, long[] leadIds, double[] logOdds) {
+        int comparison = Double.compare(logOdds[a], logOdds[b]);
+        return comparison > 0 || (comparison == 0 && leadIds[a] < leadIds[b]);
+    }
+
+    private static void siftUp(int[] heap, int position, long[] leadIds, double[] logOdds) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!ranksAbove(heap[parent], heap[position], leadIds, logOdds)) {
+                return;
+            }
+            swap(heap, parent, position);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, long[] leadIds, double[] logOdds) {
+        int position = 0;
+        while (true) {
+            int lowest = position;
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                if (ranksAbove(heap[lowest], heap[child], leadIds, logOdds)) {
+                    lowest = child;
+                }
+            }
+            if (lowest == position) {
+                return;
+            }
+            swap(heap, position, lowest);
+            position = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
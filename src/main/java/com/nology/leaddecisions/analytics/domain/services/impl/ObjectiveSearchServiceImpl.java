@@ -0,0 +1,182 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveMatch;
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveSearchResult;
+import com.nology.leaddecisions.analytics.domain.ports.ObjectiveSearchRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.ObjectiveSearchService;
+import com.nology.leaddecisions.shared.search.TrigramIndex;
+import com.nology.leaddecisions.shared.search.TrigramIndexCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Implementação da busca por objetivos sobre os índices de trigramas gravados na importação (um por documento).
+ *
+ * Os índices decodificados ficam em um cache limitado pela memória ({@link TrigramIndexCache}): a cada busca,
+ * apenas a lista de documentos indexados é consultada no banco, para descartar os índices de documentos
+ * removidos. Índices fora do cache são decodificados e consultados um de cada vez, sem acumular na busca.
+ *
+ * Cada índice é consultado separadamente e os termos iguais (após a normalização) são somados entre os
+ * documentos. A relevância é a fração do texto do objetivo coberta pelas palavras buscadas, de modo que
+ * objetivos curtos e exatos venham antes dos que apenas mencionam a consulta.
+ */
+@Service
+@RequiredArgsConstructor
+public class ObjectiveSearchServiceImpl implements ObjectiveSearchService {
+
+    static final int MIN_QUERY_LENGTH = 3;
+    static final int MAX_LIMIT = 200;
+    static final int MAX_LEAD_IDS = 100;
+
+    /**
+     * Ordem dos resultados: relevância, quantidade de leads e texto.
+     */
+    private static final Comparator<Accumulator> RANKING = Comparator
+            .comparingDouble((Accumulator accumulator) -> accumulator.score).reversed()
+            .thenComparing(Comparator.comparingLong((Accumulator accumulator) -> accumulator.leads).reversed())
+            .thenComparing(accumulator -> accumulator.text);
+
+    private final ObjectiveSearchRepositoryPort searchRepository;
+    private final TrigramIndexCache indexCache;
+
+    @Override
+    public ObjectiveSearchResult search(String query, int limit) {
+        String normalized = query == null ? "" : TrigramIndex.normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must have at least " + MIN_QUERY_LENGTH + " letters or digits.");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+
+        Map<String, Accumulator> found = new HashMap<>();
+        forEachIndex(index -> {
+            for (int code : index.search(normalized)) {
+                found.computeIfAbsent(index.normalizedText(code), key -> new Accumulator(index.text(code)))
+                        .add(index, code);
+            }
+        });
+
+        // Seleciona os limit primeiros com um heap de tamanho limit, sem ordenar todos os objetivos encontrados.
+        int queryLength = letters(normalized);
+        long totalLeads = 0;
+        long totalSold = 0;
+        PriorityQueue<Accumulator> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<String, Accumulator> entry : found.entrySet()) {
+            Accumulator accumulator = entry.getValue();
+            totalLeads += accumulator.leads;
+            totalSold += accumulator.sold;
+
+            double score = Math.min(1.0, (double) queryLength / letters(entry.getKey()));
+            accumulator.score = Math.round(score * 10_000) / 10_000.0;
+            top.add(accumulator);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Accumulator> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+
+        // Apenas os objetivos retornados são convertidos, com os seus ids de lead.
+        List<ObjectiveMatch> matches = new ArrayList<>(ranked.size());
+        for (Accumulator accumulator : ranked) {
+            matches.add(ObjectiveMatch.builder()
+                    .objective(accumulator.text)
+                    .score(accumulator.score)
+                    .totalLeads(accumulator.leads)
+                    .totalSold(accumulator.sold)
+                    .conversionRate(AnalysisGroup.conversionRateOf(accumulator.leads, accumulator.sold))
+                    .leadIds(Arrays.stream(accumulator.leadIds()).boxed().toList())
+                    .build());
+        }
+
+        return ObjectiveSearchResult.builder()
+                .query(query)
+                .totalMatchedLeads(totalLeads)
+                .totalSold(totalSold)
+                .conversionRate(AnalysisGroup.conversionRateOf(totalLeads, totalSold))
+                .matches(matches)
+                .build();
+    }
+
+    /**
+     * Quantidade de letras e dígitos de um texto normalizado (sem os espaços entre as palavras).
+     */
+    private static int letters(String normalized) {
+        int letters = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) != ' ') {
+                letters++;
+            }
+        }
+        return letters;
+    }
+
+    /**
+     * Sincroniza o cache com os documentos indexados no banco e consulta o índice de cada um, em ordem de documento.
+     */
+    private void forEachIndex(Consumer<TrigramIndex> action) {
+        List<Long> documentIds = searchRepository.findIndexedDocumentIds();
+        indexCache.retainAll(documentIds);
+
+        for (Long documentId : documentIds) {
+            TrigramIndex index = indexCache.get(documentId, searchRepository::loadIndex);
+            if (index != null) {
+                action.accept(index);
+            }
+        }
+    }
+
+    /**
+     * Soma de um objetivo entre documentos. Guarda apenas os primeiros MAX_LEAD_IDS ids de lead, em um array
+     * do tamanho necessário: a maioria dos objetivos encontrados tem poucos leads e não chega a ser retornada.
+     */
+    private static final class Accumulator {
+
+        private static final long[] NO_LEADS = new long[0];
+
+        private final String text;
+        private long[] leadIds = NO_LEADS;
+        private long leads;
+        private long sold;
+        private double score;
+
+        private Accumulator(String text) {
+            this.text = text;
+        }
+
+        private void add(TrigramIndex index, int code) {
+            leads += index.leadCount(code);
+            sold += index.soldCount(code);
+            if (leadIds.length < MAX_LEAD_IDS) {
+                long[] ids = index.leadIds(code, MAX_LEAD_IDS - leadIds.length);
+                if (leadIds.length == 0) {
+                    leadIds = ids;
+                } else {
+                    long[] merged = Arrays.copyOf(leadIds, leadIds.length + ids.length);
+                    System.arraycopy(ids, 0, merged, leadIds.length, ids.length);
+                    leadIds = merged;
+                }
+            }
+        }
+
+        /**
+         * @return Os ids de lead guardados, em ordem crescente.
+         */
+        private long[] leadIds() {
+            long[] sorted = leadIds.clone();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
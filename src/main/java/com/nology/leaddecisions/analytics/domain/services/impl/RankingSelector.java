@@ -0,0 +1,188 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Seleciona a página solicitada de um ranking (RN07) sem ordenar todos os grupos da dimensão.
+ *
+ * Estratégia:
+ * 1. A taxa de conversão e o status de cada grupo são calculados com aritmética primitiva (pontos-base).
+ * 2. Apenas os (offset + limit + 1) melhores grupos são retidos, em um heap limitado (seleção parcial).
+ * 3. Objetos AnalysisGroup são instanciados somente para os grupos da página retornada.
+ *
+ * Ordem do ranking: maior taxa, maior volume de vendas e, por fim, nome do grupo, garantindo uma ordem
+ * total e estável entre páginas (requisito para o cursor).
+ */
+final class RankingSelector {
+
+    private RankingSelector() {
+    }
+
+    /**
+     * Resultado da seleção de uma dimensão.
+     */
+    static final class Page {
+        final List<AnalysisGroup> groups;
+        final long totalGroups;
+        final String nextCursor;
+        final AnalysisGroup bestGroup;
+
+        private Page(List<AnalysisGroup> groups, long totalGroups, String nextCursor, AnalysisGroup bestGroup) {
+            this.groups = groups;
+            this.totalGroups = totalGroups;
+            this.nextCursor = nextCursor;
+            this.bestGroup = bestGroup;
+        }
+    }
+
+    /**
+     * Grupo candidato, representado apenas por primitivos e pelo nome.
+     */
+    private static final class Candidate {
+        final String name;
+        final long leads;
+        final long sold;
+        final long rateKey;
+
+        Candidate(String name, long leads, long sold, long rateKey) {
+            this.name = name;
+            this.leads = leads;
+            this.sold = sold;
+            this.rateKey = rateKey;
+        }
+    }
+
+    /**
+     * Seleciona a página do ranking descrita pela consulta.
+     *
+     * @param rows Estatísticas brutas da dimensão.
+     * @param threshold Volume mínimo de leads para relevância estatística (RN04).
+     * @param globalAverage Taxa de conversão média global.
+     * @param query Parâmetros de paginação e filtro.
+     * @return A página selecionada, o total de grupos que atendem ao filtro e o melhor grupo acima da média.
+     * @throws IllegalArgumentException Se limite, offset ou cursor forem inválidos.
+     */
+    static Page select(List<DimensionStatsDto> rows, int threshold, double globalAverage, RankingQuery query) {
+        Integer limit = query.getLimit();
+        int offset = query.getOffset();
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Ranking limit must be positive.");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Ranking offset must not be negative.");
+        }
+        Candidate after = decodeCursor(query.getCursor());
+
+        // Retém um grupo além da página para saber se existe uma próxima.
+        long window = limit == null ? Long.MAX_VALUE : (long) offset + limit + 1;
+        boolean bounded = window < rows.size();
+        // Raiz do heap = pior grupo retido.
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(
+                (int) Math.min(window, rows.size()) + 1,
+                (a, b) -> compare(b, a.rateKey, a.sold, a.name));
+
+        long totalGroups = 0;
+        Candidate best = null;
+
+        for (DimensionStatsDto row : rows) {
+            long leads = row.getTotalLeads();
+            long sold = row.getTotalSold();
+            String name = row.getCategoryName();
+            long rateKey = AnalysisGroup.conversionBasisPoints(leads, sold);
+            AnalysisStatus status = AnalysisGroup.statusOf(leads, rateKey / 100.0, threshold, globalAverage);
+
+            if (status == AnalysisStatus.SUPERIOR_A_MEDIA
+                    && (best == null || compare(best, rateKey, sold, name) > 0)) {
+                best = new Candidate(name, leads, sold, rateKey);
+            }
+            if (query.getStatus() != null && status != query.getStatus()) {
+                continue;
+            }
+            totalGroups++;
+            if (after != null && compare(after, rateKey, sold, name) >= 0) {
+                continue; // Já entregue em páginas anteriores.
+            }
+            if (bounded && heap.size() >= window) {
+                // Heap cheio: só entra quem supera o pior grupo retido (comparação sem alocação).
+                if (compare(heap.peek(), rateKey, sold, name) <= 0) {
+                    continue;
+                }
+                heap.poll();
+            }
+            heap.offer(new Candidate(name, leads, sold, rateKey));
+        }
+
+        List<Candidate> ordered = new ArrayList<>(heap);
+        ordered.sort((a, b) -> compare(a, b.rateKey, b.sold, b.name));
+
+        int from = Math.min(offset, ordered.size());
+        int to = limit == null ? ordered.size() : (int) Math.min((long) from + limit, ordered.size());
+        boolean hasMore = to < ordered.size();
+
+        List<AnalysisGroup> groups = new ArrayList<>(to - from);
+        for (Candidate candidate : ordered.subList(from, to)) {
+            groups.add(toGroup(candidate, threshold, globalAverage));
+        }
+
+        String nextCursor = hasMore && !groups.isEmpty() ? encodeCursor(ordered.get(to - 1)) : null;
+        AnalysisGroup bestGroup = best == null ? null : toGroup(best, threshold, globalAverage);
+        return new Page(Collections.unmodifiableList(groups), totalGroups, nextCursor, bestGroup);
+    }
+
+    /**
+     * Compara um candidato já retido com um grupo descrito por primitivos, segundo a ordem do ranking.
+     *
+     * @return Valor negativo se o candidato vem antes do grupo, positivo se vem depois, zero se equivalentes.
+     */
+    private static int compare(Candidate candidate, long rateKey, long sold, String name) {
+        int comparison = Long.compare(rateKey, candidate.rateKey);
+        if (comparison != 0) {
+            return comparison;
+        }
+        comparison = Long.compare(sold, candidate.sold);
+        if (comparison != 0) {
+            return comparison;
+        }
+        if (candidate.name == null || name == null) {
+            return candidate.name == null ? (name == null ? 0 : -1) : 1;
+        }
+        return candidate.name.compareTo(name);
+    }
+
+    private static AnalysisGroup toGroup(Candidate candidate, int threshold, double globalAverage) {
+        return new AnalysisGroup(candidate.name, candidate.leads, candidate.sold, threshold, globalAverage);
+    }
+
+    /**
+     * O cursor carrega a chave de ordenação do último grupo entregue: "taxa:vendas:nome", em Base64 URL-safe.
+     */
+    private static String encodeCursor(Candidate last) {
+        String name = last.name == null ? "N" : "S" + last.name;
+        String raw = last.rateKey + ":" + last.sold + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Candidate decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            String name = parts[2].startsWith("S") ? parts[2].substring(1) : null;
+            return new Candidate(name, 0, Long.parseLong(parts[1]), Long.parseLong(parts[0]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid ranking cursor.", e);
+        }
+    }
+}
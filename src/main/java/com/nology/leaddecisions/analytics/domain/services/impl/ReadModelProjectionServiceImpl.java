@@ -0,0 +1,52 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.events.ReadModelUpdatedEvent;
+import com.nology.leaddecisions.analytics.domain.ports.ReadModelProjectionRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.ReadModelProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementação da manutenção do modelo de leitura.
+ *
+ * Projeções e reconstruções são serializadas: o dicionário de valores e a marca d'água
+ * dos documentos projetados nunca são gravados por duas projeções ao mesmo tempo.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReadModelProjectionServiceImpl implements ReadModelProjectionService {
+
+    private final ReadModelProjectionRepositoryPort projectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public synchronized int project(Long documentId) {
+        int projectedLeads = projectionRepository.projectDocument(documentId);
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent(documentId, projectedLeads, false));
+        return projectedLeads;
+    }
+
+    @Override
+    public synchronized int remove(Long documentId) {
+        int removedLeads = projectionRepository.removeDocument(documentId);
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent(documentId, 0, true));
+        return removedLeads;
+    }
+
+    @Override
+    public synchronized int catchUp() {
+        List<Long> documentIds = projectionRepository.findUnprojectedDocumentIds();
+        documentIds.forEach(this::project);
+        return documentIds.size();
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        int projectedLeads = projectionRepository.rebuild();
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent(null, projectedLeads, false));
+        return projectedLeads;
+    }
+}
@@ -0,0 +1,137 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Calcula as variações entre dois relatórios de marketing já montados.
+ *
+ * Trabalha apenas sobre os rankings dos relatórios (uma entrada por grupo), portanto o custo
+ * da comparação é proporcional ao número de grupos e não ao volume de leads.
+ */
+public final class ReportDiffCalculator {
+
+    private ReportDiffCalculator() {
+    }
+
+    /**
+     * Compara dois relatórios dimensão a dimensão.
+     *
+     * @param baseLabel Rótulo do relatório de referência (ex: importação anterior).
+     * @param base Relatório de referência.
+     * @param targetLabel Rótulo do relatório comparado (ex: importação atual).
+     * @param target Relatório comparado.
+     * @return As variações globais e por grupo (alvo - base).
+     */
+    public static ReportComparison compare(String baseLabel, MarketingReport base, String targetLabel, MarketingReport target) {
+        return compare(baseLabel, base, targetLabel, target, false);
+    }
+
+    /**
+     * Compara dois relatórios mantendo apenas os grupos que mudaram (volume, taxa ou status),
+     * usado para notificar atualizações incrementais aos dashboards.
+     *
+     * @return As variações globais e dos grupos alterados (alvo - base).
+     */
+    public static ReportComparison compareChanged(String baseLabel, MarketingReport base, String targetLabel, MarketingReport target) {
+        return compare(baseLabel, base, targetLabel, target, true);
+    }
+
+    private static ReportComparison compare(
+            String baseLabel, MarketingReport base, String targetLabel, MarketingReport target, boolean changedOnly) {
+        Map<String, List<AnalysisGroup>> baseRankings = rankingsByDimension(base);
+        Map<String, List<AnalysisGroup>> targetRankings = rankingsByDimension(target);
+
+        Set<String> dimensions = new LinkedHashSet<>(baseRankings.keySet());
+        dimensions.addAll(targetRankings.keySet());
+
+        List<ReportComparison.DimensionComparison> comparisons = new ArrayList<>();
+        for (String dimension : dimensions) {
+            comparisons.add(ReportComparison.DimensionComparison.builder()
+                    .dimension(dimension)
+                    .groups(compareGroups(
+                            baseRankings.getOrDefault(dimension, List.of()),
+                            targetRankings.getOrDefault(dimension, List.of()),
+                            changedOnly))
+                    .build());
+        }
+
+        return ReportComparison.builder()
+                .comparisonId(UUID.randomUUID().toString())
+                .generatedAt(LocalDateTime.now())
+                .baseLabel(baseLabel)
+                .targetLabel(targetLabel)
+                .baseStats(base.getGlobalStats())
+                .targetStats(target.getGlobalStats())
+                .conversionDelta(delta(
+                        base.getGlobalStats().getOverallConversionRate(),
+                        target.getGlobalStats().getOverallConversionRate()))
+                .dimensions(comparisons)
+                .build();
+    }
+
+    private static List<ReportComparison.GroupDelta> compareGroups(
+            List<AnalysisGroup> baseRanking, List<AnalysisGroup> targetRanking, boolean changedOnly) {
+        Map<String, AnalysisGroup> baseGroups = new LinkedHashMap<>();
+        baseRanking.forEach(group -> baseGroups.put(group.getGroupName(), group));
+        Map<String, AnalysisGroup> targetGroups = new LinkedHashMap<>();
+        targetRanking.forEach(group -> targetGroups.put(group.getGroupName(), group));
+
+        Set<String> names = new LinkedHashSet<>(baseGroups.keySet());
+        names.addAll(targetGroups.keySet());
+
+        List<ReportComparison.GroupDelta> deltas = new ArrayList<>(names.size());
+        for (String name : names) {
+            AnalysisGroup before = baseGroups.get(name);
+            AnalysisGroup after = targetGroups.get(name);
+            if (changedOnly && !changed(before, after)) {
+                continue;
+            }
+            double baseRate = before == null ? 0.0 : before.getConversionRate();
+            double targetRate = after == null ? 0.0 : after.getConversionRate();
+
+            deltas.add(ReportComparison.GroupDelta.builder()
+                    .groupName(name)
+                    .baseLeads(before == null ? 0 : before.getTotalLeads())
+                    .targetLeads(after == null ? 0 : after.getTotalLeads())
+                    .baseConversionRate(baseRate)
+                    .targetConversionRate(targetRate)
+                    .baseStatus(before == null ? null : before.getStatus())
+                    .targetStatus(after == null ? null : after.getStatus())
+                    .conversionDelta(delta(baseRate, targetRate))
+                    .build());
+        }
+
+        // Maiores variações (em módulo) primeiro: são elas que merecem atenção na validação.
+        deltas.sort(Comparator
+                .comparingDouble((ReportComparison.GroupDelta d) -> Math.abs(d.getConversionDelta())).reversed()
+                .thenComparing(ReportComparison.GroupDelta::getGroupName));
+        return deltas;
+    }
+
+    private static boolean changed(AnalysisGroup before, AnalysisGroup after) {
+        if (before == null || after == null) {
+            return true;
+        }
+        return before.getTotalLeads() != after.getTotalLeads()
+                || before.getTotalSold() != after.getTotalSold()
+                || before.getStatus() != after.getStatus();
+    }
+
+    private static Map<String, List<AnalysisGroup>> rankingsByDimension(MarketingReport report) {
+        Map<String, List<AnalysisGroup>> rankings = new LinkedHashMap<>();
+        report.getAnalyses().forEach(analysis -> rankings.put(analysis.getDimension(), analysis.getRanking()));
+        return rankings;
+    }
+
+    /**
+     * Variação em pontos percentuais, arredondada para 2 casas decimais.
+     */
+    private static double delta(double base, double target) {
+        return Math.round((target - base) * 100) / 100.0;
+    }
+}
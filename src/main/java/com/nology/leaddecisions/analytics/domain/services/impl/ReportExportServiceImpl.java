@@ -0,0 +1,49 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.ports.LeadExportRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.analytics.domain.services.ReportExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReportExportServiceImpl implements ReportExportService {
+
+    private static final List<String> LEAD_HEADERS = List.of(
+            "ID", "Documento", "Data de cadastro", "Vendido",
+            "Mercado", "Origem", "Sub-origem", "Local", "Porte", "Objetivo");
+
+    private final AnalyticsService analyticsService;
+    private final LeadExportRepositoryPort leadExportRepository;
+
+    @Override
+    public void exportReport(TabularSink sink) {
+        analyticsService.streamFullReport(new TabularReportSink(sink));
+        sink.finish();
+    }
+
+    @Override
+    public void exportLeads(LeadExportFilter filter, TabularSink sink) {
+        filter.validate();
+
+        sink.startTable("Leads", LEAD_HEADERS);
+        leadExportRepository.streamLeads(filter, row -> sink.row(
+                row.getLeadId(),
+                row.getDocumentId(),
+                row.getCreatedAt(),
+                row.getSold(),
+                row.getMarkets(),
+                row.getSources(),
+                row.getSubSources(),
+                row.getLocations(),
+                row.getSizes(),
+                row.getObjectives()
+        ));
+        sink.finish();
+    }
+}
@@ -0,0 +1,162 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.events.ReportSnapshotCreatedEvent;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+import com.nology.leaddecisions.analytics.domain.models.ReportUpdate;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSnapshotRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.analytics.domain.services.ReportSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ReportSnapshotServiceImpl implements ReportSnapshotService {
+
+    private static final int MAX_HISTORY = 100;
+
+    private final AnalyticsService analyticsService;
+    private final ReportSnapshotRepositoryPort snapshotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Conta as consultas por origem do relatório (memory, stored, generated) para acompanhar a taxa de acerto.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Último snapshot lido ou gerado, mantido já desserializado para respostas imediatas.
+     * Substituído por inteiro (referência volátil), nunca alterado.
+     */
+    private volatile CachedReport latest;
+
+    @Override
+    public MarketingReport getLatestReport(RankingQuery rankingQuery) {
+        MarketingReport report = currentReport();
+        return rankingQuery.isUnbounded() ? report : analyticsService.rankReport(report, rankingQuery);
+    }
+
+    @Override
+    public synchronized Optional<ReportSnapshotSummary> refresh(SnapshotTrigger trigger) {
+        String dataVersion = snapshotRepository.currentDataVersion();
+        CachedReport cached = latest;
+        if ((cached != null && cached.dataVersion.equals(dataVersion)) || snapshotRepository.existsByDataVersion(dataVersion)) {
+            return Optional.empty();
+        }
+
+        // A versão é lida antes da geração: se uma importação concluir no meio, a próxima versão gera outro snapshot.
+        MarketingReport report = analyticsService.generateFullReport();
+        return Optional.of(store(dataVersion, trigger, report));
+    }
+
+    @Override
+    public List<ReportSnapshotSummary> getHistory(int limit) {
+        if (limit <= 0 || limit > MAX_HISTORY) {
+            throw new IllegalArgumentException("History limit must be between 1 and " + MAX_HISTORY + ".");
+        }
+        return snapshotRepository.findHistory(limit);
+    }
+
+    @Override
+    public ReportComparison compareSnapshots(Long baseSnapshotId, Long targetSnapshotId) {
+        if (Objects.equals(baseSnapshotId, targetSnapshotId)) {
+            throw new IllegalArgumentException("Base and target snapshots must be distinct.");
+        }
+
+        return ReportDiffCalculator.compare(
+                snapshotLabel(baseSnapshotId), requireReport(baseSnapshotId),
+                snapshotLabel(targetSnapshotId), requireReport(targetSnapshotId));
+    }
+
+    /**
+     * Retorna o relatório da versão atual: da memória, do snapshot persistido ou, na falta de ambos,
+     * gerando e persistindo um novo snapshot. A verificação de versão é uma consulta leve sobre Tb_documento.
+     */
+    private MarketingReport currentReport() {
+        String dataVersion = snapshotRepository.currentDataVersion();
+        CachedReport cached = latest;
+        if (cached != null && cached.dataVersion.equals(dataVersion)) {
+            countLookup("memory");
+            return cached.report;
+        }
+
+        synchronized (this) {
+            cached = latest;
+            if (cached != null && cached.dataVersion.equals(dataVersion)) {
+                countLookup("memory");
+                return cached.report;
+            }
+
+            Optional<MarketingReport> stored = snapshotRepository.findReportByDataVersion(dataVersion);
+            if (stored.isPresent()) {
+                countLookup("stored");
+                latest = new CachedReport(dataVersion, stored.get());
+                return stored.get();
+            }
+
+            countLookup("generated");
+            MarketingReport generated = analyticsService.generateFullReport();
+            store(dataVersion, SnapshotTrigger.ON_DEMAND, generated);
+            return generated;
+        }
+    }
+
+    /**
+     * Persiste o snapshot, atualiza a cópia em memória e publica os grupos alterados em relação à versão anterior.
+     * Chamado apenas com o monitor desta instância adquirido.
+     */
+    private ReportSnapshotSummary store(String dataVersion, SnapshotTrigger trigger, MarketingReport report) {
+        ReportSnapshotSummary summary = snapshotRepository.save(dataVersion, trigger, report);
+        CachedReport previous = latest;
+        latest = new CachedReport(dataVersion, report);
+
+        ReportUpdate.ReportUpdateBuilder update = ReportUpdate.builder()
+                .snapshotId(summary.getSnapshotId())
+                .dataVersion(dataVersion)
+                .generatedAt(report.getGeneratedAt())
+                .globalStats(report.getGlobalStats());
+        if (previous == null) {
+            update.fullRefresh(true).changes(List.of());
+        } else {
+            update.changes(ReportDiffCalculator.compareChanged(
+                    previous.dataVersion, previous.report, dataVersion, report).getDimensions());
+        }
+        eventPublisher.publishEvent(new ReportSnapshotCreatedEvent(update.build()));
+        return summary;
+    }
+
+    private void countLookup(String result) {
+        meterRegistry.counter("analytics.snapshot.lookups", "result", result).increment();
+    }
+
+    private MarketingReport requireReport(Long snapshotId) {
+        return snapshotRepository.findReportById(snapshotId)
+                .orElseThrow(() -> new IllegalArgumentException("Snapshot not found: " + snapshotId));
+    }
+
+    private String snapshotLabel(Long snapshotId) {
+        return snapshotRepository.findSummaryById(snapshotId)
+                .map(summary -> "#" + summary.getSnapshotId() + " - " + summary.getGeneratedAt())
+                .orElseThrow(() -> new IllegalArgumentException("Snapshot not found: " + snapshotId));
+    }
+
+    private static final class CachedReport {
+        private final String dataVersion;
+        private final MarketingReport report;
+
+        private CachedReport(String dataVersion, MarketingReport report) {
+            this.dataVersion = dataVersion;
+            this.report = report;
+        }
+    }
+}
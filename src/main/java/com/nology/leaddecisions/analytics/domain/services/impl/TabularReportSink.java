@@ -0,0 +1,57 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converte a escrita incremental do relatório (ReportSink) em tabelas (TabularSink):
+ * "Resumo", uma tabela por dimensão e "Insights".
+ */
+final class TabularReportSink implements ReportSink {
+
+    private static final List<String> RANKING_HEADERS = List.of("Grupo", "Leads", "Vendas", "Conversão (%)", "Status");
+
+    private final TabularSink sink;
+
+    TabularReportSink(TabularSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void begin(String reportId, LocalDateTime generatedAt, MarketingReport.GlobalStats globalStats) {
+        sink.startTable("Resumo", List.of("Métrica", "Valor"));
+        sink.row("Relatório", reportId);
+        sink.row("Gerado em", generatedAt);
+        sink.row("Total de leads", globalStats.getTotalLeads());
+        sink.row("Total de vendas", globalStats.getTotalSales());
+        sink.row("Conversão geral (%)", globalStats.getOverallConversionRate());
+    }
+
+    @Override
+    public void beginDimension(String dimension, String description) {
+        sink.startTable(dimension, RANKING_HEADERS);
+    }
+
+    @Override
+    public void group(AnalysisGroup group) {
+        sink.row(group.getGroupName(), group.getTotalLeads(), group.getTotalSold(),
+                group.getConversionRate(), group.getStatus().name());
+    }
+
+    @Override
+    public void endDimension(long totalGroups) {
+        // Cada dimensão já ocupa sua própria tabela; não há rodapé.
+    }
+
+    @Override
+    public void end(Map<String, String> topInsights) {
+        sink.startTable("Insights", List.of("Insight", "Resultado"));
+        topInsights.forEach(sink::row);
+    }
+}
@@ -0,0 +1,108 @@
+package com.nology.leaddecisions.analytics.infraestructure.archive;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+import com.nology.leaddecisions.analytics.domain.ports.ArchiveAnalyticsRepositoryPort;
+import com.nology.leaddecisions.shared.archive.LeadArchive;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adaptador de leitura do arquivo morto: manifesto (Tb_documento_arquivado) e arquivos colunares em disco.
+ *
+ * Cada arquivo é lido sequencialmente, descomprimindo apenas as colunas VENDIDO e a da dimensão pedida.
+ * Um arquivo é agregado por vez, de modo que a memória depende do maior documento, e não do total arquivado.
+ */
+@Repository
+public class ColumnarArchiveAnalyticsRepositoryAdapter implements ArchiveAnalyticsRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path archiveDirectory;
+
+    public ColumnarArchiveAnalyticsRepositoryAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${etl.archive.directory:./data/archive}") String archiveDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    @Override
+    public List<DocumentTotalsDto> getArchivedDocumentTotals() {
+        return jdbcTemplate.query("SELECT Id_documento, Documento_nome, Total_leads, Total_vendido "
+                + "FROM Tb_documento_arquivado ORDER BY Id_documento", (rs, rowNum) -> new DocumentTotalsDto(
+                rs.getLong("Id_documento"),
+                rs.getString("Documento_nome"),
+                rs.getLong("Total_leads"),
+                rs.getLong("Total_vendido")
+        ));
+    }
+
+    @Override
+    public List<DimensionStatsDto> scanStats(AnalysisDimension dimension) {
+        String column = dimension.name();
+        Map<String, long[]> totals = new LinkedHashMap<>(); // valor -> [leads, vendidos]
+
+        for (String fileName : jdbcTemplate.queryForList(
+                "SELECT Arquivo FROM Tb_documento_arquivado ORDER BY Id_documento", String.class)) {
+            LeadArchive archive = read(fileName, Set.of(LeadArchive.VENDIDO, column));
+            BitSet sold = archive.sold();
+            LeadArchive.DimensionColumn values = archive.dimension(column);
+
+            String[] dictionary = values.getDictionary();
+            int[] leadIndexes = values.getLeadIndexes();
+            int[] codes = values.getCodes();
+            long[] leads = new long[dictionary.length];
+            long[] soldLeads = new long[dictionary.length];
+            // As linhas estão em ordem de lead: basta lembrar o último lead contado em cada valor para ignorar repetições.
+            int[] lastLead = new int[dictionary.length];
+            Arrays.fill(lastLead, -1);
+            for (int row = 0; row < codes.length; row++) {
+                int code = codes[row];
+                int leadIndex = leadIndexes[row];
+                if (lastLead[code] != leadIndex) {
+                    lastLead[code] = leadIndex;
+                    leads[code]++;
+                    if (sold.get(leadIndex)) {
+                        soldLeads[code]++;
+                    }
+                }
+            }
+
+            for (int code = 0; code < dictionary.length; code++) {
+                long[] total = totals.computeIfAbsent(dictionary[code], key -> new long[2]);
+                total[0] += leads[code];
+                total[1] += soldLeads[code];
+            }
+        }
+
+        List<DimensionStatsDto> stats = new ArrayList<>(totals.size());
+        totals.forEach((value, total) -> stats.add(new DimensionStatsDto(value, total[0], total[1])));
+        return stats;
+    }
+
+    private LeadArchive read(String fileName, Set<String> columns) {
+        Path file = archiveDirectory.resolve(fileName);
+        try (InputStream in = Files.newInputStream(file)) {
+            return LeadArchive.read(in, columns);
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Archive file not found: " + file, e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read archive file " + file + ".", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.nology.leaddecisions.analytics.infraestructure.cohort;
+
+import com.nology.leaddecisions.analytics.domain.services.CohortAnalysisService;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantém as células de coorte atualizadas após cada importação ou remoção concluída.
+ *
+ * Executa fora da thread da requisição (@Async), somente depois do commit,
+ * recalculando apenas os períodos que receberam ou perderam leads do documento.
+ */
+@Component
+@RequiredArgsConstructor
+public class CohortProjectionListener {
+
+    private final CohortAnalysisService cohortAnalysisService;
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentImported(DocumentImportedEvent event) {
+        cohortAnalysisService.refreshDocument(event.getDocumentId());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentPurged(DocumentPurgedEvent event) {
+        cohortAnalysisService.refreshDates(event.getCreationDates());
+    }
+}
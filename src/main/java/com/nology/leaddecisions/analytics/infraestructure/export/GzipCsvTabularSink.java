@@ -0,0 +1,102 @@
+package com.nology.leaddecisions.analytics.infraestructure.export;
+
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve tabelas como CSV (RFC 4180, UTF-8) compactado com gzip, direto no destino.
+ *
+ * Quando há mais de uma tabela, elas são separadas por uma linha em branco, cada uma com seu cabeçalho.
+ */
+public class GzipCsvTabularSink implements TabularSink {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final GZIPOutputStream gzipStream;
+    private final Writer writer;
+    private boolean firstTable = true;
+
+    public GzipCsvTabularSink(OutputStream outputStream) {
+        try {
+            this.gzipStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzipStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void startTable(String name, List<String> headers) {
+        try {
+            if (!firstTable) {
+                writer.write("\r\n");
+            }
+            firstTable = false;
+            writeLine(headers.toArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void row(Object... values) {
+        try {
+            writeLine(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+            gzipStream.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Libera o Deflater nativo; também fecha o fluxo de saída subjacente.
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,113 @@
+package com.nology.leaddecisions.analytics.infraestructure.export;
+
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Escreve tabelas como abas de uma planilha XLSX usando o modo streaming do POI (SXSSF).
+ *
+ * Apenas as últimas WINDOW_SIZE linhas ficam em memória; as anteriores são descarregadas em arquivos
+ * temporários compactados e copiadas para o destino em finish(). Ao atingir o limite de linhas do
+ * formato, a tabela continua em uma nova aba ("Leads (2)", "Leads (3)", ...).
+ */
+public class SxssfTabularSink implements TabularSink {
+
+    private static final int WINDOW_SIZE = 100;
+    private static final int LAST_ROW_INDEX = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+
+    private final SXSSFWorkbook workbook;
+    private final OutputStream outputStream;
+    private final CellStyle dateStyle;
+
+    private SXSSFSheet sheet;
+    private String tableName;
+    private List<String> headers;
+    private int part;
+    private int rowIndex;
+
+    public SxssfTabularSink(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd/mm/yyyy hh:mm"));
+    }
+
+    @Override
+    public void startTable(String name, List<String> headers) {
+        this.tableName = name;
+        this.headers = headers;
+        this.part = 1;
+        createSheet();
+    }
+
+    @Override
+    public void row(Object... values) {
+        if (rowIndex > LAST_ROW_INDEX) {
+            part++;
+            createSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            writeCell(row.createCell(i), values[i]);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            workbook.write(outputStream);
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void createSheet() {
+        String name = part == 1 ? tableName : tableName + " (" + part + ")";
+        sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(name));
+        rowIndex = 0;
+
+        Row headerRow = sheet.createRow(rowIndex++);
+        for (int i = 0; i < headers.size(); i++) {
+            headerRow.createCell(i).setCellValue(headers.get(i));
+        }
+    }
+
+    private void writeCell(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            cell.setCellValue(bool);
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime);
+            cell.setCellStyle(dateStyle);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nology.leaddecisions.analytics.infraestructure.export;
+
+import com.nology.leaddecisions.analytics.domain.enums.ExportFormat;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+
+import java.io.OutputStream;
+
+/**
+ * Seleciona a implementação de TabularSink correspondente ao formato de exportação.
+ */
+public final class TabularSinks {
+
+    private TabularSinks() {
+    }
+
+    public static TabularSink open(ExportFormat format, OutputStream outputStream) {
+        return switch (format) {
+            case XLSX -> new SxssfTabularSink(outputStream);
+            case CSV -> new GzipCsvTabularSink(outputStream);
+        };
+    }
+}
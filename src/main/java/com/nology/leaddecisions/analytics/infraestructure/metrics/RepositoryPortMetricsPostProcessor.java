@@ -0,0 +1,100 @@
+package com.nology.leaddecisions.analytics.infraestructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instrumenta todas as portas de repositório do Analytics (interfaces *RepositoryPort em domain.ports)
+ * com o timer "analytics.repository.query", marcado com a porta, o método e a exceção lançada (se houver).
+ *
+ * A medição é feita por proxy sobre o bean já existente, sem alterar os adaptadores. Nos métodos de fluxo
+ * (que recebem um Consumer), o tempo inclui o processamento feito pelo consumidor em cada linha.
+ */
+@Component
+public class RepositoryPortMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    static final String TIMER_NAME = "analytics.repository.query";
+    private static final String PORTS_PACKAGE = "com.nology.leaddecisions.analytics.domain.ports";
+
+    public RepositoryPortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new RepositoryPortPointcut(), new TimingInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static Class<?> repositoryPortOf(Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getPackageName().equals(PORTS_PACKAGE) && candidate.getSimpleName().endsWith("RepositoryPort")) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static final class RepositoryPortPointcut extends StaticMethodMatcherPointcut {
+
+        private RepositoryPortPointcut() {
+            setClassFilter(clazz -> repositoryPortOf(clazz) != null);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            Class<?> port = repositoryPortOf(targetClass);
+            return port != null && ReflectionUtils.findMethod(port, method.getName(), method.getParameterTypes()) != null;
+        }
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+        private final Map<Class<?>, String> portNames = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            this.meterRegistryProvider = meterRegistryProvider;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            if (meterRegistry == null) {
+                return invocation.proceed();
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder(TIMER_NAME)
+                        .description("Tempo de execução dos métodos das portas de repositório do Analytics")
+                        .tag("port", portName(invocation))
+                        .tag("method", invocation.getMethod().getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+            }
+        }
+
+        private String portName(MethodInvocation invocation) {
+            Class<?> targetClass = invocation.getThis() != null ? invocation.getThis().getClass() : invocation.getMethod().getDeclaringClass();
+            return portNames.computeIfAbsent(targetClass, clazz -> {
+                Class<?> port = repositoryPortOf(clazz);
+                return port != null ? port.getSimpleName() : clazz.getSimpleName();
+            });
+        }
+    }
+}
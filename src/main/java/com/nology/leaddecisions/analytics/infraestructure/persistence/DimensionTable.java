@@ -0,0 +1,43 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+
+/**
+ * Mapeia cada {@link AnalysisDimension} para a tabela e a coluna físicas criadas pelo ETL.
+ *
+ * Centraliza os nomes de tabelas usados nas consultas nativas, evitando Magic Strings
+ * espalhadas pelos adaptadores e mantendo o Domínio agnóstico ao esquema relacional.
+ */
+public enum DimensionTable {
+
+    MERCADO("Tb_mercado", "Nome"),
+    ORIGEM("Tb_origem", "Nome"),
+    SUB_ORIGEM("Tb_origem", "Sub_origem"),
+    LOCAL("Tb_local", "Nome"),
+    PORTE("Tb_porte", "Porte"),
+    OBJETIVO("Tb_objetivo", "Descricao");
+
+    private final String table;
+    private final String column;
+
+    DimensionTable(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * @param dimension Dimensão lógica do Domínio.
+     * @return O mapeamento físico correspondente.
+     */
+    public static DimensionTable of(AnalysisDimension dimension) {
+        return valueOf(dimension.name());
+    }
+}
@@ -0,0 +1,95 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortCellDto;
+import com.nology.leaddecisions.analytics.domain.ports.CohortRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adaptador de persistência das células de coorte (Tb_coorte_celula).
+ *
+ * Cada período é recalculado com um DELETE e um INSERT ... SELECT agrupado, filtrando os leads
+ * pelo intervalo de cadastro do período (índice idx_lead_cadastro_vendido).
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcCohortRepositoryAdapter implements CohortRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LocalDate> findCreationDates(Long documentId) {
+        String sql = "SELECT DISTINCT CAST(Data_cadastro AS DATE) AS created_on FROM Tb_lead "
+                + "WHERE Data_cadastro IS NOT NULL" + (documentId != null ? " AND Id_documento = ?" : "");
+        Object[] params = documentId != null ? new Object[]{documentId} : new Object[0];
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getDate("created_on").toLocalDate(), params);
+    }
+
+    @Override
+    @Transactional
+    public void recomputeCells(CohortGranularity granularity, AnalysisDimension dimension, Collection<LocalDate> periodStarts) {
+        DimensionTable table = DimensionTable.of(dimension);
+        String column = "d." + table.getColumn();
+
+        String insert = "INSERT INTO Tb_coorte_celula "
+                + "(Granularidade, Dimensao, Inicio_periodo, Valor, Total_leads, Total_vendido) "
+                + "SELECT CAST(? AS VARCHAR(10)), CAST(? AS VARCHAR(30)), CAST(? AS DATE), " + column + ", "
+                + "COUNT(*), SUM(CASE WHEN l.Vendido = TRUE THEN 1 ELSE 0 END) "
+                + "FROM Tb_lead l "
+                + "JOIN " + table.getTable() + " d ON d.Id_lead = l.id "
+                + "WHERE l.Data_cadastro >= ? AND l.Data_cadastro < ? AND " + column + " IS NOT NULL "
+                + "GROUP BY " + column;
+
+        List<Object[]> deletes = new ArrayList<>(periodStarts.size());
+        for (LocalDate periodStart : periodStarts) {
+            deletes.add(new Object[]{granularity.name(), dimension.name(), Date.valueOf(periodStart)});
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM Tb_coorte_celula WHERE Granularidade = ? AND Dimensao = ? AND Inicio_periodo = ?",
+                deletes);
+
+        for (LocalDate periodStart : periodStarts) {
+            jdbcTemplate.update(insert,
+                    granularity.name(),
+                    dimension.name(),
+                    Date.valueOf(periodStart),
+                    Timestamp.valueOf(periodStart.atStartOfDay()),
+                    Timestamp.valueOf(granularity.nextPeriodStart(periodStart).atStartOfDay()));
+        }
+    }
+
+    @Override
+    public List<CohortCellDto> findCells(CohortGranularity granularity, AnalysisDimension dimension, LocalDate from, LocalDate to) {
+        List<Object> params = new ArrayList<>(List.of(granularity.name(), dimension.name()));
+        StringBuilder sql = new StringBuilder("SELECT Inicio_periodo, Valor, Total_leads, Total_vendido "
+                + "FROM Tb_coorte_celula WHERE Granularidade = ? AND Dimensao = ?");
+        if (from != null) {
+            sql.append(" AND Inicio_periodo >= ?");
+            params.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND Inicio_periodo <= ?");
+            params.add(Date.valueOf(to));
+        }
+        sql.append(" ORDER BY Inicio_periodo");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new CohortCellDto(
+                rs.getDate("Inicio_periodo").toLocalDate(),
+                rs.getString("Valor"),
+                rs.getLong("Total_leads"),
+                rs.getLong("Total_vendido")
+        ), params.toArray());
+    }
+}
@@ -0,0 +1,100 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC para as consultas analíticas parametrizadas por dimensão.
+ *
+ * Utiliza SQL nativo porque as tabelas envolvidas variam conforme a dimensão solicitada,
+ * e lê o ResultSet linha a linha (RowCallbackHandler), sem materializar listas intermediárias.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcDimensionAnalyticsRepositoryAdapter implements DimensionAnalyticsRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamCrossStats(AnalysisDimension rows, AnalysisDimension columns, Consumer<CrossDimensionStatsDto> consumer) {
+        DimensionTable rowTable = DimensionTable.of(rows);
+        DimensionTable columnTable = DimensionTable.of(columns);
+
+        // Dimensões da mesma tabela (ex: ORIGEM x SUB-ORIGEM) são lidas da mesma linha.
+        boolean sameTable = rowTable.getTable().equals(columnTable.getTable());
+        String rowColumn = "r." + rowTable.getColumn();
+        String columnColumn = (sameTable ? "r." : "c.") + columnTable.getColumn();
+
+        String sql = "SELECT " + rowColumn + " AS row_value, " + columnColumn + " AS column_value, "
+                + "COUNT(DISTINCT l.id) AS total_leads, "
+                + "COUNT(DISTINCT CASE WHEN l.Vendido = TRUE THEN l.id END) AS total_sold "
+                + "FROM Tb_lead l "
+                + "JOIN " + rowTable.getTable() + " r ON r.Id_lead = l.id "
+                + (sameTable ? "" : "JOIN " + columnTable.getTable() + " c ON c.Id_lead = l.id ")
+                + "WHERE " + rowColumn + " IS NOT NULL AND " + columnColumn + " IS NOT NULL "
+                + "GROUP BY " + rowColumn + ", " + columnColumn;
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new CrossDimensionStatsDto(
+                rs.getString("row_value"),
+                rs.getString("column_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+
+    @Override
+    public void streamRankedStats(AnalysisDimension dimension, Consumer<DimensionStatsDto> consumer) {
+        DimensionTable table = DimensionTable.of(dimension);
+        String column = "d." + table.getColumn();
+
+        // A chave de ordenação reproduz AnalysisGroup.conversionBasisPoints com divisão inteira.
+        // A ordenação fica na consulta externa, sobre os grupos: com ORDER BY na agregação, o H2 troca
+        // o índice de cobertura da tabela dimensional por uma varredura completa.
+        String sql = "SELECT group_value, total_leads, total_sold FROM ("
+                + "SELECT " + column + " AS group_value, COUNT(*) AS total_leads, "
+                + "SUM(CASE WHEN l.Vendido = TRUE THEN 1 ELSE 0 END) AS total_sold "
+                + "FROM " + table.getTable() + " d "
+                + "JOIN Tb_lead l ON l.id = d.Id_lead "
+                + "WHERE " + column + " IS NOT NULL "
+                + "GROUP BY " + column + ") g "
+                + "ORDER BY (CAST(total_sold AS BIGINT) * 20000 + total_leads) / (2 * total_leads) DESC, "
+                + "total_sold DESC, group_value ASC";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new DimensionStatsDto(
+                rs.getString("group_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+
+    @Override
+    public void streamSourceHierarchyStats(Consumer<CrossDimensionStatsDto> consumer) {
+        String channel = "o." + DimensionTable.ORIGEM.getColumn();
+        String subSource = "NULLIF(o." + DimensionTable.SUB_ORIGEM.getColumn() + ", '')";
+
+        // Ordenação na consulta externa, como em streamRankedStats.
+        String sql = "SELECT row_value, column_value, total_leads, total_sold FROM ("
+                + "SELECT " + channel + " AS row_value, " + subSource + " AS column_value, "
+                + "COUNT(*) AS total_leads, SUM(CASE WHEN l.Vendido = TRUE THEN 1 ELSE 0 END) AS total_sold "
+                + "FROM " + DimensionTable.ORIGEM.getTable() + " o "
+                + "JOIN Tb_lead l ON l.id = o.Id_lead "
+                + "WHERE " + channel + " IS NOT NULL "
+                + "GROUP BY " + channel + ", " + subSource + ") h "
+                + "ORDER BY row_value";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new CrossDimensionStatsDto(
+                rs.getString("row_value"),
+                rs.getString("column_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+}
@@ -0,0 +1,55 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adaptador JDBC para os agregados por documento gravados pelo ETL (Tb_documento e Tb_documento_estatistica).
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcDocumentAnalyticsRepositoryAdapter implements DocumentAnalyticsRepositoryPort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DocumentTotalsDto> getDocumentTotals(Collection<Long> documentIds) {
+        String sql = "SELECT id, Documento_nome, COALESCE(Total_leads, 0) AS total_leads, "
+                + "COALESCE(Total_vendido, 0) AS total_sold "
+                + "FROM Tb_documento WHERE id IN (:ids) ORDER BY id";
+
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("ids", documentIds), (rs, rowNum) -> new DocumentTotalsDto(
+                rs.getLong("id"),
+                rs.getString("Documento_nome"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        ));
+    }
+
+    @Override
+    public List<DimensionStatsDto> getStatsByDocuments(Collection<Long> documentIds, AnalysisDimension dimension) {
+        String sql = "SELECT Valor, SUM(Total_leads) AS total_leads, SUM(Total_vendido) AS total_sold "
+                + "FROM Tb_documento_estatistica "
+                + "WHERE Id_documento IN (:ids) AND Dimensao = :dimension "
+                + "GROUP BY Valor";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", documentIds)
+                .addValue("dimension", dimension.name());
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new DimensionStatsDto(
+                rs.getString("Valor"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        ));
+    }
+}
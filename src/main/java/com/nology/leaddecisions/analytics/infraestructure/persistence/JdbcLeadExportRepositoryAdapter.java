@@ -0,0 +1,95 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.models.LeadExportRow;
+import com.nology.leaddecisions.analytics.domain.ports.LeadExportRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC para a exportação de leads.
+ *
+ * A consulta roda com cursor TYPE_FORWARD_ONLY / CONCUR_READ_ONLY e fetch size fixo, dentro de uma
+ * transação somente leitura (necessária para que drivers como o do PostgreSQL busquem em lotes).
+ * As dimensões multivaloradas são concatenadas no banco (LISTAGG), resultando em uma linha por lead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcLeadExportRepositoryAdapter implements LeadExportRepositoryPort {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String SEPARATOR = "'; '";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamLeads(LeadExportFilter filter, Consumer<LeadExportRow> consumer) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (filter.getDocumentId() != null) {
+            where.append(" AND l.Id_documento = ?");
+            params.add(filter.getDocumentId());
+        }
+        if (filter.getCreatedFrom() != null) {
+            where.append(" AND l.Data_cadastro >= ?");
+            params.add(Timestamp.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            where.append(" AND l.Data_cadastro < ?");
+            params.add(Timestamp.valueOf(filter.getCreatedTo()));
+        }
+        if (filter.getSold() != null) {
+            where.append(" AND l.Vendido = ?");
+            params.add(filter.getSold());
+        }
+
+        String sql = "SELECT l.id, l.Id_documento, l.Data_cadastro, l.Vendido, "
+                + aggregate("Tb_mercado", "Nome") + " AS markets, "
+                + aggregate("Tb_origem", "Nome") + " AS sources, "
+                + aggregate("Tb_origem", "Sub_origem") + " AS sub_sources, "
+                + aggregate("Tb_local", "Nome") + " AS locations, "
+                + aggregate("Tb_porte", "Porte") + " AS sizes, "
+                + aggregate("Tb_objetivo", "Descricao") + " AS objectives "
+                + "FROM Tb_lead l" + where
+                + " ORDER BY l.id";
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            Timestamp createdAt = rs.getTimestamp("Data_cadastro");
+            consumer.accept(new LeadExportRow(
+                    rs.getLong("id"),
+                    rs.getObject("Id_documento", Long.class),
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    rs.getObject("Vendido", Boolean.class),
+                    rs.getString("markets"),
+                    rs.getString("sources"),
+                    rs.getString("sub_sources"),
+                    rs.getString("locations"),
+                    rs.getString("sizes"),
+                    rs.getString("objectives")
+            ));
+        });
+    }
+
+    private String aggregate(String table, String column) {
+        return "(SELECT LISTAGG(DISTINCT d." + column + ", " + SEPARATOR + ") WITHIN GROUP (ORDER BY d." + column + ") "
+                + "FROM " + table + " d WHERE d.Id_lead = l.id)";
+    }
+}
@@ -0,0 +1,95 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadDimensionValueDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.models.LeadSummaryDto;
+import com.nology.leaddecisions.analytics.domain.ports.LeadQueryRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adaptador de consulta de leads sobre as tabelas do ETL, com projeções diretas em DTOs (sem entidades JPA).
+ *
+ * A página usa a chave primária como cursor (id > :afterId ORDER BY id) e os filtros de dimensão
+ * são EXISTS sobre os índices (Id_lead, valor) das tabelas dimensionais.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcLeadQueryRepositoryAdapter implements LeadQueryRepositoryPort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LeadSummaryDto> findLeads(LeadQuery query, int maxRows) {
+        MapSqlParameterSource params = new MapSqlParameterSource("maxRows", maxRows);
+        StringBuilder sql = new StringBuilder("SELECT l.id, l.Id_documento, l.Data_cadastro, l.Vendido FROM Tb_lead l WHERE 1 = 1");
+
+        if (query.getAfterId() != null) {
+            sql.append(" AND l.id > :afterId");
+            params.addValue("afterId", query.getAfterId());
+        }
+        if (query.getDocumentId() != null) {
+            sql.append(" AND l.Id_documento = :documentId");
+            params.addValue("documentId", query.getDocumentId());
+        }
+        if (query.getCreatedFrom() != null) {
+            sql.append(" AND l.Data_cadastro >= :createdFrom");
+            params.addValue("createdFrom", Timestamp.valueOf(query.getCreatedFrom()));
+        }
+        if (query.getCreatedTo() != null) {
+            sql.append(" AND l.Data_cadastro < :createdTo");
+            params.addValue("createdTo", Timestamp.valueOf(query.getCreatedTo()));
+        }
+        if (query.getSold() != null) {
+            sql.append(" AND l.Vendido = :sold");
+            params.addValue("sold", query.getSold());
+        }
+        appendDimensionFilter(sql, params, AnalysisDimension.MERCADO, query.getMarket());
+        appendDimensionFilter(sql, params, AnalysisDimension.ORIGEM, query.getSource());
+        appendDimensionFilter(sql, params, AnalysisDimension.LOCAL, query.getLocation());
+        appendDimensionFilter(sql, params, AnalysisDimension.PORTE, query.getSize());
+        sql.append(" ORDER BY l.id FETCH FIRST :maxRows ROWS ONLY");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("Data_cadastro");
+            return new LeadSummaryDto(
+                    rs.getLong("id"),
+                    rs.getObject("Id_documento", Long.class),
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    rs.getObject("Vendido", Boolean.class)
+            );
+        });
+    }
+
+    @Override
+    public List<LeadDimensionValueDto> findDimensionValues(AnalysisDimension dimension, Collection<Long> leadIds) {
+        DimensionTable table = DimensionTable.of(dimension);
+        String sql = "SELECT Id_lead, " + table.getColumn() + " AS dimension_value "
+                + "FROM " + table.getTable() + " "
+                + "WHERE Id_lead IN (:leadIds) AND " + table.getColumn() + " IS NOT NULL "
+                + "ORDER BY Id_lead, id";
+
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("leadIds", leadIds), (rs, rowNum) -> new LeadDimensionValueDto(
+                rs.getLong("Id_lead"),
+                rs.getString("dimension_value")
+        ));
+    }
+
+    private static void appendDimensionFilter(StringBuilder sql, MapSqlParameterSource params, AnalysisDimension dimension, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        DimensionTable table = DimensionTable.of(dimension);
+        String param = dimension.name().toLowerCase();
+        sql.append(" AND EXISTS (SELECT 1 FROM ").append(table.getTable()).append(" d WHERE d.Id_lead = l.id AND d.")
+                .append(table.getColumn()).append(" = :").append(param).append(")");
+        params.addValue(param, value.trim());
+    }
+}
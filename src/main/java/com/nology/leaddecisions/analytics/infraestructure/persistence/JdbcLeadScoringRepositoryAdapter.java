@@ -0,0 +1,72 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.ports.LeadScoringRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adaptador JDBC para a leitura dos leads a pontuar.
+ *
+ * Os valores de dimensão são lidos com cursor somente-leitura e fetch size fixo, como na exportação,
+ * e entregues como pares (id primitivo, valor), sem criar um objeto por linha.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcLeadScoringRepositoryAdapter implements LeadScoringRepositoryPort {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String OPEN_LEAD = "l.Id_documento = ? AND COALESCE(l.Vendido, FALSE) = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findDocumentIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM Tb_documento ORDER BY id", Long.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long[] findOpenLeadIds(Long documentId) {
+        long[][] ids = {new long[1024]};
+        int[] size = new int[1];
+        query("SELECT l.id FROM Tb_lead l WHERE " + OPEN_LEAD + " ORDER BY l.id", documentId, rs -> {
+            if (size[0] == ids[0].length) {
+                ids[0] = Arrays.copyOf(ids[0], size[0] * 2);
+            }
+            ids[0][size[0]++] = rs.getLong(1);
+        });
+        return Arrays.copyOf(ids[0], size[0]);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOpenLeadValues(Long documentId, AnalysisDimension dimension, LeadValueConsumer consumer) {
+        DimensionTable table = DimensionTable.of(dimension);
+        // DISTINCT: um valor repetido na planilha gera mais de um registro de dimensão para o lead, mas a
+        // evidência é a presença do valor no lead, e o seu peso deve ser somado uma única vez.
+        String sql = "SELECT DISTINCT d.Id_lead, d." + table.getColumn() + " "
+                + "FROM " + table.getTable() + " d JOIN Tb_lead l ON l.id = d.Id_lead "
+                + "WHERE " + OPEN_LEAD + " AND d." + table.getColumn() + " IS NOT NULL "
+                + "ORDER BY d.Id_lead, d." + table.getColumn();
+
+        query(sql, documentId, rs -> consumer.accept(rs.getLong(1), rs.getString(2)));
+    }
+
+    private void query(String sql, Long documentId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, documentId);
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,31 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.ports.ObjectiveSearchRepositoryPort;
+import com.nology.leaddecisions.shared.search.TrigramIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador JDBC para a leitura dos índices de busca de objetivos (Tb_objetivo_indice).
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcObjectiveSearchRepositoryAdapter implements ObjectiveSearchRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findIndexedDocumentIds() {
+        return jdbcTemplate.queryForList("SELECT Id_documento FROM Tb_objetivo_indice ORDER BY Id_documento", Long.class);
+    }
+
+    @Override
+    public TrigramIndex loadIndex(Long documentId) {
+        List<byte[]> content = jdbcTemplate.query("SELECT Indice FROM Tb_objetivo_indice WHERE Id_documento = ?",
+                (rs, rowNum) -> rs.getBytes(1), documentId);
+        return content.isEmpty() ? null : TrigramIndex.read(content.get(0));
+    }
+}
@@ -0,0 +1,112 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.ports.ReadModelProjectionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Adaptador de escrita do modelo de leitura (Tb_dim_valor, Tb_fato_lead, Tb_fato_lead_valor e Tb_fato_documento).
+ *
+ * A projeção é feita inteiramente no banco, com instruções INSERT ... SELECT sobre as tabelas do ETL:
+ * 1. Os valores de dimensão ainda desconhecidos são incluídos no dicionário.
+ * 2. Cada lead vira uma linha de Tb_fato_lead, e cada registro de dimensão (todas as linhas de um lead com
+ *    vários valores na mesma dimensão) vira uma linha de Tb_fato_lead_valor com o id do valor.
+ * 3. O documento é marcado como projetado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcReadModelProjectionRepositoryAdapter implements ReadModelProjectionRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findUnprojectedDocumentIds() {
+        return jdbcTemplate.queryForList("SELECT d.id FROM Tb_documento d "
+                + "WHERE NOT EXISTS (SELECT 1 FROM Tb_fato_documento p WHERE p.Id_documento = d.id) "
+                + "ORDER BY d.id", Long.class);
+    }
+
+    @Override
+    @Transactional
+    public int projectDocument(Long documentId) {
+        for (DimensionTable table : DimensionTable.values()) {
+            jdbcTemplate.update(insertDictionaryValues(table, "l.Id_documento = ?"), documentId);
+        }
+
+        jdbcTemplate.update("DELETE FROM Tb_fato_lead_valor WHERE Id_documento = ?", documentId);
+        jdbcTemplate.update("DELETE FROM Tb_fato_lead WHERE Id_documento = ?", documentId);
+        int projected = jdbcTemplate.update(insertFacts("l.Id_documento = ?"), documentId);
+        for (DimensionTable table : DimensionTable.values()) {
+            jdbcTemplate.update(insertValueFacts(table, "l.Id_documento = ?"), documentId);
+        }
+
+        jdbcTemplate.update("DELETE FROM Tb_fato_documento WHERE Id_documento = ?", documentId);
+        jdbcTemplate.update(insertWatermark("d.id = ?"), documentId);
+        return projected;
+    }
+
+    @Override
+    @Transactional
+    public int removeDocument(Long documentId) {
+        jdbcTemplate.update("DELETE FROM Tb_fato_documento WHERE Id_documento = ?", documentId);
+        jdbcTemplate.update("DELETE FROM Tb_fato_lead_valor WHERE Id_documento = ?", documentId);
+        return jdbcTemplate.update("DELETE FROM Tb_fato_lead WHERE Id_documento = ?", documentId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM Tb_fato_documento");
+        jdbcTemplate.update("DELETE FROM Tb_fato_lead_valor");
+        jdbcTemplate.update("DELETE FROM Tb_fato_lead");
+        jdbcTemplate.update("DELETE FROM Tb_dim_valor");
+
+        for (DimensionTable table : DimensionTable.values()) {
+            jdbcTemplate.update(insertDictionaryValues(table, "1 = 1"));
+        }
+        int projected = jdbcTemplate.update(insertFacts("1 = 1"));
+        for (DimensionTable table : DimensionTable.values()) {
+            jdbcTemplate.update(insertValueFacts(table, "1 = 1"));
+        }
+        jdbcTemplate.update(insertWatermark("1 = 1"));
+        return projected;
+    }
+
+    private static String insertDictionaryValues(DimensionTable table, String leadFilter) {
+        String column = "d." + table.getColumn();
+        return "INSERT INTO Tb_dim_valor (Dimensao, Valor) "
+                + "SELECT DISTINCT '" + table.name() + "', " + column + " "
+                + "FROM " + table.getTable() + " d "
+                + "JOIN Tb_lead l ON l.id = d.Id_lead "
+                + "WHERE " + leadFilter + " AND " + column + " IS NOT NULL "
+                + "AND NOT EXISTS (SELECT 1 FROM Tb_dim_valor v "
+                + "WHERE v.Dimensao = '" + table.name() + "' AND v.Valor = " + column + ")";
+    }
+
+    private static String insertFacts(String leadFilter) {
+        return "INSERT INTO Tb_fato_lead (Id_lead, Id_documento, Data_cadastro, Vendido) "
+                + "SELECT l.id, l.Id_documento, l.Data_cadastro, COALESCE(l.Vendido, FALSE) "
+                + "FROM Tb_lead l "
+                + "WHERE l.Id_documento IS NOT NULL AND " + leadFilter;
+    }
+
+    private static String insertValueFacts(DimensionTable table, String leadFilter) {
+        String column = "d." + table.getColumn();
+        return "INSERT INTO Tb_fato_lead_valor (Dimensao, Id_registro, Id_lead, Id_documento, Id_valor, Vendido) "
+                + "SELECT '" + table.name() + "', d.id, l.id, l.Id_documento, v.id, COALESCE(l.Vendido, FALSE) "
+                + "FROM " + table.getTable() + " d "
+                + "JOIN Tb_lead l ON l.id = d.Id_lead "
+                + "JOIN Tb_dim_valor v ON v.Dimensao = '" + table.name() + "' AND v.Valor = " + column + " "
+                + "WHERE l.Id_documento IS NOT NULL AND " + leadFilter;
+    }
+
+    private static String insertWatermark(String documentFilter) {
+        return "INSERT INTO Tb_fato_documento (Id_documento, Total_leads, Data_projecao) "
+                + "SELECT d.id, (SELECT COUNT(*) FROM Tb_fato_lead f WHERE f.Id_documento = d.id), LOCALTIMESTAMP "
+                + "FROM Tb_documento d WHERE " + documentFilter;
+    }
+}
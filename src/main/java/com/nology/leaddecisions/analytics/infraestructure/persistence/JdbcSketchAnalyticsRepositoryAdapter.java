@@ -0,0 +1,33 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionSketchDto;
+import com.nology.leaddecisions.analytics.domain.ports.SketchAnalyticsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador JDBC para os sketches de cardinalidade gravados pelo ETL (Tb_dimensao_sketch).
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcSketchAnalyticsRepositoryAdapter implements SketchAnalyticsRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DimensionSketchDto> getSketches(AnalysisDimension dimension) {
+        // Linhas sem sketch são reservas de uma importação em andamento (ou desfeita).
+        String sql = "SELECT Valor, Sketch_leads, Sketch_vendidos FROM Tb_dimensao_sketch "
+                + "WHERE Dimensao = ? AND Sketch_leads IS NOT NULL";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new DimensionSketchDto(
+                rs.getString("Valor"),
+                rs.getBytes("Sketch_leads"),
+                rs.getBytes("Sketch_vendidos")
+        ), dimension.name());
+    }
+}
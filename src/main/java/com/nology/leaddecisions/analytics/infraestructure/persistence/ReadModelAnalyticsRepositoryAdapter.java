@@ -0,0 +1,62 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.ports.AnalyticsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador de leitura dos totais e rankings do relatório consolidado a partir do modelo de leitura
+ * (Tb_fato_lead para os totais, Tb_fato_lead_valor para os rankings).
+ *
+ * Ativo com analytics.read-model.enabled=true, quando substitui o adaptador sobre as tabelas do ETL.
+ * As agregações agrupam pelo id do valor (chave numérica) e só então resolvem o nome no dicionário.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "analytics.read-model.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadModelAnalyticsRepositoryAdapter implements AnalyticsRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long countTotalLeads() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Tb_fato_lead", Long.class);
+    }
+
+    @Override
+    public long countTotalSales() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Tb_fato_lead WHERE Vendido = TRUE", Long.class);
+    }
+
+    @Override
+    public List<DimensionStatsDto> getStatsByMarket() {
+        return getStats(DimensionTable.MERCADO);
+    }
+
+    @Override
+    public List<DimensionStatsDto> getStatsBySource() {
+        return getStats(DimensionTable.ORIGEM);
+    }
+
+    private List<DimensionStatsDto> getStats(DimensionTable table) {
+        String sql = "SELECT v.Valor, s.total_leads, s.total_sold "
+                + "FROM (SELECT Id_valor AS value_id, COUNT(*) AS total_leads, "
+                + "SUM(CASE WHEN Vendido = TRUE THEN 1 ELSE 0 END) AS total_sold "
+                + "FROM Tb_fato_lead_valor WHERE Dimensao = '" + table.name() + "' "
+                + "GROUP BY Id_valor) s "
+                + "JOIN Tb_dim_valor v ON v.id = s.value_id";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new DimensionStatsDto(
+                rs.getString("Valor"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        ));
+    }
+}
@@ -0,0 +1,105 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * Adaptador das agregações por dimensão (ranking em fluxo e cubo) sobre o modelo de leitura (Tb_fato_lead_valor).
+ *
+ * Ativo com analytics.read-model.enabled=true. A tabela fato tem uma linha por registro de dimensão, com o id
+ * numérico do valor: as contagens são as mesmas das tabelas do ETL, inclusive para leads com vários valores.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "analytics.read-model.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadModelDimensionAnalyticsRepositoryAdapter implements DimensionAnalyticsRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamCrossStats(AnalysisDimension rows, AnalysisDimension columns, Consumer<CrossDimensionStatsDto> consumer) {
+        DimensionTable rowTable = DimensionTable.of(rows);
+        DimensionTable columnTable = DimensionTable.of(columns);
+
+        // Dimensões da mesma tabela (ex: ORIGEM x SUB-ORIGEM) são lidas do mesmo registro; as demais, do mesmo lead.
+        boolean sameTable = rowTable.getTable().equals(columnTable.getTable());
+        String join = sameTable ? "c.Id_registro = r.Id_registro" : "c.Id_lead = r.Id_lead";
+
+        String sql = "SELECT rv.Valor AS row_value, cv.Valor AS column_value, s.total_leads, s.total_sold "
+                + "FROM (SELECT r.Id_valor AS row_id, c.Id_valor AS column_id, "
+                + "COUNT(DISTINCT r.Id_lead) AS total_leads, "
+                + "COUNT(DISTINCT CASE WHEN r.Vendido = TRUE THEN r.Id_lead END) AS total_sold "
+                + "FROM Tb_fato_lead_valor r "
+                + "JOIN Tb_fato_lead_valor c ON c.Dimensao = '" + columnTable.name() + "' AND " + join + " "
+                + "WHERE r.Dimensao = '" + rowTable.name() + "' "
+                + "GROUP BY r.Id_valor, c.Id_valor) s "
+                + "JOIN Tb_dim_valor rv ON rv.id = s.row_id "
+                + "JOIN Tb_dim_valor cv ON cv.id = s.column_id";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new CrossDimensionStatsDto(
+                rs.getString("row_value"),
+                rs.getString("column_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+
+    @Override
+    public void streamRankedStats(AnalysisDimension dimension, Consumer<DimensionStatsDto> consumer) {
+        DimensionTable table = DimensionTable.of(dimension);
+
+        // Mesma ordenação do adaptador sobre as tabelas do ETL (AnalysisGroup.conversionBasisPoints).
+        String sql = "SELECT v.Valor AS group_value, s.total_leads, s.total_sold "
+                + "FROM (SELECT Id_valor AS value_id, COUNT(*) AS total_leads, "
+                + "SUM(CASE WHEN Vendido = TRUE THEN 1 ELSE 0 END) AS total_sold "
+                + "FROM Tb_fato_lead_valor WHERE Dimensao = '" + table.name() + "' "
+                + "GROUP BY Id_valor) s "
+                + "JOIN Tb_dim_valor v ON v.id = s.value_id "
+                + "ORDER BY (CAST(s.total_sold AS BIGINT) * 20000 + s.total_leads) / (2 * s.total_leads) DESC, "
+                + "s.total_sold DESC, group_value ASC";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new DimensionStatsDto(
+                rs.getString("group_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+
+    @Override
+    public void streamSourceHierarchyStats(Consumer<CrossDimensionStatsDto> consumer) {
+        // Canal e sub-origem vêm do mesmo registro de Tb_origem (Id_registro): apenas pares importados são combinados,
+        // e cada registro é contado uma vez, como no adaptador sobre as tabelas do ETL. Sub-origens nulas não são
+        // projetadas, e as vazias são agrupadas com elas.
+        String sql = "SELECT pv.Valor AS row_value, NULLIF(cv.Valor, '') AS column_value, "
+                + "SUM(s.total_leads) AS total_leads, SUM(s.total_sold) AS total_sold "
+                + "FROM (SELECT o.Id_valor AS row_id, so.Id_valor AS column_id, COUNT(*) AS total_leads, "
+                + "SUM(CASE WHEN o.Vendido = TRUE THEN 1 ELSE 0 END) AS total_sold "
+                + "FROM Tb_fato_lead_valor o "
+                + "LEFT JOIN Tb_fato_lead_valor so "
+                + "ON so.Dimensao = '" + DimensionTable.SUB_ORIGEM.name() + "' AND so.Id_registro = o.Id_registro "
+                + "WHERE o.Dimensao = '" + DimensionTable.ORIGEM.name() + "' "
+                + "GROUP BY o.Id_valor, so.Id_valor) s "
+                + "JOIN Tb_dim_valor pv ON pv.id = s.row_id "
+                + "LEFT JOIN Tb_dim_valor cv ON cv.id = s.column_id "
+                + "GROUP BY pv.Valor, NULLIF(cv.Valor, '') "
+                + "ORDER BY row_value";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new CrossDimensionStatsDto(
+                rs.getString("row_value"),
+                rs.getString("column_value"),
+                rs.getLong("total_leads"),
+                rs.getLong("total_sold")
+        )));
+    }
+}
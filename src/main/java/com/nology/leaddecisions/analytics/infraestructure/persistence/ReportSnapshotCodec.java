@@ -0,0 +1,185 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serialização binária compacta do MarketingReport para os snapshots persistidos.
+ *
+ * Os campos são gravados em ordem fixa (sem nomes de propriedades) e o resultado é compactado com Deflate,
+ * o que deixa o snapshot bem menor que o JSON equivalente. O primeiro byte identifica a versão do formato.
+ */
+final class ReportSnapshotCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private ReportSnapshotCodec() {
+    }
+
+    static byte[] encode(MarketingReport report) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, report.getReportId());
+            writeDateTime(out, report.getGeneratedAt());
+
+            MarketingReport.GlobalStats stats = report.getGlobalStats();
+            out.writeLong(stats.getTotalLeads());
+            out.writeLong(stats.getTotalSales());
+            out.writeDouble(stats.getOverallConversionRate());
+
+            out.writeInt(report.getAnalyses().size());
+            for (MarketingReport.DimensionAnalysis analysis : report.getAnalyses()) {
+                writeString(out, analysis.getDimension());
+                writeString(out, analysis.getDescription());
+                out.writeLong(analysis.getTotalGroups());
+                writeString(out, analysis.getNextCursor());
+
+                out.writeInt(analysis.getRanking().size());
+                for (AnalysisGroup group : analysis.getRanking()) {
+                    writeString(out, group.getGroupName());
+                    out.writeLong(group.getTotalLeads());
+                    out.writeLong(group.getTotalSold());
+                    out.writeDouble(group.getConversionRate());
+                    writeString(out, group.getStatus().name());
+                }
+            }
+
+            out.writeInt(report.getTopInsights().size());
+            for (Map.Entry<String, String> insight : report.getTopInsights().entrySet()) {
+                writeString(out, insight.getKey());
+                writeString(out, insight.getValue());
+            }
+
+            MarketingReport.Approximation approximation = report.getApproximation();
+            out.writeBoolean(approximation != null);
+            if (approximation != null) {
+                writeString(out, approximation.getMethod());
+                out.writeDouble(approximation.getRelativeStandardError());
+                out.writeDouble(approximation.getConfidence95());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static MarketingReport decode(byte[] content) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(content)))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported report snapshot format: " + version);
+            }
+
+            String reportId = readString(in);
+            LocalDateTime generatedAt = readDateTime(in);
+            MarketingReport.GlobalStats stats = MarketingReport.GlobalStats.builder()
+                    .totalLeads(in.readLong())
+                    .totalSales(in.readLong())
+                    .overallConversionRate(in.readDouble())
+                    .build();
+
+            int analysisCount = in.readInt();
+            List<MarketingReport.DimensionAnalysis> analyses = new ArrayList<>(analysisCount);
+            for (int i = 0; i < analysisCount; i++) {
+                String dimension = readString(in);
+                String description = readString(in);
+                long totalGroups = in.readLong();
+                String nextCursor = readString(in);
+
+                int groupCount = in.readInt();
+                List<AnalysisGroup> ranking = new ArrayList<>(groupCount);
+                for (int g = 0; g < groupCount; g++) {
+                    ranking.add(AnalysisGroup.restore(
+                            readString(in),
+                            in.readLong(),
+                            in.readLong(),
+                            in.readDouble(),
+                            AnalysisStatus.valueOf(readString(in))
+                    ));
+                }
+
+                analyses.add(MarketingReport.DimensionAnalysis.builder()
+                        .dimension(dimension)
+                        .description(description)
+                        .ranking(ranking)
+                        .totalGroups(totalGroups)
+                        .nextCursor(nextCursor)
+                        .build());
+            }
+
+            int insightCount = in.readInt();
+            Map<String, String> insights = new LinkedHashMap<>();
+            for (int i = 0; i < insightCount; i++) {
+                insights.put(readString(in), readString(in));
+            }
+
+            MarketingReport.Approximation approximation = null;
+            if (in.readBoolean()) {
+                approximation = MarketingReport.Approximation.builder()
+                        .method(readString(in))
+                        .relativeStandardError(in.readDouble())
+                        .confidence95(in.readDouble())
+                        .build();
+            }
+
+            return MarketingReport.builder()
+                    .reportId(reportId)
+                    .generatedAt(generatedAt)
+                    .globalStats(stats)
+                    .analyses(analyses)
+                    .topInsights(insights)
+                    .approximation(approximation)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        long epochSecond = in.readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+}
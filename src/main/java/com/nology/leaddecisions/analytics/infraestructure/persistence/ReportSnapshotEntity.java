@@ -0,0 +1,53 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot persistido do relatório consolidado (Tb_relatorio_snapshot).
+ *
+ * O relatório é armazenado serializado e compactado (ver ReportSnapshotCodec); os totais globais
+ * ficam em colunas próprias para que o histórico seja listado sem ler o conteúdo.
+ */
+@Data
+@Entity
+@Table(name = "Tb_relatorio_snapshot")
+public class ReportSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Versão dos dados de origem que gerou o snapshot. Única: no máximo um snapshot por versão.
+     */
+    @Column(name = "Versao_dados", nullable = false, unique = true, length = 100)
+    private String dataVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Gatilho", nullable = false, length = 20)
+    private SnapshotTrigger trigger;
+
+    @Column(name = "Data_geracao", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Column(name = "Total_leads", nullable = false)
+    private long totalLeads;
+
+    @Column(name = "Total_vendido", nullable = false)
+    private long totalSold;
+
+    @Column(name = "Tamanho_bytes", nullable = false)
+    private long sizeBytes;
+
+    /**
+     * Relatório serializado em formato binário compactado.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "Conteudo", nullable = false)
+    private byte[] content;
+}
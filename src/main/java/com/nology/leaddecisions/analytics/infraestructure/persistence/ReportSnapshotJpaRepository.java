@@ -0,0 +1,30 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportSnapshotJpaRepository extends JpaRepository<ReportSnapshotEntity, Long> {
+
+    boolean existsByDataVersion(String dataVersion);
+
+    Optional<ReportSnapshotEntity> findByDataVersion(String dataVersion);
+
+    /**
+     * Projeta apenas os metadados, sem carregar o conteúdo serializado dos relatórios.
+     */
+    @Query("SELECT new com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary("
+            + "s.id, s.dataVersion, s.trigger, s.generatedAt, s.totalLeads, s.totalSold, s.sizeBytes) "
+            + "FROM ReportSnapshotEntity s ORDER BY s.id DESC")
+    List<ReportSnapshotSummary> findSummaries(Pageable pageable);
+
+    @Query("SELECT new com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary("
+            + "s.id, s.dataVersion, s.trigger, s.generatedAt, s.totalLeads, s.totalSold, s.sizeBytes) "
+            + "FROM ReportSnapshotEntity s WHERE s.id = :id")
+    Optional<ReportSnapshotSummary> findSummaryById(@Param("id") Long id);
+}
@@ -0,0 +1,87 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSnapshotRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistência dos snapshots do relatório consolidado.
+ *
+ * A versão dos dados é derivada de Tb_documento (quantidade, maior id e totais) e da quantidade de documentos
+ * já projetados no modelo de leitura (Tb_fato_documento), tabelas pequenas:
+ * a verificação a cada consulta não varre as tabelas de leads.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportSnapshotRepositoryAdapter implements ReportSnapshotRepositoryPort {
+
+    private final ReportSnapshotJpaRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String currentDataVersion() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS documents, COALESCE(MAX(id), 0) AS last_id, "
+                        + "COALESCE(SUM(Total_leads), 0) AS leads, COALESCE(SUM(Total_vendido), 0) AS sold, "
+                        + "(SELECT COUNT(*) FROM Tb_fato_documento) AS projected "
+                        + "FROM Tb_documento",
+                (rs, rowNum) -> "d" + rs.getLong("documents")
+                        + "-" + rs.getLong("last_id")
+                        + "-" + rs.getLong("leads")
+                        + "-" + rs.getLong("sold")
+                        + "-p" + rs.getLong("projected"));
+    }
+
+    @Override
+    public boolean existsByDataVersion(String dataVersion) {
+        return snapshotRepository.existsByDataVersion(dataVersion);
+    }
+
+    @Override
+    public Optional<MarketingReport> findReportByDataVersion(String dataVersion) {
+        return snapshotRepository.findByDataVersion(dataVersion)
+                .map(entity -> ReportSnapshotCodec.decode(entity.getContent()));
+    }
+
+    @Override
+    public Optional<MarketingReport> findReportById(Long snapshotId) {
+        return snapshotRepository.findById(snapshotId)
+                .map(entity -> ReportSnapshotCodec.decode(entity.getContent()));
+    }
+
+    @Override
+    public Optional<ReportSnapshotSummary> findSummaryById(Long snapshotId) {
+        return snapshotRepository.findSummaryById(snapshotId);
+    }
+
+    @Override
+    public ReportSnapshotSummary save(String dataVersion, SnapshotTrigger trigger, MarketingReport report) {
+        byte[] content = ReportSnapshotCodec.encode(report);
+
+        ReportSnapshotEntity entity = new ReportSnapshotEntity();
+        entity.setDataVersion(dataVersion);
+        entity.setTrigger(trigger);
+        entity.setGeneratedAt(report.getGeneratedAt());
+        entity.setTotalLeads(report.getGlobalStats().getTotalLeads());
+        entity.setTotalSold(report.getGlobalStats().getTotalSales());
+        entity.setSizeBytes(content.length);
+        entity.setContent(content);
+        snapshotRepository.save(entity);
+
+        return new ReportSnapshotSummary(entity.getId(), dataVersion, trigger, entity.getGeneratedAt(),
+                entity.getTotalLeads(), entity.getTotalSold(), entity.getSizeBytes());
+    }
+
+    @Override
+    public List<ReportSnapshotSummary> findHistory(int limit) {
+        return snapshotRepository.findSummaries(PageRequest.of(0, limit));
+    }
+}
@@ -0,0 +1,44 @@
+package com.nology.leaddecisions.analytics.infraestructure.readmodel;
+
+import com.nology.leaddecisions.analytics.domain.services.ReadModelProjectionService;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Alimenta o modelo de leitura do Analytics a partir dos eventos de importação e de remoção do ETL.
+ *
+ * A projeção roda fora da thread da requisição de upload (@Async), somente depois do commit da importação.
+ * Na inicialização, documentos ainda não projetados (ex: evento perdido em uma parada) são recuperados.
+ */
+@Component
+@ConditionalOnProperty(name = "analytics.read-model.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadModelProjector {
+
+    private final ReadModelProjectionService projectionService;
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentImported(DocumentImportedEvent event) {
+        projectionService.project(event.getDocumentId());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentPurged(DocumentPurgedEvent event) {
+        projectionService.remove(event.getDocumentId());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        projectionService.catchUp();
+    }
+}
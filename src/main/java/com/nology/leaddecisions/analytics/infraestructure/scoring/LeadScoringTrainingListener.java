@@ -0,0 +1,34 @@
+package com.nology.leaddecisions.analytics.infraestructure.scoring;
+
+import com.nology.leaddecisions.analytics.domain.services.LeadScoringService;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantém o modelo de pontuação atualizado após cada importação ou remoção concluída.
+ *
+ * Uma importação apenas soma as contagens do novo documento ao modelo; uma remoção exige o treino completo,
+ * pois os agregados do documento removido já não existem para serem subtraídos.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeadScoringTrainingListener {
+
+    private final LeadScoringService leadScoringService;
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentImported(DocumentImportedEvent event) {
+        leadScoringService.trainDocument(event.getDocumentId());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentPurged(DocumentPurgedEvent event) {
+        leadScoringService.retrain();
+    }
+}
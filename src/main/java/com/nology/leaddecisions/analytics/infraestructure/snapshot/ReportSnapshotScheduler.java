@@ -0,0 +1,67 @@
+package com.nology.leaddecisions.analytics.infraestructure.snapshot;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.events.ReadModelUpdatedEvent;
+import com.nology.leaddecisions.analytics.domain.services.ReportSnapshotService;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Dispara o pré-cálculo do relatório consolidado: após cada importação ou remoção concluída e periodicamente.
+ *
+ * O pré-cálculo após a importação roda fora da thread da requisição de upload (@Async),
+ * somente depois do commit, para que o snapshot enxergue os dados importados.
+ */
+@Component
+public class ReportSnapshotScheduler {
+
+    private final ReportSnapshotService snapshotService;
+
+    /**
+     * Com o modelo de leitura ativo, o relatório só enxerga a importação após a projeção:
+     * o pré-cálculo passa a ser disparado pelo ReadModelUpdatedEvent.
+     */
+    private final boolean readModelEnabled;
+
+    public ReportSnapshotScheduler(
+            ReportSnapshotService snapshotService,
+            @Value("${analytics.read-model.enabled:false}") boolean readModelEnabled) {
+        this.snapshotService = snapshotService;
+        this.readModelEnabled = readModelEnabled;
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentImported(DocumentImportedEvent event) {
+        if (!readModelEnabled) {
+            snapshotService.refresh(SnapshotTrigger.IMPORT);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onDocumentPurged(DocumentPurgedEvent event) {
+        if (!readModelEnabled) {
+            snapshotService.refresh(SnapshotTrigger.PURGE);
+        }
+    }
+
+    @Async
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        snapshotService.refresh(event.isDocumentRemoved() ? SnapshotTrigger.PURGE : SnapshotTrigger.IMPORT);
+    }
+
+    @Scheduled(
+            initialDelayString = "${analytics.snapshot.refresh-interval:PT15M}",
+            fixedDelayString = "${analytics.snapshot.refresh-interval:PT15M}")
+    public void refreshPeriodically() {
+        snapshotService.refresh(SnapshotTrigger.SCHEDULE);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nology.leaddecisions.config;
+
+import com.nology.leaddecisions.shared.concurrent.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AnalyticsConcurrencyConfig {
+
+    /**
+     * Coalescência da geração de relatórios: requisições simultâneas com os mesmos parâmetros
+     * compartilham uma única geração, e no máximo max-concurrent gerações distintas rodam ao mesmo tempo.
+     * O limite vale para todos os relatórios (consolidado, por documento, cruzado, hierarquia e em fluxo);
+     * a chave inclui o tipo do relatório, que determina o tipo do resultado.
+     */
+    @Bean
+    public SingleFlight<Object, Object> reportFlights(
+            @Value("${analytics.report.max-concurrent:2}") int maxConcurrent,
+            @Value("${analytics.report.queue-timeout:PT10S}") Duration queueTimeout) {
+        return new SingleFlight<>(maxConcurrent, queueTimeout);
+    }
+}
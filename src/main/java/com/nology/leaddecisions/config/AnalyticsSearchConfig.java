@@ -0,0 +1,21 @@
+package com.nology.leaddecisions.config;
+
+import com.nology.leaddecisions.shared.search.TrigramIndexCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class AnalyticsSearchConfig {
+
+    /**
+     * Índices de busca dos objetivos decodificados em memória: no máximo cache-max-bytes (estimados);
+     * os usados há mais tempo são descartados e decodificados novamente quando necessários.
+     */
+    @Bean
+    public TrigramIndexCache objectiveIndexCache(
+            @Value("${analytics.objective-search.cache-max-bytes:512MB}") DataSize cacheMaxBytes) {
+        return new TrigramIndexCache(cacheMaxBytes.toBytes());
+    }
+}
@@ -0,0 +1,15 @@
+package com.nology.leaddecisions.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (@Scheduled) e ouvintes assíncronos (@Async),
+ * usados no pré-cálculo dos snapshots de relatório.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
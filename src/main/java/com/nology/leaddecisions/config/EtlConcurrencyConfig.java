@@ -0,0 +1,26 @@
+package com.nology.leaddecisions.config;
+
+import com.nology.leaddecisions.shared.concurrent.AdmissionController;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class EtlConcurrencyConfig {
+
+    /**
+     * Admissão das importações: no máximo max-concurrent extrações e max-in-flight-bytes de planilhas
+     * sendo processadas ao mesmo tempo, com até max-queued importações aguardando vaga.
+     */
+    @Bean
+    public AdmissionController importAdmission(
+            @Value("${etl.import.max-concurrent:2}") int maxConcurrent,
+            @Value("${etl.import.max-in-flight-bytes:64MB}") DataSize maxInFlightBytes,
+            @Value("${etl.import.max-queued:4}") int maxQueued,
+            @Value("${etl.import.queue-timeout:PT30S}") Duration queueTimeout) {
+        return new AdmissionController(maxConcurrent, maxInFlightBytes.toBytes(), maxQueued, queueTimeout);
+    }
+}
@@ -0,0 +1,37 @@
+package com.nology.leaddecisions.etl.API.controllers;
+
+import com.nology.leaddecisions.etl.domain.models.ArchivedDocumentEntity;
+import com.nology.leaddecisions.etl.domain.ports.ArchiveDocumentUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/etl/documents")
+@RequiredArgsConstructor
+public class DocumentArchiveController {
+
+    private final ArchiveDocumentUseCase archiveDocumentUseCase;
+
+    /**
+     * Move os leads e dimensões de um documento para o arquivo morto em disco, removendo-o das tabelas.
+     */
+    @PostMapping("/{documentId}/archive")
+    public ResponseEntity<ArchivedDocumentEntity> archiveDocument(@PathVariable Long documentId) {
+        return ResponseEntity.ok(archiveDocumentUseCase.archive(documentId));
+    }
+
+    /**
+     * Manifesto do arquivo morto (documentos arquivados, com arquivo, tamanho e totais).
+     */
+    @GetMapping("/archived")
+    public ResponseEntity<List<ArchivedDocumentEntity>> getArchivedDocuments() {
+        return ResponseEntity.ok(archiveDocumentUseCase.findArchivedDocuments());
+    }
+}
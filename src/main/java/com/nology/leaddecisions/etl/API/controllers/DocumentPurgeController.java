@@ -0,0 +1,28 @@
+package com.nology.leaddecisions.etl.API.controllers;
+
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/etl/documents")
+@RequiredArgsConstructor
+public class DocumentPurgeController {
+
+    private final PurgeDocumentUseCase purgeDocumentUseCase;
+
+    /**
+     * Remove um documento importado com todos os seus leads, dimensões e agregados.
+     */
+    @DeleteMapping("/{documentId}")
+    public ResponseEntity<Map<String, Long>> purgeDocument(@PathVariable Long documentId) {
+        long purgedLeads = purgeDocumentUseCase.purge(documentId);
+        return ResponseEntity.ok(Map.of("documentId", documentId, "purgedLeads", purgedLeads));
+    }
+}
@@ -0,0 +1,33 @@
+package com.nology.leaddecisions.etl.API.handler;
+
+import com.nology.leaddecisions.shared.concurrent.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Traduz as exceções do Domínio de ETL em respostas HTTP.
+ *
+ * Arquivos inválidos são sinalizados com IllegalArgumentException e devolvidos como 400 (Bad Request).
+ * Importações rejeitadas pelo controle de admissão são devolvidas como 429 (Too Many Requests),
+ * com o cabeçalho Retry-After.
+ */
+@RestControllerAdvice(basePackages = "com.nology.leaddecisions.etl.API")
+public class EtlExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleInvalidArgument(IllegalArgumentException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleAdmissionRejected(ConcurrencyLimitExceededException exception) {
+        long retryAfterSeconds = Math.max(1, exception.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, exception.getMessage()));
+    }
+}
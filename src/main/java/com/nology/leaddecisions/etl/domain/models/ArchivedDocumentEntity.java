@@ -0,0 +1,73 @@
+package com.nology.leaddecisions.etl.domain.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada do manifesto do arquivo morto (Tb_documento_arquivado).
+ *
+ * Registra os documentos cujos leads e dimensões foram movidos das tabelas para um arquivo colunar
+ * comprimido em disco, junto com os totais necessários para relatórios sem abrir o arquivo.
+ */
+@Data
+@Entity
+@Table(name = "Tb_documento_arquivado")
+public class ArchivedDocumentEntity {
+
+    /**
+     * Identificador que o documento possuía em Tb_documento.
+     */
+    @Id
+    @Column(name = "Id_documento")
+    private Long documentId;
+
+    /**
+     * Nome original do arquivo importado.
+     */
+    @Column(name = "Documento_nome")
+    private String documentName;
+
+    /**
+     * Tipo de conteúdo MIME do arquivo importado.
+     */
+    @Column(name = "Documento_tipo")
+    private String documentContentType;
+
+    /**
+     * Nome do arquivo morto, relativo ao diretório de arquivamento (etl.archive.directory).
+     */
+    @Column(name = "Arquivo", nullable = false)
+    private String fileName;
+
+    /**
+     * Tamanho do arquivo morto em bytes.
+     */
+    @Column(name = "Tamanho_bytes", nullable = false)
+    private Long fileSize;
+
+    /**
+     * Quantidade de leads arquivados.
+     */
+    @Column(name = "Total_leads", nullable = false)
+    private Long totalLeads;
+
+    /**
+     * Quantidade de leads vendidos arquivados.
+     */
+    @Column(name = "Total_vendido", nullable = false)
+    private Long totalSold;
+
+    /**
+     * Instante da importação original do documento.
+     */
+    @Column(name = "Data_importacao")
+    private LocalDateTime importedAt;
+
+    /**
+     * Instante em que o documento foi arquivado.
+     */
+    @Column(name = "Data_arquivamento", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.nology.leaddecisions.etl.domain.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Entidade que armazena os sketches de cardinalidade (HyperLogLog) de um valor de dimensão.
+ *
+ * Mapeia a tabela Tb_dimensao_sketch, com uma linha por par (dimensão, valor) acumulando todas as importações.
+ * Cada importação combina (merge) os ids de seus leads nos sketches existentes, permitindo estimar
+ * leads distintos e vendas distintas por grupo sem executar COUNT(DISTINCT) sobre as tabelas dimensionais.
+ */
+@Data
+@Entity
+@Table(name = "Tb_dimensao_sketch")
+public class DimensionSketchEntity {
+
+    /**
+     * Identificador único do sketch.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Nome lógico da dimensão (ex: MERCADO, ORIGEM).
+     */
+    @Column(name = "Dimensao")
+    private String dimension;
+
+    /**
+     * Valor da dimensão (ex: "Tecnologia").
+     */
+    @Column(name = "Valor")
+    private String value;
+
+    /**
+     * Sketch serializado dos ids de todos os leads com este valor.
+     */
+    @Column(name = "Sketch_leads", length = 4096)
+    private byte[] leadsSketch;
+
+    /**
+     * Sketch serializado dos ids dos leads vendidos com este valor.
+     */
+    @Column(name = "Sketch_vendidos", length = 4096)
+    private byte[] soldSketch;
+}
@@ -0,0 +1,55 @@
+package com.nology.leaddecisions.etl.domain.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Entidade que armazena o agregado de leads e vendas de um valor de dimensão dentro de um documento importado.
+ *
+ * Mapeia a tabela Tb_documento_estatistica e é calculada uma única vez, no momento da importação,
+ * a partir das entidades já carregadas em memória. Permite que relatórios por documento (e comparações
+ * entre importações) leiam apenas uma linha por grupo, em vez de varrer as tabelas dimensionais.
+ */
+@Data
+@Entity
+@Table(name = "Tb_documento_estatistica")
+public class DocumentDimensionStatsEntity {
+
+    /**
+     * Identificador único do agregado.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Documento ao qual o agregado pertence.
+     */
+    @ManyToOne
+    @JoinColumn(name = "Id_documento")
+    private DocumentEntity document;
+
+    /**
+     * Nome lógico da dimensão (ex: MERCADO, ORIGEM, SUB_ORIGEM, LOCAL, PORTE, OBJETIVO).
+     */
+    @Column(name = "Dimensao")
+    private String dimension;
+
+    /**
+     * Valor da dimensão agrupado (ex: "Tecnologia").
+     */
+    @Column(name = "Valor")
+    private String value;
+
+    /**
+     * Quantidade de registros da dimensão com este valor no documento.
+     */
+    @Column(name = "Total_leads")
+    private Long totalLeads;
+
+    /**
+     * Quantidade de registros com este valor cujo lead foi vendido.
+     */
+    @Column(name = "Total_vendido")
+    private Long totalSold;
+}
@@ -3,6 +3,8 @@ package com.nology.leaddecisions.etl.domain.models;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 /**
  * Entidade responsável pela persistência do arquivo físico (blob) importado no sistema.
  *
@@ -47,4 +49,24 @@ public class DocumentEntity {
      */
     @Column(name = "Documento_tipo")
     private String documentContentType;
+
+    /**
+     * Quantidade de leads extraídos deste documento na importação.
+     * Mantido junto ao documento para que relatórios por importação não precisem varrer Tb_lead.
+     */
+    @Column(name = "Total_leads")
+    private Long totalLeads;
+
+    /**
+     * Quantidade de leads vendidos (convertidos) extraídos deste documento.
+     */
+    @Column(name = "Total_vendido")
+    private Long totalSold;
+
+    /**
+     * Instante da importação do documento.
+     * Referência da política de retenção, que remove documentos mais antigos que o prazo configurado.
+     */
+    @Column(name = "Data_importacao")
+    private LocalDateTime importedAt;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.nology.leaddecisions.etl.domain.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Índice de busca dos objetivos de um documento (Tb_objetivo_indice).
+ *
+ * Guarda o índice invertido de trigramas (shared.search.TrigramIndexWriter) dos objetivos do documento,
+ * montado na importação para que a busca por texto não precise percorrer Tb_objetivo com LIKE.
+ */
+@Data
+@Entity
+@Table(name = "Tb_objetivo_indice")
+public class ObjectiveIndexEntity {
+
+    /**
+     * Documento (Tb_documento) cujos objetivos foram indexados.
+     */
+    @Id
+    @Column(name = "Id_documento")
+    private Long documentId;
+
+    /**
+     * Índice serializado e comprimido.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "Indice", nullable = false)
+    private byte[] content;
+
+    /**
+     * Quantidade de objetivos distintos (após normalização) no índice.
+     */
+    @Column(name = "Total_termos", nullable = false)
+    private Integer termCount;
+
+    /**
+     * Tamanho do índice serializado, em bytes.
+     */
+    @Column(name = "Tamanho_bytes", nullable = false)
+    private Integer sizeBytes;
+
+    @Column(name = "Data_criacao", nullable = false)
+    private LocalDateTime createdAt;
+}
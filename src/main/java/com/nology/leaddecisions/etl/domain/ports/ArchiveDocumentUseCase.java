@@ -0,0 +1,38 @@
+package com.nology.leaddecisions.etl.domain.ports;
+
+import com.nology.leaddecisions.etl.domain.models.ArchivedDocumentEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Contrato (Porta de Entrada) para o caso de uso de Arquivamento de Documentos importados.
+ *
+ * Documentos antigos têm seus leads e dimensões movidos para arquivos colunares em disco,
+ * mantendo as tabelas pequenas; o Analytics pode incluí-los nos relatórios sob demanda.
+ */
+public interface ArchiveDocumentUseCase {
+
+    /**
+     * Grava o arquivo morto do documento, registra-o no manifesto e remove o documento das tabelas.
+     * Se o documento já constar do manifesto, apenas conclui uma remoção interrompida.
+     *
+     * @param documentId Documento a arquivar.
+     * @return A entrada do manifesto.
+     * @throws IllegalArgumentException Se o documento não existir nem estiver arquivado.
+     */
+    ArchivedDocumentEntity archive(Long documentId);
+
+    /**
+     * Arquiva todos os documentos importados antes do instante informado.
+     *
+     * @param cutoff Instante limite (exclusivo) da importação.
+     * @return Quantidade de documentos arquivados.
+     */
+    int archiveImportedBefore(LocalDateTime cutoff);
+
+    /**
+     * @return O manifesto do arquivo morto, do documento mais recente para o mais antigo.
+     */
+    List<ArchivedDocumentEntity> findArchivedDocuments();
+}
@@ -0,0 +1,26 @@
+package com.nology.leaddecisions.etl.domain.ports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contrato (Porta de Entrada) para o caso de uso de Remoção de Documentos importados.
+ */
+public interface PurgeDocumentUseCase {
+
+    /**
+     * Remove um documento, seus leads, as dimensões dos leads e os agregados do documento.
+     *
+     * @param documentId Documento a remover.
+     * @return Quantidade de leads removidos.
+     * @throws IllegalArgumentException Se o documento não existir.
+     */
+    long purge(Long documentId);
+
+    /**
+     * Remove todos os documentos importados antes do instante informado (política de retenção).
+     *
+     * @param cutoff Instante limite (exclusivo) da importação.
+     * @return Quantidade de documentos removidos.
+     */
+    int purgeImportedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package com.nology.leaddecisions.etl.domain.repositories;
+
+import com.nology.leaddecisions.etl.domain.models.ArchivedDocumentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Interface de persistência para o manifesto do arquivo morto (ArchivedDocumentEntity).
+ */
+public interface ArchivedDocumentRepository extends JpaRepository<ArchivedDocumentEntity, Long> {
+}
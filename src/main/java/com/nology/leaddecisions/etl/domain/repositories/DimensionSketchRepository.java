@@ -0,0 +1,26 @@
+package com.nology.leaddecisions.etl.domain.repositories;
+
+import com.nology.leaddecisions.etl.domain.models.DimensionSketchEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface de persistência para os sketches de cardinalidade por valor de dimensão.
+ */
+public interface DimensionSketchRepository extends JpaRepository<DimensionSketchEntity, Long> {
+
+    /**
+     * Recupera e bloqueia (SELECT ... FOR UPDATE) os sketches existentes de uma dimensão para os valores
+     * informados, em ordem de id, até o fim da transação corrente, permitindo que a importação combine
+     * seus leads nos acumulados anteriores sem concorrer com outra importação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DimensionSketchEntity s WHERE s.dimension = :dimension AND s.value IN :values ORDER BY s.id")
+    List<DimensionSketchEntity> findForUpdate(@Param("dimension") String dimension, @Param("values") Collection<String> values);
+}
@@ -0,0 +1,11 @@
+package com.nology.leaddecisions.etl.domain.repositories;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentDimensionStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Interface de persistência para os agregados por documento (DocumentDimensionStatsEntity).
+ * Utilizada pelo ETL para gravar, em lote, os totais calculados durante a importação.
+ */
+public interface DocumentDimensionStatsRepository extends JpaRepository<DocumentDimensionStatsEntity, Long> {
+}
@@ -0,0 +1,10 @@
+package com.nology.leaddecisions.etl.domain.repositories;
+
+import com.nology.leaddecisions.etl.domain.models.ObjectiveIndexEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Interface de persistência para os índices de busca de objetivos (ObjectiveIndexEntity).
+ */
+public interface ObjectiveIndexRepository extends JpaRepository<ObjectiveIndexEntity, Long> {
+}
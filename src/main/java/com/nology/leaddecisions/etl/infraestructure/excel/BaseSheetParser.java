@@ -0,0 +1,187 @@
+package com.nology.leaddecisions.etl.infraestructure.excel;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.poi.ss.usermodel.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Componente responsável pela leitura da aba 'BASE', que estabelece a existência dos Leads.
+ *
+ * A aba é dividida em faixas de chunk-rows linhas (1..getLastRowNum()). Por padrão (parse-parallelism=1), as faixas
+ * são lidas em sequência na thread da importação. Com parse-parallelism diferente de 1, são lidas em paralelo em um
+ * ForkJoinPool próprio, cada faixa com o seu DataFormatter e FormulaEvaluator (nenhum dos dois é thread-safe).
+ * O POI não garante leituras concorrentes de uma mesma planilha: a leitura paralela é opcional, e o ganho deve ser
+ * medido antes com BaseSheetParserBenchmark (mvn -Pbenchmarks test).
+ *
+ * As faixas são combinadas em ordem de linha, de modo que o resultado é o mesmo da leitura sequencial:
+ * um LEAD_ID repetido (na mesma faixa ou em faixas diferentes) fica com a última linha em que aparece,
+ * e cada repetição é contada na métrica etl.import.duplicate-lead-ids.
+ */
+@Component
+public class BaseSheetParser {
+
+    private final ExcelHelper excelHelper;
+    private final MeterRegistry meterRegistry;
+    private final int chunkRows;
+    private final ForkJoinPool pool;
+
+    public BaseSheetParser(
+            ExcelHelper excelHelper,
+            MeterRegistry meterRegistry,
+            @Value("${etl.import.parse-parallelism:1}") int parallelism,
+            @Value("${etl.import.parse-chunk-rows:5000}") int chunkRows) {
+        if (chunkRows <= 0) {
+            throw new IllegalArgumentException("Parse chunk rows must be positive.");
+        }
+        this.excelHelper = excelHelper;
+        this.meterRegistry = meterRegistry;
+        this.chunkRows = chunkRows;
+        this.pool = parallelism == 1 ? null : new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("base-sheet-parser-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Lê a aba 'BASE' e converte cada linha válida em uma LeadEntity, indexada pelo seu ID de negócio
+     * (Lead ID), permitindo que as próximas etapas encontrem a referência correta.
+     *
+     * @param workbook O arquivo Excel aberto (em memória).
+     * @param formatter Formatador usado quando a aba é lida na thread atual.
+     * @param evaluator Avaliador usado quando a aba é lida na thread atual.
+     * @param documentEntity Referência ao documento pai para rastreabilidade.
+     * @return Leads por Lead ID, na ordem das linhas.
+     * @throws IllegalArgumentException Caso faltem colunas obrigatórias ou uma data seja inválida (a primeira, em ordem de linha).
+     */
+    public Map<String, LeadEntity> parse(
+            Workbook workbook,
+            DataFormatter formatter,
+            FormulaEvaluator evaluator,
+            DocumentEntity documentEntity
+    ) {
+        Sheet sheet = excelHelper.requireSheet(workbook, LeadExcelSchema.Sheets.BASE);
+        Map<String, Integer> headers = excelHelper.buildHeaderMap(sheet, formatter);
+        int leadIdIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.LEAD_ID);
+        int createdAtIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.DATA_CADASTRO);
+        int soldIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.VENDIDO);
+        int lastRow = sheet.getLastRowNum();
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (int from = 1; from <= lastRow; from += chunkRows) {
+            chunks.add(new Chunk(sheet, documentEntity, leadIdIndex, createdAtIndex, soldIndex,
+                    from, Math.min(lastRow, from + chunkRows - 1)));
+        }
+        if (pool == null || chunks.size() == 1) {
+            chunks.forEach(chunk -> chunk.read(formatter, evaluator));
+        } else if (chunks.size() > 1) {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(chunks);
+                }
+            });
+        }
+
+        Map<String, LeadEntity> leads = new LinkedHashMap<>(Math.max(16, lastRow * 4 / 3));
+        int duplicates = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.failure != null) {
+                throw chunk.failure;
+            }
+            for (int i = 0; i < chunk.leadIds.size(); i++) {
+                if (leads.put(chunk.leadIds.get(i), chunk.leads.get(i)) != null) {
+                    duplicates++;
+                }
+            }
+        }
+        if (duplicates > 0) {
+            meterRegistry.counter("etl.import.duplicate-lead-ids").increment(duplicates);
+        }
+        return leads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Faixa de linhas [from, to] da aba, lida de forma independente das demais.
+     */
+    private final class Chunk extends RecursiveAction {
+
+        private final Sheet sheet;
+        private final DocumentEntity documentEntity;
+        private final int leadIdIndex;
+        private final int createdAtIndex;
+        private final int soldIndex;
+        private final int from;
+        private final int to;
+
+        private final List<String> leadIds = new ArrayList<>();
+        private final List<LeadEntity> leads = new ArrayList<>();
+        private RuntimeException failure;
+
+        private Chunk(Sheet sheet, DocumentEntity documentEntity, int leadIdIndex, int createdAtIndex, int soldIndex,
+                      int from, int to) {
+            this.sheet = sheet;
+            this.documentEntity = documentEntity;
+            this.leadIdIndex = leadIdIndex;
+            this.createdAtIndex = createdAtIndex;
+            this.soldIndex = soldIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            read(new DataFormatter(), sheet.getWorkbook().getCreationHelper().createFormulaEvaluator());
+        }
+
+        /**
+         * Erros de validação ficam na faixa, e não são propagados pelo ForkJoinTask (que os recriaria com
+         * outra mensagem): parse os relança em ordem de linha, como na leitura sequencial.
+         */
+        private void read(DataFormatter formatter, FormulaEvaluator evaluator) {
+            try {
+                for (int rowIndex = from; rowIndex <= to; rowIndex++) {
+                    Row row = sheet.getRow(rowIndex);
+                    if (row == null) {
+                        continue;
+                    }
+
+                    String leadId = excelHelper.getCellString(row, leadIdIndex, formatter, evaluator);
+                    if (leadId == null || leadId.isBlank()) {
+                        continue;
+                    }
+
+                    LeadEntity lead = new LeadEntity();
+                    lead.setDocument(documentEntity);
+                    lead.setCreatedAt(excelHelper.getCellDateTime(row, createdAtIndex, formatter, rowIndex));
+                    lead.setSold(excelHelper.parseSold(excelHelper.getCellString(row, soldIndex, formatter, evaluator)));
+                    leadIds.add(leadId.trim());
+                    leads.add(lead);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+}
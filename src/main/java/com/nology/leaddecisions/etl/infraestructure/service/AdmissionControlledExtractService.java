@@ -0,0 +1,53 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.ports.ExtractDataDocumentUseCase;
+import com.nology.leaddecisions.shared.concurrent.AdmissionController;
+import com.nology.leaddecisions.shared.concurrent.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Porta de entrada das importações com controle de admissão.
+ *
+ * Antes de abrir a planilha, cada importação reserva uma vaga e o tamanho do arquivo no AdmissionController.
+ * Sem capacidade, a importação aguarda na fila (o upload já está em disco, ver spring.servlet.multipart)
+ * ou é rejeitada com ConcurrencyLimitExceededException, devolvida pela API como 429 com Retry-After.
+ * Assim o número de planilhas carregadas pelo POI ao mesmo tempo, e a memória usada por elas, fica limitado.
+ */
+@Service
+@Primary
+public class AdmissionControlledExtractService implements ExtractDataDocumentUseCase {
+
+    private final ExtractDataDocumentService extractDataDocumentService;
+    private final AdmissionController importAdmission;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlledExtractService(
+            ExtractDataDocumentService extractDataDocumentService,
+            AdmissionController importAdmission,
+            MeterRegistry meterRegistry) {
+        this.extractDataDocumentService = extractDataDocumentService;
+        this.importAdmission = importAdmission;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("etl.import.running", importAdmission, AdmissionController::running).register(meterRegistry);
+        Gauge.builder("etl.import.queued", importAdmission, AdmissionController::queued).register(meterRegistry);
+        Gauge.builder("etl.import.in-flight-bytes", importAdmission, AdmissionController::inFlightWeight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void extract(MultipartFile file) {
+        long size = file == null ? 0 : file.getSize();
+        try (AdmissionController.Permit permit = importAdmission.admit(size)) {
+            extractDataDocumentService.extract(file);
+        } catch (ConcurrencyLimitExceededException e) {
+            meterRegistry.counter("etl.import.rejected").increment();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.models.DimensionSketchEntity;
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import com.nology.leaddecisions.etl.domain.models.MarketEntity;
+import com.nology.leaddecisions.etl.domain.models.SourceEntity;
+import com.nology.leaddecisions.etl.domain.repositories.DimensionSketchRepository;
+import com.nology.leaddecisions.shared.sketch.HyperLogLog;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Componente responsável por manter os sketches de cardinalidade (HyperLogLog) durante a importação.
+ *
+ * Mantém sketches para as dimensões multivaloradas do relatório (MERCADO e ORIGEM), nas quais um lead
+ * pode aparecer em várias linhas. Os ids registrados são os ids persistidos dos leads, portanto este
+ * componente deve ser chamado após o saveAll dos leads.
+ *
+ * Sketches não permitem subtração: quando leads são removidos, os sketches dos valores afetados
+ * são reconstruídos a partir dos leads restantes. Valores importados antes da existência dos sketches
+ * recebem o seu sketch a partir do banco, em segundo plano, quando a aplicação inicia.
+ *
+ * Concorrência: há uma única linha por (dimensão, valor) (restrição única). As linhas de valores novos são
+ * criadas vazias em uma transação própria e, antes da combinação, as linhas dos valores afetados são lidas
+ * com SELECT ... FOR UPDATE, em ordem de id. Importações que compartilham valores combinam os seus sketches
+ * uma após a outra, cada uma a partir do resultado da anterior.
+ */
+@Component
+public class DimensionSketchUpdater {
+
+    private final DimensionSketchRepository sketchRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public DimensionSketchUpdater(
+            DimensionSketchRepository sketchRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.sketchRepository = sketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Combina os leads da importação nos sketches acumulados de cada valor de MERCADO e ORIGEM.
+     *
+     * @param markets Registros de mercado extraídos.
+     * @param sources Registros de origem extraídos.
+     */
+    public void update(List<MarketEntity> markets, List<SourceEntity> sources) {
+        transactionTemplate.executeWithoutResult(status -> {
+            update(DocumentStatsAggregator.MERCADO, markets, MarketEntity::getName, MarketEntity::getLead);
+            update(DocumentStatsAggregator.ORIGEM, sources, SourceEntity::getName, SourceEntity::getLead);
+        });
+    }
+
+    /**
+     * Monta, a partir do banco, os sketches dos valores de MERCADO e ORIGEM que ainda não possuem sketch.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void sketchMissingValues() {
+        sketchMissingValues(DocumentStatsAggregator.MERCADO, "Tb_mercado");
+        sketchMissingValues(DocumentStatsAggregator.ORIGEM, "Tb_origem");
+    }
+
+    /**
+     * Reconstrói os sketches dos valores informados a partir dos leads atualmente persistidos.
+     * Valores que não possuem mais leads têm o sketch removido, e valores sem sketch recebem um novo.
+     *
+     * @param dimension MERCADO ou ORIGEM.
+     * @param values Valores afetados por uma remoção.
+     */
+    public void rebuild(String dimension, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            String table = DocumentStatsAggregator.MERCADO.equals(dimension) ? "Tb_mercado" : "Tb_origem";
+            Map<String, HyperLogLog[]> sketches = new HashMap<>();
+            jdbcTemplate.query("SELECT d.Nome, l.id, l.Vendido FROM " + table + " d "
+                            + "JOIN Tb_lead l ON l.id = d.Id_lead WHERE d.Nome IN (:values)",
+                    new MapSqlParameterSource("values", values),
+                    (RowCallbackHandler) rs -> {
+                        HyperLogLog[] pair = sketches.computeIfAbsent(rs.getString("Nome"),
+                                key -> new HyperLogLog[]{HyperLogLog.create(), HyperLogLog.create()});
+                        long leadId = rs.getLong("id");
+                        pair[0].add(leadId);
+                        if (rs.getBoolean("Vendido")) {
+                            pair[1].add(leadId);
+                        }
+                    });
+
+            List<DimensionSketchEntity> changed = new ArrayList<>();
+            List<DimensionSketchEntity> emptied = new ArrayList<>();
+            for (DimensionSketchEntity entity : lock(dimension, values, sketches.keySet())) {
+                HyperLogLog[] pair = sketches.get(entity.getValue());
+                if (pair == null) {
+                    emptied.add(entity);
+                    continue;
+                }
+                entity.setLeadsSketch(pair[0].toBytes());
+                entity.setSoldSketch(pair[1].toBytes());
+                changed.add(entity);
+            }
+            sketchRepository.saveAll(changed);
+            sketchRepository.deleteAll(emptied);
+        });
+    }
+
+    private void sketchMissingValues(String dimension, String table) {
+        List<String> values = jdbcTemplate.queryForList("SELECT DISTINCT d.Nome FROM " + table + " d "
+                        + "WHERE " + DocumentStatsAggregator.notBlankValueSql("d.Nome")
+                        + " AND NOT EXISTS (SELECT 1 FROM Tb_dimensao_sketch s "
+                        + "WHERE s.Dimensao = :dimension AND s.Valor = d.Nome AND s.Sketch_leads IS NOT NULL)",
+                new MapSqlParameterSource("dimension", dimension), String.class);
+        rebuild(dimension, values);
+    }
+
+    private <T> void update(String dimension, List<T> rows, Function<T, String> valueOf, Function<T, LeadEntity> leadOf) {
+        Map<String, HyperLogLog[]> sketches = new HashMap<>();
+        for (T row : rows) {
+            String value = valueOf.apply(row);
+            LeadEntity lead = leadOf.apply(row);
+            if (DocumentStatsAggregator.isBlankValue(value) || lead.getId() == null) {
+                continue;
+            }
+            HyperLogLog[] pair = sketches.computeIfAbsent(value, key -> new HyperLogLog[]{HyperLogLog.create(), HyperLogLog.create()});
+            pair[0].add(lead.getId());
+            if (Boolean.TRUE.equals(lead.getSold())) {
+                pair[1].add(lead.getId());
+            }
+        }
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        List<DimensionSketchEntity> changed = lock(dimension, sketches.keySet(), sketches.keySet());
+        for (DimensionSketchEntity entity : changed) {
+            HyperLogLog[] pair = sketches.get(entity.getValue());
+            if (entity.getLeadsSketch() != null) {
+                pair[0].merge(HyperLogLog.fromBytes(entity.getLeadsSketch()));
+                pair[1].merge(HyperLogLog.fromBytes(entity.getSoldSketch()));
+            }
+            entity.setLeadsSketch(pair[0].toBytes());
+            entity.setSoldSketch(pair[1].toBytes());
+        }
+        sketchRepository.saveAll(changed);
+    }
+
+    /**
+     * Garante a existência das linhas dos valores que receberão um sketch e bloqueia as linhas dos valores
+     * afetados até o fim da transação corrente.
+     *
+     * As linhas novas são gravadas sem sketch (ignoradas pelo relatório aproximado) e confirmadas em uma
+     * transação própria; se outra transação criar a mesma linha ao mesmo tempo, a restrição única a mantém única.
+     *
+     * @param values Valores afetados (linhas bloqueadas).
+     * @param created Valores cujas linhas devem existir.
+     */
+    private List<DimensionSketchEntity> lock(String dimension, Collection<String> values, Collection<String> created) {
+        // Consulta fora do contexto de persistência: uma entidade carregada antes do bloqueio não seria atualizada por ele.
+        Set<String> missing = new HashSet<>(created);
+        missing.removeAll(jdbcTemplate.queryForList(
+                "SELECT Valor FROM Tb_dimensao_sketch WHERE Dimensao = :dimension AND Valor IN (:values)",
+                new MapSqlParameterSource("dimension", dimension).addValue("values", created), String.class));
+        if (!missing.isEmpty()) {
+            newTransactionTemplate.executeWithoutResult(status -> missing.forEach(value -> {
+                try {
+                    jdbcTemplate.update("INSERT INTO Tb_dimensao_sketch (Dimensao, Valor) VALUES (:dimension, :value)",
+                            new MapSqlParameterSource("dimension", dimension).addValue("value", value));
+                } catch (DuplicateKeyException e) {
+                    // Criada por uma importação concorrente.
+                }
+            }));
+        }
+        return sketchRepository.findForUpdate(dimension, values);
+    }
+}
@@ -0,0 +1,154 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.models.ArchivedDocumentEntity;
+import com.nology.leaddecisions.etl.domain.ports.ArchiveDocumentUseCase;
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import com.nology.leaddecisions.etl.domain.repositories.ArchivedDocumentRepository;
+import com.nology.leaddecisions.shared.archive.LeadArchiveWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementação do Caso de Uso de Arquivamento de Documentos.
+ *
+ * 1. Os leads e as linhas de cada dimensão do documento são lidos em ordem de lead e codificados em colunas
+ *    (LeadArchiveWriter), junto com o binário original da planilha.
+ * 2. O arquivo é gravado em um temporário, sincronizado com o disco e renomeado para document-{id}.lda.
+ * 3. O documento é registrado no manifesto (Tb_documento_arquivado).
+ * 4. O documento é removido das tabelas pela remoção em lotes (PurgeDocumentUseCase), que atualiza
+ *    sketches, coortes, modelo de leitura e snapshots como em qualquer remoção.
+ *
+ * O registro no manifesto só ocorre com o arquivo completo em disco, e a remoção só após o registro:
+ * uma falha em qualquer etapa deixa o documento nas tabelas ou permite concluir o arquivamento depois.
+ */
+@Service
+public class DocumentArchiveService implements ArchiveDocumentUseCase {
+
+    /**
+     * Coluna do arquivo morto -> tabela e coluna de origem.
+     */
+    private static final Map<String, String[]> DIMENSION_SOURCES = Map.of(
+            DocumentStatsAggregator.MERCADO, new String[]{"Tb_mercado", "Nome"},
+            DocumentStatsAggregator.ORIGEM, new String[]{"Tb_origem", "Nome"},
+            DocumentStatsAggregator.SUB_ORIGEM, new String[]{"Tb_origem", "Sub_origem"},
+            DocumentStatsAggregator.LOCAL, new String[]{"Tb_local", "Nome"},
+            DocumentStatsAggregator.PORTE, new String[]{"Tb_porte", "Porte"},
+            DocumentStatsAggregator.OBJETIVO, new String[]{"Tb_objetivo", "Descricao"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchivedDocumentRepository archivedDocumentRepository;
+    private final PurgeDocumentUseCase purgeDocumentUseCase;
+    private final Path archiveDirectory;
+
+    public DocumentArchiveService(
+            JdbcTemplate jdbcTemplate,
+            ArchivedDocumentRepository archivedDocumentRepository,
+            PurgeDocumentUseCase purgeDocumentUseCase,
+            @Value("${etl.archive.directory:./data/archive}") String archiveDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archivedDocumentRepository = archivedDocumentRepository;
+        this.purgeDocumentUseCase = purgeDocumentUseCase;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    @Override
+    public ArchivedDocumentEntity archive(Long documentId) {
+        List<Map<String, Object>> documents = jdbcTemplate.queryForList(
+                "SELECT Documento_nome, Documento_tipo, Data_importacao FROM Tb_documento WHERE id = ?", documentId);
+        Optional<ArchivedDocumentEntity> archived = archivedDocumentRepository.findById(documentId);
+        if (archived.isPresent()) {
+            if (!documents.isEmpty()) {
+                purgeDocumentUseCase.purge(documentId);
+            }
+            return archived.get();
+        }
+        if (documents.isEmpty()) {
+            throw new IllegalArgumentException("Document not found: " + documentId);
+        }
+
+        LeadArchiveWriter writer = new LeadArchiveWriter(documentId);
+        jdbcTemplate.query("SELECT id, Data_cadastro, Vendido FROM Tb_lead WHERE Id_documento = ? ORDER BY id",
+                (RowCallbackHandler) rs -> {
+                    Timestamp createdAt = rs.getTimestamp("Data_cadastro");
+                    writer.addLead(rs.getLong("id"), createdAt != null ? createdAt.toLocalDateTime() : null, rs.getBoolean("Vendido"));
+                }, documentId);
+        DIMENSION_SOURCES.forEach((column, source) -> jdbcTemplate.query(
+                "SELECT d.Id_lead, d." + source[1] + " AS valor FROM " + source[0] + " d "
+                        + "JOIN Tb_lead l ON l.id = d.Id_lead "
+                        + "WHERE l.Id_documento = ? AND d." + source[1] + " IS NOT NULL ORDER BY d.Id_lead",
+                (RowCallbackHandler) rs -> writer.addDimensionValue(column, rs.getLong("Id_lead"), rs.getString("valor")),
+                documentId));
+        writer.setSource(jdbcTemplate.queryForObject(
+                "SELECT Documento FROM Tb_documento WHERE id = ?", (rs, rowNum) -> rs.getBytes("Documento"), documentId));
+
+        String fileName = "document-" + documentId + ".lda";
+        long fileSize = write(writer, fileName);
+
+        Map<String, Object> document = documents.get(0);
+        Timestamp importedAt = (Timestamp) document.get("Data_importacao");
+        ArchivedDocumentEntity entry = new ArchivedDocumentEntity();
+        entry.setDocumentId(documentId);
+        entry.setDocumentName((String) document.get("Documento_nome"));
+        entry.setDocumentContentType((String) document.get("Documento_tipo"));
+        entry.setFileName(fileName);
+        entry.setFileSize(fileSize);
+        entry.setTotalLeads((long) writer.getLeadCount());
+        entry.setTotalSold((long) writer.getSoldCount());
+        entry.setImportedAt(importedAt != null ? importedAt.toLocalDateTime() : null);
+        entry.setArchivedAt(LocalDateTime.now());
+        ArchivedDocumentEntity saved = archivedDocumentRepository.save(entry);
+
+        purgeDocumentUseCase.purge(documentId);
+        return saved;
+    }
+
+    @Override
+    public int archiveImportedBefore(LocalDateTime cutoff) {
+        List<Long> documentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM Tb_documento WHERE Data_importacao < ? ORDER BY id", Long.class, Timestamp.valueOf(cutoff));
+        documentIds.forEach(this::archive);
+        return documentIds.size();
+    }
+
+    @Override
+    public List<ArchivedDocumentEntity> findArchivedDocuments() {
+        return archivedDocumentRepository.findAll(Sort.by(Sort.Direction.DESC, "documentId"));
+    }
+
+    /**
+     * Grava o arquivo de forma atômica: um leitor nunca encontra um arquivo parcial com o nome final.
+     *
+     * @return Tamanho do arquivo em bytes.
+     */
+    private long write(LeadArchiveWriter writer, String fileName) {
+        Path target = archiveDirectory.resolve(fileName);
+        Path temporary = archiveDirectory.resolve(fileName + ".tmp");
+        try {
+            Files.createDirectories(archiveDirectory);
+            try (FileOutputStream out = new FileOutputStream(temporary.toFile())) {
+                writer.writeTo(new BufferedOutputStream(out, 64 * 1024));
+                out.getFD().sync();
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(target);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write archive file " + target + ".", e);
+        }
+    }
+}
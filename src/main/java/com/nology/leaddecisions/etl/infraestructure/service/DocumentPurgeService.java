@@ -0,0 +1,137 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementação do Caso de Uso de Remoção de Documentos.
+ *
+ * A remoção não passa pelo contexto de persistência (cascatas do LeadEntity carregariam cada entidade
+ * em memória). São emitidos DELETEs por conjunto, em janelas de ids de lead:
+ * 1. Antes da primeira janela, a remoção é marcada como pendente (Tb_documento_remocao) e as datas de cadastro
+ *    dos leads do documento são gravadas (Tb_documento_remocao_data).
+ * 2. Para cada janela, em uma transação própria, são removidas as linhas das tabelas dimensionais e de Tb_lead.
+ * 3. Em uma transação final, são removidos os agregados do documento, a marcação e o próprio documento (liberando
+ *    o BLOB), os sketches dos valores afetados são reconstruídos e um DocumentPurgedEvent é publicado.
+ *
+ * Transações curtas por janela mantêm o log de desfazer e os bloqueios pequenos em documentos com centenas de
+ * milhares de leads. Se a remoção for interrompida, executá-la novamente continua de onde parou: as datas vêm da
+ * marcação e os valores de MERCADO/ORIGEM dos agregados do documento (Tb_documento_estatistica), e não dos leads,
+ * que podem já ter sido removidos.
+ */
+@Service
+public class DocumentPurgeService implements PurgeDocumentUseCase {
+
+    private static final List<String> DIMENSION_TABLES = List.of("Tb_mercado", "Tb_origem", "Tb_local", "Tb_porte", "Tb_objetivo");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DimensionSketchUpdater dimensionSketchUpdater;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public DocumentPurgeService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DimensionSketchUpdater dimensionSketchUpdater,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${etl.purge.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dimensionSketchUpdater = dimensionSketchUpdater;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public long purge(Long documentId) {
+        Integer documents = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Tb_documento WHERE id = ?", Integer.class, documentId);
+        if (documents == null || documents == 0) {
+            throw new IllegalArgumentException("Document not found: " + documentId);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> markPending(documentId));
+        List<String> markets = affectedValues(DocumentStatsAggregator.MERCADO, documentId);
+        List<String> sources = affectedValues(DocumentStatsAggregator.ORIGEM, documentId);
+
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS first_id, MAX(id) AS last_id FROM Tb_lead WHERE Id_documento = ?", documentId);
+        long purgedLeads = 0;
+        if (range.get("first_id") != null) {
+            long firstId = ((Number) range.get("first_id")).longValue();
+            long lastId = ((Number) range.get("last_id")).longValue();
+            for (long chunkStart = firstId; chunkStart <= lastId; chunkStart += chunkSize) {
+                long from = chunkStart;
+                long to = Math.min(lastId, chunkStart + chunkSize - 1);
+                purgedLeads += transactionTemplate.execute(status -> deleteChunk(documentId, from, to));
+            }
+        }
+
+        long removed = purgedLeads;
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<LocalDate> creationDates = new HashSet<>(jdbcTemplate.query(
+                    "SELECT Data_cadastro FROM Tb_documento_remocao_data WHERE Id_documento = ?",
+                    (rs, rowNum) -> rs.getDate("Data_cadastro").toLocalDate(), documentId));
+            jdbcTemplate.update("DELETE FROM Tb_documento_remocao_data WHERE Id_documento = ?", documentId);
+            jdbcTemplate.update("DELETE FROM Tb_documento_remocao WHERE Id_documento = ?", documentId);
+            jdbcTemplate.update("DELETE FROM Tb_documento_estatistica WHERE Id_documento = ?", documentId);
+            jdbcTemplate.update("DELETE FROM Tb_objetivo_indice WHERE Id_documento = ?", documentId);
+            jdbcTemplate.update("DELETE FROM Tb_documento WHERE id = ?", documentId);
+            dimensionSketchUpdater.rebuild(DocumentStatsAggregator.MERCADO, markets);
+            dimensionSketchUpdater.rebuild(DocumentStatsAggregator.ORIGEM, sources);
+            eventPublisher.publishEvent(new DocumentPurgedEvent(documentId, removed, creationDates));
+        });
+        return removed;
+    }
+
+    @Override
+    public int purgeImportedBefore(LocalDateTime cutoff) {
+        List<Long> documentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM Tb_documento WHERE Data_importacao < ? ORDER BY id", Long.class, Timestamp.valueOf(cutoff));
+        documentIds.forEach(this::purge);
+        return documentIds.size();
+    }
+
+    /**
+     * Marca a remoção como pendente e grava as datas de cadastro dos leads, enquanto eles ainda existem.
+     * Em uma remoção retomada a marcação já existe, e as datas gravadas na primeira execução são mantidas.
+     */
+    private void markPending(Long documentId) {
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Tb_documento_remocao WHERE Id_documento = ?", Integer.class, documentId);
+        if (pending != null && pending > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO Tb_documento_remocao (Id_documento, Data_inicio) VALUES (?, LOCALTIMESTAMP)", documentId);
+        jdbcTemplate.update("INSERT INTO Tb_documento_remocao_data (Id_documento, Data_cadastro) "
+                + "SELECT DISTINCT ?, CAST(Data_cadastro AS DATE) FROM Tb_lead "
+                + "WHERE Id_documento = ? AND Data_cadastro IS NOT NULL", documentId, documentId);
+    }
+
+    private List<String> affectedValues(String dimension, Long documentId) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT Valor FROM Tb_documento_estatistica "
+                + "WHERE Id_documento = ? AND Dimensao = ?", String.class, documentId, dimension);
+    }
+
+    private long deleteChunk(Long documentId, long fromId, long toId) {
+        for (String table : DIMENSION_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE Id_lead IN "
+                    + "(SELECT id FROM Tb_lead WHERE Id_documento = ? AND id BETWEEN ? AND ?)", documentId, fromId, toId);
+        }
+        return jdbcTemplate.update("DELETE FROM Tb_lead WHERE Id_documento = ? AND id BETWEEN ? AND ?", documentId, fromId, toId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.ports.ArchiveDocumentUseCase;
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Política de retenção: periodicamente, em segundo plano,
+ * 1. arquiva os documentos importados há mais de N dias (etl.archive.after-days);
+ * 2. remove os documentos importados há mais de N dias (etl.retention.days).
+ *
+ * Documentos já arquivados não estão mais nas tabelas e não são afetados pela remoção.
+ * Ambas as etapas ficam desativadas por padrão (0).
+ */
+@Component
+public class DocumentRetentionJob {
+
+    private final ArchiveDocumentUseCase archiveDocumentUseCase;
+    private final PurgeDocumentUseCase purgeDocumentUseCase;
+    private final int archiveAfterDays;
+    private final int retentionDays;
+
+    public DocumentRetentionJob(
+            ArchiveDocumentUseCase archiveDocumentUseCase,
+            PurgeDocumentUseCase purgeDocumentUseCase,
+            @Value("${etl.archive.after-days:0}") int archiveAfterDays,
+            @Value("${etl.retention.days:0}") int retentionDays) {
+        this.archiveDocumentUseCase = archiveDocumentUseCase;
+        this.purgeDocumentUseCase = purgeDocumentUseCase;
+        this.archiveAfterDays = archiveAfterDays;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(
+            initialDelayString = "${etl.retention.check-interval:PT6H}",
+            fixedDelayString = "${etl.retention.check-interval:PT6H}")
+    public void purgeExpiredDocuments() {
+        if (archiveAfterDays > 0) {
+            archiveDocumentUseCase.archiveImportedBefore(LocalDateTime.now().minusDays(archiveAfterDays));
+        }
+        if (retentionDays > 0) {
+            purgeDocumentUseCase.purgeImportedBefore(LocalDateTime.now().minusDays(retentionDays));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentDimensionStatsEntity;
+import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import com.nology.leaddecisions.etl.domain.models.LocationEntity;
+import com.nology.leaddecisions.etl.domain.models.MarketEntity;
+import com.nology.leaddecisions.etl.domain.models.ObjectiveEntity;
+import com.nology.leaddecisions.etl.domain.models.SizeEntity;
+import com.nology.leaddecisions.etl.domain.models.SourceEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Componente responsável por calcular os agregados por documento durante a importação.
+ *
+ * Os totais são obtidos a partir das entidades que o ETL já mantém em memória, sem nenhuma
+ * consulta adicional ao banco. Os nomes de dimensão gravados coincidem com os nomes do enum
+ * AnalysisDimension do módulo de Analytics.
+ */
+@Component
+public class DocumentStatsAggregator {
+
+    static final String MERCADO = "MERCADO";
+    static final String ORIGEM = "ORIGEM";
+    static final String SUB_ORIGEM = "SUB_ORIGEM";
+    static final String LOCAL = "LOCAL";
+    static final String PORTE = "PORTE";
+    static final String OBJETIVO = "OBJETIVO";
+
+    /**
+     * Regra única de valor em branco das dimensões: vazio ou composto apenas por espaços Unicode
+     * (Character.isWhitespace ou separadores \p{Z}, como o espaço não separável U+00A0).
+     * A mesma expressão é usada nas consultas (REGEXP_LIKE do H2, que usa java.util.regex) e na V12,
+     * para que importação, backfill e sketches ignorem os mesmos valores.
+     */
+    static final String BLANK_VALUE_REGEX = "^[\\p{javaWhitespace}\\p{Z}]*$";
+    private static final Pattern BLANK_VALUE = Pattern.compile(BLANK_VALUE_REGEX);
+
+    /**
+     * Preenche os totais do documento e gera os agregados de cada dimensão.
+     *
+     * @param document Documento importado (recebe os totais de leads e vendas).
+     * @param leads Leads extraídos da aba BASE.
+     * @return Lista de agregados prontos para persistência em lote.
+     */
+    public List<DocumentDimensionStatsEntity> aggregate(
+            DocumentEntity document,
+            Collection<LeadEntity> leads,
+            List<MarketEntity> markets,
+            List<SourceEntity> sources,
+            List<LocationEntity> locations,
+            List<SizeEntity> sizes,
+            List<ObjectiveEntity> objectives
+    ) {
+        long sold = leads.stream().filter(lead -> Boolean.TRUE.equals(lead.getSold())).count();
+        document.setTotalLeads((long) leads.size());
+        document.setTotalSold(sold);
+
+        List<DocumentDimensionStatsEntity> stats = new ArrayList<>();
+        stats.addAll(count(document, MERCADO, markets, MarketEntity::getName, MarketEntity::getLead));
+        stats.addAll(count(document, ORIGEM, sources, SourceEntity::getName, SourceEntity::getLead));
+        stats.addAll(count(document, SUB_ORIGEM, sources, SourceEntity::getSubSource, SourceEntity::getLead));
+        stats.addAll(count(document, LOCAL, locations, LocationEntity::getName, LocationEntity::getLead));
+        stats.addAll(count(document, PORTE, sizes, SizeEntity::getSizeRange, SizeEntity::getLead));
+        stats.addAll(count(document, OBJETIVO, objectives, ObjectiveEntity::getDescription, ObjectiveEntity::getLead));
+        return stats;
+    }
+
+    /**
+     * Conta registros e vendas por valor de uma dimensão, preservando a ordem de primeira ocorrência.
+     * Valores nulos ou em branco são ignorados, assim como nas consultas de agrupamento.
+     */
+    private <T> List<DocumentDimensionStatsEntity> count(
+            DocumentEntity document,
+            String dimension,
+            List<T> rows,
+            Function<T, String> valueOf,
+            Function<T, LeadEntity> leadOf
+    ) {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (T row : rows) {
+            String value = valueOf.apply(row);
+            if (isBlankValue(value)) {
+                continue;
+            }
+            long[] counters = totals.computeIfAbsent(value, key -> new long[2]);
+            counters[0]++;
+            if (Boolean.TRUE.equals(leadOf.apply(row).getSold())) {
+                counters[1]++;
+            }
+        }
+
+        List<DocumentDimensionStatsEntity> stats = new ArrayList<>(totals.size());
+        totals.forEach((value, counters) -> {
+            DocumentDimensionStatsEntity entity = new DocumentDimensionStatsEntity();
+            entity.setDocument(document);
+            entity.setDimension(dimension);
+            entity.setValue(value);
+            entity.setTotalLeads(counters[0]);
+            entity.setTotalSold(counters[1]);
+            stats.add(entity);
+        });
+        return stats;
+    }
+
+    /**
+     * @return true se o valor for nulo ou estiver em branco pela regra BLANK_VALUE_REGEX.
+     */
+    static boolean isBlankValue(String value) {
+        if (value == null) {
+            return true;
+        }
+        if (!value.isEmpty() && Character.isLetterOrDigit(value.charAt(0))) {
+            return false;
+        }
+        return BLANK_VALUE.matcher(value).matches();
+    }
+
+    /**
+     * @return Condição SQL verdadeira quando a coluna não é nula nem está em branco pela mesma regra.
+     */
+    static String notBlankValueSql(String column) {
+        return "NOT REGEXP_LIKE(" + column + ", '" + BLANK_VALUE_REGEX + "')";
+    }
+}
@@ -9,18 +9,21 @@ import com.nology.leaddecisions.etl.domain.models.SizeEntity;
 import com.nology.leaddecisions.etl.domain.models.SourceEntity;
 import com.nology.leaddecisions.etl.domain.ports.ExtractDataDocumentUseCase;
 import com.nology.leaddecisions.etl.domain.repositories.*;
+import com.nology.leaddecisions.etl.infraestructure.excel.BaseSheetParser;
 import com.nology.leaddecisions.etl.infraestructure.excel.ExcelHelper;
 import com.nology.leaddecisions.etl.infraestructure.excel.LeadExcelSchema;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
 import lombok.AllArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -49,7 +52,13 @@ public class ExtractDataDocumentService implements ExtractDataDocumentUseCase {
     private final LocationRepository locationRepository;
     private final SizeRepository sizeRepository;
     private final ObjectiveRepository objectiveRepository;
+    private final DocumentDimensionStatsRepository documentStatsRepository;
+    private final DocumentStatsAggregator documentStatsAggregator;
+    private final DimensionSketchUpdater dimensionSketchUpdater;
+    private final ObjectiveIndexBuilder objectiveIndexBuilder;
+    private final ApplicationEventPublisher eventPublisher;
     private final ExcelHelper excelHelper;
+    private final BaseSheetParser baseSheetParser;
 
     /**
      * Executa o fluxo completo de extração de dados.
@@ -57,9 +66,14 @@ public class ExtractDataDocumentService implements ExtractDataDocumentUseCase {
      * Estratégia de Processamento:
      * 1. O arquivo binário é salvo imediatamente na tabela de documentos.
      * 2. A aba 'BASE' é lida primeiro para criar um mapa em memória de Leads (Map<LeadID, LeadEntity>).
+     *    Abas grandes são lidas em faixas de linhas paralelas (ver BaseSheetParser).
      * 3. As abas dimensionais (MERCADO, ORIGEM, etc.) são processadas sequencialmente.
      * 4. A vinculação entre dimensões e leads é feita via lookup no mapa em memória (evitando queries N+1 ao banco).
      * 5. Ao final, todas as entidades são persistidas em lote (batch).
+     * 6. Os agregados por documento (totais por valor de dimensão) são calculados em memória e persistidos.
+     * 7. Os sketches de leads distintos por valor de dimensão são combinados com os acumulados anteriores.
+     * 8. O índice de busca dos objetivos (trigramas) do documento é montado e persistido.
+     * 9. Um DocumentImportedEvent é publicado, entregue aos ouvintes após o commit da transação.
      *
      * @param file O arquivo Excel recebido da camada de controle.
      * @throws IllegalStateException Caso ocorra erro de I/O ao abrir ou ler o arquivo.
@@ -74,12 +88,10 @@ public class ExtractDataDocumentService implements ExtractDataDocumentUseCase {
             DataFormatter formatter = new DataFormatter();
             FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
 
-            Map<String, LeadEntity> leads = new HashMap<>();
-            List<MarketEntity> markets = new ArrayList<>();
-
-            readBaseSheet(workbook, formatter, evaluator, leads,documentEntity);
+            Map<String, LeadEntity> leads = baseSheetParser.parse(workbook, formatter, evaluator, documentEntity);
             leadRepository.saveAll(leads.values());
 
+            List<MarketEntity> markets = new ArrayList<>();
             readMarketSheet(workbook, formatter, evaluator, leads, markets);
             if (!markets.isEmpty()) {
                 marketRepository.saveAll(markets);
@@ -104,52 +116,16 @@ public class ExtractDataDocumentService implements ExtractDataDocumentUseCase {
             if (!objectives.isEmpty()) {
                 objectiveRepository.saveAll(objectives);
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Unable to read XLSX file.", e);
-        }
-    }
 
-    /**
-     * Processa a aba 'BASE' do Excel.
-     *
-     * Esta etapa é crítica pois estabelece a existência dos Leads.
-     * Cada linha válida é convertida em uma LeadEntity e armazenada no mapa 'leads'
-     * indexada pelo seu ID de negócio (Lead ID), permitindo que as próximas etapas
-     * encontrem a referência correta.
-     *
-     * @param workbook O arquivo Excel aberto.
-     * @param leads Mapa de destino onde os leads serão armazenados.
-     * @param documentEntity Referência ao documento pai para rastreabilidade.
-     */
-    private void readBaseSheet(
-            Workbook workbook,
-            DataFormatter formatter,
-            FormulaEvaluator evaluator,
-            Map<String, LeadEntity> leads,
-            DocumentEntity documentEntity
-    ) {
-        Sheet sheet = excelHelper.requireSheet(workbook, LeadExcelSchema.Sheets.BASE);
-        Map<String, Integer> headers = excelHelper.buildHeaderMap(sheet, formatter);
-        int leadIdIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.LEAD_ID);
-        int createdAtIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.DATA_CADASTRO);
-        int soldIndex = excelHelper.requireHeader(headers, LeadExcelSchema.Columns.VENDIDO);
-
-        for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            if (row == null) {
-                continue;
-            }
+            documentStatsRepository.saveAll(documentStatsAggregator.aggregate(
+                    documentEntity, leads.values(), markets, sources, locations, sizes, objectives));
+            dimensionSketchUpdater.update(markets, sources);
+            objectiveIndexBuilder.index(documentEntity, objectives);
 
-            String leadId = excelHelper.getCellString(row, leadIdIndex, formatter,evaluator);
-            if (leadId == null || leadId.isBlank()) {
-                continue;
-            }
-
-            LeadEntity lead = new LeadEntity();
-            lead.setDocument(documentEntity);
-            lead.setCreatedAt(excelHelper.getCellDateTime(row, createdAtIndex, formatter, rowIndex));
-            lead.setSold(excelHelper.parseSold(excelHelper.getCellString(row, soldIndex, formatter,evaluator)));
-            leads.put(leadId.trim(), lead);
+            eventPublisher.publishEvent(new DocumentImportedEvent(
+                    documentEntity.getId(), documentEntity.getTotalLeads(), documentEntity.getTotalSold()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read XLSX file.", e);
         }
     }
 
@@ -391,6 +367,7 @@ public class ExtractDataDocumentService implements ExtractDataDocumentUseCase {
         DocumentEntity documentEntity = new DocumentEntity();
         documentEntity.setDocumentContentType(file.getContentType());
         documentEntity.setDocumentName(file.getOriginalFilename());
+        documentEntity.setImportedAt(LocalDateTime.now());
         try {
             documentEntity.setDocumentContent(file.getBytes());
         } catch (IOException e) {
@@ -0,0 +1,82 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
+import com.nology.leaddecisions.etl.domain.models.ObjectiveEntity;
+import com.nology.leaddecisions.etl.domain.models.ObjectiveIndexEntity;
+import com.nology.leaddecisions.etl.domain.repositories.ObjectiveIndexRepository;
+import com.nology.leaddecisions.shared.search.TrigramIndexWriter;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Componente responsável por montar o índice de busca dos objetivos de cada documento.
+ *
+ * Na importação, o índice é montado a partir das entidades já em memória, após o saveAll dos leads
+ * (os ids persistidos são gravados no índice). Documentos importados antes da existência do índice
+ * são indexados a partir do banco, em segundo plano, quando a aplicação inicia.
+ */
+@Component
+@AllArgsConstructor
+public class ObjectiveIndexBuilder {
+
+    private final ObjectiveIndexRepository objectiveIndexRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Monta e persiste o índice dos objetivos extraídos de um documento.
+     *
+     * @param document Documento importado.
+     * @param objectives Registros de objetivo extraídos, já vinculados aos leads persistidos.
+     */
+    public void index(DocumentEntity document, List<ObjectiveEntity> objectives) {
+        TrigramIndexWriter writer = new TrigramIndexWriter();
+        for (ObjectiveEntity objective : objectives) {
+            writer.add(objective.getDescription(), objective.getLead().getId(), Boolean.TRUE.equals(objective.getLead().getSold()));
+        }
+        save(document.getId(), writer);
+    }
+
+    /**
+     * Indexa, a partir do banco, os documentos que ainda não possuem índice.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexMissingDocuments() {
+        List<Long> documentIds = jdbcTemplate.queryForList("SELECT d.id FROM Tb_documento d "
+                + "WHERE NOT EXISTS (SELECT 1 FROM Tb_objetivo_indice i WHERE i.Id_documento = d.id) ORDER BY d.id", Long.class);
+        documentIds.forEach(this::rebuild);
+    }
+
+    /**
+     * Monta o índice de um documento a partir dos objetivos persistidos.
+     *
+     * @param documentId Documento importado.
+     */
+    public void rebuild(Long documentId) {
+        TrigramIndexWriter writer = new TrigramIndexWriter();
+        jdbcTemplate.query("SELECT o.Descricao, o.Id_lead, l.Vendido FROM Tb_objetivo o "
+                        + "JOIN Tb_lead l ON l.id = o.Id_lead WHERE l.Id_documento = ?",
+                (RowCallbackHandler) rs -> writer.add(rs.getString(1), rs.getLong(2), rs.getBoolean(3)), documentId);
+        save(documentId, writer);
+    }
+
+    private void save(Long documentId, TrigramIndexWriter writer) {
+        byte[] content = writer.toByteArray();
+
+        ObjectiveIndexEntity index = new ObjectiveIndexEntity();
+        index.setDocumentId(documentId);
+        index.setContent(content);
+        index.setTermCount(writer.getTermCount());
+        index.setSizeBytes(content.length);
+        index.setCreatedAt(LocalDateTime.now());
+        objectiveIndexRepository.save(index);
+    }
+}
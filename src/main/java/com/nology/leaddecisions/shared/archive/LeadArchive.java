@@ -0,0 +1,238 @@
+package com.nology.leaddecisions.shared.archive;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Arquivo morto colunar dos leads de um documento, lido de forma sequencial.
+ *
+ * Formato: cabeçalho (magic, versão, id do documento, quantidade de leads, quantidade de colunas) seguido
+ * de um bloco por coluna: nome, codec, tamanho original, tamanho gravado, CRC32 do conteúdo original e bytes.
+ * Colunas:
+ * - LEAD_ID: ids dos leads em ordem crescente (deltas em varint);
+ * - DATA_CADASTRO: datas de cadastro em microssegundos (deltas em varint, 0 = ausente);
+ * - VENDIDO: bitset indexado pela posição do lead;
+ * - MERCADO, ORIGEM, SUB_ORIGEM, LOCAL, PORTE, OBJETIVO: dicionário de valores e linhas (posição do lead, código);
+ * - DOCUMENTO: binário original da planilha (opcional).
+ *
+ * A leitura descomprime apenas as colunas solicitadas; as demais são puladas sem decodificação,
+ * de modo que uma análise por MERCADO lê apenas VENDIDO e MERCADO.
+ */
+public final class LeadArchive {
+
+    public static final String LEAD_ID = "LEAD_ID";
+    public static final String DATA_CADASTRO = "DATA_CADASTRO";
+    public static final String VENDIDO = "VENDIDO";
+    public static final String DOCUMENTO = "DOCUMENTO";
+
+    /**
+     * Colunas de dimensão; os nomes coincidem com o enum AnalysisDimension do módulo de Analytics.
+     */
+    public static final List<String> DIMENSION_COLUMNS = List.of("MERCADO", "ORIGEM", "SUB_ORIGEM", "LOCAL", "PORTE", "OBJETIVO");
+
+    static final int MAGIC = 0x4C444152; // "LDAR"
+    static final int VERSION = 1;
+    static final byte STORED = 0;
+    static final byte DEFLATED = 1;
+
+    private final long documentId;
+    private final int leadCount;
+    private final Map<String, byte[]> columns;
+
+    private LeadArchive(long documentId, int leadCount, Map<String, byte[]> columns) {
+        this.documentId = documentId;
+        this.leadCount = leadCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Lê o arquivo do início ao fim, descomprimindo apenas as colunas informadas.
+     *
+     * @param input Conteúdo do arquivo (não é fechado).
+     * @param requestedColumns Colunas carregadas; as demais ficam indisponíveis.
+     * @return O arquivo com as colunas solicitadas.
+     * @throws IOException Se o conteúdo não puder ser lido.
+     * @throws IllegalStateException Se o formato for inválido ou alguma coluna estiver corrompida.
+     */
+    public static LeadArchive read(InputStream input, Set<String> requestedColumns) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+        if (in.readInt() != MAGIC) {
+            throw new IllegalStateException("Not a lead archive.");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported lead archive version: " + version);
+        }
+
+        long documentId = in.readLong();
+        int leadCount = in.readInt();
+        int blockCount = in.readInt();
+
+        Map<String, byte[]> columns = new HashMap<>();
+        for (int block = 0; block < blockCount; block++) {
+            String name = in.readUTF();
+            byte codec = in.readByte();
+            int rawLength = in.readInt();
+            int storedLength = in.readInt();
+            int checksum = in.readInt();
+            if (!requestedColumns.contains(name)) {
+                in.skipNBytes(storedLength);
+                continue;
+            }
+
+            byte[] stored = in.readNBytes(storedLength);
+            byte[] raw = codec == DEFLATED ? inflate(stored, rawLength) : stored;
+            CRC32 crc = new CRC32();
+            crc.update(raw);
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalStateException("Corrupted archive column " + name + " in document " + documentId + ".");
+            }
+            columns.put(name, raw);
+        }
+        return new LeadArchive(documentId, leadCount, columns);
+    }
+
+    public long getDocumentId() {
+        return documentId;
+    }
+
+    public int getLeadCount() {
+        return leadCount;
+    }
+
+    public long[] leadIds() {
+        ByteBuffer in = column(LEAD_ID);
+        long[] ids = new long[leadCount];
+        long previous = 0;
+        for (int index = 0; index < leadCount; index++) {
+            previous += Varints.read(in);
+            ids[index] = previous;
+        }
+        return ids;
+    }
+
+    public LocalDateTime[] creationTimes() {
+        ByteBuffer in = column(DATA_CADASTRO);
+        LocalDateTime[] times = new LocalDateTime[leadCount];
+        long previous = 0;
+        for (int index = 0; index < leadCount; index++) {
+            long encoded = Varints.read(in);
+            if (encoded != 0) {
+                previous += Varints.unZigZag(encoded - 1);
+                times[index] = LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(previous, 1_000_000), (int) Math.floorMod(previous, 1_000_000) * 1_000, ZoneOffset.UTC);
+            }
+        }
+        return times;
+    }
+
+    /**
+     * @return Bitset indexado pela posição do lead no arquivo.
+     */
+    public BitSet sold() {
+        return BitSet.valueOf(column(VENDIDO));
+    }
+
+    public DimensionColumn dimension(String name) {
+        ByteBuffer in = column(name);
+        String[] dictionary = new String[(int) Varints.read(in)];
+        for (int code = 0; code < dictionary.length; code++) {
+            byte[] bytes = new byte[(int) Varints.read(in)];
+            in.get(bytes);
+            dictionary[code] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int rowCount = (int) Varints.read(in);
+        int[] leadIndexes = new int[rowCount];
+        int[] codes = new int[rowCount];
+        int previous = 0;
+        for (int row = 0; row < rowCount; row++) {
+            previous += (int) Varints.read(in);
+            leadIndexes[row] = previous;
+            codes[row] = (int) Varints.read(in);
+        }
+        return new DimensionColumn(dictionary, leadIndexes, codes);
+    }
+
+    /**
+     * @return Binário original do documento, ou nulo se não foi arquivado (ou não foi solicitado na leitura).
+     */
+    public byte[] source() {
+        return columns.get(DOCUMENTO);
+    }
+
+    private ByteBuffer column(String name) {
+        byte[] raw = columns.get(name);
+        if (raw == null) {
+            throw new IllegalStateException("Archive column not loaded: " + name);
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    private static byte[] inflate(byte[] stored, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            byte[] raw = new byte[rawLength];
+            int offset = 0;
+            while (offset < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, offset, rawLength - offset);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != rawLength) {
+                throw new IllegalStateException("Truncated archive column.");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted archive column.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Coluna de dimensão decodificada: a linha i associa o lead na posição {@code leadIndexes[i]}
+     * ao valor {@code dictionary[codes[i]]}. As linhas estão em ordem de lead.
+     */
+    public static final class DimensionColumn {
+
+        private final String[] dictionary;
+        private final int[] leadIndexes;
+        private final int[] codes;
+
+        private DimensionColumn(String[] dictionary, int[] leadIndexes, int[] codes) {
+            this.dictionary = dictionary;
+            this.leadIndexes = leadIndexes;
+            this.codes = codes;
+        }
+
+        public String[] getDictionary() {
+            return dictionary;
+        }
+
+        public int[] getLeadIndexes() {
+            return leadIndexes;
+        }
+
+        public int[] getCodes() {
+            return codes;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.nology.leaddecisions.shared.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Monta o arquivo morto colunar de um documento (formato descrito em {@link LeadArchive}).
+ *
+ * Os leads devem ser informados em ordem crescente de id e as linhas de cada dimensão em ordem de lead,
+ * como retornado por consultas com ORDER BY. Cada coluna é codificada em memória (deltas em varint,
+ * dicionário de valores) e comprimida separadamente em {@link #writeTo(OutputStream)}.
+ */
+public final class LeadArchiveWriter {
+
+    private final long documentId;
+
+    private long[] leadIds = new long[1024];
+    private int leadCount;
+    private long previousLeadId;
+    private long previousCreatedAt;
+
+    private final ByteArrayOutputStream leadIdColumn = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream createdAtColumn = new ByteArrayOutputStream();
+    private final BitSet sold = new BitSet();
+    private final Map<String, DimensionColumnBuilder> dimensions = new LinkedHashMap<>();
+    private byte[] source;
+
+    public LeadArchiveWriter(long documentId) {
+        this.documentId = documentId;
+        LeadArchive.DIMENSION_COLUMNS.forEach(column -> dimensions.put(column, new DimensionColumnBuilder()));
+    }
+
+    /**
+     * @param leadId Id do lead, maior que o do lead anterior.
+     * @param createdAt Data de cadastro (pode ser nula).
+     * @param sold Se o lead foi vendido.
+     * @throws IllegalStateException Se os leads não estiverem em ordem crescente de id.
+     */
+    public void addLead(long leadId, LocalDateTime createdAt, boolean sold) {
+        if (leadCount > 0 && leadId <= previousLeadId) {
+            throw new IllegalStateException("Leads must be added in ascending id order.");
+        }
+        if (leadCount == leadIds.length) {
+            leadIds = Arrays.copyOf(leadIds, leadCount * 2);
+        }
+        leadIds[leadCount] = leadId;
+        Varints.write(leadIdColumn, leadCount == 0 ? leadId : leadId - previousLeadId);
+        previousLeadId = leadId;
+
+        // 0 representa data ausente; as demais datas são deltas (em microssegundos) em relação à anterior.
+        if (createdAt == null) {
+            Varints.write(createdAtColumn, 0);
+        } else {
+            long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+            Varints.write(createdAtColumn, Varints.zigZag(micros - previousCreatedAt) + 1);
+            previousCreatedAt = micros;
+        }
+
+        if (sold) {
+            this.sold.set(leadCount);
+        }
+        leadCount++;
+    }
+
+    /**
+     * @param column Coluna de dimensão (uma de {@link LeadArchive#DIMENSION_COLUMNS}).
+     * @param leadId Lead já adicionado ao arquivo.
+     * @param value Valor da dimensão; valores nulos são ignorados.
+     * @throws IllegalArgumentException Se a coluna for desconhecida ou o lead não fizer parte do arquivo.
+     * @throws IllegalStateException Se as linhas da coluna não estiverem em ordem de lead.
+     */
+    public void addDimensionValue(String column, long leadId, String value) {
+        DimensionColumnBuilder builder = dimensions.get(column);
+        if (builder == null) {
+            throw new IllegalArgumentException("Unknown archive column: " + column);
+        }
+        if (value == null) {
+            return;
+        }
+
+        int leadIndex = Arrays.binarySearch(leadIds, 0, leadCount, leadId);
+        if (leadIndex < 0) {
+            throw new IllegalArgumentException("Lead " + leadId + " is not part of the archive.");
+        }
+        builder.add(leadIndex, value);
+    }
+
+    /**
+     * @param content Binário original do documento (planilha importada).
+     */
+    public void setSource(byte[] content) {
+        this.source = content;
+    }
+
+    public int getLeadCount() {
+        return leadCount;
+    }
+
+    public int getSoldCount() {
+        return sold.cardinality();
+    }
+
+    /**
+     * Escreve o cabeçalho e as colunas, cada uma comprimida de forma independente.
+     * O stream não é fechado.
+     */
+    public void writeTo(OutputStream target) throws IOException {
+        Map<String, byte[]> blocks = new LinkedHashMap<>();
+        blocks.put(LeadArchive.LEAD_ID, leadIdColumn.toByteArray());
+        blocks.put(LeadArchive.DATA_CADASTRO, createdAtColumn.toByteArray());
+        blocks.put(LeadArchive.VENDIDO, sold.toByteArray());
+        dimensions.forEach((column, builder) -> blocks.put(column, builder.toByteArray()));
+        if (source != null) {
+            blocks.put(LeadArchive.DOCUMENTO, source);
+        }
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(LeadArchive.MAGIC);
+        out.writeInt(LeadArchive.VERSION);
+        out.writeLong(documentId);
+        out.writeInt(leadCount);
+        out.writeInt(blocks.size());
+        for (Map.Entry<String, byte[]> block : blocks.entrySet()) {
+            writeBlock(out, block.getKey(), block.getValue());
+        }
+        out.flush();
+    }
+
+    private static void writeBlock(DataOutputStream out, String name, byte[] raw) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+
+        byte[] compressed = deflate(raw);
+        // Conteúdo já comprimido (ex: o .xlsx original) é gravado como está.
+        boolean deflated = compressed.length < raw.length;
+        byte[] stored = deflated ? compressed : raw;
+
+        out.writeUTF(name);
+        out.writeByte(deflated ? LeadArchive.DEFLATED : LeadArchive.STORED);
+        out.writeInt(raw.length);
+        out.writeInt(stored.length);
+        out.writeInt((int) crc.getValue());
+        out.write(stored);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Coluna de dimensão: dicionário de valores distintos (na ordem em que aparecem) e,
+     * para cada linha, o delta do índice do lead e o código do valor.
+     */
+    private static final class DimensionColumnBuilder {
+
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        private final ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        private int rowCount;
+        private int previousLeadIndex;
+
+        void add(int leadIndex, String value) {
+            if (leadIndex < previousLeadIndex) {
+                throw new IllegalStateException("Dimension rows must be added in lead order.");
+            }
+            int code = dictionary.computeIfAbsent(value, key -> dictionary.size());
+            Varints.write(rows, leadIndex - previousLeadIndex);
+            Varints.write(rows, code);
+            previousLeadIndex = leadIndex;
+            rowCount++;
+        }
+
+        byte[] toByteArray() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() + dictionary.size() * 16 + 16);
+            Varints.write(out, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                Varints.write(out, bytes.length);
+                out.writeBytes(bytes);
+            }
+            Varints.write(out, rowCount);
+            out.writeBytes(rows.toByteArray());
+            return out.toByteArray();
+        }
+    }
+}
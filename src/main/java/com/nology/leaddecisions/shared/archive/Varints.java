@@ -0,0 +1,48 @@
+package com.nology.leaddecisions.shared.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Codificação de inteiros em tamanho variável (7 bits por byte) usada nas colunas do arquivo morto
+ * e nas listas de postings do índice de trigramas (shared.search).
+ *
+ * Deltas pequenos (ids consecutivos, índices de lead ordenados) ocupam 1 byte em vez de 8,
+ * o que também deixa as colunas mais repetitivas para a compressão.
+ */
+public final class Varints {
+
+    private Varints() {
+    }
+
+    public static void write(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public static long read(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte current = in.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable-length integer.");
+    }
+
+    /**
+     * Mapeia valores com sinal para sem sinal (0, -1, 1, -2 ... viram 0, 1, 2, 3 ...).
+     */
+    public static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,192 @@
+package com.nology.leaddecisions.shared.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Controle de admissão com dois limites simultâneos: quantidade de execuções e soma dos "pesos" em andamento
+ * (ex: bytes dos arquivos sendo processados).
+ *
+ * Uma chamada sem capacidade disponível entra em uma fila de tamanho limitado e aguarda até queueTimeout.
+ * A fila é FIFO: a capacidade liberada vai para a chamada mais antiga, e uma chamada nova só é admitida
+ * diretamente com a fila vazia, para que execuções pesadas na fila não sejam ultrapassadas pelas leves.
+ * Com a fila cheia, ou esgotado o tempo de espera, a chamada é rejeitada imediatamente com
+ * ConcurrencyLimitExceededException, cujo Retry-After é estimado a partir da duração média das execuções
+ * e da quantidade de chamadas à frente. Assim a sobrecarga vira rejeições rápidas em vez de esgotar a memória.
+ *
+ * Uma chamada com peso maior que o limite total é tratada como se ocupasse o limite inteiro
+ * (executa sozinha), para que não fique bloqueada para sempre.
+ */
+public final class AdmissionController {
+
+    /**
+     * Peso da média móvel exponencial da duração das execuções.
+     */
+    private static final double DURATION_SMOOTHING = 0.2;
+
+    private final int maxConcurrent;
+    private final long maxInFlightWeight;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private int running;
+    private long inFlightWeight;
+
+    /**
+     * Chamadas aguardando capacidade, por ordem de chegada (cada uma representada pela sua ficha).
+     */
+    private final ArrayDeque<Object> waiting = new ArrayDeque<>();
+    private long averageDurationNanos;
+
+    public AdmissionController(int maxConcurrent, long maxInFlightWeight, int maxQueued, Duration queueTimeout) {
+        if (maxConcurrent <= 0 || maxInFlightWeight <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Admission limits must be positive.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxInFlightWeight = maxInFlightWeight;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = queueTimeout;
+    }
+
+    /**
+     * Obtém capacidade para uma execução, aguardando na fila se necessário.
+     * A permissão deve ser fechada ao fim da execução (try-with-resources).
+     *
+     * @param weight Peso da execução (ex: tamanho do arquivo em bytes).
+     * @return Permissão que devolve a capacidade ao ser fechada.
+     * @throws ConcurrencyLimitExceededException Se a fila estiver cheia ou o tempo de espera se esgotar.
+     */
+    public Permit admit(long weight) {
+        long admittedWeight = Math.min(Math.max(0, weight), maxInFlightWeight);
+        lock.lock();
+        try {
+            if (!waiting.isEmpty() || !hasCapacity(admittedWeight)) {
+                if (waiting.size() >= maxQueued) {
+                    throw rejected("Admission queue is full.");
+                }
+                awaitTurn(admittedWeight);
+            }
+
+            running++;
+            inFlightWeight += admittedWeight;
+            return new Permit(admittedWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Quantidade de execuções em andamento.
+     */
+    public int running() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Quantidade de chamadas aguardando capacidade.
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Soma dos pesos das execuções em andamento.
+     */
+    public long inFlightWeight() {
+        lock.lock();
+        try {
+            return inFlightWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Aguarda ser a chamada mais antiga da fila e haver capacidade para o seu peso.
+     * Chamado com o lock adquirido.
+     */
+    private void awaitTurn(long weight) {
+        Object ticket = new Object();
+        waiting.addLast(ticket);
+        try {
+            long remaining = queueTimeout.toNanos();
+            while (waiting.peekFirst() != ticket || !hasCapacity(weight)) {
+                if (remaining <= 0) {
+                    throw rejected("Timed out waiting for admission.");
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected("Interrupted while waiting for admission.");
+        } finally {
+            waiting.remove(ticket);
+            // A vez passa à próxima chamada, que pode caber na capacidade restante.
+            released.signalAll();
+        }
+    }
+
+    private boolean hasCapacity(long weight) {
+        return running < maxConcurrent && inFlightWeight + weight <= maxInFlightWeight;
+    }
+
+    /**
+     * Estimativa de espera: cada "rodada" de maxConcurrent execuções à frente leva a duração média.
+     */
+    private ConcurrencyLimitExceededException rejected(String message) {
+        long rounds = waiting.size() / maxConcurrent + 1;
+        Duration retryAfter = Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1), averageDurationNanos * rounds));
+        return new ConcurrencyLimitExceededException(message, retryAfter);
+    }
+
+    private void release(long weight, long durationNanos) {
+        lock.lock();
+        try {
+            running--;
+            inFlightWeight -= weight;
+            averageDurationNanos = averageDurationNanos == 0
+                    ? durationNanos
+                    : (long) (DURATION_SMOOTHING * durationNanos + (1 - DURATION_SMOOTHING) * averageDurationNanos);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Capacidade obtida por uma execução. Fechar mais de uma vez não tem efeito.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long weight;
+        private final long startedAt = System.nanoTime();
+        private boolean closed;
+
+        private Permit(long weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(weight, System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
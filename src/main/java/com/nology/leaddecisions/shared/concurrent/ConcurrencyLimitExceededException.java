@@ -0,0 +1,21 @@
+package com.nology.leaddecisions.shared.concurrent;
+
+import java.time.Duration;
+
+/**
+ * Sinaliza que uma operação não obteve capacidade de execução dentro do tempo de espera permitido.
+ * Indica ao cliente quando tentar novamente.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,119 @@
+package com.nology.leaddecisions.shared.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de chamadas concorrentes ("single-flight") com limite de concorrência.
+ *
+ * Chamadas simultâneas com a mesma chave compartilham uma única execução: a primeira (líder) executa
+ * o cálculo na própria thread e as demais aguardam o mesmo resultado (ou a mesma exceção).
+ * Execuções de chaves distintas são limitadas a maxConcurrent simultâneas; um líder que não obtém
+ * vaga dentro de queueTimeout falha com ConcurrencyLimitExceededException, assim como seus seguidores.
+ *
+ * Nada é mantido após a conclusão: chamadas posteriores iniciam uma nova execução.
+ *
+ * @param <K> Tipo da chave (deve implementar equals/hashCode).
+ * @param <V> Tipo do resultado.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+
+    public SingleFlight(int maxConcurrent, Duration queueTimeout) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Max concurrent executions must be positive.");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.queueTimeout = queueTimeout;
+    }
+
+    /**
+     * Executa o cálculo, ou aguarda a execução já em andamento para a mesma chave.
+     *
+     * @param key Identifica chamadas equivalentes.
+     * @param computation Cálculo executado apenas pelo líder.
+     * @return O resultado compartilhado.
+     * @throws ConcurrencyLimitExceededException Se não houver capacidade dentro do tempo de espera.
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            acquire();
+            try {
+                V result = computation.get();
+                flight.complete(result);
+                return result;
+            } finally {
+                permits.release();
+            }
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Executa o cálculo sem coalescência, ocupando uma das vagas compartilhadas com {@link #execute}.
+     * Usado quando o resultado não pode ser compartilhado entre chamadas (ex: escrita direta na resposta).
+     *
+     * @param computation Cálculo executado na própria thread.
+     * @return O resultado do cálculo.
+     * @throws ConcurrencyLimitExceededException Se não houver capacidade dentro do tempo de espera.
+     */
+    public <T> T executeAlone(Supplier<T> computation) {
+        acquire();
+        try {
+            return computation.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return Quantidade de execuções distintas em andamento ou aguardando vaga.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new ConcurrencyLimitExceededException("Execution capacity exhausted; try again later.", queueTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitExceededException("Interrupted while waiting for execution capacity.", queueTimeout);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
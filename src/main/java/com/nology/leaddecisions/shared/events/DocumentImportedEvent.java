@@ -0,0 +1,30 @@
+package com.nology.leaddecisions.shared.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado pelo ETL quando um documento é importado com sucesso.
+ *
+ * É publicado dentro da transação de importação; ouvintes que dependem dos dados persistidos
+ * devem usar @TransactionalEventListener (fase AFTER_COMMIT).
+ */
+@Getter
+@AllArgsConstructor
+public class DocumentImportedEvent {
+
+    /**
+     * Identificador do documento (Tb_documento) recém-importado.
+     */
+    private final Long documentId;
+
+    /**
+     * Quantidade de leads extraídos do documento.
+     */
+    private final long totalLeads;
+
+    /**
+     * Quantidade de leads vendidos extraídos do documento.
+     */
+    private final long totalSold;
+}
@@ -0,0 +1,33 @@
+package com.nology.leaddecisions.shared.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Evento publicado pelo ETL quando um documento e todos os seus leads são removidos.
+ *
+ * É publicado dentro da transação final da remoção; ouvintes que dependem dos dados persistidos
+ * devem usar @TransactionalEventListener (fase AFTER_COMMIT).
+ */
+@Getter
+@AllArgsConstructor
+public class DocumentPurgedEvent {
+
+    /**
+     * Identificador do documento (Tb_documento) removido.
+     */
+    private final Long documentId;
+
+    /**
+     * Quantidade de leads removidos.
+     */
+    private final long purgedLeads;
+
+    /**
+     * Datas de cadastro dos leads removidos, para que agregados por período sejam recalculados.
+     */
+    private final Set<LocalDate> creationDates;
+}
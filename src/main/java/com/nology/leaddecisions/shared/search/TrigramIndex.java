@@ -0,0 +1,284 @@
+package com.nology.leaddecisions.shared.search;
+
+import com.nology.leaddecisions.shared.archive.Varints;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Índice invertido de trigramas, lido a partir do formato gravado por {@link TrigramIndexWriter}.
+ *
+ * A busca é por palavras contidas no texto (substring, sem diferenciar acentos e maiúsculas): as listas de
+ * termos dos trigramas da consulta são intersectadas, da menor para a maior, e cada candidato restante é
+ * confirmado contra o texto normalizado. Os postings ficam em int[] ordenados e os leads de todos os termos
+ * em um único long[] (com deslocamentos por termo), sem objetos por lead.
+ */
+public final class TrigramIndex {
+
+    static final int MAGIC = 0x4C445458; // "LDTX"
+    static final int VERSION = 1;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] texts;
+    private final String[] normalizedTexts;
+    private final int[] soldCounts;
+    private final int[] leadOffsets;
+    private final long[] leadIds;
+    private final Map<Long, int[]> postings;
+    private final long memoryBytes;
+
+    private TrigramIndex(String[] texts, int[] soldCounts, int[] leadOffsets, long[] leadIds, Map<Long, int[]> postings) {
+        this.texts = texts;
+        this.normalizedTexts = new String[texts.length];
+        for (int code = 0; code < texts.length; code++) {
+            normalizedTexts[code] = normalize(texts[code]);
+        }
+        this.soldCounts = soldCounts;
+        this.leadOffsets = leadOffsets;
+        this.leadIds = leadIds;
+        this.postings = postings;
+        this.memoryBytes = estimateMemoryBytes();
+    }
+
+    /**
+     * Forma usada na indexação e na busca: sem acentos, em minúsculas, com apenas letras e dígitos
+     * separados por um espaço (ex: "Quer REDUZIR custos!" vira "quer reduzir custos").
+     */
+    public static String normalize(String text) {
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Trigramas distintos das palavras de um texto normalizado, cada um empacotado em um long (3 x 16 bits).
+     * Palavras com menos de 3 caracteres não geram trigramas.
+     */
+    static long[] trigrams(String normalized) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                trigrams.add(((long) word.charAt(i) << 32) | ((long) word.charAt(i + 1) << 16) | word.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public static TrigramIndex read(byte[] content) {
+        byte[] payload;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a trigram index.");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported trigram index version: " + version);
+            }
+            try (InflaterInputStream inflater = new InflaterInputStream(in)) {
+                payload = inflater.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read trigram index.", e);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            int termCount = (int) Varints.read(buffer);
+            String[] texts = new String[termCount];
+            int[] soldCounts = new int[termCount];
+            int[] leadOffsets = new int[termCount + 1];
+            long[] leadIds = new long[Math.max(16, termCount)];
+            for (int code = 0; code < termCount; code++) {
+                byte[] text = new byte[(int) Varints.read(buffer)];
+                buffer.get(text);
+                texts[code] = new String(text, StandardCharsets.UTF_8);
+
+                int leads = (int) Varints.read(buffer);
+                soldCounts[code] = (int) Varints.read(buffer);
+                int offset = leadOffsets[code];
+                if (offset + leads > leadIds.length) {
+                    leadIds = Arrays.copyOf(leadIds, Math.max(offset + leads, leadIds.length * 2));
+                }
+                long previous = 0;
+                for (int i = 0; i < leads; i++) {
+                    previous += Varints.read(buffer);
+                    leadIds[offset + i] = previous;
+                }
+                leadOffsets[code + 1] = offset + leads;
+            }
+
+            int trigramCount = (int) Varints.read(buffer);
+            Map<Long, int[]> postings = new HashMap<>(trigramCount * 2);
+            for (int t = 0; t < trigramCount; t++) {
+                long key = Varints.read(buffer);
+                int[] codes = new int[(int) Varints.read(buffer)];
+                int previous = 0;
+                for (int i = 0; i < codes.length; i++) {
+                    previous += (int) Varints.read(buffer);
+                    codes[i] = previous;
+                }
+                postings.put(key, codes);
+            }
+            return new TrigramIndex(texts, soldCounts, leadOffsets, Arrays.copyOf(leadIds, leadOffsets[termCount]), postings);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Truncated trigram index.", e);
+        }
+    }
+
+    /**
+     * Busca os termos que contêm todas as palavras da consulta.
+     *
+     * @param query Consulta (normalizada internamente).
+     * @return Códigos dos termos encontrados, em ordem crescente.
+     */
+    public int[] search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        String[] words = normalized.split(" ");
+
+        long[] trigrams = trigrams(normalized);
+        int[] candidates;
+        if (trigrams.length == 0) {
+            // Apenas palavras curtas: não há trigramas para filtrar, todos os termos são candidatos.
+            candidates = new int[texts.length];
+            Arrays.setAll(candidates, code -> code);
+        } else {
+            List<int[]> lists = new ArrayList<>(trigrams.length);
+            for (long trigram : trigrams) {
+                int[] codes = postings.get(trigram);
+                if (codes == null) {
+                    return new int[0];
+                }
+                lists.add(codes);
+            }
+            lists.sort(Comparator.comparingInt(codes -> codes.length));
+            candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+        }
+
+        // Os trigramas podem estar em palavras diferentes do termo: confirma cada palavra no texto.
+        int[] matches = new int[candidates.length];
+        int size = 0;
+        for (int code : candidates) {
+            if (containsAll(normalizedTexts[code], words)) {
+                matches[size++] = code;
+            }
+        }
+        return Arrays.copyOf(matches, size);
+    }
+
+    /**
+     * @return Estimativa da memória ocupada pelo índice decodificado, em bytes.
+     */
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public int getTermCount() {
+        return texts.length;
+    }
+
+    /**
+     * @return Texto original do termo (primeira ocorrência).
+     */
+    public String text(int code) {
+        return texts[code];
+    }
+
+    /**
+     * @return Texto normalizado do termo (chave de agrupamento entre índices).
+     */
+    public String normalizedText(int code) {
+        return normalizedTexts[code];
+    }
+
+    public int leadCount(int code) {
+        return leadOffsets[code + 1] - leadOffsets[code];
+    }
+
+    public int soldCount(int code) {
+        return soldCounts[code];
+    }
+
+    /**
+     * @return Ids dos leads do termo, em ordem crescente.
+     */
+    public long[] leadIds(int code) {
+        return Arrays.copyOfRange(leadIds, leadOffsets[code], leadOffsets[code + 1]);
+    }
+
+    /**
+     * @return Os primeiros (menores) limit ids de lead do termo, em ordem crescente.
+     */
+    public long[] leadIds(int code, int limit) {
+        return Arrays.copyOfRange(leadIds, leadOffsets[code], Math.min(leadOffsets[code + 1], leadOffsets[code] + limit));
+    }
+
+    /**
+     * Soma os arrays e, para cada texto e posting, o conteúdo mais um custo fixo de cabeçalhos e referências
+     * (String, entrada do HashMap, Long da chave e int[]).
+     */
+    private long estimateMemoryBytes() {
+        long bytes = 4L * soldCounts.length + 4L * leadOffsets.length + 8L * leadIds.length;
+        for (int code = 0; code < texts.length; code++) {
+            bytes += 2 * 56L + texts[code].length() + normalizedTexts[code].length();
+        }
+        for (int[] codes : postings.values()) {
+            bytes += 96L + 4L * codes.length;
+        }
+        return bytes;
+    }
+
+    private static boolean containsAll(String text, String[] words) {
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Interseção de listas ordenadas. A menor lista é percorrida e cada elemento é procurado na maior
+     * por busca binária a partir da última posição encontrada.
+     */
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] result = new int[smaller.length];
+        int size = 0;
+        int from = 0;
+        for (int code : smaller) {
+            int position = Arrays.binarySearch(larger, from, larger.length, code);
+            if (position >= 0) {
+                result[size++] = code;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+            if (from >= larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -0,0 +1,99 @@
+package com.nology.leaddecisions.shared.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Cache dos índices de trigramas decodificados, por documento, limitado pela memória estimada dos índices.
+ *
+ * Ao exceder maxBytes, os índices usados há mais tempo são descartados (LRU) e voltam a ser decodificados
+ * na próxima busca que precisar deles. Um índice maior que o limite é entregue sem ser guardado.
+ */
+public final class TrigramIndexCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, TrigramIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    public TrigramIndexCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Trigram index cache size must not be negative.");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Retorna o índice guardado ou o carrega. A carga ocorre fora do lock: buscas concorrentes por um índice
+     * ausente podem decodificá-lo mais de uma vez, mas apenas uma cópia é guardada.
+     *
+     * @param documentId Documento indexado.
+     * @param loader Carrega o índice do documento; pode retornar null (documento sem índice).
+     * @return O índice, ou null se o loader não o encontrar.
+     */
+    public TrigramIndex get(Long documentId, Function<Long, TrigramIndex> loader) {
+        synchronized (indexes) {
+            TrigramIndex cached = indexes.get(documentId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TrigramIndex loaded = loader.apply(documentId);
+        if (loaded == null || loaded.getMemoryBytes() > maxBytes) {
+            return loaded;
+        }
+        synchronized (indexes) {
+            TrigramIndex cached = indexes.putIfAbsent(documentId, loaded);
+            if (cached != null) {
+                return cached;
+            }
+            sizeBytes += loaded.getMemoryBytes();
+            Iterator<TrigramIndex> eldest = indexes.values().iterator();
+            while (sizeBytes > maxBytes) {
+                sizeBytes -= eldest.next().getMemoryBytes();
+                eldest.remove();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Descarta os índices de documentos que não estão mais indexados (removidos ou arquivados).
+     */
+    public void retainAll(Collection<Long> documentIds) {
+        Set<Long> retained = new HashSet<>(documentIds);
+        synchronized (indexes) {
+            Iterator<Map.Entry<Long, TrigramIndex>> entries = indexes.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Long, TrigramIndex> entry = entries.next();
+                if (!retained.contains(entry.getKey())) {
+                    sizeBytes -= entry.getValue().getMemoryBytes();
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Documentos com índice guardado.
+     */
+    public Set<Long> documentIds() {
+        synchronized (indexes) {
+            return Set.copyOf(indexes.keySet());
+        }
+    }
+
+    /**
+     * @return Memória estimada dos índices guardados, em bytes.
+     */
+    public long sizeBytes() {
+        synchronized (indexes) {
+            return sizeBytes;
+        }
+    }
+}
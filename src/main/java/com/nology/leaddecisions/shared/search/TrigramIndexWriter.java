@@ -0,0 +1,149 @@
+package com.nology.leaddecisions.shared.search;
+
+import com.nology.leaddecisions.shared.archive.Varints;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Monta o índice invertido de trigramas de um conjunto de textos livres (ex: objetivos dos leads de um documento).
+ *
+ * Textos iguais após a normalização ({@link TrigramIndex#normalize}) viram um único termo, com a lista
+ * dos leads que o declararam e quantos deles foram vendidos. Cada trigrama das palavras do termo aponta
+ * para os termos que o contêm.
+ *
+ * Formato: MAGIC (int), VERSION (byte) e o conteúdo comprimido com Deflate. Os ids de lead de cada termo e
+ * os códigos de termo de cada trigrama são gravados ordenados, como deltas em tamanho variável.
+ */
+public final class TrigramIndexWriter {
+
+    private final Map<String, Term> terms = new LinkedHashMap<>();
+
+    /**
+     * Registra a ocorrência de um texto para um lead. Textos nulos ou sem letras e dígitos são ignorados.
+     *
+     * @param text Texto original.
+     * @param leadId Id persistido do lead.
+     * @param sold Se o lead foi vendido.
+     */
+    public void add(String text, long leadId, boolean sold) {
+        if (text == null) {
+            return;
+        }
+        String normalized = TrigramIndex.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        terms.computeIfAbsent(normalized, key -> new Term(text.trim())).add(leadId, sold);
+    }
+
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    public byte[] toByteArray() {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        Map<Long, List<Integer>> postings = new HashMap<>();
+
+        Varints.write(payload, terms.size());
+        int code = 0;
+        for (Map.Entry<String, Term> entry : terms.entrySet()) {
+            Term term = entry.getValue();
+            byte[] text = term.text.getBytes(StandardCharsets.UTF_8);
+            Varints.write(payload, text.length);
+            payload.writeBytes(text);
+
+            long[] leads = term.distinctLeads();
+            int sold = 0;
+            for (long lead : leads) {
+                sold += (int) (lead & 1);
+            }
+            Varints.write(payload, leads.length);
+            Varints.write(payload, sold);
+            long previous = 0;
+            for (long lead : leads) {
+                long leadId = lead >>> 1;
+                Varints.write(payload, leadId - previous);
+                previous = leadId;
+            }
+
+            for (long trigram : TrigramIndex.trigrams(entry.getKey())) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(code);
+            }
+            code++;
+        }
+
+        long[] keys = postings.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Varints.write(payload, keys.length);
+        for (long key : keys) {
+            List<Integer> codes = postings.get(key);
+            Varints.write(payload, key);
+            Varints.write(payload, codes.size());
+            int previous = 0;
+            for (int termCode : codes) {
+                Varints.write(payload, termCode - previous);
+                previous = termCode;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(TrigramIndex.MAGIC);
+            out.writeByte(TrigramIndex.VERSION);
+            try (DeflaterOutputStream deflater = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_COMPRESSION))) {
+                payload.writeTo(deflater);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write trigram index.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Termo em construção: texto original da primeira ocorrência e leads como (id << 1 | vendido).
+     */
+    private static final class Term {
+
+        private final String text;
+        private long[] leads = new long[4];
+        private int size;
+
+        private Term(String text) {
+            this.text = text;
+        }
+
+        private void add(long leadId, boolean sold) {
+            if (size == leads.length) {
+                leads = Arrays.copyOf(leads, size * 2);
+            }
+            leads[size++] = leadId << 1 | (sold ? 1 : 0);
+        }
+
+        /**
+         * Leads ordenados por id, sem repetições (um lead pode declarar o mesmo objetivo mais de uma vez).
+         */
+        private long[] distinctLeads() {
+            long[] sorted = Arrays.copyOf(leads, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (distinct == 0 || sorted[i] >>> 1 != sorted[distinct - 1] >>> 1) {
+                    sorted[distinct++] = sorted[i];
+                } else {
+                    sorted[distinct - 1] |= sorted[i] & 1;
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
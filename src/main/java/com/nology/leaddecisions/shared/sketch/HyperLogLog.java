@@ -0,0 +1,165 @@
+package com.nology.leaddecisions.shared.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Sketch de cardinalidade aproximada (HyperLogLog) para contagem de elementos distintos.
+ *
+ * Ocupa memória fixa (2^precision bytes), independentemente da quantidade de elementos, e pode ser
+ * combinado com outros sketches da mesma precisão (merge) sem perda adicional de precisão.
+ * É utilizado para estimar leads distintos por valor de dimensão, já que um lead pode possuir
+ * várias linhas na mesma dimensão.
+ *
+ * Erro padrão relativo: 1.04 / sqrt(2^precision) (ex: ~2.3% com a precisão padrão 11).
+ */
+public final class HyperLogLog {
+
+    /**
+     * Precisão padrão: 2048 registradores (2 KB por sketch).
+     */
+    public static final int DEFAULT_PRECISION = 11;
+
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 16;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision Quantidade de bits usados para endereçar os registradores (4 a 16).
+     * @throws IllegalArgumentException Se a precisão estiver fora do intervalo suportado.
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between "
+                    + MIN_PRECISION + " and " + MAX_PRECISION + ".");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * @return Um sketch vazio com a precisão padrão.
+     */
+    public static HyperLogLog create() {
+        return new HyperLogLog(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Registra um identificador no sketch. Registrar o mesmo valor novamente não altera a estimativa.
+     *
+     * @param value Identificador (ex: id do lead).
+     */
+    public void add(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // O bit sentinela limita o rank ao número de bits restantes do hash.
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Combina outro sketch neste (união dos conjuntos), mantendo o maior valor de cada registrador.
+     *
+     * @param other Sketch com a mesma precisão.
+     * @throws IllegalArgumentException Se as precisões forem diferentes.
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches with different precisions.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Estima a quantidade de elementos distintos registrados.
+     * Para cardinalidades pequenas, aplica a correção de Linear Counting.
+     *
+     * @return Estimativa da cardinalidade.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double raw = alpha * m * m / sum;
+        if (raw <= 2.5 * m && zeros > 0) {
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    /**
+     * @return Erro padrão relativo teórico da estimativa (ex: 0.023 = 2.3%).
+     */
+    public double relativeStandardError() {
+        return relativeStandardError(precision);
+    }
+
+    /**
+     * @param precision Precisão do sketch.
+     * @return Erro padrão relativo teórico para a precisão informada.
+     */
+    public static double relativeStandardError(int precision) {
+        return 1.04 / Math.sqrt(1 << precision);
+    }
+
+    /**
+     * Serializa o sketch: 1 byte de precisão seguido dos registradores.
+     *
+     * @return Representação binária compacta.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[registers.length + 1];
+        bytes[0] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 1, registers.length);
+        return bytes;
+    }
+
+    /**
+     * Reconstrói um sketch serializado por {@link #toBytes()}.
+     *
+     * @param bytes Representação binária.
+     * @return O sketch correspondente.
+     * @throws IllegalArgumentException Se o conteúdo não for um sketch válido.
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 1) {
+            throw new IllegalArgumentException("Invalid HyperLogLog sketch.");
+        }
+        int precision = bytes[0];
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION || bytes.length != (1 << precision) + 1) {
+            throw new IllegalArgumentException("Invalid HyperLogLog sketch.");
+        }
+        return new HyperLogLog(precision, Arrays.copyOfRange(bytes, 1, bytes.length));
+    }
+
+    /**
+     * Espalha os bits do identificador (finalizador do SplitMix64), já que ids sequenciais
+     * teriam distribuição péssima se usados diretamente.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
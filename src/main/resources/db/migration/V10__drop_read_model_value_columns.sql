@@ -0,0 +1,16 @@
+-- As colunas de valor de tb_fato_lead (um único valor por lead e dimensão) foram substituídas por
+-- tb_fato_lead_valor (V9); tb_fato_lead mantém apenas os totais por lead.
+
+drop index idx_fato_lead_mercado;
+drop index idx_fato_lead_origem;
+drop index idx_fato_lead_sub_origem;
+drop index idx_fato_lead_local;
+drop index idx_fato_lead_porte;
+drop index idx_fato_lead_objetivo;
+
+alter table tb_fato_lead drop column id_mercado;
+alter table tb_fato_lead drop column id_origem;
+alter table tb_fato_lead drop column id_sub_origem;
+alter table tb_fato_lead drop column id_local;
+alter table tb_fato_lead drop column id_porte;
+alter table tb_fato_lead drop column id_objetivo;
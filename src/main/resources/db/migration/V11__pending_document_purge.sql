@@ -0,0 +1,15 @@
+-- Remoção de documento em andamento: marcada antes da primeira janela de DELETEs, junto com as datas de cadastro
+-- dos leads do documento, para que uma remoção interrompida e retomada ainda conheça as datas já removidas.
+-- Os valores de MERCADO/ORIGEM afetados são lidos de tb_documento_estatistica, removida apenas ao final.
+
+create table tb_documento_remocao (
+    id_documento bigint not null,
+    data_inicio timestamp(6) not null,
+    primary key (id_documento)
+);
+
+create table tb_documento_remocao_data (
+    id_documento bigint not null,
+    data_cadastro date not null,
+    primary key (id_documento, data_cadastro)
+);
@@ -0,0 +1,8 @@
+-- Regra única de valor em branco das dimensões (DocumentStatsAggregator.BLANK_VALUE_REGEX): vazio ou apenas
+-- espaços Unicode, incluindo tabulação e o espaço não separável. A V1_1 descartava apenas os espaços comuns
+-- (trim(x) <> ''), enquanto a importação usava String.isBlank; os agregados e sketches de valores em branco
+-- gravados por qualquer um dos dois caminhos são removidos.
+
+delete from tb_documento_estatistica where regexp_like(valor, '^[\p{javaWhitespace}\p{Z}]*$');
+
+delete from tb_dimensao_sketch where regexp_like(valor, '^[\p{javaWhitespace}\p{Z}]*$');
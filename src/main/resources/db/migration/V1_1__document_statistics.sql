@@ -0,0 +1,51 @@
+-- Totais por documento e agregados por (documento, dimensão, valor), usados pelos relatórios por importação.
+-- Documentos importados antes desta versão recebem os totais e agregados calculados a partir das tabelas do ETL,
+-- com as mesmas regras da importação: registros por valor, ignorando valores nulos ou em branco.
+
+alter table tb_documento add column total_leads bigint;
+alter table tb_documento add column total_vendido bigint;
+
+update tb_documento d set
+    total_leads = (select count(*) from tb_lead l where l.id_documento = d.id),
+    total_vendido = (select count(*) from tb_lead l where l.id_documento = d.id and l.vendido = true);
+
+create table tb_documento_estatistica (
+    id bigint generated by default as identity,
+    id_documento bigint,
+    dimensao varchar(255),
+    valor varchar(255),
+    total_leads bigint,
+    total_vendido bigint,
+    primary key (id),
+    constraint fk_documento_estatistica_documento foreign key (id_documento) references tb_documento
+);
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'MERCADO', d.nome, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_mercado d join tb_lead l on l.id = d.id_lead
+where trim(d.nome) <> '' group by l.id_documento, d.nome;
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'ORIGEM', d.nome, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_origem d join tb_lead l on l.id = d.id_lead
+where trim(d.nome) <> '' group by l.id_documento, d.nome;
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'SUB_ORIGEM', d.sub_origem, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_origem d join tb_lead l on l.id = d.id_lead
+where trim(d.sub_origem) <> '' group by l.id_documento, d.sub_origem;
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'LOCAL', d.nome, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_local d join tb_lead l on l.id = d.id_lead
+where trim(d.nome) <> '' group by l.id_documento, d.nome;
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'PORTE', d.porte, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_porte d join tb_lead l on l.id = d.id_lead
+where trim(d.porte) <> '' group by l.id_documento, d.porte;
+
+insert into tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido)
+select l.id_documento, 'OBJETIVO', d.descricao, count(*), sum(case when l.vendido = true then 1 else 0 end)
+from tb_objetivo d join tb_lead l on l.id = d.id_lead
+where trim(d.descricao) <> '' group by l.id_documento, d.descricao;
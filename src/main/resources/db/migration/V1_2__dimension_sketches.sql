@@ -0,0 +1,11 @@
+-- Sketches HyperLogLog por (dimensão, valor), usados pelo relatório aproximado.
+-- Os sketches dos valores já importados são montados pela aplicação ao iniciar (DimensionSketchUpdater).
+
+create table tb_dimensao_sketch (
+    id bigint generated by default as identity,
+    dimensao varchar(255),
+    valor varchar(255),
+    sketch_leads varbinary(4096),
+    sketch_vendidos varbinary(4096),
+    primary key (id)
+);
@@ -0,0 +1,13 @@
+-- Snapshots do relatório consolidado, identificados pela versão dos dados.
+
+create table tb_relatorio_snapshot (
+    id bigint generated by default as identity,
+    versao_dados varchar(100) not null unique,
+    gatilho enum ('IMPORT','ON_DEMAND','SCHEDULE') not null,
+    data_geracao timestamp(6) not null,
+    total_leads bigint not null,
+    total_vendido bigint not null,
+    tamanho_bytes bigint not null,
+    conteudo blob not null,
+    primary key (id)
+);
@@ -0,0 +1,61 @@
+-- Esquema inicial, equivalente ao gerado anteriormente pelo Hibernate (ddl-auto=update).
+-- Bancos já existentes são marcados nesta versão (spring.flyway.baseline-on-migrate) e seguem a partir da V1.1:
+-- esta migração contém apenas as tabelas que o Hibernate já havia criado nesses bancos.
+
+create table tb_documento (
+    id bigint generated by default as identity,
+    documento_nome varchar(255),
+    documento_tipo varchar(255),
+    documento blob,
+    primary key (id)
+);
+
+create table tb_lead (
+    id bigint generated by default as identity,
+    id_documento bigint,
+    data_cadastro timestamp(6),
+    vendido boolean,
+    primary key (id),
+    constraint fk_lead_documento foreign key (id_documento) references tb_documento
+);
+
+create table tb_mercado (
+    id bigint generated by default as identity,
+    id_lead bigint,
+    nome varchar(255),
+    primary key (id),
+    constraint fk_mercado_lead foreign key (id_lead) references tb_lead
+);
+
+create table tb_origem (
+    id bigint generated by default as identity,
+    id_lead bigint,
+    nome varchar(255),
+    sub_origem varchar(255),
+    primary key (id),
+    constraint fk_origem_lead foreign key (id_lead) references tb_lead
+);
+
+create table tb_local (
+    id bigint generated by default as identity,
+    id_lead bigint,
+    nome varchar(255),
+    primary key (id),
+    constraint fk_local_lead foreign key (id_lead) references tb_lead
+);
+
+create table tb_porte (
+    id bigint generated by default as identity,
+    id_lead bigint,
+    porte varchar(255),
+    primary key (id),
+    constraint fk_porte_lead foreign key (id_lead) references tb_lead
+);
+
+create table tb_objetivo (
+    id bigint generated by default as identity,
+    id_lead bigint,
+    descricao varchar(255),
+    primary key (id),
+    constraint fk_objetivo_lead foreign key (id_lead) references tb_lead
+);
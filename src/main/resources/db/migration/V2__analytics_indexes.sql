@@ -0,0 +1,21 @@
+-- Índices de cobertura para os caminhos de acesso do Analytics e do ETL.
+--
+-- Tabelas dimensionais: (id_lead, valor) cobre a junção com Tb_lead nos agrupamentos por dimensão,
+-- na análise cruzada e nas listas da exportação, sem acessar as linhas da tabela.
+
+create index idx_mercado_lead_nome on tb_mercado (id_lead, nome);
+create index idx_origem_lead_nome_sub on tb_origem (id_lead, nome, sub_origem);
+create index idx_local_lead_nome on tb_local (id_lead, nome);
+create index idx_porte_lead_porte on tb_porte (id_lead, porte);
+create index idx_objetivo_lead_descricao on tb_objetivo (id_lead, descricao);
+
+-- Leads: filtros por documento e por período de cadastro, já cobrindo a coluna de venda.
+create index idx_lead_documento_vendido on tb_lead (id_documento, vendido);
+create index idx_lead_cadastro_vendido on tb_lead (data_cadastro, vendido);
+
+-- Agregados por documento: leitura de uma dimensão de um conjunto de documentos sem acessar a tabela.
+create index idx_documento_estatistica_cobertura
+    on tb_documento_estatistica (id_documento, dimensao, valor, total_leads, total_vendido);
+
+-- Sketches: busca por dimensão e valores na importação e no relatório aproximado.
+create index idx_dimensao_sketch_dimensao_valor on tb_dimensao_sketch (dimensao, valor);
@@ -0,0 +1,13 @@
+-- Células de coorte materializadas: totais por granularidade (WEEK/MONTH), dimensão, período de cadastro e valor.
+-- A chave primária atende à leitura da matriz (granularidade, dimensão e intervalo de períodos)
+-- e à substituição de um período inteiro após uma importação.
+
+create table tb_coorte_celula (
+    granularidade varchar(10) not null,
+    dimensao varchar(30) not null,
+    inicio_periodo date not null,
+    valor varchar(255) not null,
+    total_leads bigint not null,
+    total_vendido bigint not null,
+    primary key (granularidade, dimensao, inicio_periodo, valor)
+);
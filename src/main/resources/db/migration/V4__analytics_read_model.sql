@@ -0,0 +1,43 @@
+-- Modelo de leitura do Analytics (CQRS), alimentado de forma assíncrona após cada importação.
+--
+-- tb_dim_valor: dicionário de valores de dimensão; a tabela fato guarda apenas os ids.
+-- tb_fato_lead: uma linha larga por lead, com o id do valor de cada dimensão.
+-- tb_fato_documento: documentos já projetados (marca d'água usada na versão dos snapshots).
+
+create table tb_dim_valor (
+    id bigint generated by default as identity,
+    dimensao varchar(30) not null,
+    valor varchar(255) not null,
+    primary key (id),
+    constraint uk_dim_valor unique (dimensao, valor)
+);
+
+create table tb_fato_lead (
+    id_lead bigint not null,
+    id_documento bigint not null,
+    data_cadastro timestamp(6),
+    vendido boolean not null,
+    id_mercado bigint,
+    id_origem bigint,
+    id_sub_origem bigint,
+    id_local bigint,
+    id_porte bigint,
+    id_objetivo bigint,
+    primary key (id_lead)
+);
+
+create table tb_fato_documento (
+    id_documento bigint not null,
+    total_leads bigint not null,
+    data_projecao timestamp(6) not null,
+    primary key (id_documento)
+);
+
+-- Agrupamentos por dimensão lidos apenas do índice (id do valor, vendido).
+create index idx_fato_lead_mercado on tb_fato_lead (id_mercado, vendido);
+create index idx_fato_lead_origem on tb_fato_lead (id_origem, vendido);
+create index idx_fato_lead_sub_origem on tb_fato_lead (id_sub_origem, vendido);
+create index idx_fato_lead_local on tb_fato_lead (id_local, vendido);
+create index idx_fato_lead_porte on tb_fato_lead (id_porte, vendido);
+create index idx_fato_lead_objetivo on tb_fato_lead (id_objetivo, vendido);
+create index idx_fato_lead_documento on tb_fato_lead (id_documento, vendido);
@@ -0,0 +1,9 @@
+-- Instante da importação, usado pela política de retenção. Documentos anteriores a esta versão
+-- passam a contar o prazo a partir da migração.
+alter table tb_documento add column data_importacao timestamp(6);
+update tb_documento set data_importacao = localtimestamp;
+create index idx_documento_importacao on tb_documento (data_importacao);
+
+-- Novo motivo de snapshot: remoção de documento.
+alter table tb_relatorio_snapshot alter column gatilho set data type enum ('IMPORT','ON_DEMAND','SCHEDULE','PURGE');
+alter table tb_relatorio_snapshot alter column gatilho set not null;
@@ -0,0 +1,16 @@
+-- Manifesto do arquivo morto: documentos cujos leads e dimensões foram movidos das tabelas
+-- para arquivos colunares comprimidos em disco (um arquivo por documento, em etl.archive.directory).
+-- Não há chave estrangeira: após o arquivamento, o documento não existe mais em tb_documento.
+
+create table tb_documento_arquivado (
+    id_documento bigint not null,
+    documento_nome varchar(255),
+    documento_tipo varchar(255),
+    arquivo varchar(255) not null,
+    tamanho_bytes bigint not null,
+    total_leads bigint not null,
+    total_vendido bigint not null,
+    data_importacao timestamp(6),
+    data_arquivamento timestamp(6) not null,
+    primary key (id_documento)
+);
@@ -0,0 +1,13 @@
+-- Índice invertido de trigramas dos objetivos (texto livre), um por documento, gravado na importação.
+-- O conteúdo é o formato binário de shared.search.TrigramIndexWriter: termos (objetivos distintos após
+-- normalização) com seus leads e vendas, e a lista de termos de cada trigrama.
+
+create table tb_objetivo_indice (
+    id_documento bigint not null,
+    indice blob not null,
+    total_termos integer not null,
+    tamanho_bytes integer not null,
+    data_criacao timestamp(6) not null,
+    primary key (id_documento),
+    constraint fk_objetivo_indice_documento foreign key (id_documento) references tb_documento
+);
@@ -0,0 +1,11 @@
+-- Uma única linha de sketch por (dimensão, valor), condição para que importações concorrentes combinem
+-- os seus sketches em sequência (DimensionSketchUpdater) em vez de sobrescrever ou duplicar linhas.
+--
+-- Linhas duplicadas não podem ser combinadas em SQL: os valores duplicados têm todas as linhas removidas,
+-- e os seus sketches são remontados a partir do banco quando a aplicação inicia.
+
+delete from tb_dimensao_sketch s
+where exists (select 1 from tb_dimensao_sketch o where o.dimensao = s.dimensao and o.valor = s.valor and o.id <> s.id);
+
+drop index idx_dimensao_sketch_dimensao_valor;
+alter table tb_dimensao_sketch add constraint uk_dimensao_sketch unique (dimensao, valor);
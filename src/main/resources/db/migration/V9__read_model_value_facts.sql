@@ -0,0 +1,101 @@
+-- Modelo de leitura: uma linha por registro de dimensão do ETL (ex: cada linha da aba MERCADO), e não apenas um
+-- valor por lead, para que leads com vários valores na mesma dimensão sejam contados como nas tabelas do ETL.
+--
+-- id_registro: id da linha na tabela dimensional de origem. ORIGEM e SUB_ORIGEM de uma mesma linha de Tb_origem
+-- compartilham o id_registro, preservando o par canal/sub-origem.
+
+create table tb_fato_lead_valor (
+    dimensao varchar(30) not null,
+    id_registro bigint not null,
+    id_lead bigint not null,
+    id_documento bigint not null,
+    id_valor bigint not null,
+    vendido boolean not null,
+    primary key (dimensao, id_registro)
+);
+
+-- Rankings lidos apenas do índice (dimensão, id do valor, vendido); junções por lead na análise cruzada.
+create index idx_fato_lead_valor_valor on tb_fato_lead_valor (dimensao, id_valor, vendido);
+create index idx_fato_lead_valor_lead on tb_fato_lead_valor (dimensao, id_lead, id_valor);
+create index idx_fato_lead_valor_documento on tb_fato_lead_valor (id_documento);
+
+-- Documentos já projetados recebem as linhas por registro aqui mesmo, com as regras de
+-- JdbcReadModelProjectionRepositoryAdapter: os rankings não ficam vazios até a próxima projeção.
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'MERCADO', d.nome from tb_mercado d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.nome is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'MERCADO' and v.valor = d.nome);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'MERCADO', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_mercado d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'MERCADO' and v.valor = d.nome;
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'ORIGEM', d.nome from tb_origem d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.nome is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'ORIGEM' and v.valor = d.nome);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'ORIGEM', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_origem d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'ORIGEM' and v.valor = d.nome;
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'SUB_ORIGEM', d.sub_origem from tb_origem d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.sub_origem is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'SUB_ORIGEM' and v.valor = d.sub_origem);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'SUB_ORIGEM', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_origem d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'SUB_ORIGEM' and v.valor = d.sub_origem;
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'LOCAL', d.nome from tb_local d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.nome is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'LOCAL' and v.valor = d.nome);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'LOCAL', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_local d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'LOCAL' and v.valor = d.nome;
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'PORTE', d.porte from tb_porte d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.porte is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'PORTE' and v.valor = d.porte);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'PORTE', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_porte d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'PORTE' and v.valor = d.porte;
+
+insert into tb_dim_valor (dimensao, valor)
+select distinct 'OBJETIVO', d.descricao from tb_objetivo d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+where d.descricao is not null
+and not exists (select 1 from tb_dim_valor v where v.dimensao = 'OBJETIVO' and v.valor = d.descricao);
+
+insert into tb_fato_lead_valor (dimensao, id_registro, id_lead, id_documento, id_valor, vendido)
+select 'OBJETIVO', d.id, l.id, l.id_documento, v.id, coalesce(l.vendido, false) from tb_objetivo d
+join tb_lead l on l.id = d.id_lead
+join tb_fato_documento p on p.id_documento = l.id_documento
+join tb_dim_valor v on v.dimensao = 'OBJETIVO' and v.valor = d.descricao;
@@ -0,0 +1,45 @@
+package com.nology.leaddecisions;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Garante que documentos projetados antes da V9 (modelo de leitura com um valor por lead) recebem as linhas
+ * por registro de dimensão na própria migração, e não apenas na próxima projeção.
+ */
+class ReadModelMigrationTest {
+
+    @Test
+    @DisplayName("V9 deve preencher Tb_fato_lead_valor para documentos já projetados, com todos os valores de cada lead")
+    void shouldBackfillValueFactsOfProjectedDocuments() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:read-model-migration;DB_CLOSE_DELAY=-1", "testdb", "test");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("8").load().migrate();
+
+        jdbc.update("INSERT INTO Tb_documento (id, Documento_nome) VALUES (1, 'projetado.xlsx'), (2, 'pendente.xlsx')");
+        jdbc.update("INSERT INTO Tb_lead (id, Id_documento, Vendido) VALUES (1, 1, TRUE), (2, 1, NULL), (3, 2, TRUE)");
+        jdbc.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES (1, 'Varejo'), (1, 'Saúde'), (2, 'Varejo'), (3, 'Varejo')");
+        jdbc.update("INSERT INTO Tb_origem (Id_lead, Nome, Sub_origem) VALUES (1, 'Google', 'camp1'), (2, 'Meta', NULL)");
+        // Projeção anterior à V9: apenas o menor mercado do lead 1, e o documento 2 ainda não projetado.
+        jdbc.update("INSERT INTO Tb_dim_valor (Dimensao, Valor) VALUES ('MERCADO', 'Saúde')");
+        jdbc.update("INSERT INTO Tb_fato_lead (Id_lead, Id_documento, Vendido) VALUES (1, 1, TRUE), (2, 1, FALSE)");
+        jdbc.update("INSERT INTO Tb_fato_documento (Id_documento, Total_leads, Data_projecao) VALUES (1, 2, LOCALTIMESTAMP)");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertEquals(List.of("MERCADO:Saúde:1:TRUE", "MERCADO:Varejo:1:TRUE", "MERCADO:Varejo:2:FALSE",
+                        "ORIGEM:Google:1:TRUE", "ORIGEM:Meta:2:FALSE", "SUB_ORIGEM:camp1:1:TRUE"),
+                jdbc.queryForList("SELECT f.Dimensao || ':' || v.Valor || ':' || f.Id_lead || ':' || f.Vendido "
+                        + "FROM Tb_fato_lead_valor f JOIN Tb_dim_valor v ON v.id = f.Id_valor "
+                        + "ORDER BY f.Dimensao, v.Valor, f.Id_lead", String.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM Tb_fato_documento", Integer.class));
+    }
+}
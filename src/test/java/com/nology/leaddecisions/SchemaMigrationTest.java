@@ -0,0 +1,58 @@
+package com.nology.leaddecisions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Garante que um banco criado antes das migrações (apenas as tabelas geradas pelo Hibernate, sem histórico
+ * do Flyway) é marcado na V1, recebe as migrações seguintes e passa na validação do Hibernate.
+ */
+@SpringBootTest
+class SchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:legacy-schema;DB_CLOSE_DELAY=-1";
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) {
+        JdbcTemplate legacy = new JdbcTemplate(new DriverManagerDataSource(URL, "testdb", "test"));
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                .execute(legacy.getDataSource());
+        legacy.update("INSERT INTO tb_documento (documento_nome) VALUES ('legado.xlsx')");
+        legacy.update("INSERT INTO tb_lead (id_documento, data_cadastro, vendido) "
+                + "SELECT 1, TIMESTAMP '2024-06-01 10:00:00', MOD(X, 2) = 0 FROM SYSTEM_RANGE(1, 4)");
+        legacy.update("INSERT INTO tb_mercado (id_lead, nome) SELECT id, 'Varejo' FROM tb_lead");
+        legacy.update("INSERT INTO tb_mercado (id_lead, nome) VALUES (2, 'Saúde'), (3, ' ')");
+        // Em branco apenas com tabulação, espaço não separável e espaço largo: ignorados como na importação.
+        legacy.update("INSERT INTO tb_mercado (id_lead, nome) VALUES (1, CHAR(9)), (2, CHAR(160)), (3, ' ' || CHAR(8195))");
+
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    @DisplayName("Banco anterior às migrações deve ser marcado na V1 e receber tabelas e agregados das versões seguintes, sem valores em branco")
+    void shouldMigrateDatabaseCreatedBeforeFlyway() {
+        List<String> versions = jdbcTemplate.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\" FETCH FIRST 4 ROWS ONLY", String.class);
+        assertEquals(List.of("1", "1.1", "1.2", "1.3"), versions);
+
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT Total_leads FROM Tb_documento WHERE id = 1", Long.class));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT Total_vendido FROM Tb_documento WHERE id = 1", Long.class));
+        assertEquals(List.of("Saúde:1:1", "Varejo:4:2"), jdbcTemplate.queryForList(
+                "SELECT Valor || ':' || Total_leads || ':' || Total_vendido FROM Tb_documento_estatistica "
+                        + "WHERE Id_documento = 1 AND Dimensao = 'MERCADO' ORDER BY Valor", String.class));
+    }
+}
@@ -0,0 +1,59 @@
+package com.nology.leaddecisions.analytics.api;
+
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.nology.leaddecisions.analytics.api.ReportEncodings.gzip;
+
+/**
+ * Benchmarks JMH da codificação do MarketingReport nos formatos servidos pela API de Analytics
+ * (JSON e CBOR, com e sem gzip). Os tamanhos e a equivalência do conteúdo são verificados em ReportEncodingTest.
+ *
+ * Execução: mvn -Pbenchmarks test -Djmh.args="ReportEncodingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportEncodingBenchmark {
+
+    /**
+     * Grupos da maior dimensão (SUB_ORIGEM).
+     */
+    @Param({"20", "2000"})
+    public int groups;
+
+    private final ObjectMapper json = ReportEncodings.json();
+    private final ObjectMapper cbor = ReportEncodings.cbor();
+    private MarketingReport report;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        report = ReportEncodings.report(groups);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return json.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() {
+        return gzip(json.writeValueAsBytes(report));
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return cbor.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public byte[] cborGzip() {
+        return gzip(cbor.writeValueAsBytes(report));
+    }
+}
@@ -0,0 +1,37 @@
+package com.nology.leaddecisions.analytics.api;
+
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import static com.nology.leaddecisions.analytics.api.ReportEncodings.gzip;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Equivalência e tamanho do MarketingReport em JSON e CBOR, com e sem gzip, nos formatos servidos pela
+ * API de Analytics. O tempo de codificação é medido em ReportEncodingBenchmark (mvn -Pbenchmarks test).
+ */
+class ReportEncodingTest {
+
+    private final ObjectMapper json = ReportEncodings.json();
+    private final ObjectMapper cbor = ReportEncodings.cbor();
+
+    @Test
+    @DisplayName("CBOR deve representar o mesmo relatório com menos bytes que JSON")
+    void shouldEncodeReportMoreCompactlyInCbor() {
+        MarketingReport report = ReportEncodings.report(2_000);
+
+        byte[] jsonBytes = json.writeValueAsBytes(report);
+        byte[] cborBytes = cbor.writeValueAsBytes(report);
+
+        // Reescrito em JSON, pois o CBOR guarda as taxas exatas em float (nós de tipos diferentes na árvore).
+        JsonNode fromJson = json.readTree(jsonBytes);
+        JsonNode fromCbor = json.readTree(json.writeValueAsBytes(cbor.readTree(cborBytes)));
+        assertEquals(fromJson, fromCbor);
+        assertTrue(cborBytes.length < jsonBytes.length);
+        assertTrue(gzip(cborBytes).length < cborBytes.length);
+        assertTrue(gzip(jsonBytes).length < jsonBytes.length);
+    }
+}
@@ -0,0 +1,78 @@
+package com.nology.leaddecisions.analytics.api;
+
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.cbor.CBORWriteFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Relatório sintético e codificadores dos formatos servidos pela API de Analytics, compartilhados pelo
+ * teste de equivalência (ReportEncodingTest) e pelo benchmark de codificação (ReportEncodingBenchmark).
+ */
+final class ReportEncodings {
+
+    private ReportEncodings() {
+    }
+
+    static ObjectMapper json() {
+        return JsonMapper.builder().build();
+    }
+
+    /**
+     * Mesma configuração de spring.jackson.cbor.write em application.properties.
+     */
+    static ObjectMapper cbor() {
+        return CBORMapper.builder()
+                .enable(CBORWriteFeature.WRITE_MINIMAL_DOUBLES)
+                .build();
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Relatório com o formato de produção: três dimensões, a maior com muitos grupos (sub-origens).
+     */
+    static MarketingReport report(int groups) {
+        List<MarketingReport.DimensionAnalysis> analyses = new ArrayList<>();
+        for (String dimension : List.of("MERCADO", "ORIGEM", "SUB_ORIGEM")) {
+            int size = dimension.equals("SUB_ORIGEM") ? groups : 20;
+            List<AnalysisGroup> ranking = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ranking.add(new AnalysisGroup(dimension + " " + i, 50 + i * 7L, (i * 13L) % 50, 10, 18.37));
+            }
+            analyses.add(MarketingReport.DimensionAnalysis.builder()
+                    .dimension(dimension)
+                    .description("Performance por " + dimension)
+                    .ranking(ranking)
+                    .totalGroups(size)
+                    .build());
+        }
+
+        return MarketingReport.builder()
+                .reportId("benchmark")
+                .generatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .globalStats(MarketingReport.GlobalStats.builder()
+                        .totalLeads(1_000_000).totalSales(183_700).overallConversionRate(18.37).build())
+                .analyses(analyses)
+                .topInsights(Map.of("Melhor ORIGEM", "ORIGEM 19 (26.32%)"))
+                .build();
+    }
+}
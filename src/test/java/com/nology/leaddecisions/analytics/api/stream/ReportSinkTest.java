@@ -0,0 +1,167 @@
+package com.nology.leaddecisions.analytics.api.stream;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.ports.AnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.ArchiveAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.SketchAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.impl.AnalyticsServiceImpl;
+import com.nology.leaddecisions.shared.concurrent.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Percorre o relatório em fluxo pelos dois formatos e compara o resultado com o relatório consolidado
+ * gerado para os mesmos dados: mesmos grupos, na mesma ordem, e mesmos vencedores nos insights.
+ */
+class ReportSinkTest {
+
+    private static final Map<AnalysisDimension, List<DimensionStatsDto>> STATS = Map.of(
+            AnalysisDimension.MERCADO, List.of(
+                    new DimensionStatsDto("Tecnologia", 50L, 20L),
+                    new DimensionStatsDto("Saúde", 40L, 4L),
+                    new DimensionStatsDto("Educação", 20L, 8L),
+                    new DimensionStatsDto("Varejo", 5L, 5L),
+                    new DimensionStatsDto("Indústria", 85L, 3L)),
+            AnalysisDimension.ORIGEM, List.of(
+                    new DimensionStatsDto("Google", 120L, 30L),
+                    new DimensionStatsDto("Meta", 60L, 6L),
+                    new DimensionStatsDto("Indicação", 20L, 4L)));
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private AnalyticsServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AnalyticsRepositoryPort repository = mock(AnalyticsRepositoryPort.class);
+        DimensionAnalyticsRepositoryPort dimensionRepository = mock(DimensionAnalyticsRepositoryPort.class);
+        when(repository.countTotalLeads()).thenReturn(200L);
+        when(repository.countTotalSales()).thenReturn(40L);
+        when(repository.getStatsByMarket()).thenReturn(STATS.get(AnalysisDimension.MERCADO));
+        when(repository.getStatsBySource()).thenReturn(STATS.get(AnalysisDimension.ORIGEM));
+        for (AnalysisDimension dimension : STATS.keySet()) {
+            doAnswer(invocation -> {
+                // O adaptador entrega os grupos já ordenados pela régua do ranking (RN07).
+                Consumer<DimensionStatsDto> consumer = invocation.getArgument(1);
+                STATS.get(dimension).stream().sorted(RANKED).forEach(consumer);
+                return null;
+            }).when(dimensionRepository).streamRankedStats(eq(dimension), any(Consumer.class));
+        }
+
+        service = new AnalyticsServiceImpl(repository, dimensionRepository,
+                mock(DocumentAnalyticsRepositoryPort.class), mock(SketchAnalyticsRepositoryPort.class),
+                mock(ArchiveAnalyticsRepositoryPort.class), new SingleFlight<>(2, Duration.ofSeconds(1)),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("JSON em fluxo deve ter a estrutura, os rankings e os insights do relatório consolidado")
+    void shouldStreamJsonEquivalentToTheFullReport() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.createGenerator(output)) {
+            service.streamFullReport(new JsonReportSink(generator));
+        }
+
+        JsonNode streamed = mapper.readTree(output.toByteArray());
+        JsonNode expected = fullReport();
+
+        assertTrue(streamed.get("reportId").isString());
+        assertTrue(streamed.has("generatedAt"));
+        assertEquals(withoutIdentity(expected), withoutIdentity(streamed));
+        assertEquals("Tecnologia (40.0%)", streamed.get("topInsights").get("Melhor MERCADO").asString());
+    }
+
+    @Test
+    @DisplayName("NDJSON em fluxo deve entregar, linha a linha, os mesmos grupos e insights do relatório consolidado")
+    void shouldStreamNdjsonEquivalentToTheFullReport() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.writer().withRootValueSeparator("\n").createGenerator(output)) {
+            service.streamFullReport(new NdjsonReportSink(generator));
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode expected = fullReport();
+
+        // Reconstrói o documento a partir das linhas, conferindo a sequência de tipos.
+        ObjectNode rebuilt = mapper.createObjectNode();
+        ArrayNode analyses = rebuilt.putArray("analyses");
+        ObjectNode current = null;
+        StringBuilder types = new StringBuilder();
+        for (String line : lines) {
+            JsonNode node = mapper.readTree(line);
+            String type = node.get("type").asString();
+            types.append(type.charAt(0));
+            switch (type) {
+                case "report" -> rebuilt.set("globalStats", node.get("globalStats"));
+                case "dimension" -> {
+                    current = analyses.addObject();
+                    current.set("dimension", node.get("dimension"));
+                    current.set("description", node.get("description"));
+                    current.putArray("ranking");
+                }
+                case "group" -> {
+                    assertEquals(current.get("dimension"), node.get("dimension"));
+                    ObjectNode group = (ObjectNode) node.deepCopy();
+                    group.remove(List.of("type", "dimension"));
+                    ((ArrayNode) current.get("ranking")).add(group);
+                }
+                case "dimensionEnd" -> current.set("totalGroups", node.get("totalGroups"));
+                case "insights" -> rebuilt.set("topInsights", node.get("topInsights"));
+                default -> fail("Unexpected line type: " + type);
+            }
+        }
+
+        assertEquals("rdgggggddgggdi", types.toString());
+        assertEquals(withoutIdentity(expected), rebuilt);
+    }
+
+    /**
+     * Relatório consolidado completo (sem paginação) para os mesmos dados, serializado como no endpoint.
+     */
+    private JsonNode fullReport() {
+        MarketingReport report = service.generateFullReport(RankingQuery.unbounded());
+        assertNotNull(report.getTopInsights().get("Melhor ORIGEM"));
+        return mapper.readTree(mapper.writeValueAsBytes(report));
+    }
+
+    /**
+     * Remove o que é gerado por requisição (id e data) e o que só existe no relatório paginado ou aproximado.
+     */
+    private static ObjectNode withoutIdentity(JsonNode report) {
+        ObjectNode copy = (ObjectNode) report.deepCopy();
+        copy.remove(List.of("reportId", "generatedAt", "approximation"));
+        for (JsonNode analysis : copy.get("analyses")) {
+            ((ObjectNode) analysis).remove("nextCursor");
+        }
+        return copy;
+    }
+
+    private static final Comparator<DimensionStatsDto> RANKED = Comparator
+            .comparingDouble((DimensionStatsDto dto) -> (double) dto.getTotalSold() / dto.getTotalLeads()).reversed()
+            .thenComparing(Comparator.comparingLong(DimensionStatsDto::getTotalSold).reversed());
+}
@@ -0,0 +1,242 @@
+package com.nology.leaddecisions.analytics.api.stream;
+
+import com.nology.leaddecisions.analytics.domain.events.ReportSnapshotCreatedEvent;
+import com.nology.leaddecisions.analytics.domain.models.ReportUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportUpdateBroadcasterTest {
+
+    private final List<FakeEmitter> emitters = new ArrayList<>();
+    private final List<ReportUpdateBroadcaster> broadcasters = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        broadcasters.forEach(ReportUpdateBroadcaster::shutdown);
+    }
+
+    @Test
+    @DisplayName("Fila estourada por um cliente lento deve ser substituída por um único evento resync")
+    void shouldCollapseOverflowedQueueIntoResync() throws Exception {
+        ReportUpdateBroadcaster broadcaster = broadcaster(10, 2, 1, Duration.ofSeconds(10));
+        FakeEmitter emitter = blocking();
+        broadcaster.subscribe();
+        assertTrue(emitter.started.await(5, TimeUnit.SECONDS)); // "connected" em escrita.
+
+        for (long snapshot = 1; snapshot <= 3; snapshot++) {
+            broadcaster.onSnapshotCreated(event(snapshot));
+        }
+        emitter.release.countDown();
+
+        awaitUntil(() -> emitter.sent().size() == 2);
+        Thread.sleep(100);
+        List<String> sent = emitter.sent();
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(0).contains("connected"));
+        assertTrue(sent.get(1).contains("event:resync"));
+    }
+
+    @Test
+    @DisplayName("Conexões simultâneas acima do limite devem receber 503, sem ultrapassar analytics.sse.max-clients")
+    void shouldRejectSubscribersAboveTheCapAtomically() throws Exception {
+        ReportUpdateBroadcaster broadcaster = broadcaster(3, 8, 1, Duration.ofSeconds(10));
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                calls.add(callers.submit(() -> {
+                    start.await();
+                    try {
+                        broadcaster.subscribe();
+                    } catch (ResponseStatusException e) {
+                        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(37, rejected.get());
+        assertThrows(ResponseStatusException.class, broadcaster::subscribe);
+    }
+
+    @Test
+    @DisplayName("Heartbeat deve ser enviado apenas a clientes sem mensagens pendentes")
+    void shouldSendHeartbeatOnlyToIdleClients() throws Exception {
+        ReportUpdateBroadcaster broadcaster = broadcaster(10, 8, 1, Duration.ofSeconds(10));
+        FakeEmitter emitter = blocking();
+        broadcaster.subscribe();
+        assertTrue(emitter.started.await(5, TimeUnit.SECONDS));
+
+        broadcaster.onSnapshotCreated(event(1));
+        broadcaster.heartbeat(); // Mensagem pendente: sem heartbeat.
+        emitter.release.countDown();
+        awaitUntil(() -> emitter.sent().size() == 2);
+
+        broadcaster.heartbeat(); // Ocioso: recebe o heartbeat.
+        awaitUntil(() -> emitter.sent().size() == 3);
+
+        List<String> sent = emitter.sent();
+        assertTrue(sent.get(1).contains("event:report"));
+        assertTrue(sent.get(2).contains("heartbeat"));
+        assertEquals(1, sent.stream().filter(message -> message.contains("heartbeat")).count());
+    }
+
+    @Test
+    @DisplayName("Cliente cujo envio falha deve ser removido e liberar a sua vaga")
+    void shouldRemoveClientWhenSendFails() throws Exception {
+        ReportUpdateBroadcaster broadcaster = broadcaster(1, 8, 1, Duration.ofSeconds(10));
+        FakeEmitter failing = next(new FakeEmitter(false, true));
+        broadcaster.subscribe();
+        awaitUntil(() -> failing.attempts.get() == 1);
+
+        FakeEmitter healthy = next(new FakeEmitter(false, false));
+        awaitUntil(() -> {
+            try {
+                broadcaster.subscribe();
+                return true;
+            } catch (ResponseStatusException e) {
+                return false;
+            }
+        });
+        broadcaster.onSnapshotCreated(event(1));
+
+        awaitUntil(() -> healthy.sent().size() == 2);
+        assertEquals(1, failing.attempts.get());
+    }
+
+    @Test
+    @DisplayName("Escrita travada deve desconectar o cliente sem ocupar a thread de envio dos demais")
+    void shouldDisconnectStalledClientWithoutHoldingTheSender() throws Exception {
+        ReportUpdateBroadcaster broadcaster = broadcaster(2, 8, 1, Duration.ofMillis(200));
+        FakeEmitter stalled = blocking();
+        broadcaster.subscribe();
+        assertTrue(stalled.started.await(5, TimeUnit.SECONDS));
+
+        FakeEmitter healthy = next(new FakeEmitter(false, false));
+        broadcaster.subscribe();
+        broadcaster.onSnapshotCreated(event(1));
+
+        awaitUntil(() -> healthy.sent().size() == 2);
+        assertTrue(healthy.sent().get(1).contains("event:report"));
+        // A vaga do cliente travado foi liberada.
+        next(new FakeEmitter(false, false));
+        assertDoesNotThrow(broadcaster::subscribe);
+    }
+
+    private ReportUpdateBroadcaster broadcaster(int maxClients, int clientBuffer, int senderThreads, Duration sendTimeout) {
+        ReportUpdateBroadcaster broadcaster = new ReportUpdateBroadcaster(JsonMapper.builder().build(),
+                maxClients, clientBuffer, senderThreads, Duration.ofMinutes(30), sendTimeout) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                synchronized (emitters) {
+                    // Emissores não preparados pelo teste são clientes comuns.
+                    FakeEmitter prepared = emitters.stream().filter(emitter -> !emitter.used).findFirst()
+                            .orElseGet(() -> next(new FakeEmitter(false, false)));
+                    prepared.used = true;
+                    return prepared;
+                }
+            }
+        };
+        broadcasters.add(broadcaster);
+        return broadcaster;
+    }
+
+    private FakeEmitter blocking() {
+        return next(new FakeEmitter(true, false));
+    }
+
+    private FakeEmitter next(FakeEmitter emitter) {
+        synchronized (emitters) {
+            emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    private static ReportSnapshotCreatedEvent event(long snapshotId) {
+        return new ReportSnapshotCreatedEvent(ReportUpdate.builder().snapshotId(snapshotId).fullRefresh(true).build());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in 5 s");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Emissor que registra as mensagens em vez de escrevê-las; pode travar a primeira escrita ou falhar em todas.
+     */
+    private static final class FakeEmitter extends SseEmitter {
+
+        private final boolean blockFirst;
+        private final boolean fail;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<String> sent = new ArrayList<>();
+        private volatile boolean used;
+
+        private FakeEmitter(boolean blockFirst, boolean fail) {
+            this.blockFirst = blockFirst;
+            this.fail = fail;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (attempts.incrementAndGet() == 1 && blockFirst) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            synchronized (sent) {
+                sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+            }
+        }
+
+        private List<String> sent() {
+            synchronized (sent) {
+                return new ArrayList<>(sent);
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.CrossAnalysisCell;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionReport;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+import com.nology.leaddecisions.analytics.domain.models.HierarchyNode;
+import com.nology.leaddecisions.analytics.domain.models.HierarchyReport;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.ports.AnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.ArchiveAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSink;
+import com.nology.leaddecisions.shared.concurrent.ConcurrencyLimitExceededException;
+import com.nology.leaddecisions.shared.concurrent.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    @Mock private AnalyticsRepositoryPort repository;
+    @Mock private DimensionAnalyticsRepositoryPort dimensionRepository;
+    @Mock private DocumentAnalyticsRepositoryPort documentRepository;
+    @Mock private ArchiveAnalyticsRepositoryPort archiveRepository;
+    @Spy private SingleFlight<Object, Object> reportFlights = new SingleFlight<>(2, Duration.ofSeconds(1));
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AnalyticsServiceImpl service;
+
+    @Test
+    @DisplayName("Deve retornar apenas as Top-N células relevantes do cubo, ordenadas por conversão")
+    void shouldReturnTopSignificantCellsOrderedByConversion() {
+        when(repository.countTotalLeads()).thenReturn(200L);
+        when(repository.countTotalSales()).thenReturn(40L);
+        streamCells(List.of(
+                new CrossDimensionStatsDto("Tecnologia", "Google", 50L, 20L),
+                new CrossDimensionStatsDto("Tecnologia", "Facebook", 40L, 4L),
+                new CrossDimensionStatsDto("Saúde", "Google", 5L, 5L),
+                new CrossDimensionStatsDto("Saúde", "Facebook", 30L, 9L),
+                new CrossDimensionStatsDto("Educação", "Indicação", 20L, 8L)
+        ));
+
+        CrossDimensionReport report = service.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM, 2);
+
+        assertEquals(5, report.getTotalCells());
+        assertEquals(4, report.getSignificantCells());
+        assertEquals(2, report.getTopCells().size());
+
+        CrossAnalysisCell best = report.getTopCells().get(0);
+        assertEquals("Tecnologia", best.getRowValue());
+        assertEquals("Google", best.getColumnValue());
+        assertEquals(40.0, best.getConversionRate());
+        assertEquals(AnalysisStatus.SUPERIOR_A_MEDIA, best.getStatus());
+
+        CrossAnalysisCell second = report.getTopCells().get(1);
+        assertEquals("Educação", second.getRowValue());
+        assertEquals(40.0, second.getConversionRate());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar análise cruzada de uma dimensão com ela mesma")
+    void shouldRejectSameDimensionOnBothAxes() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.MERCADO, 10)
+        );
+
+        assertEquals("Row and column dimensions must be distinct.", exception.getMessage());
+        verifyNoInteractions(dimensionRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar Top-N fora do intervalo antes de consultar o cubo")
+    void shouldRejectTopNOutOfRange() {
+        for (int topN : new int[]{0, AnalyticsServiceImpl.MAX_TOP_N + 1, Integer.MAX_VALUE}) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> service.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM, topN)
+            );
+
+            assertEquals("Top N must be between 1 and " + AnalyticsServiceImpl.MAX_TOP_N + ".", exception.getMessage());
+        }
+        verifyNoInteractions(dimensionRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar a hierarquia canal -> sub-origem classificando contra a média global e a do canal")
+    @SuppressWarnings("unchecked")
+    void shouldRollUpSourcesIntoSignificantChannelTree() {
+        when(repository.countTotalLeads()).thenReturn(300L);
+        when(repository.countTotalSales()).thenReturn(60L);
+        doAnswer(invocation -> {
+            Consumer<CrossDimensionStatsDto> consumer = invocation.getArgument(0);
+            List.of(
+                    new CrossDimensionStatsDto("Evento", "Feira", 4L, 4L),
+                    new CrossDimensionStatsDto("Facebook", "Feed", 60L, 15L),
+                    new CrossDimensionStatsDto("Facebook", "Stories", 50L, 5L),
+                    new CrossDimensionStatsDto("Google", "Ads", 100L, 30L),
+                    new CrossDimensionStatsDto("Google", "Display", 40L, 4L),
+                    new CrossDimensionStatsDto("Google", null, 5L, 1L),
+                    new CrossDimensionStatsDto("Google", " ", 3L, 0L),
+                    new CrossDimensionStatsDto("Indicação", "Clientes", 8L, 4L),
+                    new CrossDimensionStatsDto("Indicação", "Parceiros", 30L, 9L)
+            ).forEach(consumer);
+            return null;
+        }).when(dimensionRepository).streamSourceHierarchyStats(any(Consumer.class));
+
+        HierarchyReport report = service.generateSourceHierarchy(1);
+
+        assertEquals(4, report.getTotalParents());
+        assertEquals(3, report.getSignificantParents());
+        assertEquals(8, report.getTotalChildren());
+        assertEquals(List.of("Indicação", "Google", "Facebook"),
+                report.getNodes().stream().map(HierarchyNode::getGroupName).toList());
+
+        HierarchyNode google = report.getNodes().get(1);
+        assertEquals(148L, google.getTotalLeads());
+        assertEquals(35L, google.getTotalSold());
+        assertEquals(AnalysisStatus.SUPERIOR_A_MEDIA, google.getStatus());
+        assertEquals("Ads", google.getChildren().get(0).getGroupName());
+        assertEquals(2, google.getOmittedChildren()); // Display (limite) e a sub-origem não informada (threshold).
+        assertEquals(48L, google.getOmittedLeads());
+        assertEquals(5L, google.getOmittedSold());
+
+        HierarchyNode partners = report.getNodes().get(0).getChildren().get(0);
+        assertEquals("Parceiros", partners.getGroupName());
+        assertEquals(34.21, partners.getParentConversionRate());
+        assertEquals(AnalysisStatus.SUPERIOR_A_MEDIA, partners.getStatus());
+        assertEquals(AnalysisStatus.INFERIOR_A_MEDIA, partners.getStatusVsParent());
+    }
+
+    @Test
+    @DisplayName("Deve comparar duas importações ordenando os grupos pela maior variação de conversão")
+    void shouldCompareDocumentsByConversionDelta() {
+        when(documentRepository.getDocumentTotals(Set.of(1L, 2L))).thenReturn(List.of(
+                new DocumentTotalsDto(1L, "semana-01.xlsx", 100L, 20L),
+                new DocumentTotalsDto(2L, "semana-02.xlsx", 100L, 30L)
+        ));
+        when(documentRepository.getStatsByDocuments(List.of(1L), AnalysisDimension.MERCADO)).thenReturn(List.of(
+                new DimensionStatsDto("Tecnologia", 50L, 10L),
+                new DimensionStatsDto("Saúde", 50L, 10L)
+        ));
+        when(documentRepository.getStatsByDocuments(List.of(2L), AnalysisDimension.MERCADO)).thenReturn(List.of(
+                new DimensionStatsDto("Tecnologia", 50L, 25L),
+                new DimensionStatsDto("Saúde", 50L, 5L)
+        ));
+        when(documentRepository.getStatsByDocuments(anyList(), eq(AnalysisDimension.ORIGEM))).thenReturn(List.of());
+
+        ReportComparison comparison = service.compareDocuments(1L, 2L);
+
+        assertEquals(10.0, comparison.getConversionDelta());
+        ReportComparison.DimensionComparison market = comparison.getDimensions().get(0);
+        assertEquals("MERCADO", market.getDimension());
+        assertEquals("Tecnologia", market.getGroups().get(0).getGroupName());
+        assertEquals(30.0, market.getGroups().get(0).getConversionDelta());
+        assertEquals(-10.0, market.getGroups().get(1).getConversionDelta());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar relatório de documento inexistente")
+    void shouldRejectUnknownDocument() {
+        when(documentRepository.getDocumentTotals(Set.of(99L))).thenReturn(List.of());
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.generateDocumentReport(Set.of(99L))
+        );
+
+        assertEquals("Document not found: [99]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve somar aos dados ativos os totais e grupos dos documentos arquivados")
+    void shouldMergeArchivedDocumentsIntoReport() {
+        when(repository.countTotalLeads()).thenReturn(100L);
+        when(repository.countTotalSales()).thenReturn(10L);
+        when(repository.getStatsByMarket()).thenReturn(List.of(new DimensionStatsDto("Tecnologia", 60L, 6L)));
+        when(repository.getStatsBySource()).thenReturn(List.of(new DimensionStatsDto("Google", 100L, 10L)));
+        when(archiveRepository.getArchivedDocumentTotals()).thenReturn(List.of(
+                new DocumentTotalsDto(1L, "2019.xlsx", 50L, 20L)));
+        when(archiveRepository.scanStats(AnalysisDimension.MERCADO)).thenReturn(List.of(
+                new DimensionStatsDto("Tecnologia", 20L, 10L),
+                new DimensionStatsDto("Saúde", 30L, 10L)));
+        when(archiveRepository.scanStats(AnalysisDimension.ORIGEM)).thenReturn(List.of());
+
+        MarketingReport report = service.generateArchiveInclusiveReport(RankingQuery.unbounded());
+
+        assertEquals(150L, report.getGlobalStats().getTotalLeads());
+        assertEquals(30L, report.getGlobalStats().getTotalSales());
+        MarketingReport.DimensionAnalysis market = report.getAnalyses().get(0);
+        assertEquals(2, market.getRanking().size());
+        assertEquals("Saúde", market.getRanking().get(0).getGroupName());
+        assertEquals("Tecnologia", market.getRanking().get(1).getGroupName());
+        assertEquals(80L, market.getRanking().get(1).getTotalLeads());
+        assertEquals(16L, market.getRanking().get(1).getTotalSold());
+    }
+
+    @Test
+    @DisplayName("Relatórios cruzado, de hierarquia, por documento e em fluxo devem respeitar o limite de gerações simultâneas")
+    void shouldCapEveryReportWithTheSameFlights() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // Ocupa as duas vagas com gerações distintas do relatório consolidado.
+            for (String key : List.of("a", "b")) {
+                pool.submit(() -> reportFlights.execute(key, () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return key;
+                }));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Executable> reports = List.of(
+                    () -> service.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM, 10),
+                    () -> service.generateSourceHierarchy(5),
+                    () -> service.generateDocumentReport(Set.of(1L)),
+                    () -> service.streamFullReport(mock(ReportSink.class)));
+            for (Executable report : reports) {
+                assertThrows(ConcurrencyLimitExceededException.class, report);
+            }
+            verifyNoInteractions(repository, dimensionRepository, documentRepository);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamCells(List<CrossDimensionStatsDto> cells) {
+        doAnswer(invocation -> {
+            Consumer<CrossDimensionStatsDto> consumer = invocation.getArgument(2);
+            cells.forEach(consumer);
+            return null;
+        }).when(dimensionRepository).streamCrossStats(eq(AnalysisDimension.MERCADO), eq(AnalysisDimension.ORIGEM), any(Consumer.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortCellDto;
+import com.nology.leaddecisions.analytics.domain.models.CohortMatrix;
+import com.nology.leaddecisions.analytics.domain.ports.CohortRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CohortAnalysisServiceImplTest {
+
+    @Mock private CohortRepositoryPort cohortRepository;
+
+    @InjectMocks
+    private CohortAnalysisServiceImpl service;
+
+    @Test
+    @DisplayName("Deve recalcular apenas as semanas e meses que receberam leads do documento importado")
+    void shouldRecomputeOnlyAffectedPeriods() {
+        when(cohortRepository.findCreationDates(7L)).thenReturn(List.of(
+                LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 3, 5),
+                LocalDate.of(2025, 3, 31)
+        ));
+
+        int recomputed = service.refreshDocument(7L);
+
+        Set<LocalDate> weeks = Set.of(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 31));
+        Set<LocalDate> months = Set.of(LocalDate.of(2025, 3, 1));
+        assertEquals(3, recomputed);
+        for (AnalysisDimension dimension : List.of(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM)) {
+            verify(cohortRepository).recomputeCells(eq(CohortGranularity.WEEK), eq(dimension), argThat(periods -> Set.copyOf(periods).equals(weeks)));
+            verify(cohortRepository).recomputeCells(eq(CohortGranularity.MONTH), eq(dimension), argThat(periods -> Set.copyOf(periods).equals(months)));
+        }
+        verifyNoMoreInteractions(cohortRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar a matriz com totais por período e grupos ordenados por volume")
+    void shouldAssembleMatrixFromCells() {
+        LocalDate january = LocalDate.of(2025, 1, 1);
+        LocalDate february = LocalDate.of(2025, 2, 1);
+        when(cohortRepository.findCells(CohortGranularity.MONTH, AnalysisDimension.MERCADO, january, february)).thenReturn(List.of(
+                new CohortCellDto(january, "Saúde", 10L, 1L),
+                new CohortCellDto(january, "Tecnologia", 40L, 10L),
+                new CohortCellDto(february, "Tecnologia", 20L, 10L)
+        ));
+
+        CohortMatrix matrix = service.getMatrix(CohortGranularity.MONTH, AnalysisDimension.MERCADO,
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 10));
+
+        assertEquals(List.of(january, february), matrix.getPeriods());
+        assertEquals(50L, matrix.getPeriodTotals().get(0).getTotalLeads());
+        assertEquals(22.0, matrix.getPeriodTotals().get(0).getConversionRate());
+
+        CohortMatrix.Row technology = matrix.getRows().get(0);
+        assertEquals("Tecnologia", technology.getGroupName());
+        assertEquals(60L, technology.getTotalLeads());
+        assertEquals(33.33, technology.getConversionRate());
+        assertEquals(50.0, technology.getCells().get(1).getConversionRate());
+        assertEquals("Saúde", matrix.getRows().get(1).getGroupName());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar dimensões sem coorte materializada")
+    void shouldRejectUnsupportedDimension() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getMatrix(CohortGranularity.WEEK, AnalysisDimension.OBJETIVO, null, null)
+        );
+
+        assertEquals("Cohort analysis is available for: [MERCADO, ORIGEM]", exception.getMessage());
+        verify(cohortRepository, never()).findCells(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,83 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadDimensionValueDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadPage;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.models.LeadSummaryDto;
+import com.nology.leaddecisions.analytics.domain.ports.LeadQueryRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeadQueryServiceImplTest {
+
+    @Mock private LeadQueryRepositoryPort leadQueryRepository;
+
+    @InjectMocks
+    private LeadQueryServiceImpl service;
+
+    @Test
+    @DisplayName("Deve buscar as dimensões da página com uma consulta por dimensão e devolver o cursor da próxima página")
+    void shouldBatchDimensionQueriesPerPage() {
+        LeadQuery query = LeadQuery.builder().afterId(10L).limit(2).build();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(leadQueryRepository.findLeads(query, 3)).thenReturn(List.of(
+                new LeadSummaryDto(11L, 1L, createdAt, true),
+                new LeadSummaryDto(12L, 1L, createdAt, false),
+                new LeadSummaryDto(13L, 1L, createdAt, false)
+        ));
+        when(leadQueryRepository.findDimensionValues(any(), eq(List.of(11L, 12L)))).thenReturn(List.of());
+        when(leadQueryRepository.findDimensionValues(AnalysisDimension.MERCADO, List.of(11L, 12L))).thenReturn(List.of(
+                new LeadDimensionValueDto(11L, "Tecnologia"),
+                new LeadDimensionValueDto(11L, "Saúde"),
+                new LeadDimensionValueDto(12L, "Educação")
+        ));
+
+        LeadPage page = service.findLeads(query);
+
+        assertEquals(2, page.getLeads().size());
+        assertEquals(12L, page.getNextCursor());
+        assertEquals(List.of("Tecnologia", "Saúde"), page.getLeads().get(0).getMarkets());
+        assertEquals(List.of("Educação"), page.getLeads().get(1).getMarkets());
+        assertEquals(List.of(), page.getLeads().get(1).getSources());
+        verify(leadQueryRepository, times(AnalysisDimension.values().length)).findDimensionValues(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a paginação sem consultar dimensões quando não houver leads")
+    void shouldReturnLastEmptyPage() {
+        LeadQuery query = LeadQuery.builder().afterId(99L).limit(50).build();
+        when(leadQueryRepository.findLeads(query, 51)).thenReturn(List.of());
+
+        LeadPage page = service.findLeads(query);
+
+        assertTrue(page.getLeads().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(leadQueryRepository, never()).findDimensionValues(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar páginas acima do limite máximo")
+    void shouldRejectOversizedPage() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.findLeads(LeadQuery.builder().limit(1000).build())
+        );
+
+        assertEquals("Page limit must be between 1 and 500.", exception.getMessage());
+        verify(leadQueryRepository, never()).findLeads(any(), anyInt());
+    }
+}
@@ -0,0 +1,106 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DocumentTotalsDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadScore;
+import com.nology.leaddecisions.analytics.domain.models.LeadScoreRanking;
+import com.nology.leaddecisions.analytics.domain.ports.DocumentAnalyticsRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.ports.LeadScoringRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeadScoringServiceImplTest {
+
+    @Mock private LeadScoringRepositoryPort scoringRepository;
+    @Mock private DocumentAnalyticsRepositoryPort documentRepository;
+
+    @InjectMocks
+    private LeadScoringServiceImpl service;
+
+    @Test
+    @DisplayName("Deve ordenar os leads em aberto pela probabilidade de conversão dos seus valores")
+    void shouldRankOpenLeadsByConversionProbability() {
+        when(scoringRepository.findDocumentIds()).thenReturn(List.of(1L));
+        when(documentRepository.getDocumentTotals(List.of(1L))).thenReturn(List.of(new DocumentTotalsDto(1L, "treino.xlsx", 100L, 20L)));
+        when(documentRepository.getDocumentTotals(List.of(2L))).thenReturn(List.of(new DocumentTotalsDto(2L, "novos.xlsx", 4L, 0L)));
+        when(documentRepository.getStatsByDocuments(eq(List.of(1L)), any())).thenReturn(List.of());
+        when(documentRepository.getStatsByDocuments(List.of(1L), AnalysisDimension.MERCADO)).thenReturn(List.of(
+                new DimensionStatsDto("Tecnologia", 50L, 18L),
+                new DimensionStatsDto("Saúde", 50L, 2L)
+        ));
+        when(scoringRepository.findOpenLeadIds(2L)).thenReturn(new long[]{5, 6, 7, 8});
+        doAnswer(invocation -> {
+            LeadScoringRepositoryPort.LeadValueConsumer consumer = invocation.getArgument(2);
+            consumer.accept(5, "Tecnologia");
+            consumer.accept(6, "Saúde");
+            consumer.accept(8, "Varejo"); // Valor não visto no treino: não altera a pontuação.
+            return null;
+        }).when(scoringRepository).streamOpenLeadValues(eq(2L), eq(AnalysisDimension.MERCADO), any());
+
+        LeadScoreRanking ranking = service.scoreDocument(2L, 10);
+
+        assertEquals(4, ranking.getScoredLeads());
+        assertEquals(100, ranking.getTrainingLeads());
+        assertEquals(List.of(5L, 7L, 8L, 6L), ranking.getLeads().stream().map(LeadScore::getLeadId).toList());
+        assertEquals(20.59, ranking.getLeads().get(1).getConversionProbability()); // Apenas a taxa a priori (21/102).
+        assertTrue(ranking.getLeads().get(0).getConversionProbability() > 20.59);
+        assertTrue(ranking.getLeads().get(3).getConversionProbability() < 20.59);
+    }
+
+    @Test
+    @DisplayName("Deve treinar incrementalmente somando apenas as contagens do documento importado")
+    void shouldTrainIncrementallyPerDocument() {
+        when(scoringRepository.findDocumentIds()).thenReturn(List.of(1L));
+        when(documentRepository.getDocumentTotals(List.of(1L))).thenReturn(List.of(new DocumentTotalsDto(1L, "a.xlsx", 100L, 20L)));
+        when(documentRepository.getDocumentTotals(List.of(2L))).thenReturn(List.of(new DocumentTotalsDto(2L, "b.xlsx", 50L, 5L)));
+        when(documentRepository.getStatsByDocuments(any(), any())).thenReturn(List.of());
+        when(scoringRepository.findOpenLeadIds(anyLong())).thenReturn(new long[0]);
+
+        assertEquals(100, service.scoreDocument(1L, 10).getTrainingLeads());
+        service.trainDocument(2L);
+        service.trainDocument(2L); // Documento já incluído no modelo.
+
+        assertEquals(150, service.scoreDocument(2L, 10).getTrainingLeads());
+        verify(scoringRepository, times(1)).findDocumentIds();
+        verify(documentRepository, times(AnalysisDimension.values().length)).getStatsByDocuments(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("Deve selecionar os maiores log-odds na mesma ordem de uma ordenação completa")
+    void shouldSelectTopLikeFullSort() {
+        Random random = new Random(42);
+        long[] leadIds = IntStream.range(0, 5_000).mapToLong(i -> 1_000 + i).toArray();
+        double[] logOdds = new double[leadIds.length];
+        for (int i = 0; i < logOdds.length; i++) {
+            logOdds[i] = random.nextInt(200) / 10.0; // Muitos empates, resolvidos pelo menor id.
+        }
+
+        int[] top = LeadScoringServiceImpl.selectTop(leadIds, logOdds, 100);
+
+        int[] expected = IntStream.range(0, leadIds.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -logOdds[i]).thenComparingLong(i -> leadIds[i]))
+                .limit(100)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertArrayEquals(expected, top);
+        assertEquals(3, LeadScoringServiceImpl.selectTop(leadIds, Arrays.copyOf(logOdds, 3), 100).length);
+    }
+}
@@ -0,0 +1,122 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveSearchResult;
+import com.nology.leaddecisions.analytics.domain.ports.ObjectiveSearchRepositoryPort;
+import com.nology.leaddecisions.shared.search.TrigramIndex;
+import com.nology.leaddecisions.shared.search.TrigramIndexCache;
+import com.nology.leaddecisions.shared.search.TrigramIndexWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH da busca por objetivos (ObjectiveSearchServiceImpl) sobre índices de trigramas sintéticos,
+ * servidos por uma porta em memória: mede a latência de uma busca com os índices já decodificados no cache
+ * e com o cache desligado (cada busca decodifica todos os índices), sem banco de dados.
+ *
+ * Referência para a meta de latência abaixo de 100 ms por busca com milhões de objetivos.
+ *
+ * Execução: mvn -Pbenchmarks test -Djmh.args="ObjectiveSearchBenchmark -p objectives=1000000 -p cached=true"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ObjectiveSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "quer", "reduzir", "custos", "aumentar", "vendas", "expandir", "operacao", "melhorar", "atendimento",
+            "automatizar", "processos", "logistica", "frete", "estoque", "financeiro", "contratar", "equipe",
+            "digital", "marketing", "clientes", "novos", "mercados", "integrar", "sistemas", "margem", "prazo",
+            "entrega", "qualidade", "produto", "servico", "canal", "online", "loja", "fisica", "regional",
+            "nacional", "exportar", "importar", "energia", "consumo", "seguranca", "dados", "nuvem", "migrar",
+            "treinamento", "gestao", "pessoas", "fornecedores", "compras", "negociar", "contratos", "credito",
+            "cobranca", "inadimplencia", "fidelizar", "recorrencia", "assinatura", "parcerias", "franquia", "varejo"
+    };
+
+    /**
+     * Objetivos somados entre todos os documentos.
+     */
+    @Param({"100000", "1000000"})
+    public int objectives;
+
+    @Param({"10"})
+    public int documents;
+
+    /**
+     * true = índices decodificados no cache; false = cache desligado.
+     */
+    @Param({"true", "false"})
+    public boolean cached;
+
+    @Param({"reduzir custos", "frete"})
+    public String query;
+
+    private ObjectiveSearchServiceImpl service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<byte[]> contents = syntheticIndexes(objectives, documents, 17);
+        ObjectiveSearchRepositoryPort repository = new InMemoryObjectiveSearchRepository(contents);
+        service = new ObjectiveSearchServiceImpl(repository, new TrigramIndexCache(cached ? Long.MAX_VALUE : 0));
+        service.search(query, 20);
+    }
+
+    @Benchmark
+    public ObjectiveSearchResult search() {
+        return service.search(query, 20);
+    }
+
+    /**
+     * Objetivos de 3 a 5 palavras de um vocabulário fixo (textos repetidos entre leads e documentos),
+     * com 10% dos leads vendidos e semente fixa para que as execuções sejam comparáveis.
+     */
+    private static List<byte[]> syntheticIndexes(int objectives, int documents, long seed) {
+        Random random = new Random(seed);
+        List<byte[]> contents = new ArrayList<>(documents);
+        long leadId = 0;
+        for (int document = 0; document < documents; document++) {
+            TrigramIndexWriter writer = new TrigramIndexWriter();
+            for (int i = 0; i < objectives / documents; i++) {
+                StringBuilder text = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+                for (int word = 1 + random.nextInt(3); word >= 0; word--) {
+                    text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                writer.add(text.toString(), ++leadId, random.nextInt(10) == 0);
+            }
+            contents.add(writer.toByteArray());
+        }
+        return contents;
+    }
+
+    /**
+     * Porta em memória: o documento i + 1 possui o índice gravado contents[i].
+     */
+    private static final class InMemoryObjectiveSearchRepository implements ObjectiveSearchRepositoryPort {
+
+        private final List<byte[]> contents;
+        private final List<Long> documentIds = new ArrayList<>();
+
+        private InMemoryObjectiveSearchRepository(List<byte[]> contents) {
+            this.contents = contents;
+            for (long id = 1; id <= contents.size(); id++) {
+                documentIds.add(id);
+            }
+        }
+
+        @Override
+        public List<Long> findIndexedDocumentIds() {
+            return documentIds;
+        }
+
+        @Override
+        public TrigramIndex loadIndex(Long documentId) {
+            return TrigramIndex.read(contents.get((int) (documentId - 1)));
+        }
+    }
+}
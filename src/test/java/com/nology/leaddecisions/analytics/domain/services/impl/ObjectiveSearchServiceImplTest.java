@@ -0,0 +1,157 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveMatch;
+import com.nology.leaddecisions.analytics.domain.models.ObjectiveSearchResult;
+import com.nology.leaddecisions.analytics.domain.ports.ObjectiveSearchRepositoryPort;
+import com.nology.leaddecisions.analytics.infraestructure.persistence.JdbcObjectiveSearchRepositoryAdapter;
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import com.nology.leaddecisions.etl.domain.repositories.ObjectiveIndexRepository;
+import com.nology.leaddecisions.etl.infraestructure.service.ObjectiveIndexBuilder;
+import com.nology.leaddecisions.shared.search.TrigramIndex;
+import com.nology.leaddecisions.shared.search.TrigramIndexCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Busca por objetivos sobre índices gravados no H2: soma de objetivos iguais entre documentos, indexação
+ * dos documentos sem índice na inicialização e sincronização do cache de índices com as remoções.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:objective-search;DB_CLOSE_DELAY=-1")
+class ObjectiveSearchServiceImplTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ObjectiveIndexRepository objectiveIndexRepository;
+    @Autowired private PurgeDocumentUseCase purgeService;
+
+    /**
+     * Documentos cujo índice foi carregado do banco, na ordem das cargas.
+     */
+    private final List<Long> loads = new ArrayList<>();
+    private ObjectiveSearchRepositoryPort repository;
+    private ObjectiveIndexBuilder indexBuilder;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_objetivo_indice");
+        jdbcTemplate.update("DELETE FROM Tb_objetivo");
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome, Total_leads, Total_vendido) VALUES "
+                + "(1, 'janeiro.xlsx', 2, 1), (2, 'fevereiro.xlsx', 2, 1), (3, 'antigo.xlsx', 1, 1)");
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Vendido) VALUES "
+                + "(1, 1, TRUE), (2, 1, FALSE), (3, 2, FALSE), (4, 2, TRUE), (5, 3, TRUE)");
+        // O mesmo objetivo com grafias diferentes nos documentos 1, 2 e 3.
+        jdbcTemplate.update("INSERT INTO Tb_objetivo (Id_lead, Descricao) VALUES "
+                + "(1, 'Quer reduzir custos'), (2, 'Expandir vendas'), (3, 'quer REDUZIR custos!'), "
+                + "(4, 'Reduzir custos de frete'), (5, 'Quer reduzir  custos')");
+
+        loads.clear();
+        JdbcObjectiveSearchRepositoryAdapter adapter = new JdbcObjectiveSearchRepositoryAdapter(jdbcTemplate);
+        repository = new ObjectiveSearchRepositoryPort() {
+            @Override
+            public List<Long> findIndexedDocumentIds() {
+                return adapter.findIndexedDocumentIds();
+            }
+
+            @Override
+            public TrigramIndex loadIndex(Long documentId) {
+                loads.add(documentId);
+                return adapter.loadIndex(documentId);
+            }
+        };
+        indexBuilder = new ObjectiveIndexBuilder(objectiveIndexRepository, jdbcTemplate);
+        indexBuilder.rebuild(1L);
+        indexBuilder.rebuild(2L);
+    }
+
+    @Test
+    @DisplayName("Objetivos iguais após a normalização devem ser somados entre documentos")
+    void shouldMergeSameNormalizedObjectiveAcrossDocuments() {
+        ObjectiveSearchResult result = service(Long.MAX_VALUE).search("reduzir custos", 10);
+
+        assertEquals(List.of("Quer reduzir custos:2:1:[1, 3]", "Reduzir custos de frete:1:1:[4]"),
+                matches(result));
+        assertEquals(0.7647, result.getMatches().get(0).getScore());
+        assertEquals(3, result.getTotalMatchedLeads());
+        assertEquals(2, result.getTotalSold());
+    }
+
+    @Test
+    @DisplayName("Indexação na inicialização deve indexar apenas os documentos sem índice e torná-los pesquisáveis")
+    void shouldBackfillMissingIndexesOnStartup() {
+        ObjectiveSearchServiceImpl service = service(Long.MAX_VALUE);
+        assertEquals("[1, 3]", service.search("reduzir custos", 10).getMatches().get(0).getLeadIds().toString());
+
+        indexBuilder.indexMissingDocuments();
+
+        assertEquals(List.of(1L, 2L, 3L), repository.findIndexedDocumentIds());
+        ObjectiveMatch merged = service.search("reduzir custos", 10).getMatches().get(0);
+        assertEquals("Quer reduzir custos:3:2:[1, 3, 5]", format(merged));
+        // Os índices já carregados permanecem no cache; apenas o novo é lido do banco.
+        assertEquals(List.of(1L, 2L, 3L), loads);
+    }
+
+    @Test
+    @DisplayName("Remoção de documento deve descartar o seu índice do cache, sem recarregar os demais")
+    void shouldDropPurgedDocumentFromCache() {
+        TrigramIndexCache cache = new TrigramIndexCache(Long.MAX_VALUE);
+        ObjectiveSearchServiceImpl service = new ObjectiveSearchServiceImpl(repository, cache);
+        service.search("reduzir custos", 10);
+        assertEquals(Set.of(1L, 2L), cache.documentIds());
+        long cachedBytes = cache.sizeBytes();
+
+        purgeService.purge(2L);
+        ObjectiveSearchResult result = service.search("reduzir custos", 10);
+
+        assertEquals(List.of("Quer reduzir custos:1:1:[1]"),
+                matches(result));
+        assertEquals(Set.of(1L), cache.documentIds());
+        assertTrue(cache.sizeBytes() < cachedBytes);
+        assertEquals(List.of(1L, 2L), loads);
+    }
+
+    @Test
+    @DisplayName("Cache de índices deve respeitar o limite de memória, descartando o índice usado há mais tempo")
+    void shouldBoundDecodedIndexes() {
+        JdbcObjectiveSearchRepositoryAdapter adapter = new JdbcObjectiveSearchRepositoryAdapter(jdbcTemplate);
+        long oneIndex = Math.max(adapter.loadIndex(1L).getMemoryBytes(), adapter.loadIndex(2L).getMemoryBytes());
+        TrigramIndexCache cache = new TrigramIndexCache(oneIndex);
+        ObjectiveSearchServiceImpl service = new ObjectiveSearchServiceImpl(repository, cache);
+
+        ObjectiveSearchResult first = service.search("reduzir custos", 10);
+        ObjectiveSearchResult second = service.search("reduzir custos", 10);
+
+        // Cabe apenas um índice: cada carga descarta o outro, e ambos são lidos de novo na segunda busca.
+        assertEquals(matches(first), matches(second));
+        assertTrue(cache.sizeBytes() <= oneIndex);
+        assertEquals(Set.of(2L), cache.documentIds());
+        assertEquals(List.of(1L, 2L, 1L, 2L), loads);
+
+        TrigramIndexCache disabled = new TrigramIndexCache(0);
+        assertEquals(matches(first), matches(new ObjectiveSearchServiceImpl(repository, disabled).search("reduzir custos", 10)));
+        assertEquals(Set.of(), disabled.documentIds());
+    }
+
+    private ObjectiveSearchServiceImpl service(long cacheMaxBytes) {
+        return new ObjectiveSearchServiceImpl(repository, new TrigramIndexCache(cacheMaxBytes));
+    }
+
+    private static List<String> matches(ObjectiveSearchResult result) {
+        return result.getMatches().stream().map(ObjectiveSearchServiceImplTest::format).toList();
+    }
+
+    private static String format(ObjectiveMatch match) {
+        return match.getObjective() + ":" + match.getTotalLeads() + ":" + match.getTotalSold() + ":" + match.getLeadIds();
+    }
+}
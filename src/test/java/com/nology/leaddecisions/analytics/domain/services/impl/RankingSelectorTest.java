@@ -0,0 +1,106 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingSelectorTest {
+
+    private static final int THRESHOLD = 10;
+    private static final double GLOBAL_AVERAGE = 25.0;
+
+    @Test
+    @DisplayName("Deve calcular a taxa com aritmética inteira idêntica à divisão decimal Half-Up")
+    void shouldMatchDecimalConversionRate() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long leads = 1 + random.nextInt(100_000);
+            long sold = random.nextInt((int) leads + 1);
+
+            double expected = BigDecimal.valueOf(sold)
+                    .divide(BigDecimal.valueOf(leads), 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100))
+                    .setScale(2, RoundingMode.HALF_UP)
+                    .doubleValue();
+
+            assertEquals(expected, AnalysisGroup.conversionRateOf(leads, sold), "leads=" + leads + " sold=" + sold);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve percorrer o ranking completo por cursor, sem repetir nem perder grupos")
+    void shouldWalkWholeRankingWithCursor() {
+        List<DimensionStatsDto> rows = randomRows(500);
+        List<String> fullRanking = names(RankingSelector.select(rows, THRESHOLD, GLOBAL_AVERAGE, RankingQuery.unbounded()).groups);
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            RankingSelector.Page page = RankingSelector.select(rows, THRESHOLD, GLOBAL_AVERAGE,
+                    RankingQuery.builder().limit(37).cursor(cursor).build());
+            assertEquals(500, page.totalGroups);
+            paged.addAll(names(page.groups));
+            cursor = page.nextCursor;
+        } while (cursor != null);
+
+        assertEquals(fullRanking, paged);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar offset e filtro de status sobre o ranking ordenado")
+    void shouldApplyOffsetAndStatusFilter() {
+        List<DimensionStatsDto> rows = List.of(
+                new DimensionStatsDto("A", 100L, 50L),
+                new DimensionStatsDto("B", 100L, 40L),
+                new DimensionStatsDto("C", 100L, 10L),
+                new DimensionStatsDto("D", 5L, 5L),
+                new DimensionStatsDto("E", 100L, 30L)
+        );
+
+        RankingSelector.Page page = RankingSelector.select(rows, THRESHOLD, GLOBAL_AVERAGE,
+                RankingQuery.builder().limit(1).offset(1).status(AnalysisStatus.SUPERIOR_A_MEDIA).build());
+
+        assertEquals(3, page.totalGroups);
+        assertEquals(List.of("B"), names(page.groups));
+        assertNotNull(page.nextCursor);
+        assertEquals("A", page.bestGroup.getGroupName());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor() {
+        RankingQuery query = RankingQuery.builder().limit(10).cursor("%%%").build();
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> RankingSelector.select(List.of(), THRESHOLD, GLOBAL_AVERAGE, query)
+        );
+
+        assertEquals("Invalid ranking cursor.", exception.getMessage());
+    }
+
+    private List<DimensionStatsDto> randomRows(int size) {
+        Random random = new Random(7);
+        List<DimensionStatsDto> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long leads = 1 + random.nextInt(50);
+            rows.add(new DimensionStatsDto("grupo-" + i, leads, (long) random.nextInt((int) leads + 1)));
+        }
+        return rows;
+    }
+
+    private List<String> names(List<AnalysisGroup> groups) {
+        return groups.stream().map(AnalysisGroup::getGroupName).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.events.ReadModelUpdatedEvent;
+import com.nology.leaddecisions.analytics.domain.ports.ReadModelProjectionRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadModelProjectionServiceImplTest {
+
+    @Mock private ReadModelProjectionRepositoryPort projectionRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReadModelProjectionServiceImpl service;
+
+    @Test
+    @DisplayName("Deve projetar apenas os documentos pendentes e publicar um evento por documento")
+    void shouldCatchUpUnprojectedDocuments() {
+        when(projectionRepository.findUnprojectedDocumentIds()).thenReturn(List.of(3L, 5L));
+        when(projectionRepository.projectDocument(3L)).thenReturn(120);
+        when(projectionRepository.projectDocument(5L)).thenReturn(90);
+
+        int projectedDocuments = service.catchUp();
+
+        assertEquals(2, projectedDocuments);
+        ArgumentCaptor<ReadModelUpdatedEvent> events = ArgumentCaptor.forClass(ReadModelUpdatedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(3L, events.getAllValues().get(0).getDocumentId());
+        assertEquals(90, events.getAllValues().get(1).getProjectedLeads());
+        verify(projectionRepository, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar a reconstrução completa com um evento sem documento")
+    void shouldPublishEventAfterRebuild() {
+        when(projectionRepository.rebuild()).thenReturn(210);
+
+        assertEquals(210, service.rebuild());
+
+        ArgumentCaptor<ReadModelUpdatedEvent> event = ArgumentCaptor.forClass(ReadModelUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertNull(event.getValue().getDocumentId());
+        assertEquals(210, event.getValue().getProjectedLeads());
+    }
+}
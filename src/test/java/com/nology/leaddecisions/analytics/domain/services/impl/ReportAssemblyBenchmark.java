@@ -0,0 +1,126 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.ports.AnalyticsRepositoryPort;
+import com.nology.leaddecisions.shared.concurrent.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH da montagem do relatório consolidado (RankingSelector, AnalysisGroup e insights),
+ * alimentada por uma porta em memória com grupos sintéticos: mede apenas o Domínio, sem banco de dados.
+ *
+ * Execução (vazão e taxa de alocação com -prof gc): mvn -Pbenchmarks test
+ * Parâmetros do JMH: mvn -Pbenchmarks test -Djmh.args="ReportAssemblyBenchmark -p groups=1000 -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ReportAssemblyBenchmark {
+
+    /**
+     * Grupos por dimensão (MERCADO e ORIGEM recebem a mesma quantidade).
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int groups;
+
+    /**
+     * Tamanho da página de cada ranking; 0 = ranking completo.
+     */
+    @Param({"0", "20"})
+    public int limit;
+
+    private AnalyticsServiceImpl service;
+    private RankingQuery query;
+    private MarketingReport fullReport;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StubAnalyticsRepository repository = new StubAnalyticsRepository(
+                syntheticGroups("mercado-", groups, 7), syntheticGroups("origem-", groups, 11));
+        service = new AnalyticsServiceImpl(repository, null, null, null, null,
+                new SingleFlight<>(1, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        query = limit == 0 ? RankingQuery.unbounded() : RankingQuery.builder().limit(limit).build();
+        fullReport = service.generateFullReport();
+    }
+
+    /**
+     * Relatório a partir das estatísticas por dimensão (caminho das requisições sem snapshot).
+     */
+    @Benchmark
+    public MarketingReport assembleFullReport() {
+        return service.generateFullReport(query);
+    }
+
+    /**
+     * Paginação de um relatório já calculado (caminho das requisições servidas a partir de um snapshot).
+     */
+    @Benchmark
+    public MarketingReport rankSnapshot() {
+        return service.rankReport(fullReport, query);
+    }
+
+    /**
+     * Grupos com volumes entre 1 e 500 leads (parte abaixo do threshold) e taxas de conversão variadas,
+     * com semente fixa para que as execuções sejam comparáveis.
+     */
+    private static List<DimensionStatsDto> syntheticGroups(String prefix, int count, long seed) {
+        Random random = new Random(seed);
+        List<DimensionStatsDto> stats = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long leads = 1 + random.nextInt(500);
+            long sold = (long) (leads * random.nextDouble() * 0.6);
+            stats.add(new DimensionStatsDto(prefix + i, leads, sold));
+        }
+        return stats;
+    }
+
+    /**
+     * Porta em memória: devolve sempre as mesmas listas, com os totais globais coerentes com elas.
+     */
+    private static final class StubAnalyticsRepository implements AnalyticsRepositoryPort {
+
+        private final List<DimensionStatsDto> markets;
+        private final List<DimensionStatsDto> sources;
+        private final long totalLeads;
+        private final long totalSales;
+
+        private StubAnalyticsRepository(List<DimensionStatsDto> markets, List<DimensionStatsDto> sources) {
+            this.markets = markets;
+            this.sources = sources;
+            this.totalLeads = markets.stream().mapToLong(DimensionStatsDto::getTotalLeads).sum();
+            this.totalSales = markets.stream().mapToLong(DimensionStatsDto::getTotalSold).sum();
+        }
+
+        @Override
+        public long countTotalLeads() {
+            return totalLeads;
+        }
+
+        @Override
+        public long countTotalSales() {
+            return totalSales;
+        }
+
+        @Override
+        public List<DimensionStatsDto> getStatsByMarket() {
+            return markets;
+        }
+
+        @Override
+        public List<DimensionStatsDto> getStatsBySource() {
+            return sources;
+        }
+    }
+}
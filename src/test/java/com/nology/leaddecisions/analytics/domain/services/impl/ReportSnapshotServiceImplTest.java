@@ -0,0 +1,145 @@
+package com.nology.leaddecisions.analytics.domain.services.impl;
+
+import com.nology.leaddecisions.analytics.domain.enums.SnapshotTrigger;
+import com.nology.leaddecisions.analytics.domain.events.ReportSnapshotCreatedEvent;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.models.ReportComparison;
+import com.nology.leaddecisions.analytics.domain.models.ReportSnapshotSummary;
+import com.nology.leaddecisions.analytics.domain.models.ReportUpdate;
+import com.nology.leaddecisions.analytics.domain.ports.ReportSnapshotRepositoryPort;
+import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportSnapshotServiceImplTest {
+
+    @Mock private AnalyticsService analyticsService;
+    @Mock private ReportSnapshotRepositoryPort snapshotRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReportSnapshotServiceImpl service;
+
+    @Test
+    @DisplayName("Deve gerar o snapshot uma única vez por versão dos dados e servir os demais acessos da memória")
+    void shouldGenerateOncePerDataVersion() {
+        MarketingReport report = report();
+        when(snapshotRepository.currentDataVersion()).thenReturn("d1-1-100-20");
+        when(snapshotRepository.findReportByDataVersion("d1-1-100-20")).thenReturn(Optional.empty());
+        when(analyticsService.generateFullReport()).thenReturn(report);
+        when(snapshotRepository.save(any(), any(), any())).thenReturn(summary(1L, "d1-1-100-20"));
+
+        assertSame(report, service.getLatestReport(RankingQuery.unbounded()));
+        assertSame(report, service.getLatestReport(RankingQuery.unbounded()));
+
+        verify(analyticsService, times(1)).generateFullReport();
+        verify(snapshotRepository, times(1)).save("d1-1-100-20", SnapshotTrigger.ON_DEMAND, report);
+        verify(eventPublisher, times(1)).publishEvent(any(ReportSnapshotCreatedEvent.class));
+        assertTrue(service.refresh(SnapshotTrigger.SCHEDULE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve pré-calcular um novo snapshot quando a versão dos dados muda")
+    void shouldRefreshWhenDataVersionChanges() {
+        MarketingReport report = report();
+        ReportSnapshotSummary summary = summary(7L, "d2-2-180-30");
+        when(snapshotRepository.currentDataVersion()).thenReturn("d2-2-180-30");
+        when(snapshotRepository.existsByDataVersion("d2-2-180-30")).thenReturn(false);
+        when(analyticsService.generateFullReport()).thenReturn(report);
+        when(snapshotRepository.save(eq("d2-2-180-30"), eq(SnapshotTrigger.IMPORT), any())).thenReturn(summary);
+
+        assertEquals(Optional.of(summary), service.refresh(SnapshotTrigger.IMPORT));
+
+        // A consulta seguinte usa o snapshot recém-calculado, sem ler o conteúdo persistido.
+        assertSame(report, service.getLatestReport(RankingQuery.unbounded()));
+        verify(snapshotRepository, never()).findReportByDataVersion(any());
+    }
+
+    @Test
+    @DisplayName("Deve notificar apenas os grupos alterados em relação ao snapshot anterior")
+    void shouldPublishOnlyChangedGroups() {
+        MarketingReport before = report(List.of(
+                new AnalysisGroup("Google", 50, 10, 10, 20.0),
+                new AnalysisGroup("Meta", 50, 10, 10, 20.0)));
+        MarketingReport after = report(List.of(
+                new AnalysisGroup("Google", 50, 10, 10, 20.0),
+                new AnalysisGroup("Meta", 80, 25, 10, 20.0)));
+        when(snapshotRepository.currentDataVersion()).thenReturn("d1-1-100-20", "d2-2-130-35");
+        when(analyticsService.generateFullReport()).thenReturn(before, after);
+        when(snapshotRepository.save(any(), any(), any())).thenReturn(summary(1L, "d1-1-100-20"), summary(2L, "d2-2-130-35"));
+
+        service.refresh(SnapshotTrigger.SCHEDULE);
+        service.refresh(SnapshotTrigger.IMPORT);
+
+        ArgumentCaptor<ReportSnapshotCreatedEvent> events = ArgumentCaptor.forClass(ReportSnapshotCreatedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+
+        assertTrue(events.getAllValues().get(0).getUpdate().isFullRefresh());
+        ReportUpdate update = events.getAllValues().get(1).getUpdate();
+        assertFalse(update.isFullRefresh());
+        assertEquals(2L, update.getSnapshotId());
+        List<ReportComparison.GroupDelta> changed = update.getChanges().get(0).getGroups();
+        assertEquals(1, changed.size());
+        assertEquals("Meta", changed.get(0).getGroupName());
+        assertEquals(11.25, changed.get(0).getConversionDelta());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a comparação de um snapshot com ele mesmo")
+    void shouldRejectComparingSnapshotWithItself() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.compareSnapshots(3L, 3L)
+        );
+
+        assertEquals("Base and target snapshots must be distinct.", exception.getMessage());
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    private ReportSnapshotSummary summary(Long snapshotId, String dataVersion) {
+        return new ReportSnapshotSummary(snapshotId, dataVersion, SnapshotTrigger.IMPORT,
+                LocalDateTime.of(2026, 3, 1, 8, 0), 100L, 20L, 512L);
+    }
+
+    private MarketingReport report() {
+        return report(List.of());
+    }
+
+    private MarketingReport report(List<AnalysisGroup> ranking) {
+        return MarketingReport.builder()
+                .reportId("r-1")
+                .generatedAt(LocalDateTime.of(2026, 3, 1, 8, 0))
+                .globalStats(MarketingReport.GlobalStats.builder().totalLeads(100).totalSales(20).overallConversionRate(20.0).build())
+                .analyses(List.of(MarketingReport.DimensionAnalysis.builder()
+                        .dimension("ORIGEM")
+                        .description("Performance por canal")
+                        .ranking(ranking)
+                        .totalGroups(ranking.size())
+                        .build()))
+                .topInsights(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.nology.leaddecisions.analytics.infraestructure.export;
+
+import com.nology.leaddecisions.analytics.domain.enums.ExportFormat;
+import com.nology.leaddecisions.analytics.domain.ports.TabularSink;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabularSinksTest {
+
+    @Test
+    @DisplayName("Deve gerar CSV compactado com escape RFC 4180 e tabelas separadas por linha em branco")
+    void shouldWriteEscapedGzipCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TabularSink sink = TabularSinks.open(ExportFormat.CSV, out)) {
+            sink.startTable("Leads", List.of("ID", "Mercado"));
+            sink.row(1L, "Tecnologia; Saúde");
+            sink.row(2L, "Varejo, \"Atacado\"");
+            sink.row(3L, null);
+            sink.startTable("Insights", List.of("Insight"));
+            sink.row("Melhor MERCADO");
+            sink.finish();
+        }
+
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("ID,Mercado\r\n1,Tecnologia; Saúde\r\n2,\"Varejo, \"\"Atacado\"\"\"\r\n3,\r\n\r\nInsight\r\nMelhor MERCADO\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("Deve gerar XLSX com uma aba por tabela e células tipadas")
+    void shouldWriteXlsxSheets() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TabularSink sink = TabularSinks.open(ExportFormat.XLSX, out)) {
+            sink.startTable("MERCADO", List.of("Grupo", "Leads", "Data"));
+            sink.row("Tecnologia", 42L, LocalDateTime.of(2025, 1, 10, 9, 30));
+            sink.startTable("ORIGEM", List.of("Grupo"));
+            sink.row("Google");
+            sink.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            Sheet market = workbook.getSheet("MERCADO");
+            assertEquals("Grupo", market.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(42.0, market.getRow(1).getCell(1).getNumericCellValue());
+            assertEquals(LocalDateTime.of(2025, 1, 10, 9, 30), market.getRow(1).getCell(2).getLocalDateTimeCellValue());
+            assertEquals("Google", workbook.getSheet("ORIGEM").getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+}
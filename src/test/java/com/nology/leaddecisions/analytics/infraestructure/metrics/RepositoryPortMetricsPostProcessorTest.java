@@ -0,0 +1,63 @@
+package com.nology.leaddecisions.analytics.infraestructure.metrics;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionSketchDto;
+import com.nology.leaddecisions.analytics.domain.ports.SketchAnalyticsRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryPortMetricsPostProcessorTest {
+
+    @Test
+    @DisplayName("Deve medir cada chamada das portas de repositório, marcando porta, método e exceção")
+    void shouldTimeRepositoryPortCalls() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RepositoryPortMetricsPostProcessor postProcessor = new RepositoryPortMetricsPostProcessor(
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+
+        SketchAnalyticsRepositoryPort port = (SketchAnalyticsRepositoryPort) postProcessor.postProcessAfterInitialization(
+                new FakeSketchRepository(), "sketchRepository");
+
+        port.getSketches(AnalysisDimension.MERCADO);
+        port.getSketches(AnalysisDimension.MERCADO);
+        assertThrows(IllegalStateException.class, () -> port.getSketches(AnalysisDimension.OBJETIVO));
+
+        Timer success = meterRegistry.get(RepositoryPortMetricsPostProcessor.TIMER_NAME)
+                .tags("port", "SketchAnalyticsRepositoryPort", "method", "getSketches", "exception", "none")
+                .timer();
+        assertEquals(2, success.count());
+        Timer failure = meterRegistry.get(RepositoryPortMetricsPostProcessor.TIMER_NAME)
+                .tags("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    @DisplayName("Não deve envolver beans que não são portas de repositório")
+    void shouldIgnoreOtherBeans() {
+        RepositoryPortMetricsPostProcessor postProcessor = new RepositoryPortMetricsPostProcessor(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    private static class FakeSketchRepository implements SketchAnalyticsRepositoryPort {
+        @Override
+        public List<DimensionSketchDto> getSketches(AnalysisDimension dimension) {
+            if (dimension == AnalysisDimension.OBJETIVO) {
+                throw new IllegalStateException("Unsupported dimension");
+            }
+            return List.of();
+        }
+    }
+}
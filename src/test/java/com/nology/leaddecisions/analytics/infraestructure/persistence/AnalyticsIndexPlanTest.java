@@ -0,0 +1,219 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que as consultas do Analytics e da exportação usam os índices criados pelas migrações
+ * (db/migration/V2__analytics_indexes.sql), inspecionando o plano de execução do H2.
+ *
+ * Os adaptadores rodam sobre um DataSource que registra as instruções executadas (SQL e parâmetros);
+ * o EXPLAIN é feito sobre essas instruções, e nenhuma tabela do plano pode ser lida por varredura.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:index-plan;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsIndexPlanTest {
+
+    /**
+     * Acesso de uma tabela no plano do H2: a tabela (e o alias) seguida do comentário com o índice usado,
+     * ou com "TB_X.tableScan" quando a tabela é varrida.
+     */
+    private static final Pattern TABLE_ACCESS = Pattern.compile("PUBLIC\\.(TB_\\w+)(?: \\w+)?\\s*/\\* PUBLIC\\.([\\w.]+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<RecordedStatement> executed = new ArrayList<>();
+    private JdbcTemplate recordingJdbc;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO Tb_documento (Documento_nome, Total_leads, Total_vendido) "
+                + "SELECT 'doc-' || X, 500, 50 FROM SYSTEM_RANGE(1, 4)");
+        jdbcTemplate.update("INSERT INTO Tb_lead (Id_documento, Data_cadastro, Vendido) "
+                + "SELECT MOD(X, 4) + 1, DATEADD('DAY', MOD(X, 60), TIMESTAMP '2025-01-01 00:00:00'), MOD(X, 10) = 0 "
+                + "FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) SELECT id, 'Mercado ' || MOD(id, 12) FROM Tb_lead");
+        jdbcTemplate.update("INSERT INTO Tb_origem (Id_lead, Nome, Sub_origem) "
+                + "SELECT id, 'Origem ' || MOD(id, 6), 'Sub ' || MOD(id, 18) FROM Tb_lead");
+        jdbcTemplate.update("INSERT INTO Tb_documento_estatistica (Id_documento, Dimensao, Valor, Total_leads, Total_vendido) "
+                + "SELECT MOD(X, 4) + 1, 'MERCADO', 'Mercado ' || MOD(X, 120), 10, 1 FROM SYSTEM_RANGE(1, 480)");
+        jdbcTemplate.execute("ANALYZE");
+
+        recordingJdbc = new JdbcTemplate(recording(dataSource));
+    }
+
+    @BeforeEach
+    void clearRecording() {
+        executed.clear();
+    }
+
+    @Test
+    @DisplayName("Ranking por dimensão deve ler a tabela dimensional apenas pelo índice de cobertura")
+    void rankedStatsShouldUseCoveringIndex() {
+        new JdbcDimensionAnalyticsRepositoryAdapter(recordingJdbc).streamRankedStats(AnalysisDimension.MERCADO, stats -> { });
+
+        assertOnlyStatementUses("IDX_MERCADO_LEAD_NOME");
+    }
+
+    @Test
+    @DisplayName("Análise cruzada deve ler origem e sub-origem do mesmo índice")
+    void crossStatsShouldUseCoveringIndex() {
+        new JdbcDimensionAnalyticsRepositoryAdapter(recordingJdbc)
+                .streamCrossStats(AnalysisDimension.ORIGEM, AnalysisDimension.SUB_ORIGEM, stats -> { });
+
+        assertOnlyStatementUses("IDX_ORIGEM_LEAD_NOME_SUB");
+    }
+
+    @Test
+    @DisplayName("Hierarquia canal/sub-origem deve ler Tb_origem apenas pelo índice de cobertura")
+    void sourceHierarchyShouldUseCoveringIndex() {
+        new JdbcDimensionAnalyticsRepositoryAdapter(recordingJdbc).streamSourceHierarchyStats(stats -> { });
+
+        assertOnlyStatementUses("IDX_ORIGEM_LEAD_NOME_SUB");
+    }
+
+    @Test
+    @DisplayName("Estatísticas por documento devem ser lidas apenas do índice de cobertura")
+    void documentStatsShouldUseCoveringIndex() {
+        new JdbcDocumentAnalyticsRepositoryAdapter(new NamedParameterJdbcTemplate(recordingJdbc))
+                .getStatsByDocuments(Set.of(1L, 2L), AnalysisDimension.MERCADO);
+
+        assertOnlyStatementUses("IDX_DOCUMENTO_ESTATISTICA_COBERTURA");
+    }
+
+    @Test
+    @DisplayName("Filtros de exportação por documento e por período devem usar os índices de Tb_lead e das dimensões")
+    void leadFiltersShouldUseIndexes() {
+        JdbcLeadExportRepositoryAdapter adapter = new JdbcLeadExportRepositoryAdapter(recordingJdbc);
+
+        adapter.streamLeads(LeadExportFilter.builder().documentId(2L).sold(true).build(), row -> { });
+        assertOnlyStatementUses("IDX_LEAD_DOCUMENTO_VENDIDO", "IDX_MERCADO_LEAD_NOME", "IDX_ORIGEM_LEAD_NOME_SUB",
+                "IDX_LOCAL_LEAD_NOME", "IDX_PORTE_LEAD_PORTE", "IDX_OBJETIVO_LEAD_DESCRICAO");
+
+        executed.clear();
+        adapter.streamLeads(LeadExportFilter.builder()
+                .createdFrom(LocalDateTime.of(2025, 1, 10, 0, 0))
+                .createdTo(LocalDateTime.of(2025, 1, 12, 0, 0))
+                .build(), row -> { });
+        assertOnlyStatementUses("IDX_LEAD_CADASTRO_VENDIDO");
+    }
+
+    /**
+     * Confere o plano da única instrução executada pelo adaptador: todos os índices esperados aparecem
+     * e nenhuma tabela é lida por varredura completa.
+     */
+    private void assertOnlyStatementUses(String... indexes) {
+        assertEquals(1, executed.size(), () -> "Expected a single statement, got " + executed);
+        RecordedStatement statement = executed.get(0);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + statement.sql, String.class, statement.parameters())
+                .replace("\"", "")
+                .toUpperCase();
+
+        Matcher access = TABLE_ACCESS.matcher(plan);
+        int tables = 0;
+        while (access.find()) {
+            tables++;
+            assertFalse(access.group(2).endsWith(".TABLESCAN"),
+                    () -> "Table " + access.group(1) + " scanned by plan:\n" + plan);
+        }
+        assertTrue(tables > 0, () -> "No table access found in plan:\n" + plan);
+        for (String index : indexes) {
+            assertTrue(plan.contains("PUBLIC." + index), () -> "Index " + index + " not used by plan:\n" + plan);
+        }
+    }
+
+    /**
+     * DataSource que registra o SQL de cada instrução executada e os parâmetros ligados a ela.
+     */
+    private DataSource recording(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) -> result instanceof Connection connection
+                ? proxy(Connection.class, connection, (connectionMethod, connectionArgs, statement) -> {
+                    if (statement instanceof PreparedStatement prepared && connectionMethod.getName().equals("prepareStatement")) {
+                        RecordedStatement recorded = new RecordedStatement((String) connectionArgs[0]);
+                        executed.add(recorded);
+                        return proxy(PreparedStatement.class, prepared, (statementMethod, statementArgs, ignored) -> {
+                            if (statementMethod.getName().startsWith("set") && statementArgs != null && statementArgs.length >= 2
+                                    && statementArgs[0] instanceof Integer index) {
+                                recorded.parameters.put(index, statementMethod.getName().equals("setNull") ? null : statementArgs[1]);
+                            }
+                            return ignored;
+                        });
+                    }
+                    if (statement instanceof Statement plain && connectionMethod.getName().equals("createStatement")) {
+                        return proxy(Statement.class, plain, (statementMethod, statementArgs, ignored) -> {
+                            if (statementMethod.getName().startsWith("execute") && statementArgs != null
+                                    && statementArgs[0] instanceof String sql) {
+                                executed.add(new RecordedStatement(sql));
+                            }
+                            return ignored;
+                        });
+                    }
+                    return statement;
+                })
+                : result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return interceptor.after(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object after(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    private static final class RecordedStatement {
+        private final String sql;
+        private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+
+        private RecordedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        private Object[] parameters() {
+            return parameters.values().toArray();
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + parameters;
+        }
+    }
+}
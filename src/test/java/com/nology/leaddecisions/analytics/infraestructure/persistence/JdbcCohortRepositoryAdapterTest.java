@@ -0,0 +1,99 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.enums.CohortGranularity;
+import com.nology.leaddecisions.analytics.domain.models.CohortCellDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cohort-cells;DB_CLOSE_DELAY=-1")
+class JdbcCohortRepositoryAdapterTest {
+
+    private static final LocalDate WEEK_2 = LocalDate.of(2025, 1, 6);
+    private static final LocalDate WEEK_3 = LocalDate.of(2025, 1, 13);
+    private static final LocalDate WEEK_6 = LocalDate.of(2025, 2, 3);
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private JdbcCohortRepositoryAdapter adapter;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_coorte_celula");
+        jdbcTemplate.update("DELETE FROM Tb_mercado");
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome) VALUES (1, 'janeiro.xlsx'), (2, 'outro.xlsx')");
+        // Segunda e domingo da mesma semana; lead 2 com Vendido nulo; lead 5 sem data de cadastro.
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Data_cadastro, Vendido) VALUES "
+                + "(1, 1, TIMESTAMP '2025-01-06 00:00:00', TRUE), (2, 1, TIMESTAMP '2025-01-12 23:59:59', NULL), "
+                + "(3, 1, TIMESTAMP '2025-01-13 08:00:00', FALSE), (4, 1, TIMESTAMP '2025-02-03 10:00:00', TRUE), "
+                + "(5, 1, NULL, TRUE), (6, 2, TIMESTAMP '2025-01-07 10:00:00', TRUE)");
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES "
+                + "(1, 'Varejo'), (2, 'Varejo'), (3, 'Saúde'), (4, 'Varejo'), (5, 'Varejo'), (6, 'Varejo')");
+
+        adapter = new JdbcCohortRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve listar as datas de cadastro do documento, ignorando leads sem data")
+    void shouldFindCreationDatesOfDocument() {
+        assertEquals(List.of(WEEK_2, LocalDate.of(2025, 1, 12), WEEK_3, WEEK_6),
+                adapter.findCreationDates(1L).stream().sorted().toList());
+        assertEquals(5, adapter.findCreationDates(null).size());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por semana (segunda a domingo) e por mês, contando Vendido nulo como não vendido")
+    void shouldComputeWeekAndMonthBuckets() {
+        adapter.recomputeCells(CohortGranularity.WEEK, AnalysisDimension.MERCADO, List.of(WEEK_2, WEEK_3, WEEK_6));
+        adapter.recomputeCells(CohortGranularity.MONTH, AnalysisDimension.MERCADO, List.of(JANUARY, FEBRUARY));
+
+        assertEquals(List.of("2025-01-06:Varejo:3:2", "2025-01-13:Saúde:1:0", "2025-02-03:Varejo:1:1"),
+                cells(CohortGranularity.WEEK, null, null));
+        assertEquals(List.of("2025-01-01:Saúde:1:0", "2025-01-01:Varejo:3:2", "2025-02-01:Varejo:1:1"),
+                cells(CohortGranularity.MONTH, null, null));
+        assertEquals(List.of("2025-01-13:Saúde:1:0"), cells(CohortGranularity.WEEK, WEEK_3, WEEK_3));
+    }
+
+    @Test
+    @DisplayName("Recálculo deve substituir apenas os períodos informados, inclusive removendo valores que deixaram de existir")
+    void shouldReplaceOnlyRecomputedPeriods() {
+        adapter.recomputeCells(CohortGranularity.WEEK, AnalysisDimension.MERCADO, List.of(WEEK_2, WEEK_3, WEEK_6));
+        adapter.recomputeCells(CohortGranularity.MONTH, AnalysisDimension.MERCADO, List.of(JANUARY, FEBRUARY));
+
+        // Nova importação: o lead de fevereiro muda de mercado e um lead de janeiro deixa de existir.
+        jdbcTemplate.update("UPDATE Tb_mercado SET Nome = 'Saúde' WHERE Id_lead = 4");
+        jdbcTemplate.update("DELETE FROM Tb_mercado WHERE Id_lead = 3");
+        adapter.recomputeCells(CohortGranularity.MONTH, AnalysisDimension.MERCADO, List.of(FEBRUARY));
+
+        // Janeiro mantém o Saúde removido (não recalculado); em fevereiro, Varejo sai e Saúde entra.
+        assertEquals(List.of("2025-01-01:Saúde:1:0", "2025-01-01:Varejo:3:2", "2025-02-01:Saúde:1:1"),
+                cells(CohortGranularity.MONTH, null, null));
+        assertEquals(List.of("2025-01-06:Varejo:3:2", "2025-01-13:Saúde:1:0", "2025-02-03:Varejo:1:1"),
+                cells(CohortGranularity.WEEK, null, null));
+    }
+
+    private List<String> cells(CohortGranularity granularity, LocalDate from, LocalDate to) {
+        return adapter.findCells(granularity, AnalysisDimension.MERCADO, from, to).stream()
+                .map(JdbcCohortRepositoryAdapterTest::format)
+                .sorted()
+                .toList();
+    }
+
+    private static String format(CohortCellDto cell) {
+        return cell.getPeriodStart() + ":" + cell.getCategoryName() + ":" + cell.getTotalLeads() + ":" + cell.getTotalSold();
+    }
+}
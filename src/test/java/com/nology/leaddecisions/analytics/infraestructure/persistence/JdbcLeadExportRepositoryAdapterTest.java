@@ -0,0 +1,37 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.models.LeadExportFilter;
+import com.nology.leaddecisions.analytics.domain.models.LeadExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lead-export;DB_CLOSE_DELAY=-1")
+class JdbcLeadExportRepositoryAdapterTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve exportar Vendido nulo como nulo, independentemente das demais colunas da linha")
+    void shouldExportSoldFlagFromItsOwnColumn() {
+        jdbcTemplate.update("INSERT INTO Tb_documento (Documento_nome) VALUES ('exportacao.xlsx')");
+        long documentId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM Tb_documento", Long.class);
+        jdbcTemplate.update("INSERT INTO Tb_lead (Id_documento, Data_cadastro, Vendido) VALUES "
+                + "(?, NULL, TRUE), (?, TIMESTAMP '2025-01-01 10:00:00', NULL), (?, NULL, FALSE)",
+                documentId, documentId, documentId);
+
+        List<LeadExportRow> rows = new ArrayList<>();
+        new JdbcLeadExportRepositoryAdapter(jdbcTemplate)
+                .streamLeads(LeadExportFilter.builder().documentId(documentId).build(), rows::add);
+
+        assertEquals(Arrays.asList(true, null, false), rows.stream().map(LeadExportRow::getSold).toList());
+    }
+}
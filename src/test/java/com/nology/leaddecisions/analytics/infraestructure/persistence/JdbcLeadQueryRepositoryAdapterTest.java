@@ -0,0 +1,126 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadPage;
+import com.nology.leaddecisions.analytics.domain.models.LeadQuery;
+import com.nology.leaddecisions.analytics.domain.models.LeadSummaryDto;
+import com.nology.leaddecisions.analytics.domain.models.LeadView;
+import com.nology.leaddecisions.analytics.domain.services.impl.LeadQueryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lead-query;DB_CLOSE_DELAY=-1")
+class JdbcLeadQueryRepositoryAdapterTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    /**
+     * SQL de cada consulta executada pelo adaptador, na ordem.
+     */
+    private final List<String> executed = new ArrayList<>();
+    private JdbcLeadQueryRepositoryAdapter adapter;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_mercado");
+        jdbcTemplate.update("DELETE FROM Tb_origem");
+        jdbcTemplate.update("DELETE FROM Tb_local");
+        jdbcTemplate.update("DELETE FROM Tb_porte");
+        jdbcTemplate.update("DELETE FROM Tb_objetivo");
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome) VALUES (1, 'janeiro.xlsx'), (2, 'fevereiro.xlsx')");
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Data_cadastro, Vendido) VALUES "
+                + "(1, 1, TIMESTAMP '2025-01-01 10:00:00', TRUE), (2, 1, TIMESTAMP '2025-01-02 10:00:00', FALSE), "
+                + "(3, 1, TIMESTAMP '2025-01-03 10:00:00', NULL), (4, 2, TIMESTAMP '2025-01-04 10:00:00', TRUE), "
+                + "(5, 2, TIMESTAMP '2025-01-05 10:00:00', FALSE), (6, 2, NULL, TRUE)");
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES "
+                + "(1, 'Varejo'), (1, 'Saúde'), (2, 'Varejo'), (3, 'Saúde'), (4, 'Varejo'), (6, 'Varejo')");
+        jdbcTemplate.update("INSERT INTO Tb_origem (Id_lead, Nome, Sub_origem) VALUES "
+                + "(1, 'Google', 'camp1'), (2, 'Meta', NULL), (3, 'Google', NULL), (4, 'Google', 'camp2')");
+        jdbcTemplate.update("INSERT INTO Tb_local (Id_lead, Nome) VALUES (1, 'SP'), (2, 'RJ'), (4, 'SP')");
+        jdbcTemplate.update("INSERT INTO Tb_porte (Id_lead, Porte) VALUES (1, 'Grande'), (3, 'Pequeno'), (4, 'Grande')");
+
+        executed.clear();
+        JdbcTemplate recording = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> T query(PreparedStatementCreator creator, ResultSetExtractor<T> extractor) {
+                executed.add(((SqlProvider) creator).getSql());
+                return super.query(creator, extractor);
+            }
+        };
+        adapter = new JdbcLeadQueryRepositoryAdapter(new NamedParameterJdbcTemplate(recording));
+    }
+
+    @Test
+    @DisplayName("Cada filtro dinâmico deve restringir os leads isoladamente e em conjunto")
+    void shouldApplyEachDynamicFilter() {
+        Map<String, LeadQuery.LeadQueryBuilder> cases = Map.ofEntries(
+                Map.entry("[1, 2, 3, 4, 5, 6]", LeadQuery.builder()),
+                Map.entry("[4, 5, 6]", LeadQuery.builder().documentId(2L)),
+                Map.entry("[2, 3, 4, 5]", LeadQuery.builder().createdFrom(LocalDateTime.of(2025, 1, 2, 10, 0))),
+                Map.entry("[1, 2]", LeadQuery.builder().createdTo(LocalDateTime.of(2025, 1, 3, 10, 0))),
+                Map.entry("[1, 4, 6]", LeadQuery.builder().sold(true)),
+                Map.entry("[2, 5]", LeadQuery.builder().sold(false)),
+                Map.entry("[1, 2, 4, 6]", LeadQuery.builder().market(" Varejo ")),
+                Map.entry("[1, 3, 4]", LeadQuery.builder().source("Google")),
+                Map.entry("[1, 4]", LeadQuery.builder().location("SP")),
+                Map.entry("[3]", LeadQuery.builder().size("Pequeno")),
+                Map.entry("[5, 6]", LeadQuery.builder().afterId(4L)),
+                Map.entry("[1]", LeadQuery.builder().documentId(1L).market("Saúde").sold(true)),
+                Map.entry("[]", LeadQuery.builder().location("SP").size("Pequeno")));
+
+        cases.forEach((expected, query) -> assertEquals(expected,
+                adapter.findLeads(query.build(), 10).stream().map(LeadSummaryDto::getLeadId).toList().toString(),
+                () -> executed.get(executed.size() - 1)));
+        assertEquals(List.of(1L, 2L), adapter.findLeads(LeadQuery.builder().build(), 2).stream()
+                .map(LeadSummaryDto::getLeadId).toList());
+    }
+
+    @Test
+    @DisplayName("Paginação por chave deve continuar após o cursor e buscar as dimensões com uma consulta por dimensão e página")
+    void shouldContinueAcrossPagesWithOneQueryPerDimension() {
+        LeadQueryServiceImpl service = new LeadQueryServiceImpl(adapter);
+        List<LeadPage> pages = new ArrayList<>();
+        List<Integer> statementsPerPage = new ArrayList<>();
+
+        Long cursor = null;
+        do {
+            executed.clear();
+            LeadPage page = service.findLeads(LeadQuery.builder().market("Varejo").afterId(cursor).limit(2).build());
+            pages.add(page);
+            statementsPerPage.add(executed.size());
+
+            // Uma consulta de leads e, para cada dimensão, uma consulta restrita aos ids da página.
+            List<String> batches = executed.stream().filter(sql -> sql.contains("IN (")).toList();
+            assertEquals(AnalysisDimension.values().length, batches.size());
+            int pageSize = page.getLeads().size();
+            batches.forEach(sql -> assertEquals(pageSize, sql.chars().filter(c -> c == '?').count(), sql));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(1L, 2L, 4L, 6L), pages.stream()
+                .flatMap(page -> page.getLeads().stream().map(LeadView::getLeadId)).toList());
+        assertEquals(List.of(7, 7), statementsPerPage);
+        LeadView first = pages.get(0).getLeads().get(0);
+        assertEquals(List.of("Varejo", "Saúde"), first.getMarkets());
+        assertEquals(List.of("camp1"), first.getSubSources());
+        assertEquals(List.of(), pages.get(1).getLeads().get(1).getSources());
+    }
+}
@@ -0,0 +1,114 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.LeadScore;
+import com.nology.leaddecisions.analytics.domain.models.LeadScoreRanking;
+import com.nology.leaddecisions.analytics.domain.services.LeadScoringService;
+import com.nology.leaddecisions.analytics.domain.services.impl.LeadScoringServiceImpl;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lead-scoring;DB_CLOSE_DELAY=-1")
+class JdbcLeadScoringRepositoryAdapterTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired private LeadScoringService leadScoringService;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private JdbcLeadScoringRepositoryAdapter adapter;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_documento_estatistica");
+        jdbcTemplate.update("DELETE FROM Tb_mercado");
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        // Documento 1: apenas os agregados usados no treino. Documento 2: os leads a pontuar.
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome, Total_leads, Total_vendido) VALUES "
+                + "(1, 'treino.xlsx', 100, 20), (2, 'novos.xlsx', 5, 1)");
+        jdbcTemplate.update("INSERT INTO Tb_documento_estatistica (Id_documento, Dimensao, Valor, Total_leads, Total_vendido) VALUES "
+                + "(1, 'MERCADO', 'Tecnologia', 50, 18), (1, 'MERCADO', 'Saúde', 50, 2)");
+        // Lead 10 com Vendido nulo e o mesmo mercado repetido; lead 12 vendido; lead 13 com mercado nulo.
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Vendido) VALUES "
+                + "(10, 2, NULL), (11, 2, FALSE), (12, 2, TRUE), (13, 2, FALSE), (14, 2, FALSE)");
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES "
+                + "(10, 'Tecnologia'), (10, 'Tecnologia'), (11, 'Tecnologia'), (12, 'Tecnologia'), (13, NULL), "
+                + "(14, 'Tecnologia'), (14, 'Saúde')");
+
+        adapter = new JdbcLeadScoringRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Leads em aberto devem incluir os não vendidos e os com Vendido nulo, apenas do documento informado")
+    void shouldFindOpenLeadsOfDocument() {
+        assertEquals(List.of(1L, 2L), adapter.findDocumentIds());
+        assertArrayEquals(new long[]{10, 11, 13, 14}, adapter.findOpenLeadIds(2L));
+        assertArrayEquals(new long[0], adapter.findOpenLeadIds(1L));
+    }
+
+    @Test
+    @DisplayName("Valores dos leads em aberto devem vir em ordem de lead, uma vez por valor distinto e sem valores nulos")
+    void shouldStreamDistinctOpenLeadValues() {
+        List<String> values = new ArrayList<>();
+        adapter.streamOpenLeadValues(2L, AnalysisDimension.MERCADO, (leadId, value) -> values.add(leadId + ":" + value));
+
+        assertEquals(List.of("10:Tecnologia", "11:Tecnologia", "14:Saúde", "14:Tecnologia"), values);
+    }
+
+    @Test
+    @DisplayName("Valor repetido nos registros do lead deve somar o seu peso uma única vez na pontuação")
+    void shouldScoreRepeatedValueOnce() {
+        LeadScoreRanking ranking = new LeadScoringServiceImpl(adapter,
+                new JdbcDocumentAnalyticsRepositoryAdapter(namedJdbcTemplate)).scoreDocument(2L, 10);
+
+        assertEquals(4, ranking.getScoredLeads());
+        assertEquals(List.of(10L, 11L), ranking.getLeads().subList(0, 2).stream().map(LeadScore::getLeadId).toList());
+        assertEquals(ranking.getLeads().get(0).getConversionProbability(), ranking.getLeads().get(1).getConversionProbability());
+    }
+
+    @Test
+    @DisplayName("Importação e remoção confirmadas devem atualizar o modelo pelo ouvinte de treino")
+    void shouldTrainOnCommittedImportAndPurge() throws InterruptedException {
+        assertEquals(105, leadScoringService.retrain());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome, Total_leads, Total_vendido) VALUES (3, 'marco.xlsx', 40, 4)");
+            eventPublisher.publishEvent(new DocumentImportedEvent(3L, 40, 4));
+        });
+        waitUntil(() -> leadScoringService.scoreDocument(2L, 10).getTrainingLeads() == 145);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM Tb_documento WHERE id = 3");
+            eventPublisher.publishEvent(new DocumentPurgedEvent(3L, 40, Set.of()));
+        });
+        waitUntil(() -> leadScoringService.scoreDocument(2L, 10).getTrainingLeads() == 105);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,143 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.CrossDimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.domain.ports.DimensionAnalyticsRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara o modelo de leitura com as consultas sobre as tabelas do ETL em leads com vários valores por dimensão
+ * e com vários registros de origem.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:read-model-parity;DB_CLOSE_DELAY=-1")
+class ReadModelParityTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private DimensionAnalyticsRepositoryPort etl;
+    private DimensionAnalyticsRepositoryPort readModel;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_mercado");
+        jdbcTemplate.update("DELETE FROM Tb_origem");
+        jdbcTemplate.update("DELETE FROM Tb_local");
+        jdbcTemplate.update("DELETE FROM Tb_porte");
+        jdbcTemplate.update("DELETE FROM Tb_objetivo");
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome) VALUES (1, 'paridade.xlsx')");
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Data_cadastro, Vendido) VALUES "
+                + "(1, 1, TIMESTAMP '2025-01-01 10:00:00', TRUE), (2, 1, TIMESTAMP '2025-01-02 10:00:00', FALSE), "
+                + "(3, 1, TIMESTAMP '2025-01-03 10:00:00', NULL), (4, 1, TIMESTAMP '2025-01-04 10:00:00', TRUE), "
+                + "(5, 1, TIMESTAMP '2025-01-05 10:00:00', TRUE)");
+        // Lead 1 em dois mercados e com o mesmo mercado repetido; lead 4 sem mercado.
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES "
+                + "(1, 'Varejo'), (1, 'Saúde'), (1, 'Varejo'), (2, 'Varejo'), (3, 'Saúde'), (3, '')");
+        // Leads 1 e 5 em dois canais (o menor canal e a menor sub-origem do lead 5 não formam um par); sub-origens nulas e vazias.
+        jdbcTemplate.update("INSERT INTO Tb_origem (Id_lead, Nome, Sub_origem) VALUES "
+                + "(1, 'Google', 'camp1'), (1, 'Meta', NULL), (2, 'Google', ''), (2, 'Google', 'camp2'), "
+                + "(3, 'Meta', 'camp1'), (4, 'Google', 'camp1'), (5, 'Meta', 'camp2'), (5, 'Google', 'camp3'), "
+                + "(5, 'Google', 'camp3')");
+        jdbcTemplate.update("INSERT INTO Tb_local (Id_lead, Nome) VALUES (1, 'SP'), (1, 'RJ'), (2, 'SP'), (4, 'RJ')");
+        jdbcTemplate.update("INSERT INTO Tb_porte (Id_lead, Porte) VALUES (1, 'Grande'), (2, 'Pequeno'), (3, NULL)");
+        jdbcTemplate.update("INSERT INTO Tb_objetivo (Id_lead, Descricao) VALUES (1, 'Crescer'), (1, 'Vender'), (4, 'Crescer')");
+
+        new JdbcReadModelProjectionRepositoryAdapter(jdbcTemplate).rebuild();
+        etl = new JdbcDimensionAnalyticsRepositoryAdapter(jdbcTemplate);
+        readModel = new ReadModelDimensionAnalyticsRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Rankings do modelo de leitura devem contar todos os registros de cada dimensão, como as tabelas do ETL")
+    void shouldRankEveryDimensionRecordLikeTheEtlTables() {
+        for (AnalysisDimension dimension : AnalysisDimension.values()) {
+            List<String> expected = ranked(etl, dimension);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, ranked(readModel, dimension), dimension.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Totais por mercado e por origem do modelo de leitura devem coincidir com as tabelas do ETL")
+    void shouldMatchMarketAndSourceStats() {
+        ReadModelAnalyticsRepositoryAdapter analytics = new ReadModelAnalyticsRepositoryAdapter(jdbcTemplate);
+
+        assertEquals(sorted(ranked(etl, AnalysisDimension.MERCADO)), sorted(format(analytics.getStatsByMarket())));
+        assertEquals(sorted(ranked(etl, AnalysisDimension.ORIGEM)), sorted(format(analytics.getStatsBySource())));
+        assertEquals(5L, analytics.countTotalLeads());
+        assertEquals(3L, analytics.countTotalSales());
+    }
+
+    @Test
+    @DisplayName("Análise cruzada do modelo de leitura deve coincidir com as tabelas do ETL em leads multivalorados")
+    void shouldCrossMultiValuedLeadsLikeTheEtlTables() {
+        AnalysisDimension[][] pairs = {
+                {AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM},
+                {AnalysisDimension.ORIGEM, AnalysisDimension.SUB_ORIGEM},
+                {AnalysisDimension.MERCADO, AnalysisDimension.LOCAL},
+                {AnalysisDimension.OBJETIVO, AnalysisDimension.PORTE}
+        };
+        for (AnalysisDimension[] pair : pairs) {
+            List<String> expected = new ArrayList<>();
+            etl.streamCrossStats(pair[0], pair[1], stats -> expected.add(format(stats)));
+            List<String> actual = new ArrayList<>();
+            readModel.streamCrossStats(pair[0], pair[1], stats -> actual.add(format(stats)));
+
+            assertFalse(expected.isEmpty());
+            assertEquals(sorted(expected), sorted(actual), pair[0] + " x " + pair[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Hierarquia canal/sub-origem do modelo de leitura deve conter apenas pares importados, contando registros de origem")
+    void shouldAggregateImportedSourcePairsLikeTheEtlTables() {
+        List<String> expected = new ArrayList<>();
+        etl.streamSourceHierarchyStats(stats -> expected.add(format(stats)));
+        List<String> actual = new ArrayList<>();
+        readModel.streamSourceHierarchyStats(stats -> actual.add(format(stats)));
+
+        assertEquals(sorted(expected), sorted(actual));
+        assertTrue(actual.contains("Google|camp3:2:2"));
+        assertTrue(actual.contains("Google|null:1:0"));
+        assertFalse(actual.contains("Google|camp2:2:1"));
+        assertEquals(actual.stream().map(row -> row.substring(0, row.indexOf('|'))).sorted().toList(),
+                actual.stream().map(row -> row.substring(0, row.indexOf('|'))).toList());
+    }
+
+    private static List<String> ranked(DimensionAnalyticsRepositoryPort adapter, AnalysisDimension dimension) {
+        List<String> stats = new ArrayList<>();
+        adapter.streamRankedStats(dimension, row -> stats.add(format(row)));
+        return stats;
+    }
+
+    private static List<String> format(List<DimensionStatsDto> stats) {
+        return stats.stream().map(ReadModelParityTest::format).toList();
+    }
+
+    private static String format(DimensionStatsDto stats) {
+        return stats.getCategoryName() + ":" + stats.getTotalLeads() + ":" + stats.getTotalSold();
+    }
+
+    private static String format(CrossDimensionStatsDto stats) {
+        return stats.getRowCategory() + "|" + stats.getColumnCategory() + ":" + stats.getTotalLeads() + ":" + stats.getTotalSold();
+    }
+
+    private static List<String> sorted(List<String> values) {
+        return values.stream().sorted().toList();
+    }
+}
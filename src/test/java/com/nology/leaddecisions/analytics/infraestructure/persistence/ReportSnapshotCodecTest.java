@@ -0,0 +1,63 @@
+package com.nology.leaddecisions.analytics.infraestructure.persistence;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisStatus;
+import com.nology.leaddecisions.analytics.domain.models.AnalysisGroup;
+import com.nology.leaddecisions.analytics.domain.models.MarketingReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportSnapshotCodecTest {
+
+    @Test
+    @DisplayName("Deve serializar e restaurar o relatório sem perda, preservando ordem e status dos grupos")
+    void shouldRoundTripReport() {
+        List<AnalysisGroup> ranking = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            ranking.add(new AnalysisGroup("Campanha " + i, 100 + i, i % 40, 10, 20.0));
+        }
+        ranking.add(new AnalysisGroup("Saúde", 3, 3, 10, 20.0));
+
+        MarketingReport report = MarketingReport.builder()
+                .reportId("r-42")
+                .generatedAt(LocalDateTime.of(2026, 5, 4, 13, 37, 12, 345_000_000))
+                .globalStats(MarketingReport.GlobalStats.builder().totalLeads(900_000).totalSales(180_000).overallConversionRate(20.0).build())
+                .analyses(List.of(MarketingReport.DimensionAnalysis.builder()
+                        .dimension("ORIGEM")
+                        .description("Performance por canal")
+                        .ranking(ranking)
+                        .totalGroups(ranking.size())
+                        .build()))
+                .topInsights(Map.of("Melhor ORIGEM", "Campanha 39 (28.06%)"))
+                .build();
+
+        byte[] content = ReportSnapshotCodec.encode(report);
+        MarketingReport restored = ReportSnapshotCodec.decode(content);
+
+        assertEquals("r-42", restored.getReportId());
+        assertEquals(report.getGeneratedAt(), restored.getGeneratedAt());
+        assertEquals(180_000, restored.getGlobalStats().getTotalSales());
+        assertEquals(report.getTopInsights(), restored.getTopInsights());
+        assertNull(restored.getApproximation());
+
+        MarketingReport.DimensionAnalysis analysis = restored.getAnalyses().get(0);
+        assertNull(analysis.getNextCursor());
+        assertEquals(ranking.size(), analysis.getRanking().size());
+        for (int i = 0; i < ranking.size(); i++) {
+            AnalysisGroup expected = ranking.get(i);
+            AnalysisGroup actual = analysis.getRanking().get(i);
+            assertEquals(expected.getGroupName(), actual.getGroupName());
+            assertEquals(expected.getTotalLeads(), actual.getTotalLeads());
+            assertEquals(expected.getTotalSold(), actual.getTotalSold());
+            assertEquals(expected.getConversionRate(), actual.getConversionRate());
+            assertEquals(expected.getStatus(), actual.getStatus());
+        }
+        assertEquals(AnalysisStatus.INCONCLUSIVO, analysis.getRanking().get(ranking.size() - 1).getStatus());
+    }
+}
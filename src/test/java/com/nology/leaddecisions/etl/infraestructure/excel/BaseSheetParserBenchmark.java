@@ -0,0 +1,70 @@
+package com.nology.leaddecisions.etl.infraestructure.excel;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH da leitura da aba BASE em sequência (parallelism=1) e em faixas paralelas, sobre uma planilha
+ * XSSF em memória. Base para decidir se etl.import.parse-parallelism deve sair do padrão sequencial.
+ *
+ * Execução: mvn -Pbenchmarks test -Djmh.args="BaseSheetParserBenchmark -p parallelism=1,4"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BaseSheetParserBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    /**
+     * Workers da leitura; 1 = sequencial, na thread do benchmark.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private Workbook workbook;
+    private BaseSheetParser parser;
+    private DocumentEntity document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet(LeadExcelSchema.Sheets.BASE);
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue(LeadExcelSchema.Columns.LEAD_ID);
+        header.createCell(1).setCellValue(LeadExcelSchema.Columns.DATA_CADASTRO);
+        header.createCell(2).setCellValue(LeadExcelSchema.Columns.VENDIDO);
+        for (int i = 1; i <= rows; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("LEAD-" + i);
+            row.createCell(1).setCellValue(String.format("%02d/03/2026 10:%02d", 1 + i % 28, i % 60));
+            row.createCell(2).setCellValue(i % 2 == 0 ? "SIM" : "NAO");
+        }
+
+        parser = new BaseSheetParser(new ExcelHelper(), new SimpleMeterRegistry(), parallelism, 5_000);
+        document = new DocumentEntity();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        parser.shutdown();
+        workbook.close();
+    }
+
+    @Benchmark
+    public Map<String, LeadEntity> parse() {
+        return parser.parse(workbook, new DataFormatter(), workbook.getCreationHelper().createFormulaEvaluator(), document);
+    }
+}
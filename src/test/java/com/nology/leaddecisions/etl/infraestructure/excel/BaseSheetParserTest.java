@@ -0,0 +1,85 @@
+package com.nology.leaddecisions.etl.infraestructure.excel;
+
+import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseSheetParserTest {
+
+    @Test
+    @DisplayName("Deve ler a aba em faixas paralelas com o mesmo resultado da leitura sequencial, contando LEAD_IDs repetidos")
+    void shouldParseRangesLikeSequentialRead() throws Exception {
+        try (Workbook workbook = baseWorkbook(2_000)) {
+            Sheet sheet = workbook.getSheet("BASE");
+            sheet.getRow(1_500).getCell(0).setCellValue("LEAD-10"); // Repetido em outra faixa: vale a última linha.
+            sheet.getRow(1_501).getCell(0).setCellValue("LEAD-1501 ");
+            sheet.createRow(1_502).createCell(0).setCellValue("LEAD-1501"); // Repetido na mesma faixa, sem data.
+            sheet.removeRow(sheet.getRow(700));
+
+            SimpleMeterRegistry sequentialMeters = new SimpleMeterRegistry();
+            SimpleMeterRegistry parallelMeters = new SimpleMeterRegistry();
+            Map<String, LeadEntity> sequential = parse(new BaseSheetParser(new ExcelHelper(), sequentialMeters, 1, 10_000), workbook);
+            Map<String, LeadEntity> parallel = parse(new BaseSheetParser(new ExcelHelper(), parallelMeters, 4, 64), workbook);
+
+            assertEquals(1_996, parallel.size());
+            assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(parallel.keySet()));
+            sequential.forEach((leadId, lead) -> {
+                assertEquals(lead.getCreatedAt(), parallel.get(leadId).getCreatedAt(), leadId);
+                assertEquals(lead.getSold(), parallel.get(leadId).getSold(), leadId);
+            });
+            assertTrue(parallel.get("LEAD-10").getSold()); // Linha 1500 (par), e não a linha 10.
+            assertNull(parallel.get("LEAD-1501").getCreatedAt());
+            assertEquals(2, parallelMeters.counter("etl.import.duplicate-lead-ids").count());
+            assertEquals(2, sequentialMeters.counter("etl.import.duplicate-lead-ids").count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve relatar a primeira data inválida em ordem de linha, como na leitura sequencial")
+    void shouldReportFirstInvalidDateInRowOrder() throws Exception {
+        try (Workbook workbook = baseWorkbook(1_000)) {
+            Sheet sheet = workbook.getSheet("BASE");
+            sheet.getRow(900).getCell(1).setCellValue("amanhã");
+            sheet.getRow(300).getCell(1).setCellValue("31/02/2026 99:00");
+
+            BaseSheetParser parser = new BaseSheetParser(new ExcelHelper(), new SimpleMeterRegistry(), 4, 50);
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> parse(parser, workbook));
+
+            assertEquals("Invalid date in BASE at row 301: 31/02/2026 99:00", exception.getMessage());
+        }
+    }
+
+    private static Map<String, LeadEntity> parse(BaseSheetParser parser, Workbook workbook) {
+        try {
+            return parser.parse(workbook, new DataFormatter(), workbook.getCreationHelper().createFormulaEvaluator(), new DocumentEntity());
+        } finally {
+            parser.shutdown();
+        }
+    }
+
+    private static Workbook baseWorkbook(int rows) {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("BASE");
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("LEAD_ID");
+        header.createCell(1).setCellValue("DATA CADASTRO");
+        header.createCell(2).setCellValue("VENDIDO");
+
+        for (int i = 1; i < rows; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("LEAD-" + i);
+            row.createCell(1).setCellValue(String.format("%02d/03/2026 10:%02d", 1 + i % 28, i % 60));
+            row.createCell(2).setCellValue(i % 2 == 0 ? "SIM" : "NAO");
+        }
+        return workbook;
+    }
+}
@@ -0,0 +1,91 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.models.LeadEntity;
+import com.nology.leaddecisions.etl.domain.models.MarketEntity;
+import com.nology.leaddecisions.shared.sketch.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:dimension-sketch;DB_CLOSE_DELAY=-1")
+class DimensionSketchUpdaterTest {
+
+    @Autowired private DimensionSketchUpdater sketchUpdater;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Importações concorrentes de um mesmo valor devem combinar os sketches em sequência, em uma única linha")
+    void shouldSerializeConcurrentMergesOfTheSameValue() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstMerged = new CountDownLatch(1);
+
+        // A primeira importação combina o seu sketch e mantém a transação aberta; a segunda começa em seguida.
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            sketchUpdater.update(markets("Concorrente", 1, 500), List.of());
+            firstMerged.countDown();
+            sleep(500);
+        }));
+        assertTrue(firstMerged.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(
+                status -> sketchUpdater.update(markets("Concorrente", 501, 1_000), List.of())));
+        CompletableFuture.allOf(first, second).get(30, TimeUnit.SECONDS);
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Tb_dimensao_sketch WHERE Dimensao = 'MERCADO' AND Valor = 'Concorrente'", Integer.class));
+        byte[] sketch = jdbcTemplate.queryForObject(
+                "SELECT Sketch_leads FROM Tb_dimensao_sketch WHERE Dimensao = 'MERCADO' AND Valor = 'Concorrente'", byte[].class);
+        assertEquals(1_000.0, HyperLogLog.fromBytes(sketch).estimate(), 50.0);
+    }
+
+    @Test
+    @DisplayName("Valores em branco devem seguir a mesma regra na importação e nas consultas SQL, incluindo espaços Unicode")
+    void shouldApplySameBlankRuleInJavaAndSql() {
+        for (String value : List.of("", " ", "\t", "\u00A0", " \u2003 ", "\u3000", "Varejo", " Saúde", "\u00A0x")) {
+            Boolean sqlBlank = jdbcTemplate.queryForObject("SELECT NOT " + DocumentStatsAggregator.notBlankValueSql("?"),
+                    Boolean.class, value);
+            assertEquals(DocumentStatsAggregator.isBlankValue(value), sqlBlank, () -> "Valor: [" + value + "]");
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                sketchUpdater.update(markets("\u00A0", 1, 10), List.of()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Tb_dimensao_sketch WHERE Dimensao = 'MERCADO' AND Valor = CHAR(160)", Integer.class));
+    }
+
+    private static List<MarketEntity> markets(String name, long firstLeadId, long lastLeadId) {
+        List<MarketEntity> markets = new ArrayList<>();
+        LongStream.rangeClosed(firstLeadId, lastLeadId).forEach(leadId -> {
+            LeadEntity lead = new LeadEntity();
+            lead.setId(leadId);
+            lead.setSold(leadId % 2 == 0);
+            MarketEntity market = new MarketEntity();
+            market.setName(name);
+            market.setLead(lead);
+            markets.add(market);
+        });
+        return markets;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
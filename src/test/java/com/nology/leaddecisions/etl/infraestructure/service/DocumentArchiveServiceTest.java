@@ -0,0 +1,209 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.DimensionStatsDto;
+import com.nology.leaddecisions.analytics.infraestructure.archive.ColumnarArchiveAnalyticsRepositoryAdapter;
+import com.nology.leaddecisions.analytics.infraestructure.persistence.JdbcDimensionAnalyticsRepositoryAdapter;
+import com.nology.leaddecisions.etl.domain.models.ArchivedDocumentEntity;
+import com.nology.leaddecisions.etl.domain.ports.PurgeDocumentUseCase;
+import com.nology.leaddecisions.etl.domain.repositories.ArchivedDocumentRepository;
+import com.nology.leaddecisions.etl.domain.repositories.DimensionSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ida e volta do arquivo morto: o documento arquivado sai das tabelas, entra no manifesto, e a soma das
+ * estatísticas das tabelas com as varridas dos arquivos reproduz as estatísticas anteriores ao arquivamento.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:document-archive;DB_CLOSE_DELAY=-1")
+class DocumentArchiveServiceTest {
+
+    private static final List<AnalysisDimension> DIMENSIONS = List.of(AnalysisDimension.values());
+
+    @Autowired private PurgeDocumentUseCase purgeService;
+    @Autowired private ArchivedDocumentRepository archivedDocumentRepository;
+    @Autowired private DimensionSketchRepository sketchRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private JdbcDimensionAnalyticsRepositoryAdapter hotRepository;
+    private ColumnarArchiveAnalyticsRepositoryAdapter archiveRepository;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM Tb_documento_arquivado");
+        jdbcTemplate.update("DELETE FROM Tb_documento_estatistica");
+        for (String table : List.of("Tb_mercado", "Tb_origem", "Tb_local", "Tb_porte", "Tb_objetivo")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        jdbcTemplate.update("DELETE FROM Tb_lead");
+        jdbcTemplate.update("DELETE FROM Tb_documento");
+
+        jdbcTemplate.update("INSERT INTO Tb_documento (id, Documento_nome, Documento_tipo, Documento, Total_leads, Total_vendido, Data_importacao) "
+                + "VALUES (1, 'janeiro.xlsx', 'application/xlsx', X'0102', 4, 2, TIMESTAMP '2025-01-31 18:00:00'), "
+                + "(2, 'fevereiro.xlsx', 'application/xlsx', X'03', 2, 1, TIMESTAMP '2025-02-28 18:00:00')");
+        // Lead 1 com dois mercados, lead 3 com Vendido nulo e lead 4 sem nenhuma dimensão.
+        jdbcTemplate.update("INSERT INTO Tb_lead (id, Id_documento, Data_cadastro, Vendido) VALUES "
+                + "(1, 1, TIMESTAMP '2025-01-02 10:00:00', TRUE), (2, 1, TIMESTAMP '2025-01-03 10:00:00', FALSE), "
+                + "(3, 1, NULL, NULL), (4, 1, TIMESTAMP '2025-01-04 10:00:00', TRUE), "
+                + "(5, 2, TIMESTAMP '2025-02-02 10:00:00', TRUE), (6, 2, TIMESTAMP '2025-02-03 10:00:00', FALSE)");
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) VALUES "
+                + "(1, 'Varejo'), (1, 'Saúde'), (2, 'Varejo'), (3, 'Educação'), (5, 'Varejo'), (6, 'Saúde')");
+        jdbcTemplate.update("INSERT INTO Tb_origem (Id_lead, Nome, Sub_origem) VALUES "
+                + "(1, 'Google', 'camp1'), (2, 'Meta', NULL), (3, 'Google', 'camp2'), (5, 'Google', 'camp1')");
+        jdbcTemplate.update("INSERT INTO Tb_local (Id_lead, Nome) VALUES (1, 'SP'), (2, 'RJ'), (6, 'SP')");
+        jdbcTemplate.update("INSERT INTO Tb_porte (Id_lead, Porte) VALUES (1, 'Grande'), (5, 'Pequeno')");
+        jdbcTemplate.update("INSERT INTO Tb_objetivo (Id_lead, Descricao) VALUES (2, 'Reduzir custos'), (6, 'Reduzir custos')");
+
+        hotRepository = new JdbcDimensionAnalyticsRepositoryAdapter(jdbcTemplate);
+        archiveRepository = new ColumnarArchiveAnalyticsRepositoryAdapter(jdbcTemplate, archiveDirectory.toString());
+    }
+
+    @Test
+    @DisplayName("Arquivamento deve registrar o manifesto, remover o documento das tabelas e preservar as estatísticas somadas")
+    void shouldArchiveDocumentPreservingStats() throws Exception {
+        Map<AnalysisDimension, Map<String, String>> before = hotStatsByDimension();
+
+        ArchivedDocumentEntity entry = archiveService(purgeService).archive(1L);
+
+        assertEquals("document-1.lda", entry.getFileName());
+        assertEquals(Files.size(archiveDirectory.resolve("document-1.lda")), entry.getFileSize());
+        assertEquals("janeiro.xlsx:application/xlsx:4:2:2025-01-31T18:00", manifest(1L));
+        assertFalse(Files.exists(archiveDirectory.resolve("document-1.lda.tmp")));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento WHERE id = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_mercado WHERE Id_lead <= 4"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_origem WHERE Id_lead <= 4"));
+        assertEquals(2, count("SELECT COUNT(*) FROM Tb_lead"));
+
+        assertEquals(before, mergedStatsByDimension());
+    }
+
+    @Test
+    @DisplayName("Arquivamento interrompido entre o manifesto e a remoção deve, ao ser refeito, apenas concluir a remoção")
+    void shouldCompleteArchiveInterruptedBeforePurge() {
+        Map<AnalysisDimension, Map<String, String>> before = hotStatsByDimension();
+
+        PurgeDocumentUseCase interrupted = new PurgeDocumentUseCase() {
+            @Override
+            public long purge(Long documentId) {
+                throw new IllegalStateException("interrompida");
+            }
+
+            @Override
+            public int purgeImportedBefore(LocalDateTime cutoff) {
+                throw new IllegalStateException("interrompida");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> archiveService(interrupted).archive(1L));
+        assertEquals(1, count("SELECT COUNT(*) FROM Tb_documento_arquivado"));
+        assertEquals(4, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = 1"));
+
+        ArchivedDocumentEntity entry = archiveService(purgeService).archive(1L);
+
+        assertEquals(1L, entry.getDocumentId());
+        assertEquals(1, count("SELECT COUNT(*) FROM Tb_documento_arquivado"));
+        assertEquals("janeiro.xlsx:application/xlsx:4:2:2025-01-31T18:00", manifest(1L));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento WHERE id = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = 1"));
+        assertEquals(before, mergedStatsByDimension());
+    }
+
+    @Test
+    @DisplayName("Arquivamento interrompido no meio da remoção deve, ao ser refeito, retomá-la sem duplicar o manifesto")
+    void shouldResumeArchiveInterruptedDuringPurge() {
+        Map<AnalysisDimension, Map<String, String>> before = hotStatsByDimension();
+
+        // A remoção apaga as janelas de leads e é interrompida na transação final, com o documento ainda registrado.
+        DimensionSketchUpdater failing = new DimensionSketchUpdater(sketchRepository, namedJdbcTemplate, transactionManager) {
+            @Override
+            public void rebuild(String dimension, Collection<String> values) {
+                throw new IllegalStateException("interrompida");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> archiveService(
+                new DocumentPurgeService(jdbcTemplate, transactionManager, failing, event -> { }, 2)).archive(1L));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = 1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM Tb_documento WHERE id = 1"));
+
+        archiveService(purgeService).archive(1L);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM Tb_documento_arquivado"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento WHERE id = 1"));
+        assertEquals(before, mergedStatsByDimension());
+    }
+
+    private DocumentArchiveService archiveService(PurgeDocumentUseCase purge) {
+        return new DocumentArchiveService(jdbcTemplate, archivedDocumentRepository, purge, archiveDirectory.toString());
+    }
+
+    private Map<AnalysisDimension, Map<String, String>> hotStatsByDimension() {
+        Map<AnalysisDimension, Map<String, String>> stats = new TreeMap<>();
+        for (AnalysisDimension dimension : DIMENSIONS) {
+            Map<String, String> values = new TreeMap<>();
+            hotRepository.streamRankedStats(dimension, dto -> values.put(dto.getCategoryName(), format(dto)));
+            stats.put(dimension, values);
+        }
+        return stats;
+    }
+
+    /**
+     * Estatísticas das tabelas somadas, por valor, às varridas dos arquivos.
+     */
+    private Map<AnalysisDimension, Map<String, String>> mergedStatsByDimension() {
+        Map<AnalysisDimension, Map<String, String>> stats = new TreeMap<>();
+        for (AnalysisDimension dimension : DIMENSIONS) {
+            Map<String, long[]> totals = new TreeMap<>();
+            hotRepository.streamRankedStats(dimension, dto -> add(totals, dto));
+            archiveRepository.scanStats(dimension).forEach(dto -> add(totals, dto));
+
+            Map<String, String> values = new TreeMap<>();
+            totals.forEach((value, total) -> values.put(value, total[0] + ":" + total[1]));
+            stats.put(dimension, values);
+        }
+        return stats;
+    }
+
+    private static void add(Map<String, long[]> totals, DimensionStatsDto dto) {
+        long[] total = totals.computeIfAbsent(dto.getCategoryName(), key -> new long[2]);
+        total[0] += dto.getTotalLeads();
+        total[1] += dto.getTotalSold();
+    }
+
+    private static String format(DimensionStatsDto dto) {
+        return dto.getTotalLeads() + ":" + dto.getTotalSold();
+    }
+
+    private String manifest(long documentId) {
+        return jdbcTemplate.queryForObject("SELECT Documento_nome || ':' || Documento_tipo || ':' || Total_leads || ':' "
+                + "|| Total_vendido FROM Tb_documento_arquivado WHERE Id_documento = ?", String.class, documentId)
+                + ":" + jdbcTemplate.queryForObject("SELECT Data_importacao FROM Tb_documento_arquivado WHERE Id_documento = ?",
+                LocalDateTime.class, documentId);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.nology.leaddecisions.etl.infraestructure.service;
+
+import com.nology.leaddecisions.etl.domain.repositories.DimensionSketchRepository;
+import com.nology.leaddecisions.shared.events.DocumentPurgedEvent;
+import com.nology.leaddecisions.shared.sketch.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:document-purge;DB_CLOSE_DELAY=-1",
+        "etl.purge.chunk-size=7"
+})
+class DocumentPurgeServiceTest {
+
+    @Autowired private DocumentPurgeService purgeService;
+    @Autowired private DimensionSketchUpdater sketchUpdater;
+    @Autowired private DimensionSketchRepository sketchRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve remover em janelas o documento, seus leads, dimensões, agregados e sketches exclusivos")
+    void shouldPurgeDocumentInChunksKeepingOtherDocuments() {
+        long purged = seedDocument("semana-01.xlsx", "Exclusivo", 40);
+        long kept = seedDocument("semana-02.xlsx", "Outro", 25);
+        seedSketch("Exclusivo");
+        seedSketch("Compartilhado");
+
+        long purgedLeads = purgeService.purge(purged);
+
+        assertEquals(40, purgedLeads);
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento WHERE id = " + purged));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento_estatistica WHERE Id_documento = " + purged));
+        assertEquals(25, count("SELECT COUNT(*) FROM Tb_lead"));
+        assertEquals(50, count("SELECT COUNT(*) FROM Tb_mercado"));
+        assertEquals(25, count("SELECT COUNT(*) FROM Tb_origem"));
+        assertEquals(25, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = " + kept));
+
+        // O sketch de um valor sem leads restantes é removido; o compartilhado passa a contar apenas os leads mantidos.
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_dimensao_sketch WHERE Valor = 'Exclusivo'"));
+        byte[] shared = jdbcTemplate.queryForObject(
+                "SELECT Sketch_leads FROM Tb_dimensao_sketch WHERE Valor = 'Compartilhado'", byte[].class);
+        assertEquals(25.0, HyperLogLog.fromBytes(shared).estimate(), 2.0);
+    }
+
+    @Test
+    @DisplayName("Remoção interrompida após as janelas deve, ao ser retomada, reconstruir os sketches e publicar as datas dos leads já removidos")
+    void shouldResumeInterruptedPurgeWithAffectedValuesAndDates() {
+        long purged = seedDocument("semana-03.xlsx", "Retomado", 20);
+        seedDocument("semana-04.xlsx", "Mantido", 10);
+        seedSketch("Retomado");
+        seedSketch("Compartilhado");
+        jdbcTemplate.update("UPDATE Tb_lead SET Data_cadastro = TIMESTAMP '2025-02-03 09:00:00' "
+                + "WHERE Id_documento = ? AND MOD(id, 2) = 0", purged);
+
+        // A primeira execução remove todas as janelas e é interrompida na transação final.
+        DimensionSketchUpdater interrupted = new DimensionSketchUpdater(sketchRepository, namedJdbcTemplate, transactionManager) {
+            @Override
+            public void rebuild(String dimension, Collection<String> values) {
+                throw new IllegalStateException("interrompida");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> new DocumentPurgeService(
+                jdbcTemplate, transactionManager, interrupted, event -> { }, 7).purge(purged));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_lead WHERE Id_documento = " + purged));
+        assertEquals(1, count("SELECT COUNT(*) FROM Tb_documento WHERE id = " + purged));
+
+        List<Object> events = new ArrayList<>();
+        new DocumentPurgeService(jdbcTemplate, transactionManager, sketchUpdater, events::add, 7).purge(purged);
+
+        assertEquals(1, events.size());
+        assertEquals(Set.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 3)),
+                ((DocumentPurgedEvent) events.get(0)).getCreationDates());
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento WHERE id = " + purged));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento_remocao"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_documento_remocao_data"));
+        assertEquals(0, count("SELECT COUNT(*) FROM Tb_dimensao_sketch WHERE Valor = 'Retomado'"));
+        byte[] shared = jdbcTemplate.queryForObject(
+                "SELECT Sketch_leads FROM Tb_dimensao_sketch WHERE Valor = 'Compartilhado'", byte[].class);
+        assertEquals(count("SELECT COUNT(*) FROM Tb_lead"), HyperLogLog.fromBytes(shared).estimate(), 2.0);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a remoção de documento inexistente")
+    void shouldRejectUnknownDocument() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> purgeService.purge(-1L));
+
+        assertEquals("Document not found: -1", exception.getMessage());
+    }
+
+    private long seedDocument(String name, String market, int leads) {
+        jdbcTemplate.update("INSERT INTO Tb_documento (Documento_nome, Total_leads, Total_vendido, Data_importacao) "
+                + "VALUES (?, ?, 0, LOCALTIMESTAMP)", name, leads);
+        long documentId = count("SELECT MAX(id) FROM Tb_documento");
+        jdbcTemplate.update("INSERT INTO Tb_lead (Id_documento, Data_cadastro, Vendido) "
+                + "SELECT ?, TIMESTAMP '2025-01-01 10:00:00', MOD(X, 2) = 0 FROM SYSTEM_RANGE(1, ?)", documentId, leads);
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) SELECT id, ? FROM Tb_lead WHERE Id_documento = ?", market, documentId);
+        jdbcTemplate.update("INSERT INTO Tb_mercado (Id_lead, Nome) SELECT id, 'Compartilhado' FROM Tb_lead WHERE Id_documento = ?", documentId);
+        jdbcTemplate.update("INSERT INTO Tb_origem (Id_lead, Nome) SELECT id, 'Google' FROM Tb_lead WHERE Id_documento = ?", documentId);
+        jdbcTemplate.update("INSERT INTO Tb_documento_estatistica (Id_documento, Dimensao, Valor, Total_leads, Total_vendido) "
+                + "VALUES (?, 'MERCADO', ?, ?, 0), (?, 'MERCADO', 'Compartilhado', ?, 0), (?, 'ORIGEM', 'Google', ?, 0)",
+                documentId, market, leads, documentId, leads, documentId, leads);
+        return documentId;
+    }
+
+    private void seedSketch(String value) {
+        byte[] empty = HyperLogLog.create().toBytes();
+        jdbcTemplate.update("MERGE INTO Tb_dimensao_sketch (Dimensao, Valor, Sketch_leads, Sketch_vendidos) KEY (Dimensao, Valor) "
+                + "VALUES ('MERCADO', ?, ?, ?)",
+                value, empty, empty);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
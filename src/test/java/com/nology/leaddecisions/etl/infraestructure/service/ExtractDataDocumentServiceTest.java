@@ -2,7 +2,10 @@ package com.nology.leaddecisions.etl.infraestructure.service;
 
 import com.nology.leaddecisions.etl.domain.models.DocumentEntity;
 import com.nology.leaddecisions.etl.domain.repositories.*;
+import com.nology.leaddecisions.etl.infraestructure.excel.BaseSheetParser;
 import com.nology.leaddecisions.etl.infraestructure.excel.ExcelHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.nology.leaddecisions.shared.events.DocumentImportedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +23,7 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +37,12 @@ class ExtractDataDocumentServiceTest {
     @Mock private LocationRepository locationRepository;
     @Mock private SizeRepository sizeRepository;
     @Mock private ObjectiveRepository objectiveRepository;
+    @Mock private DocumentDimensionStatsRepository documentStatsRepository;
+    @Spy private DocumentStatsAggregator documentStatsAggregator;
+    @Mock private DimensionSketchUpdater dimensionSketchUpdater;
+    @Mock private ObjectiveIndexBuilder objectiveIndexBuilder;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private BaseSheetParser baseSheetParser = new BaseSheetParser(new ExcelHelper(), new SimpleMeterRegistry(), 1, 5_000);
 
     @InjectMocks
     private ExtractDataDocumentService service;
@@ -121,6 +131,8 @@ class ExtractDataDocumentServiceTest {
 
         verify(marketRepository, times(1)).saveAll(any());
         verify(sourceRepository, times(1)).saveAll(any());
+        verify(documentStatsRepository, times(1)).saveAll(any());
+        verify(eventPublisher, times(1)).publishEvent(any(DocumentImportedEvent.class));
 
     }
 
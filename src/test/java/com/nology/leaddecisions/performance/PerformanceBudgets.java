@@ -0,0 +1,59 @@
+package com.nology.leaddecisions.performance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Orçamentos de cada cenário da suíte de desempenho, lidos de performance-budgets.properties.
+ *
+ * Chaves no formato cenario.metrica (ex: import-10000.wall-ms). Qualquer valor pode ser sobrescrito na
+ * execução com -Dperf.budget.cenario.metrica=valor (ex: em uma máquina de CI mais lenta).
+ */
+final class PerformanceBudgets {
+
+    private static final String RESOURCE = "/performance-budgets.properties";
+    private static final String OVERRIDE_PREFIX = "perf.budget.";
+
+    private final Properties properties;
+
+    private PerformanceBudgets(Properties properties) {
+        this.properties = properties;
+    }
+
+    static PerformanceBudgets load() {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing performance budgets: " + RESOURCE);
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PerformanceBudgets(properties);
+    }
+
+    Budget of(String scenario) {
+        return new Budget(
+                value(scenario, "wall-ms"),
+                value(scenario, "peak-heap-mb"),
+                value(scenario, "sql-statements"));
+    }
+
+    private long value(String scenario, String metric) {
+        String key = scenario + "." + metric;
+        String value = System.getProperty(OVERRIDE_PREFIX + key, properties.getProperty(key));
+        if (value == null) {
+            throw new IllegalStateException("Missing performance budget: " + key);
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Limites de um cenário: tempo de parede, pico de heap acima da linha de base e execuções de SQL.
+     */
+    record Budget(long wallMillis, long peakHeapMb, long sqlStatements) {
+    }
+}
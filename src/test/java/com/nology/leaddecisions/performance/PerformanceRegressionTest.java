@@ -0,0 +1,292 @@
+package com.nology.leaddecisions.performance;
+
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.etl.infraestructure.excel.LeadExcelSchema;
+import com.nology.leaddecisions.etl.infraestructure.service.ExtractDataDocumentService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Suíte de regressão de desempenho: importa planilhas geradas de tamanho fixo e gera os relatórios principais
+ * sobre um banco H2 em arquivo, verificando os orçamentos de tempo, pico de heap e execuções de SQL de cada
+ * cenário (performance-budgets.properties).
+ *
+ * Execução: mvn -Pperformance test (fora do perfil, a tag "performance" é excluída do build padrão).
+ * Os resultados são gravados em target/performance/performance-results.json (-Dperf.results-file=...),
+ * para comparação entre builds, inclusive quando algum orçamento é excedido.
+ *
+ * Cada cenário é executado uma vez sem medição (aquecimento do JIT e dos caches de consulta) e, após uma
+ * coleta de lixo, uma vez medido. O pico de heap é a soma dos picos dos pools de heap acima da ocupação
+ * medida logo antes da operação; os ouvintes @Async da importação terminam antes do próximo cenário.
+ */
+@Tag("performance")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/performance/db-${random.uuid}",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PerformanceRegressionTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final long MAX_QUIESCENCE_WAIT_MILLIS = 120_000;
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Autowired private ExtractDataDocumentService extractDataDocumentService;
+    @Autowired private AnalyticsService analyticsService;
+    @Autowired private SqlStatementCounter sqlStatementCounter;
+    @Autowired private ObjectProvider<ThreadPoolTaskExecutor> taskExecutors;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final PerformanceBudgets budgets = PerformanceBudgets.load();
+    private final List<Map<String, Object>> results = new ArrayList<>();
+    private Long lastDocumentId;
+
+    @BeforeAll
+    void warmUp() throws Exception {
+        importWorkbook("aquecimento.xlsx", workbook(100, 1));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Importação de 1.000 leads deve respeitar o orçamento")
+    void importThousandLeads() throws Exception {
+        byte[] workbook = workbook(1_000, 1_000);
+        measure("import-1000", () -> extract("import-1000.xlsx", workbook));
+        afterImport();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Importação de 10.000 leads deve respeitar o orçamento")
+    void importTenThousandLeads() throws Exception {
+        byte[] workbook = workbook(10_000, 10_000);
+        measure("import-10000", () -> extract("import-10000.xlsx", workbook));
+        afterImport();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Relatório consolidado deve respeitar o orçamento")
+    void fullReport() {
+        measureWarm("report-full", () -> analyticsService.generateFullReport(RankingQuery.builder().limit(20).build()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Relatório aproximado deve respeitar o orçamento")
+    void approximateReport() {
+        measureWarm("report-approximate",
+                () -> analyticsService.generateApproximateReport(RankingQuery.builder().limit(20).build()));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Análise cruzada deve respeitar o orçamento")
+    void crossReport() {
+        measureWarm("report-cross",
+                () -> analyticsService.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM, 10));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Hierarquia origem -> sub-origem deve respeitar o orçamento")
+    void sourceHierarchy() {
+        measureWarm("report-source-hierarchy", () -> analyticsService.generateSourceHierarchy(10));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Relatório por documento deve respeitar o orçamento")
+    void documentReport() {
+        measureWarm("report-document", () -> analyticsService.generateDocumentReport(Set.of(lastDocumentId)));
+    }
+
+    @AfterAll
+    void writeResults() throws IOException {
+        Path file = Path.of(System.getProperty("perf.results-file", "target/performance/performance-results.json"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("javaVersion", System.getProperty("java.version"));
+        document.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        document.put("maxHeapMb", Runtime.getRuntime().maxMemory() / MB);
+        document.put("scenarios", results);
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), document);
+    }
+
+    private void measureWarm(String scenario, Runnable operation) {
+        operation.run();
+        measure(scenario, operation);
+    }
+
+    private void measure(String scenario, Runnable operation) {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        long baseline = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+            baseline += pool.getUsage().getUsed();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+
+        long start = System.nanoTime();
+        long sqlStatements = sqlStatementCounter.count(operation);
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long allocatedMb = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / MB;
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long peakHeapMb = Math.max(0, peak - baseline) / MB;
+
+        PerformanceBudgets.Budget budget = budgets.of(scenario);
+        boolean withinBudget = wallMillis <= budget.wallMillis()
+                && peakHeapMb <= budget.peakHeapMb()
+                && sqlStatements <= budget.sqlStatements();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", scenario);
+        result.put("wallMillis", wallMillis);
+        result.put("peakHeapMb", peakHeapMb);
+        result.put("allocatedMb", allocatedMb);
+        result.put("sqlStatements", sqlStatements);
+        result.put("budget", budget);
+        result.put("withinBudget", withinBudget);
+        results.add(result);
+
+        assertAll(scenario,
+                () -> assertTrue(wallMillis <= budget.wallMillis(),
+                        () -> "wall time " + wallMillis + " ms exceeds budget of " + budget.wallMillis() + " ms"),
+                () -> assertTrue(peakHeapMb <= budget.peakHeapMb(),
+                        () -> "peak heap " + peakHeapMb + " MB exceeds budget of " + budget.peakHeapMb() + " MB"),
+                () -> assertTrue(sqlStatements <= budget.sqlStatements(),
+                        () -> sqlStatements + " SQL statements exceed budget of " + budget.sqlStatements()));
+    }
+
+    private void importWorkbook(String fileName, byte[] workbook) throws InterruptedException {
+        extract(fileName, workbook);
+        afterImport();
+    }
+
+    private void extract(String fileName, byte[] workbook) {
+        extractDataDocumentService.extract(new MockMultipartFile("file", fileName, XLSX, workbook));
+    }
+
+    private void afterImport() throws InterruptedException {
+        lastDocumentId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM Tb_documento", Long.class);
+        awaitAsyncListeners();
+    }
+
+    /**
+     * Aguarda os ouvintes assíncronos da importação (modelo de leitura, coortes, snapshot), para que não
+     * concorram com a medição do cenário seguinte.
+     */
+    private void awaitAsyncListeners() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_QUIESCENCE_WAIT_MILLIS;
+        int idleChecks = 0;
+        while (idleChecks < 3 && System.currentTimeMillis() < deadline) {
+            boolean idle = taskExecutors.orderedStream().allMatch(executor ->
+                    executor.getActiveCount() == 0 && executor.getThreadPoolExecutor().getQueue().isEmpty());
+            idleChecks = idle ? idleChecks + 1 : 0;
+            Thread.sleep(200);
+        }
+    }
+
+    /**
+     * Planilha com todas as abas do layout, gerada com semente fixa para que as execuções sejam comparáveis.
+     * Parte dos leads tem mais de um mercado, e parte não tem sub-origem.
+     */
+    private static byte[] workbook(int leads, long seed) throws IOException {
+        Random random = new Random(seed);
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet base = sheet(workbook, LeadExcelSchema.Sheets.BASE,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.DATA_CADASTRO, LeadExcelSchema.Columns.VENDIDO);
+            Sheet markets = sheet(workbook, LeadExcelSchema.Sheets.MERCADO,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.MERCADO);
+            Sheet sources = sheet(workbook, LeadExcelSchema.Sheets.ORIGEM,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.ORIGEM, LeadExcelSchema.Columns.SUB_ORIGEM);
+            Sheet locations = sheet(workbook, LeadExcelSchema.Sheets.LOCAL,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.LOCAL);
+            Sheet sizes = sheet(workbook, LeadExcelSchema.Sheets.PORTE,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.PORTE);
+            Sheet objectives = sheet(workbook, LeadExcelSchema.Sheets.OBJETIVO,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.OBJETIVO);
+
+            int marketRow = 1;
+            for (int lead = 1; lead <= leads; lead++) {
+                String leadId = "P" + seed + "-" + lead;
+                row(base, lead, leadId,
+                        String.format("%02d/%02d/2025 %02d:00", 1 + random.nextInt(28), 1 + random.nextInt(12), random.nextInt(24)),
+                        random.nextInt(5) == 0 ? "SIM" : "NAO");
+                row(markets, marketRow++, leadId, "Mercado " + random.nextInt(40));
+                if (random.nextInt(4) == 0) {
+                    row(markets, marketRow++, leadId, "Mercado " + random.nextInt(40));
+                }
+                row(sources, lead, leadId, "Origem " + random.nextInt(8),
+                        random.nextInt(10) == 0 ? "" : "Campanha " + random.nextInt(60));
+                row(locations, lead, leadId, "UF " + random.nextInt(27));
+                row(sizes, lead, leadId, random.nextInt(3) == 0 ? "Grande" : "Pequena");
+                row(objectives, lead, leadId, "Objetivo de negócio " + random.nextInt(200));
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static Sheet sheet(Workbook workbook, String name, String... header) {
+        Sheet sheet = workbook.createSheet(name);
+        row(sheet, 0, header);
+        return sheet;
+    }
+
+    private static void row(Sheet sheet, int index, String... values) {
+        Row row = sheet.createRow(index);
+        for (int column = 0; column < values.length; column++) {
+            row.createCell(column).setCellValue(values[column]);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.nology.leaddecisions.performance;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Conta as execuções de SQL (idas ao banco) feitas pela thread que está sendo medida.
+ *
+ * Envolve o DataSource da aplicação: cada execute*, e cada executeBatch (um lote inteiro), conta uma vez.
+ * Ouvintes @Async disparados pela operação rodam em outras threads e não entram na contagem, o que a torna
+ * determinística entre execuções.
+ */
+class SqlStatementCounter implements BeanPostProcessor {
+
+    private final AtomicLong statements = new AtomicLong();
+    private volatile Thread measuredThread;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * Executa a operação contando as execuções de SQL da thread atual.
+     *
+     * @return Quantidade de execuções.
+     */
+    long count(Runnable operation) {
+        statements.set(0);
+        measuredThread = Thread.currentThread();
+        try {
+            operation.run();
+        } finally {
+            measuredThread = null;
+        }
+        return statements.get();
+    }
+
+    private final class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> switch (method.getName()) {
+            case "createStatement" -> wrapStatement(Statement.class, (Statement) result);
+            case "prepareStatement" -> wrapStatement(PreparedStatement.class, (PreparedStatement) result);
+            case "prepareCall" -> wrapStatement(CallableStatement.class, (CallableStatement) result);
+            default -> result;
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(Class<T> type, T statement) {
+        return proxy(type, statement, (method, result) -> {
+            if (method.getName().startsWith("execute") && Thread.currentThread() == measuredThread) {
+                statements.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return mapper.map(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        Object map(Method method, Object result);
+    }
+}
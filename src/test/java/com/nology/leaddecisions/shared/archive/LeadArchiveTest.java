@@ -0,0 +1,89 @@
+package com.nology.leaddecisions.shared.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeadArchiveTest {
+
+    @Test
+    @DisplayName("Deve reconstruir leads, datas, vendas, dimensões e o binário original")
+    void shouldRoundTripAllColumns() throws IOException {
+        LeadArchiveWriter writer = new LeadArchiveWriter(7L);
+        writer.addLead(100L, LocalDateTime.of(2024, 3, 1, 10, 30, 15, 123_456_000), true);
+        writer.addLead(101L, null, false);
+        writer.addLead(250L, LocalDateTime.of(2023, 12, 31, 0, 0), true);
+        writer.addDimensionValue("MERCADO", 100L, "Tecnologia");
+        writer.addDimensionValue("MERCADO", 101L, null);
+        writer.addDimensionValue("MERCADO", 250L, "Saúde");
+        writer.addDimensionValue("MERCADO", 250L, "Tecnologia");
+        writer.setSource(new byte[]{1, 2, 3});
+
+        LeadArchive archive = LeadArchive.read(new ByteArrayInputStream(write(writer)), Set.of(
+                LeadArchive.LEAD_ID, LeadArchive.DATA_CADASTRO, LeadArchive.VENDIDO, LeadArchive.DOCUMENTO, "MERCADO", "ORIGEM"));
+
+        assertEquals(7L, archive.getDocumentId());
+        assertEquals(3, archive.getLeadCount());
+        assertArrayEquals(new long[]{100L, 101L, 250L}, archive.leadIds());
+        assertArrayEquals(new LocalDateTime[]{
+                LocalDateTime.of(2024, 3, 1, 10, 30, 15, 123_456_000), null, LocalDateTime.of(2023, 12, 31, 0, 0)
+        }, archive.creationTimes());
+        assertTrue(archive.sold().get(0));
+        assertFalse(archive.sold().get(1));
+        assertTrue(archive.sold().get(2));
+        assertArrayEquals(new byte[]{1, 2, 3}, archive.source());
+
+        LeadArchive.DimensionColumn markets = archive.dimension("MERCADO");
+        assertArrayEquals(new String[]{"Tecnologia", "Saúde"}, markets.getDictionary());
+        assertArrayEquals(new int[]{0, 2, 2}, markets.getLeadIndexes());
+        assertArrayEquals(new int[]{0, 1, 0}, markets.getCodes());
+        assertEquals(0, archive.dimension("ORIGEM").getCodes().length);
+    }
+
+    @Test
+    @DisplayName("Deve descomprimir apenas as colunas solicitadas")
+    void shouldLoadOnlyRequestedColumns() throws IOException {
+        LeadArchiveWriter writer = new LeadArchiveWriter(1L);
+        for (long id = 1; id <= 1_000; id++) {
+            writer.addLead(id, LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id), id % 3 == 0);
+            writer.addDimensionValue("ORIGEM", id, id % 2 == 0 ? "Google" : "Facebook");
+        }
+
+        LeadArchive archive = LeadArchive.read(new ByteArrayInputStream(write(writer)), Set.of(LeadArchive.VENDIDO, "ORIGEM"));
+
+        assertEquals(333, archive.sold().cardinality());
+        assertEquals(1_000, archive.dimension("ORIGEM").getCodes().length);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, archive::leadIds);
+        assertEquals("Archive column not loaded: LEAD_ID", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar leads fora de ordem e colunas corrompidas")
+    void shouldRejectUnorderedLeadsAndCorruptedColumns() throws IOException {
+        LeadArchiveWriter unordered = new LeadArchiveWriter(1L);
+        unordered.addLead(10L, null, false);
+        assertThrows(IllegalStateException.class, () -> unordered.addLead(9L, null, false));
+
+        LeadArchiveWriter writer = new LeadArchiveWriter(1L);
+        writer.addLead(10L, null, false);
+        writer.setSource(new byte[]{42, 43, 44});
+        byte[] content = write(writer);
+        content[content.length - 1] ^= 0x7F;
+
+        assertThrows(IllegalStateException.class, () -> LeadArchive.read(
+                new ByteArrayInputStream(content), Set.of(LeadArchive.DOCUMENTO)));
+    }
+
+    private static byte[] write(LeadArchiveWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,150 @@
+package com.nology.leaddecisions.shared.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControllerTest {
+
+    @Test
+    @DisplayName("Deve limitar a soma dos pesos em andamento e liberar a fila quando uma execução termina")
+    void shouldQueueUntilWeightIsReleased() throws Exception {
+        AdmissionController admission = new AdmissionController(4, 100, 2, Duration.ofSeconds(5));
+        AdmissionController.Permit first = admission.admit(70);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> queued = pool.submit(() -> {
+                try (AdmissionController.Permit permit = admission.admit(50)) {
+                    return admission.inFlightWeight();
+                }
+            });
+            waitUntil(() -> admission.queued() == 1);
+            assertEquals(70, admission.inFlightWeight());
+
+            first.close();
+            first.close(); // Fechar novamente não deve devolver capacidade duas vezes.
+            assertEquals(50, queued.get(5, TimeUnit.SECONDS));
+            assertEquals(0, admission.inFlightWeight());
+            assertEquals(0, admission.running());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente com Retry-After quando a fila está cheia")
+    void shouldRejectWhenQueueIsFull() {
+        AdmissionController admission = new AdmissionController(1, 100, 0, Duration.ofSeconds(5));
+
+        try (AdmissionController.Permit permit = admission.admit(10)) {
+            ConcurrencyLimitExceededException exception = assertThrows(
+                    ConcurrencyLimitExceededException.class,
+                    () -> admission.admit(10)
+            );
+            assertEquals("Admission queue is full.", exception.getMessage());
+            assertTrue(exception.getRetryAfter().compareTo(Duration.ofSeconds(1)) >= 0);
+        }
+        assertDoesNotThrow(() -> admission.admit(10).close());
+    }
+
+    @Test
+    @DisplayName("Deve admitir sozinha uma execução com peso acima do limite total")
+    void shouldAdmitOversizedWeightAlone() {
+        AdmissionController admission = new AdmissionController(2, 100, 0, Duration.ofMillis(50));
+
+        try (AdmissionController.Permit permit = admission.admit(1_000)) {
+            assertEquals(100, admission.inFlightWeight());
+            assertThrows(ConcurrencyLimitExceededException.class, () -> admission.admit(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Chamada nova não deve ultrapassar uma chamada na fila, mesmo cabendo na capacidade livre")
+    void shouldAdmitQueuedCallsInArrivalOrder() throws Exception {
+        AdmissionController admission = new AdmissionController(4, 100, 2, Duration.ofSeconds(5));
+        AdmissionController.Permit first = admission.admit(70);
+        List<Long> admitted = Collections.synchronizedList(new ArrayList<>());
+
+        CountDownLatch smallAdmitted = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // A chamada de peso 50 mantém a vaga até a de peso 20 entrar: esta deve encontrá-la já admitida.
+            Future<?> large = pool.submit(() -> {
+                try (AdmissionController.Permit permit = admission.admit(50)) {
+                    admitted.add(50L);
+                    smallAdmitted.await(5, TimeUnit.SECONDS);
+                }
+                return null;
+            });
+            waitUntil(() -> admission.queued() == 1);
+
+            // 70 + 20 cabe no limite, mas a chamada de peso 50 chegou antes.
+            Future<Long> small = pool.submit(() -> {
+                try (AdmissionController.Permit permit = admission.admit(20)) {
+                    admitted.add(20L);
+                    smallAdmitted.countDown();
+                    return admission.inFlightWeight();
+                }
+            });
+            waitUntil(() -> admission.queued() == 2);
+            assertTrue(admitted.isEmpty());
+            assertThrows(ConcurrencyLimitExceededException.class, () -> admission.admit(1));
+
+            first.close();
+            assertEquals(70, small.get(5, TimeUnit.SECONDS));
+            large.get(5, TimeUnit.SECONDS);
+            assertEquals(Set.of(50L, 20L), Set.copyOf(admitted));
+            assertEquals(0, admission.queued());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Chamada que desiste da fila por tempo esgotado deve passar a vez à seguinte")
+    void shouldHandOverTurnWhenQueuedCallTimesOut() throws Exception {
+        AdmissionController admission = new AdmissionController(4, 100, 2, Duration.ofMillis(300));
+        AdmissionController.Permit first = admission.admit(70);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // Não cabe enquanto a primeira execução estiver em andamento: esgota o tempo na frente da fila.
+            Future<?> large = pool.submit(() -> admission.admit(50).close());
+            waitUntil(() -> admission.queued() == 1);
+            Thread.sleep(150); // A seguinte chega depois, com prazo posterior ao da primeira.
+            Future<?> small = pool.submit(() -> admission.admit(20).close());
+
+            ExecutionException timedOut = assertThrows(ExecutionException.class, () -> large.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ConcurrencyLimitExceededException.class, timedOut.getCause());
+            assertDoesNotThrow(() -> small.get(5, TimeUnit.SECONDS));
+            assertEquals(70, admission.inFlightWeight());
+        } finally {
+            first.close();
+            pool.shutdownNow();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,125 @@
+package com.nology.leaddecisions.shared.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Deve executar uma única vez para chamadas simultâneas com a mesma chave")
+    void shouldShareInFlightExecution() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(1, Duration.ofSeconds(5));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(pool.submit(() -> flights.execute("report", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch followers = new CountDownLatch(7);
+            for (int i = 0; i < 7; i++) {
+                results.add(pool.submit(() -> {
+                    followers.countDown();
+                    return flights.execute("report", executions::incrementAndGet);
+                }));
+            }
+            assertTrue(followers.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100); // Tempo para os seguidores se juntarem à execução em andamento.
+            assertEquals(1, flights.inFlightCount());
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(0, flights.inFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve falhar com limite de concorrência quando não há vaga dentro do tempo de espera")
+    void shouldRejectWhenCapacityIsExhausted() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(1, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> busy = pool.submit(() -> flights.execute("a", () -> {
+                started.countDown();
+                await(release);
+                return 1;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            ConcurrencyLimitExceededException exception = assertThrows(
+                    ConcurrencyLimitExceededException.class,
+                    () -> flights.execute("b", () -> 2)
+            );
+            assertEquals(Duration.ofMillis(50), exception.getRetryAfter());
+
+            release.countDown();
+            assertEquals(1, busy.get(5, TimeUnit.SECONDS));
+            assertEquals(2, flights.execute("b", () -> 2));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Execução sem coalescência deve disputar as mesmas vagas das execuções coalescidas")
+    void shouldShareCapacityWithUncoalescedExecutions() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(1, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> busy = pool.submit(() -> flights.executeAlone(() -> {
+                started.countDown();
+                await(release);
+                return "stream";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ConcurrencyLimitExceededException.class, () -> flights.execute("a", () -> 1));
+            assertThrows(ConcurrencyLimitExceededException.class, () -> flights.executeAlone(() -> 2));
+
+            release.countDown();
+            assertEquals("stream", busy.get(5, TimeUnit.SECONDS));
+            assertEquals(1, flights.execute("a", () -> 1));
+            assertEquals(0, flights.inFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.nology.leaddecisions.shared.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    @DisplayName("Deve agrupar textos iguais após a normalização e sobreviver à serialização")
+    void shouldGroupNormalizedTextsAndRoundTrip() {
+        TrigramIndexWriter writer = new TrigramIndexWriter();
+        writer.add("Reduzir custos", 30, true);
+        writer.add("  reduzir CUSTOS! ", 10, false);
+        writer.add("Reduzir custos", 10, false); // Mesmo lead: contado uma vez.
+        writer.add("Aumentar vendas", 20, true);
+        writer.add("...", 40, false);
+        writer.add(null, 50, false);
+
+        TrigramIndex index = TrigramIndex.read(writer.toByteArray());
+
+        assertEquals(2, index.getTermCount());
+        assertEquals("Reduzir custos", index.text(0));
+        assertEquals("reduzir custos", index.normalizedText(0));
+        assertEquals(2, index.leadCount(0));
+        assertEquals(1, index.soldCount(0));
+        assertArrayEquals(new long[]{10, 30}, index.leadIds(0));
+        assertArrayEquals(new long[]{20}, index.leadIds(1));
+    }
+
+    @Test
+    @DisplayName("Deve buscar trechos de palavras sem diferenciar acentos e maiúsculas, exigindo todas as palavras")
+    void shouldSearchAllWordsIgnoringAccentsAndCase() {
+        TrigramIndex index = indexOf(
+                "Quer reduzir custos operacionais",
+                "Redução de custos com logística",
+                "Aumentar vendas online",
+                "Operação de vendas no varejo");
+
+        assertEquals(List.of("Quer reduzir custos operacionais", "Redução de custos com logística"), texts(index, "CUSTOS"));
+        assertEquals(List.of("Redução de custos com logística"), texts(index, "reducao custo"));
+        assertEquals(List.of("Quer reduzir custos operacionais", "Operação de vendas no varejo"), texts(index, "operac"));
+        assertEquals(List.of(), texts(index, "vendas logistica"));
+        assertEquals(List.of(), texts(index, "marketing"));
+    }
+
+    @Test
+    @DisplayName("Deve confirmar palavras curtas, que não geram trigramas, no texto dos candidatos")
+    void shouldMatchShortWords() {
+        TrigramIndex index = indexOf("Vender no ecommerce", "Vender na loja física", "TI");
+
+        assertEquals(List.of("Vender no ecommerce"), texts(index, "vender no"));
+        assertEquals(List.of("TI"), texts(index, "ti"));
+    }
+
+    private static TrigramIndex indexOf(String... texts) {
+        TrigramIndexWriter writer = new TrigramIndexWriter();
+        for (int i = 0; i < texts.length; i++) {
+            writer.add(texts[i], i + 1, false);
+        }
+        return TrigramIndex.read(writer.toByteArray());
+    }
+
+    private static List<String> texts(TrigramIndex index, String query) {
+        return Arrays.stream(index.search(query)).mapToObj(index::text).toList();
+    }
+}
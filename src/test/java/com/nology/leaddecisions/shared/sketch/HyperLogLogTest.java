@@ -0,0 +1,55 @@
+package com.nology.leaddecisions.shared.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Deve estimar a cardinalidade dentro de 3 erros padrão")
+    void shouldEstimateWithinErrorBounds() {
+        for (int cardinality : new int[]{10, 1_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = HyperLogLog.create();
+            for (long id = 1; id <= cardinality; id++) {
+                sketch.add(id);
+                sketch.add(id); // Duplicatas não alteram a estimativa.
+            }
+
+            double error = Math.abs(sketch.estimate() - cardinality) / (double) cardinality;
+            assertTrue(error <= 3 * sketch.relativeStandardError(), "cardinality=" + cardinality + " error=" + error);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve combinar sketches como a união dos conjuntos e sobreviver à serialização")
+    void shouldMergeAsUnionAndRoundTrip() {
+        HyperLogLog first = HyperLogLog.create();
+        HyperLogLog second = HyperLogLog.create();
+        for (long id = 0; id < 60_000; id++) {
+            first.add(id);
+        }
+        for (long id = 40_000; id < 100_000; id++) {
+            second.add(id);
+        }
+
+        HyperLogLog merged = HyperLogLog.fromBytes(first.toBytes());
+        merged.merge(second);
+
+        double error = Math.abs(merged.estimate() - 100_000) / 100_000.0;
+        assertTrue(error <= 3 * merged.relativeStandardError());
+        assertArrayEquals(merged.toBytes(), HyperLogLog.fromBytes(merged.toBytes()).toBytes());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar merge entre precisões diferentes")
+    void shouldRejectMergeWithDifferentPrecision() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new HyperLogLog(10).merge(new HyperLogLog(12))
+        );
+
+        assertEquals("Cannot merge HyperLogLog sketches with different precisions.", exception.getMessage());
+    }
+}
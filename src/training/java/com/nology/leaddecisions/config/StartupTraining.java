@@ -0,0 +1,197 @@
+package com.nology.leaddecisions.config;
+
+import com.nology.leaddecisions.LeadDecisionsApplication;
+import com.nology.leaddecisions.analytics.domain.enums.AnalysisDimension;
+import com.nology.leaddecisions.analytics.domain.models.RankingQuery;
+import com.nology.leaddecisions.analytics.domain.services.AnalyticsService;
+import com.nology.leaddecisions.etl.domain.ports.ExtractDataDocumentUseCase;
+import com.nology.leaddecisions.etl.infraestructure.excel.LeadExcelSchema;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Execução de treino do perfil de inicialização rápida (Maven -Pfast-startup).
+ *
+ * Sobe a aplicação, importa uma planilha sintética, gera os relatórios principais e fecha o contexto. A JVM de
+ * treino grava o arquivo de Class Data Sharing (-XX:ArchiveClassesAtExit) com as classes carregadas nesse caminho
+ * (Hibernate, POI, Jackson, Analytics), reaproveitado nas inicializações seguintes.
+ *
+ * Fica fora de src/main: é compilada apenas no perfil fast-startup (src/training/java) e executada como classe
+ * principal própria, sem registrar beans no contexto da aplicação. O encerramento da JVM fica a cargo de quem a
+ * executa; uma falha do treino termina com código de saída diferente de zero.
+ *
+ * Como importa dados fictícios, recusa-se a iniciar se o banco não for H2 em memória (jdbc:h2:mem:).
+ */
+public final class StartupTraining {
+
+    private static final int TRAINING_LEADS = 2_000;
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String IN_MEMORY_DATABASE = "jdbc:h2:mem:";
+    private static final long MAX_QUIESCENCE_WAIT_MILLIS = 30_000;
+
+    private StartupTraining() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(LeadDecisionsApplication.class);
+        // O inicializador gerado pelo AOT é procurado pelo nome da classe principal da aplicação.
+        application.setMainApplicationClass(LeadDecisionsApplication.class);
+        application.addListeners((ApplicationListener<ApplicationEnvironmentPreparedEvent>) event ->
+                requireInMemoryDatabase(event.getEnvironment()));
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            train(context);
+        }
+    }
+
+    private static void requireInMemoryDatabase(ConfigurableEnvironment environment) {
+        String url = environment.getProperty("spring.datasource.url", "");
+        if (!url.startsWith(IN_MEMORY_DATABASE)) {
+            throw new IllegalStateException("Startup training imports a synthetic workbook and only runs against "
+                    + "in-memory H2 (" + IN_MEMORY_DATABASE + ") databases, not: " + url);
+        }
+    }
+
+    private static void train(ConfigurableApplicationContext context) throws Exception {
+        AnalyticsService analyticsService = context.getBean(AnalyticsService.class);
+
+        context.getBean(ExtractDataDocumentUseCase.class)
+                .extract(new InMemoryMultipartFile("startup-training.xlsx", trainingWorkbook()));
+        analyticsService.generateFullReport();
+        analyticsService.generateApproximateReport(RankingQuery.builder().limit(10).build());
+        analyticsService.generateCrossReport(AnalysisDimension.MERCADO, AnalysisDimension.ORIGEM, 10);
+        awaitAsyncListeners(context.getBeanProvider(ThreadPoolTaskExecutor.class));
+    }
+
+    /**
+     * Aguarda os ouvintes assíncronos disparados pela importação (modelo de leitura, coortes, snapshot),
+     * que também fazem parte do treino e falhariam se o contexto fosse fechado durante a execução.
+     */
+    private static void awaitAsyncListeners(ObjectProvider<ThreadPoolTaskExecutor> taskExecutors) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_QUIESCENCE_WAIT_MILLIS;
+        int idleChecks = 0;
+        while (idleChecks < 3 && System.currentTimeMillis() < deadline) {
+            boolean idle = taskExecutors.orderedStream().allMatch(executor ->
+                    executor.getActiveCount() == 0 && executor.getThreadPoolExecutor().getQueue().isEmpty());
+            idleChecks = idle ? idleChecks + 1 : 0;
+            Thread.sleep(200);
+        }
+    }
+
+    /**
+     * Planilha com todas as abas do layout e valores variados, para exercitar o mesmo caminho de uma importação real.
+     */
+    private static byte[] trainingWorkbook() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet base = sheet(workbook, LeadExcelSchema.Sheets.BASE,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.DATA_CADASTRO, LeadExcelSchema.Columns.VENDIDO);
+            Sheet markets = sheet(workbook, LeadExcelSchema.Sheets.MERCADO,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.MERCADO);
+            Sheet sources = sheet(workbook, LeadExcelSchema.Sheets.ORIGEM,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.ORIGEM, LeadExcelSchema.Columns.SUB_ORIGEM);
+            Sheet locations = sheet(workbook, LeadExcelSchema.Sheets.LOCAL,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.LOCAL);
+            Sheet sizes = sheet(workbook, LeadExcelSchema.Sheets.PORTE,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.PORTE);
+            Sheet objectives = sheet(workbook, LeadExcelSchema.Sheets.OBJETIVO,
+                    LeadExcelSchema.Columns.LEAD_ID, LeadExcelSchema.Columns.OBJETIVO);
+
+            for (int lead = 1; lead <= TRAINING_LEADS; lead++) {
+                String leadId = "T" + lead;
+                row(base, lead, leadId, String.format("%02d/%02d/2025 09:00", 1 + lead % 28, 1 + lead % 12),
+                        lead % 4 == 0 ? "SIM" : "NAO");
+                row(markets, lead, leadId, "Mercado " + lead % 12);
+                row(sources, lead, leadId, "Origem " + lead % 6, "Campanha " + lead % 40);
+                row(locations, lead, leadId, "UF " + lead % 27);
+                row(sizes, lead, leadId, lead % 3 == 0 ? "Grande" : "Pequena");
+                row(objectives, lead, leadId, "Objetivo " + lead % 50);
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static Sheet sheet(Workbook workbook, String name, String... header) {
+        Sheet sheet = workbook.createSheet(name);
+        row(sheet, 0, header);
+        return sheet;
+    }
+
+    private static void row(Sheet sheet, int index, String... values) {
+        Row row = sheet.createRow(index);
+        for (int column = 0; column < values.length; column++) {
+            row.createCell(column).setCellValue(values[column]);
+        }
+    }
+
+    /**
+     * MultipartFile em memória para entregar a planilha de treino ao caso de uso de extração.
+     */
+    private static final class InMemoryMultipartFile implements MultipartFile {
+
+        private final String fileName;
+        private final byte[] content;
+
+        private InMemoryMultipartFile(String fileName, byte[] content) {
+            this.fileName = fileName;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return XLSX;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File destination) throws IOException {
+            Files.write(destination.toPath(), content);
+        }
+    }
+}